@@ -0,0 +1,38 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.mapper;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
+import dev.xiyo.bunnyholes.boardhole.testsupport.BenchmarkFixtures;
+import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
+
+/**
+ * 게시글 엔티티 → 조회 결과 변환 비용 (MapStruct 생성 코드)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardMapperBenchmark {
+
+    private final BoardMapper mapper = new BoardMapperImpl();
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        board = BenchmarkFixtures.board(BenchmarkFixtures.user("author", Role.USER), 400);
+    }
+
+    @Benchmark
+    public BoardResult toResult() {
+        return mapper.toResult(board);
+    }
+}
@@ -0,0 +1,57 @@
+package dev.xiyo.bunnyholes.boardhole.board.presentation.dto;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import dev.xiyo.bunnyholes.boardhole.testsupport.BenchmarkFixtures;
+
+/**
+ * 게시글 목록 응답(Page&lt;BoardResponse&gt;) JSON 직렬화 비용
+ * <p>
+ * Spring Boot 기본 ObjectMapper와 같은 모듈 구성(Jackson2ObjectMapperBuilder)을 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardResponseSerializationBenchmark {
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private ObjectWriter writer;
+    private Page<BoardResponse> page;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        List<BoardResponse> content = IntStream.range(0, pageSize)
+                                               .mapToObj(i -> new BoardResponse(UUID.randomUUID(), "JMH 벤치마크 게시글 제목 " + i,
+                                                       "내용".repeat(200), UUID.randomUUID(), "author" + i, i,
+                                                       BenchmarkFixtures.CREATED_AT, BenchmarkFixtures.CREATED_AT.plusHours(1), null))
+                                               .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 1_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+}
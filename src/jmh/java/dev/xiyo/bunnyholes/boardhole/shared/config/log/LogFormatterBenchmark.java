@@ -0,0 +1,52 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config.log;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.command.CreateBoardCommand;
+import dev.xiyo.bunnyholes.boardhole.user.application.command.CreateUserCommand;
+
+/**
+ * 메서드 로깅 인자 포매팅 비용 (LoggingAspect가 매 호출마다 수행)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LogFormatterBenchmark {
+
+    private static final String SIGNATURE = "BoardCommandService.create(..)";
+
+    private CreateBoardCommand boardCommand;
+    private CreateUserCommand userCommand;
+    private Object[] args;
+
+    @Setup
+    public void setUp() {
+        boardCommand = new CreateBoardCommand(UUID.randomUUID(), "JMH 벤치마크 게시글 제목", "내용".repeat(200));
+        userCommand = new CreateUserCommand("benchmark", "Password123!", "Benchmark User", "benchmark@example.com");
+        args = new Object[]{boardCommand, UUID.randomUUID(), 42};
+    }
+
+    @Benchmark
+    public String sanitizeRecord() {
+        return LogFormatter.sanitizeObject(boardCommand);
+    }
+
+    @Benchmark
+    public String sanitizeRecordWithSensitiveField() {
+        return LogFormatter.sanitizeObject(userCommand);
+    }
+
+    @Benchmark
+    public String formatMethodStart() {
+        return LogFormatter.formatMethodStart(SIGNATURE, LogFormatter.formatArguments(args));
+    }
+}
@@ -0,0 +1,46 @@
+package dev.xiyo.bunnyholes.boardhole.shared.domain.listener;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
+import dev.xiyo.bunnyholes.boardhole.testsupport.BenchmarkFixtures;
+import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
+import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+
+/**
+ * 엔티티 저장/수정 전 Bean Validation 비용 (위반 없는 정상 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationListenerBenchmark {
+
+    private User user;
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user("validator", Role.USER);
+        board = BenchmarkFixtures.board(user, 400);
+    }
+
+    @Benchmark
+    public Board validateBoard() {
+        ValidationListener.validateBeforePersist(board);
+        return board;
+    }
+
+    @Benchmark
+    public User validateUser() {
+        ValidationListener.validateBeforeUpdate(user);
+        return user;
+    }
+}
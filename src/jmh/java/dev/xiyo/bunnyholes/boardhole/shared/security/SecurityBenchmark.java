@@ -0,0 +1,85 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.util.unit.DataSize;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardOwnershipCache;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.LoadedBoardHandoff;
+import dev.xiyo.bunnyholes.boardhole.shared.constants.PermissionType;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.CacheProperties;
+import dev.xiyo.bunnyholes.boardhole.testsupport.BenchmarkFixtures;
+import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
+import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 인가 경로 비용 (권한 목록 생성, @PreAuthorize hasPermission 평가)
+ * <p>
+ * 게시글 작성자는 캐시에 적재된 상태로 측정하므로 DB 접근은 포함하지 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SecurityBenchmark {
+
+    private AppUserPrincipal principal;
+    private Authentication owner;
+    private Authentication admin;
+    private AppPermissionEvaluator evaluator;
+    private UUID boardId;
+    private String userId;
+
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.user("owner", Role.USER);
+        principal = new AppUserPrincipal(user);
+        owner = UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+        AppUserPrincipal adminPrincipal = new AppUserPrincipal(BenchmarkFixtures.user("admin", Role.ADMIN, Role.USER));
+        admin = UsernamePasswordAuthenticationToken.authenticated(adminPrincipal, null, adminPrincipal.getAuthorities());
+
+        CacheProperties.Local local = new CacheProperties.Local(true, DataSize.ofMegabytes(4), Duration.ofHours(1));
+        CacheProperties properties = new CacheProperties(local, local, local, new CacheProperties.Redis(false, Duration.ofMinutes(5), "", ""));
+        BoardOwnershipCache ownership = new BoardOwnershipCache(properties, Mockito.mock(BoardRepository.class),
+                Mockito.mock(LoadedBoardHandoff.class), new SimpleMeterRegistry());
+        boardId = UUID.randomUUID();
+        ownership.remember(boardId, user.getId());
+        evaluator = new AppPermissionEvaluator(ownership);
+        userId = user.getId().toString();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return principal.getAuthorities();
+    }
+
+    @Benchmark
+    public boolean hasPermissionBoardOwner() {
+        return evaluator.hasPermission(owner, boardId, PermissionType.TARGET_BOARD, PermissionType.WRITE);
+    }
+
+    @Benchmark
+    public boolean hasPermissionSameUser() {
+        return evaluator.hasPermission(owner, userId, PermissionType.TARGET_USER, PermissionType.READ);
+    }
+
+    @Benchmark
+    public boolean hasPermissionAdmin() {
+        return evaluator.hasPermission(admin, boardId, PermissionType.TARGET_BOARD, PermissionType.DELETE);
+    }
+}
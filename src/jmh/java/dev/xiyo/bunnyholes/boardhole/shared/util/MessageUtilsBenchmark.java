@@ -0,0 +1,41 @@
+package dev.xiyo.bunnyholes.boardhole.shared.util;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+/**
+ * 메시지 조회 비용 (로그 포매팅, 예외 메시지, 검증 메시지에서 사용)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageUtilsBenchmark {
+
+    @Param({"ko", "en"})
+    public String locale;
+
+    @Setup
+    public void setUp() {
+        LocaleContextHolder.setLocale(Locale.forLanguageTag(locale));
+    }
+
+    @Benchmark
+    public String withoutArguments() {
+        return MessageUtils.get("mask.password");
+    }
+
+    @Benchmark
+    public String withArguments() {
+        return MessageUtils.get("log.method.start", "BoardCommandService.create(..)", "CreateBoardCommand{...}");
+    }
+}
@@ -0,0 +1,46 @@
+package dev.xiyo.bunnyholes.boardhole.testsupport;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
+import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
+import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+
+/**
+ * 벤치마크 공용 픽스처 (영속화 없이 ID와 감사 필드를 채운 엔티티)
+ */
+public final class BenchmarkFixtures {
+
+    public static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user(String username, Role... roles) {
+        User user = User.builder()
+                        .username(username)
+                        .password("{noop}Password123!")
+                        .name("Benchmark " + username)
+                        .email(username + "@example.com")
+                        .roles(Set.of(roles))
+                        .build();
+        ReflectionTestUtils.setField(user, "id", UUID.randomUUID());
+        return user;
+    }
+
+    public static Board board(User author, int contentLength) {
+        Board board = Board.builder()
+                           .title("JMH 벤치마크 게시글 제목")
+                           .content("내용".repeat(Math.max(1, contentLength / 2)))
+                           .author(author)
+                           .build();
+        ReflectionTestUtils.setField(board, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(board, "createdAt", CREATED_AT);
+        ReflectionTestUtils.setField(board, "updatedAt", CREATED_AT.plusHours(1));
+        return board;
+    }
+}
@@ -18,10 +18,13 @@ import org.springframework.validation.annotation.Validated;
 import dev.xiyo.bunnyholes.boardhole.auth.application.AuthCommandService;
 import dev.xiyo.bunnyholes.boardhole.auth.application.mapper.AuthMapper;
 import dev.xiyo.bunnyholes.boardhole.auth.application.result.AuthResult;
+import dev.xiyo.bunnyholes.boardhole.shared.config.log.I18nLogger;
+import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.UnauthorizedException;
 import dev.xiyo.bunnyholes.boardhole.shared.security.AppUserPrincipal;
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 
 /**
  * Session-based authentication provider implementation.
@@ -33,8 +36,11 @@ import dev.xiyo.bunnyholes.boardhole.user.domain.User;
 @RequiredArgsConstructor
 public class SessionAuthCommandService implements AuthCommandService {
 
+    private static final I18nLogger i18n = I18nLogger.of(log);
+
     private final AuthenticationManager authenticationManager;
     private final AuthMapper authMapper;
+    private final UserRepository userRepository;
 
     /**
      * 사용자 로그인 처리
@@ -57,9 +63,10 @@ public class SessionAuthCommandService implements AuthCommandService {
             context.setAuthentication(authResult);
             SecurityContextHolder.setContext(context);
 
-            // 사용자 정보 조회
+            // 사용자 정보 조회 (인증 중 같은 트랜잭션에서 적재한 엔티티를 영속성 컨텍스트에서 재사용)
             AppUserPrincipal principal = (AppUserPrincipal) authResult.getPrincipal();
-            User user = principal.user();
+            User user = userRepository.findById(principal.id())
+                                      .orElseThrow(() -> new ResourceNotFoundException(MessageUtils.get("error.user.not-found.id", principal.id())));
 
             // 이메일 인증 체크는 향후 JWT 방식으로 구현 예정
             // if (!user.isEmailVerified()) {
@@ -68,7 +75,7 @@ public class SessionAuthCommandService implements AuthCommandService {
 
             return authMapper.toAuthResult(user);
         } catch (BadCredentialsException e) {
-            log.warn(MessageUtils.get("log.auth.login-failed", cmd.username()));
+            i18n.warn("log.auth.login-failed", cmd.username());
             throw new UnauthorizedException(MessageUtils.get("error.auth.invalid-credentials"));
         }
     }
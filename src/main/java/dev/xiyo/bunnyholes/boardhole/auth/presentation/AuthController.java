@@ -87,16 +87,7 @@ public class AuthController {
             SecurityContext context = SecurityContextHolder.getContext();
             securityContextRepository.saveContext(context, request, response);
         }
-
-        // 마지막 로그인 시간 업데이트 (기존 로직 유지)
-        try {
-            if (authentication != null && authentication.getPrincipal() instanceof AppUserPrincipal(
-                    dev.xiyo.bunnyholes.boardhole.user.domain.User user
-            ))
-                userCommandService.updateLastLogin(user.getId());
-        } catch (UnsupportedOperationException ignored) {
-            // 일부 테스트/환경에서 보조 로직 미구현으로 인한 예외는 로그인 성공 흐름에 영향 주지 않도록 무시
-        }
+        // 마지막 로그인 시각은 인증 성공 이벤트로 UserActivityRecorder가 모아서 반영
     }
 
     @PostMapping(ApiPaths.AUTH_LOGOUT)
@@ -109,7 +100,7 @@ public class AuthController {
     @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
     public void logout(HttpServletRequest request, HttpServletResponse response, @AuthenticationPrincipal AppUserPrincipal principal) {
         // CQRS 패턴을 통한 로그아웃 처리
-        UUID userId = principal.user().getId();
+        UUID userId = principal.id();
         var logoutCommand = authMapper.toLogoutCommand(userId);
         authCommandService.logout(logoutCommand);
 
@@ -132,7 +123,7 @@ public class AuthController {
     @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
     public void adminOnly(@AuthenticationPrincipal AppUserPrincipal principal) {
         // Validate admin access and log the request
-        log.info("Admin-only endpoint accessed by user: {}", principal.user().getUsername());
+        log.info("Admin-only endpoint accessed by user: {}", principal.username());
     }
 
     @GetMapping(ApiPaths.AUTH_USER_ACCESS)
@@ -144,7 +135,7 @@ public class AuthController {
     @ApiResponse(responseCode = "403", description = "사용자 권한 없음")
     public void userAccess(@AuthenticationPrincipal AppUserPrincipal principal) {
         // Validate user access and log the request
-        log.info("User access endpoint accessed by user: {} with roles: {}", principal.user().getUsername(), principal.getAuthorities());
+        log.info("User access endpoint accessed by user: {} with roles: {}", principal.username(), principal.getAuthorities());
     }
 
     @GetMapping(ApiPaths.AUTH_PUBLIC_ACCESS)
@@ -45,11 +45,11 @@ public class LogoutViewController {
     ) {
         if (principal != null) {
             // CQRS 패턴을 통한 로그아웃 처리
-            UUID userId = principal.user().getId();
+            UUID userId = principal.id();
             var logoutCommand = authMapper.toLogoutCommand(userId);
             authCommandService.logout(logoutCommand);
 
-            log.info("로그아웃 성공: username={}", principal.user().getUsername());
+            log.info("로그아웃 성공: username={}", principal.username());
         }
 
         // HTTP 세션 처리
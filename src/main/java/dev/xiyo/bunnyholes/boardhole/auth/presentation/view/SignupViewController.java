@@ -80,6 +80,7 @@ public class SignupViewController {
 
         // 자동 로그인 처리
         AppUserPrincipal principal = new AppUserPrincipal(user);
+        principal.eraseCredentials();
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
 
@@ -8,15 +8,21 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardCreatedEvent;
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardDeletedEvent;
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardUpdatedEvent;
 import dev.xiyo.bunnyholes.boardhole.board.application.mapper.BoardMapper;
 import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
 import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
 import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.LoadedBoardHandoff;
+import dev.xiyo.bunnyholes.boardhole.shared.config.log.Loggable;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
@@ -34,6 +40,8 @@ public class BoardCommandService {
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
     private final BoardMapper boardMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LoadedBoardHandoff loadedBoardHandoff;
 
     /**
      * 게시글 생성
@@ -42,6 +50,7 @@ public class BoardCommandService {
      * @return 생성된 게시글 결과
      * @throws ResourceNotFoundException 작성자를 찾을 수 없는 경우
      */
+    @Loggable(event = "log.board.created")
     @Transactional
     public BoardResult create(@Valid CreateBoardCommand cmd) {
         UUID authorId = cmd.authorId();
@@ -52,7 +61,9 @@ public class BoardCommandService {
         Board board = Board.builder().title(cmd.title()).content(cmd.content()).author(author).build();
         Board saved = boardRepository.save(board);
 
-        return boardMapper.toResult(saved);
+        BoardResult result = boardMapper.toResult(saved);
+        eventPublisher.publishEvent(new BoardCreatedEvent(result));
+        return result;
     }
 
     // 조회 전용: 증가 없이 단순 조회 (권한 확인 등 내부 용도)
@@ -64,12 +75,12 @@ public class BoardCommandService {
      * @return 수정된 게시글 결과
      * @throws ResourceNotFoundException 게시글을 찾을 수 없는 경우
      */
+    @Loggable(event = "log.board.updated")
     @Transactional
     @PreAuthorize("hasPermission(#cmd.boardId, 'BOARD', 'WRITE')")
     public BoardResult update(@Valid UpdateBoardCommand cmd) {
         UUID id = cmd.boardId();
-        Board board = boardRepository
-                .findById(id).orElseThrow(() -> new ResourceNotFoundException(MessageUtils.get("error.board.not-found.id", id)));
+        Board board = loadAuthorizedBoardOrThrow(id);
 
         // Optional을 사용한 선택적 필드 업데이트
         Optional.ofNullable(cmd.title()).ifPresent(board::changeTitle);
@@ -78,7 +89,9 @@ public class BoardCommandService {
         // @DynamicUpdate가 변경된 필드만 업데이트, @PreUpdate가 updatedAt 자동 설정
         Board saved = boardRepository.save(board);
 
-        return boardMapper.toResult(saved);
+        BoardResult result = boardMapper.toResult(saved);
+        eventPublisher.publishEvent(new BoardUpdatedEvent(result));
+        return result;
     }
 
     /**
@@ -87,32 +100,40 @@ public class BoardCommandService {
      * @param id 삭제할 게시글 ID
      * @throws ResourceNotFoundException 게시글을 찾을 수 없는 경우
      */
+    @Loggable(event = "log.board.deleted")
     @Transactional
     @PreAuthorize("hasPermission(#id, 'BOARD', 'DELETE')")
     public void delete(UUID id) {
-        Board board = loadBoardOrThrow(id);
+        Board board = loadAuthorizedBoardOrThrow(id);
         boardRepository.delete(board);
+        eventPublisher.publishEvent(new BoardDeletedEvent(id, board.getAuthor().getId(), board.getCreatedAt()));
     }
 
     /**
      * 조회수 증가 (비동기 이벤트 처리용)
      * <p>
-     * 별도 트랜잭션(REQUIRES_NEW)에서 실행하여 낙관적 동시성 제어를 제공합니다.
-     * 조회 트랜잭션과 분리되어 조회 성능에 영향을 주지 않습니다.
+     * 별도 트랜잭션(REQUIRES_NEW)에서 {@code view_count = view_count + 1}로 원자적으로 증가시키므로 동시 조회에도 유실이 없습니다.
+     * 엔티티를 거치지 않아 버전과 수정 시각이 바뀌지 않으므로 조회수 변경이 게시글 내용 ETag를 무효화하지 않습니다.
      *
      * @param cmd 조회수 증가 명령
+     * @throws ResourceNotFoundException 게시글을 찾을 수 없는 경우
      */
     @Transactional(propagation = org.springframework.transaction.annotation.Propagation.REQUIRES_NEW)
     public void incrementViewCount(@Valid IncrementViewCountCommand cmd) {
         UUID boardId = cmd.boardId();
-        Board board = boardRepository
-                .findById(boardId)
-                .orElseThrow(() -> new ResourceNotFoundException(MessageUtils.get("error.board.not-found.id", boardId)));
-
-        board.increaseViewCount();
+        if (boardRepository.incrementViewCount(boardId) == 0)
+            throw new ResourceNotFoundException(MessageUtils.get("error.board.not-found.id", boardId));
+    }
 
-        // 커밋 시 flush가 진행되어 낙관적 락 충돌이 감지됨
-        boardRepository.save(board);
+    /**
+     * 권한 확인에서 적재한 게시글을 재사용하고, 없으면 로드
+     *
+     * @param id 게시글 ID
+     * @return 게시글 엔티티
+     * @throws ResourceNotFoundException 게시글을 찾을 수 없는 경우
+     */
+    private Board loadAuthorizedBoardOrThrow(UUID id) {
+        return loadedBoardHandoff.take(id).orElseGet(() -> loadBoardOrThrow(id));
     }
 
     /**
@@ -0,0 +1,30 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.event;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardDetailCache;
+
+/**
+ * 게시글 수정/삭제 시 상세 캐시 무효화
+ * <p>
+ * 커밋 이후에 무효화해야 다른 요청이 커밋 전 값을 다시 캐시하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardCacheInvalidationListener {
+
+    private final BoardDetailCache boardDetailCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUpdated(BoardUpdatedEvent event) {
+        boardDetailCache.evict(event.board().id());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(BoardDeletedEvent event) {
+        boardDetailCache.evict(event.boardId());
+    }
+}
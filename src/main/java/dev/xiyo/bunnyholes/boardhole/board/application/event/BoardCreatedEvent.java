@@ -0,0 +1,10 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.event;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+
+/**
+ * 게시글 생성 이벤트
+ * 게시글 저장 후 발행되며, 검색 색인 등 읽기 모델 갱신에 사용됩니다.
+ */
+public record BoardCreatedEvent(BoardResult board) {
+}
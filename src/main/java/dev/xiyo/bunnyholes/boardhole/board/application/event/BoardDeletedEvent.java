@@ -0,0 +1,11 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게시글 삭제 이벤트
+ * 게시글 삭제 후 발행되며, 검색 색인 등 읽기 모델에서 제거하고 작성일별 통계를 차감하는 데 사용됩니다.
+ */
+public record BoardDeletedEvent(UUID boardId, UUID authorId, LocalDateTime createdAt) {
+}
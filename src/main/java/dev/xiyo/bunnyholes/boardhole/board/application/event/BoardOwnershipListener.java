@@ -0,0 +1,30 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.event;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardOwnershipCache;
+
+/**
+ * 게시글 생성/삭제 시 작성자 캐시 갱신
+ * <p>
+ * 생성 직후의 수정/삭제 권한 확인이 DB를 거치지 않도록 작성자를 미리 저장하고, 삭제 커밋 후 지웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardOwnershipListener {
+
+    private final BoardOwnershipCache boardOwnershipCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(BoardCreatedEvent event) {
+        boardOwnershipCache.remember(event.board().id(), event.board().authorId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(BoardDeletedEvent event) {
+        boardOwnershipCache.evict(event.boardId());
+    }
+}
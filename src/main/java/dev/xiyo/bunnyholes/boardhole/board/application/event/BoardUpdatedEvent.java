@@ -0,0 +1,10 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.event;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+
+/**
+ * 게시글 수정 이벤트
+ * 게시글 제목/내용 변경 후 발행되며, 검색 색인 등 읽기 모델 갱신에 사용됩니다.
+ */
+public record BoardUpdatedEvent(BoardResult board) {
+}
@@ -0,0 +1,23 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.event;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.viewcount.BoardViewerTracker;
+
+/**
+ * 삭제된 게시글의 고유 조회자 추적 정보를 정리
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardViewerCleanupListener {
+
+    private final BoardViewerTracker boardViewerTracker;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(BoardDeletedEvent event) {
+        boardViewerTracker.forget(event.boardId());
+    }
+}
@@ -0,0 +1,28 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.event;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.viewcount.ViewCountAccumulator;
+
+/**
+ * 게시글 조회 이벤트를 write-behind 누적기에 기록
+ * <p>
+ * 메모리 카운터 증가만 수행하므로 비동기 스레드로 넘기지 않고 조회 스레드에서 바로 처리합니다.
+ * DB 반영은 {@link ViewCountAccumulator}가 배치로 수행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "boardhole.view-count", name = "write-behind", havingValue = "true", matchIfMissing = true)
+public class ViewCountBufferingListener {
+
+    private final ViewCountAccumulator viewCountAccumulator;
+
+    @EventListener
+    public void onViewed(ViewedEvent event) {
+        viewCountAccumulator.increment(event.boardId());
+    }
+}
@@ -3,6 +3,7 @@ package dev.xiyo.bunnyholes.boardhole.board.application.event;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
@@ -18,9 +19,13 @@ import dev.xiyo.bunnyholes.boardhole.board.application.mapper.BoardCommandMapper
  * 1. 낙관적 동시성 제어: 조회 시 즉시 응답, ViewCount는 백그라운드 처리
  * 2. 성능 최적화: 동시 조회 시 블로킹 방지
  * 3. 장애 격리: ViewCount 업데이트 실패가 조회에 영향 없음
+ * <p>
+ * {@code boardhole.view-count.write-behind=false}일 때만 사용되며,
+ * 기본값에서는 {@link ViewCountBufferingListener}가 조회수를 모아 배치로 반영합니다.
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "boardhole.view-count", name = "write-behind", havingValue = "false")
 @RequiredArgsConstructor
 public class ViewedEventListener {
 
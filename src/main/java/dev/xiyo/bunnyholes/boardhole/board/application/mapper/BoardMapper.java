@@ -2,13 +2,16 @@ package dev.xiyo.bunnyholes.boardhole.board.application.mapper;
 
 import java.util.UUID;
 
+import org.jspecify.annotations.Nullable;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 
 import dev.xiyo.bunnyholes.boardhole.board.application.event.ViewedEvent;
 import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
 import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardSummary;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 @SuppressWarnings("NullableProblems")
@@ -16,8 +19,27 @@ public interface BoardMapper {
 
     @Mapping(target = "authorId", source = "author.id")
     @Mapping(target = "authorName", source = "author.username")
+    @Mapping(target = "uniqueViewers", ignore = true)
     BoardResult toResult(Board board);
 
+    /**
+     * 게시글 요약 프로젝션을 목록 결과로 변환
+     *
+     * @param summary 게시글 요약 프로젝션
+     * @return 게시글 목록 결과
+     */
+    BoardSummaryResult toSummaryResult(BoardSummary summary);
+
+    /**
+     * 고유 조회자 수를 채운 게시글 결과 생성 (단건 조회용)
+     *
+     * @param result        게시글 결과
+     * @param uniqueViewers 대략적인 고유 조회자 수
+     * @return 게시글 결과
+     */
+    @Mapping(target = "uniqueViewers", source = "uniqueViewers")
+    BoardResult withUniqueViewers(BoardResult result, @Nullable Long uniqueViewers);
+
     /**
      * 게시글 조회 이벤트 생성
      *
@@ -0,0 +1,55 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.query;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.ReadModelCaches;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.TwoLevelCache;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.CacheProperties;
+
+/**
+ * 게시글 상세 조회 결과 캐시
+ * <p>
+ * 노드 로컬 캐시와 (Redis가 구성된 경우) 공유 캐시에 게시글 ID별 {@link BoardResult}를 본문 길이 기반 가중치로 보관합니다.
+ * 수정/삭제 커밋 후 모든 노드에서 무효화되며, 조회수는 {@code expire-after-write} 이내로 지연될 수 있습니다.
+ * 고유 조회자 수는 요청마다 계산하므로 캐시하지 않습니다.
+ */
+@Component
+public class BoardDetailCache {
+
+    /** 문자열 외 필드(UUID, 시각, 객체 헤더 등)의 대략적인 크기 */
+    private static final long ENTRY_OVERHEAD_BYTES = 256;
+
+    private final TwoLevelCache<BoardResult> cache;
+
+    public BoardDetailCache(CacheProperties properties, ReadModelCaches caches) {
+        this.cache = caches.create("board.detail", properties.board(), BoardResult.class, BoardDetailCache::weigh);
+    }
+
+    /**
+     * 항목 가중치: 문자열 길이(UTF-16 2바이트) + 고정 오버헤드
+     */
+    static long weigh(BoardResult result) {
+        return 2L * (result.title().length() + result.content().length() + result.authorName().length()) + ENTRY_OVERHEAD_BYTES;
+    }
+
+    /**
+     * 캐시 조회, 없으면 적재
+     *
+     * @param boardId 게시글 ID
+     * @param loader  적재 함수 (게시글이 없으면 예외)
+     */
+    public BoardResult get(UUID boardId, Function<UUID, BoardResult> loader) {
+        return cache.get(boardId, loader);
+    }
+
+    /**
+     * 게시글 무효화
+     */
+    public void evict(UUID boardId) {
+        cache.invalidate(boardId);
+    }
+}
@@ -0,0 +1,74 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.query;
+
+import java.time.Clock;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.LoadedBoardHandoff;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.WeightedLruCache;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.CacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 게시글 작성자 캐시
+ * <p>
+ * 게시글의 작성자는 바뀌지 않으므로 게시글 ID별 작성자 ID를 노드 로컬에 길게 보관하고, 삭제 시에만 지웁니다.
+ * 캐시에 없으면 작성자 ID만 조회하는 대신 게시글 엔티티를 적재해 {@link LoadedBoardHandoff}로 같은 요청의 수정/삭제 명령에 넘기므로,
+ * 권한 확인과 명령을 합쳐 게시글 조회는 한 번입니다.
+ * <p>
+ * 다른 노드에서 삭제된 게시글이 남아 있으면 권한 확인은 통과하지만 명령의 조회에서 찾을 수 없음으로 끝납니다.
+ */
+@Component
+public class BoardOwnershipCache {
+
+    /** 키/값 UUID 두 개와 연결 노드의 대략적인 크기 */
+    private static final long ENTRY_WEIGHT_BYTES = 160;
+
+    private final WeightedLruCache<UUID, UUID> cache;
+    private final BoardRepository boardRepository;
+    private final LoadedBoardHandoff handoff;
+
+    public BoardOwnershipCache(CacheProperties properties, BoardRepository boardRepository, LoadedBoardHandoff handoff,
+                               MeterRegistry meterRegistry) {
+        CacheProperties.Local spec = properties.ownership();
+        this.cache = new WeightedLruCache<>("board.ownership", spec.effectiveMaxWeight(), spec.expireAfterWrite(),
+                authorId -> ENTRY_WEIGHT_BYTES, Clock.systemUTC(), meterRegistry);
+        this.boardRepository = boardRepository;
+        this.handoff = handoff;
+    }
+
+    /**
+     * 게시글 작성자 조회
+     *
+     * @param boardId 게시글 ID
+     * @return 작성자 ID (게시글이 없으면 빈 값, 없는 결과는 캐시하지 않음)
+     */
+    public Optional<UUID> authorOf(UUID boardId) {
+        UUID cached = cache.getIfPresent(boardId);
+        if (cached != null)
+            return Optional.of(cached);
+        return boardRepository.findById(boardId).map(board -> {
+            handoff.offer(board);
+            UUID authorId = board.getAuthor().getId();
+            cache.put(boardId, authorId);
+            return authorId;
+        });
+    }
+
+    /**
+     * 작성자 미리 저장 (게시글 생성 시)
+     */
+    public void remember(UUID boardId, UUID authorId) {
+        cache.put(boardId, authorId);
+    }
+
+    /**
+     * 게시글 무효화 (삭제 시)
+     */
+    public void evict(UUID boardId) {
+        cache.invalidate(boardId);
+    }
+}
@@ -1,12 +1,14 @@
 package dev.xiyo.bunnyholes.boardhole.board.application.query;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -17,9 +19,17 @@ import org.springframework.transaction.annotation.Transactional;
 
 import dev.xiyo.bunnyholes.boardhole.board.application.mapper.BoardMapper;
 import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
-import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
 import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRevision;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardSummary;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.search.BoardSearchEngine;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.viewcount.BoardViewerTracker;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.CountedPage;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.Cursor;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.CursorPage;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.ListingCounter;
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
 
 /**
@@ -31,50 +41,149 @@ import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
 @RequiredArgsConstructor
 public class BoardQueryService {
 
+    /** 전체 건수 목록 키 (테이블 이름) */
+    public static final String LISTING = "boards";
+
     private final BoardRepository boardRepository;
     private final BoardMapper boardMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final BoardSearchEngine boardSearchEngine;
+    private final BoardViewerTracker boardViewerTracker;
+    private final BoardDetailCache boardDetailCache;
+    private final ListingCounter listingCounter;
 
     /**
      * 게시글 단일 조회 쿼리 처리
      * <p>
      * 주의: 본 메서드는 조회 성공 시 조회수 증가 이벤트(ViewedEvent)를 발행합니다.
      * CQRS 순수 조회 원칙과 달리, 실무 성능/경험(조회 시점에 viewCount 증가) 목적의 의도적 부수효과입니다.
+     * 같은 조회자의 재조회(새로고침, 봇 반복 요청)는 {@link BoardViewerTracker}가 걸러 이벤트를 발행하지 않습니다.
+     * <p>
+     * 결과는 {@link BoardDetailCache}에서 먼저 찾으며, 캐시 적중 시에도 조회 이벤트는 동일하게 발행합니다.
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션을 열지 않고, 적재 시에만 리포지토리 트랜잭션을 사용합니다.
      *
      * @param query 게시글 조회 쿼리
      * @return 게시글 조회 결과
      * @throws ResourceNotFoundException 게시글을 찾을 수 없는 경우
      */
-    @Transactional(readOnly = true)
     public BoardResult handle(GetBoardQuery query) {
-        Board board = boardRepository
-                .findById(query.id())
-                .orElseThrow(() -> new ResourceNotFoundException(MessageUtils.get("error.board.not-found.id", query.id())));
-        eventPublisher.publishEvent(boardMapper.toViewedEvent(query.id()));
-        return boardMapper.toResult(board);
+        BoardResult board = boardDetailCache.get(query.id(), this::loadBoard);
+        recordView(query);
+        return boardMapper.withUniqueViewers(board, boardViewerTracker.uniqueViewers(query.id()));
+    }
+
+    /**
+     * 조회 집계만 수행 (조건부 요청에 304로 응답하는 경우)
+     * <p>
+     * 본문을 다시 보내지 않아도 조회는 {@link #handle(GetBoardQuery)}와 같은 기준으로 집계합니다.
+     *
+     * @param query 게시글 조회 쿼리
+     */
+    public void recordView(GetBoardQuery query) {
+        if (boardViewerTracker.recordView(query.id(), query.viewerKey()))
+            eventPublisher.publishEvent(boardMapper.toViewedEvent(query.id()));
+    }
+
+    /**
+     * 게시글 내용 수정 시각 조회 (조건부 요청 검증용)
+     * <p>
+     * 엔티티와 상세 캐시를 거치지 않고 수정 시각만 조회합니다. 조회수 변경은 수정 시각을 바꾸지 않습니다.
+     *
+     * @param id 게시글 ID
+     * @return 수정 시각 (게시글이 없으면 빈 값)
+     */
+    public Optional<LocalDateTime> getRevision(UUID id) {
+        return boardRepository.findUpdatedAtById(id);
+    }
+
+    private BoardResult loadBoard(UUID id) {
+        return boardRepository
+                .findById(id)
+                .map(boardMapper::toResult)
+                .orElseThrow(() -> new ResourceNotFoundException(MessageUtils.get("error.board.not-found.id", id)));
     }
 
     /**
      * 게시글 목록 페이지네이션 조회
+     * <p>
+     * 목록 조회는 엔티티 대신 요약 프로젝션({@link BoardSummary})을 사용하므로 본문 전체와 작성자 엔티티를 로딩하지 않습니다.
+     * 전체 건수는 {@link ListingCounter} 설정에 따라 count 쿼리, 캐시, 이벤트 누적값 또는 플래너 추정값을 사용합니다.
      *
      * @param pageable 페이지네이션 정보
      * @return 게시글 목록 페이지
      */
     @Transactional(readOnly = true)
-    public Page<BoardResult> listWithPaging(Pageable pageable) {
-        return boardRepository.findAll(pageable).map(boardMapper::toResult);
+    public Page<BoardSummaryResult> listWithPaging(Pageable pageable) {
+        return listingCounter
+                .page(LISTING, pageable, boardRepository::findSummaries, boardRepository::findSummaryRows, boardRepository::count)
+                .map(boardMapper::toSummaryResult);
+    }
+
+    /**
+     * 게시글 목록 리비전 페이지 조회 (조건부 요청 검증용)
+     * <p>
+     * {@link #listWithPaging(Pageable)}와 같은 행, 같은 전체 건수를 ID와 수정 시각만으로 조회하므로
+     * 두 결과에서 계산한 목록 지문이 일치합니다.
+     *
+     * @param pageable 페이지네이션 정보
+     * @return 게시글 리비전 페이지
+     */
+    @Transactional(readOnly = true)
+    public Page<BoardRevision> listRevisions(Pageable pageable) {
+        return listingCounter.page(LISTING, pageable, boardRepository::findRevisions, boardRepository::findRevisionRows, boardRepository::count);
     }
 
     /**
      * 검색어로 게시글 목록 페이지네이션 조회
+     * <p>
+     * 실행 환경에 맞는 {@link BoardSearchEngine}이 처리합니다.
+     * PostgreSQL에서는 trigram 인덱스 검색으로 관련도 순 정렬되며, 그 외 DB에서는 LIKE 검색으로 폴백합니다.
      *
      * @param pageable 페이지네이션 정보
      * @param search   검색어 (제목, 내용에서 검색)
      * @return 검색된 게시글 목록 페이지
      */
     @Transactional(readOnly = true)
-    public Page<BoardResult> listWithPaging(Pageable pageable, String search) {
-        return boardRepository.searchByKeyword(search, pageable).map(boardMapper::toResult);
+    public Page<BoardSummaryResult> listWithPaging(Pageable pageable, String search) {
+        return CountedPage.exact(boardSearchEngine.search(search, pageable)).map(boardMapper::toSummaryResult);
+    }
+
+    /**
+     * 게시글 목록 커서(키셋) 페이지네이션 조회
+     * <p>
+     * (created_at, id) 기준으로 탐색하므로 OFFSET 스캔과 전체 건수(count) 쿼리가 발생하지 않습니다.
+     * 깊은 페이지에서도 일정한 비용으로 조회됩니다.
+     * 검색어가 있고 검색 엔진이 search-after를 지원하면(JVM 내장 색인) 관련도 순으로 조회됩니다.
+     *
+     * @param cursor 이전 응답의 next/prev 커서 (첫 페이지면 null)
+     * @param size   페이지 크기
+     * @param search 검색어 (제목, 내용에서 검색, 선택사항)
+     * @return 게시글 커서 페이지 (최신순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<BoardSummaryResult> listWithCursor(@Nullable String cursor, int size, @Nullable String search) {
+        String keyword = search == null || search.isBlank() ? null : search.trim();
+        // 검색 엔진이 관련도 순 search-after로 처리할 수 있으면 최신순 키셋 대신 사용
+        if (keyword != null) {
+            Optional<CursorPage<BoardSummary>> ranked = boardSearchEngine.searchAfter(keyword, cursor, size);
+            if (ranked.isPresent())
+                return ranked.get().map(boardMapper::toSummaryResult);
+        }
+
+        Cursor position = Cursor.decode(cursor);
+        var limit = CursorPage.fetchLimit(size);
+
+        List<BoardSummary> rows;
+        if (keyword == null) {
+            rows = position == null ? boardRepository.findLatestSummaries(limit)
+                    : position.isNext() ? boardRepository.findSummariesOlderThan(position.createdAt(), position.id(), limit)
+                    : boardRepository.findSummariesNewerThan(position.createdAt(), position.id(), limit);
+        } else {
+            rows = position == null ? boardRepository.searchLatest(keyword, limit)
+                    : position.isNext() ? boardRepository.searchOlderThan(keyword, position.createdAt(), position.id(), limit)
+                    : boardRepository.searchNewerThan(keyword, position.createdAt(), position.id(), limit);
+        }
+        return CursorPage.of(rows, size, position, BoardSummary::createdAt, BoardSummary::id).map(boardMapper::toSummaryResult);
     }
 
     // WebController 호환 메서드들 (기존 API 유지)
@@ -83,7 +192,7 @@ public class BoardQueryService {
      * 게시글 목록 조회 (검색 포함)
      */
     @Transactional(readOnly = true)
-    public Page<BoardResult> getBoards(String search, Pageable pageable) {
+    public Page<BoardSummaryResult> getBoards(String search, Pageable pageable) {
         if (search != null && !search.trim().isEmpty())
             return listWithPaging(pageable, search.trim());
         return listWithPaging(pageable);
@@ -92,57 +201,31 @@ public class BoardQueryService {
     /**
      * 게시글 단일 조회
      */
-    @Transactional(readOnly = true)
     public BoardResult getBoard(UUID id) {
-        return handle(new GetBoardQuery(id));
-    }
-
-    // 대시보드용 메서드들
-
-    /**
-     * 최근 게시글 목록 조회
-     *
-     * @param limit 조회할 게시글 수
-     * @return 최근 게시글 목록
-     */
-    @Transactional(readOnly = true)
-    public List<BoardResult> getRecentBoards(int limit) {
-        Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return boardRepository.findAll(pageable).map(boardMapper::toResult).getContent();
+        return handle(new GetBoardQuery(id, null));
     }
 
     /**
-     * 전체 게시글 수 조회
+     * 게시글 단일 조회 (조회자 기준 중복 조회 제거)
      *
-     * @return 전체 게시글 수
+     * @param id        게시글 ID
+     * @param viewerKey 조회자 식별 키
      */
-    @Transactional(readOnly = true)
-    public Long getTotalBoardCount() {
-        return boardRepository.count();
+    public BoardResult getBoard(UUID id, String viewerKey) {
+        return handle(new GetBoardQuery(id, viewerKey));
     }
 
-    /**
-     * 오늘 작성된 게시글 수 조회
-     *
-     * @return 오늘 작성된 게시글 수
-     */
-    @Transactional(readOnly = true)
-    public Long getTodayBoardCount() {
-        LocalDate today = LocalDate.now();
-        return boardRepository.countByCreatedAtBetween(
-                today.atStartOfDay(),
-                today.plusDays(1).atStartOfDay()
-        );
-    }
+    // 대시보드용 메서드들 (게시글 수 통계는 DashboardQueryService가 메모리 통계로 제공)
 
     /**
-     * 특정 사용자의 게시글 수 조회
+     * 최근 게시글 목록 조회
      *
-     * @param authorId 작성자 ID
-     * @return 사용자의 게시글 수
+     * @param limit 조회할 게시글 수
+     * @return 최근 게시글 목록
      */
     @Transactional(readOnly = true)
-    public Long getMyBoardCount(UUID authorId) {
-        return boardRepository.countByAuthorId(authorId);
+    public List<BoardSummaryResult> getRecentBoards(int limit) {
+        Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
+        return boardRepository.findSummaries(pageable).map(boardMapper::toSummaryResult).getContent();
     }
 }
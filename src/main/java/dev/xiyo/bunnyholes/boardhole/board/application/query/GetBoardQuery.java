@@ -2,5 +2,13 @@ package dev.xiyo.bunnyholes.boardhole.board.application.query;
 
 import java.util.UUID;
 
-public record GetBoardQuery(UUID id) {
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 게시글 단건 조회 쿼리
+ *
+ * @param id        게시글 ID
+ * @param viewerKey 조회자 식별 키 (중복 조회 제거용, 없으면 항상 조회수 증가)
+ */
+public record GetBoardQuery(UUID id, @Nullable String viewerKey) {
 }
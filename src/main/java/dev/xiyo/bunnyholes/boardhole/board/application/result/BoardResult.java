@@ -3,6 +3,13 @@ package dev.xiyo.bunnyholes.boardhole.board.application.result;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 게시글 조회 결과
+ * <p>
+ * {@code uniqueViewers}는 단건 조회에서만 채워지는 노드 로컬 근사치이며, 추적하지 않는 게시글이면 null입니다.
+ */
 public record BoardResult(UUID id, String title, String content, UUID authorId, String authorName, Integer viewCount, LocalDateTime createdAt,
-                          LocalDateTime updatedAt) {
+                          LocalDateTime updatedAt, @Nullable Long uniqueViewers) {
 }
@@ -0,0 +1,13 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.result;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게시글 목록 조회 결과
+ * <p>
+ * 본문 전체 대신 앞부분 미리보기({@code excerpt})만 포함합니다. 본문이 필요하면 단건 조회({@link BoardResult})를 사용합니다.
+ */
+public record BoardSummaryResult(UUID id, String title, String excerpt, UUID authorId, String authorName, Integer viewCount,
+                                 LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
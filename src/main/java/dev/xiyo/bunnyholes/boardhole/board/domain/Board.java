@@ -41,7 +41,7 @@ import dev.xiyo.bunnyholes.boardhole.user.domain.User;
 @EntityListeners(ValidationListener.class)
 @DynamicUpdate
 @SoftDelete(columnName = "deleted")
-@Table(name = "boards", indexes = {@Index(name = "idx_board_title", columnList = "title"), @Index(name = "idx_board_created_at", columnList = "created_at"),})
+@Table(name = "boards", indexes = {@Index(name = "idx_board_title", columnList = "title"), @Index(name = "idx_board_created_at_id", columnList = "created_at, id"),})
 public class Board extends BaseEntity implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
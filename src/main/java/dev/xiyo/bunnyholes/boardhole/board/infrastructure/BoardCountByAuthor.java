@@ -0,0 +1,9 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.util.UUID;
+
+/**
+ * 작성자별 게시글 수 집계 프로젝션
+ */
+public record BoardCountByAuthor(UUID authorId, Long count) {
+}
@@ -0,0 +1,9 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.time.LocalDate;
+
+/**
+ * 작성일별 게시글 수 집계 프로젝션
+ */
+public record BoardCountByDate(LocalDate date, Long count) {
+}
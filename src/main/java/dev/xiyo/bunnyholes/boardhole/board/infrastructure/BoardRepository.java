@@ -1,14 +1,17 @@
 package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -20,6 +23,16 @@ import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
  */
 public interface BoardRepository extends JpaRepository<Board, UUID> {
 
+    /** 목록 요약 프로젝션 SELECT 절 (본문 앞부분, 작성자 ID/사용자명만 조회) */
+    String SUMMARY_SELECT = "SELECT new dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardSummary(b.id, b.title, SUBSTRING(b.content, 1, "
+            + BoardSummary.EXCERPT_LENGTH + "), a.id, a.username, b.viewCount, b.createdAt, b.updatedAt) FROM Board b JOIN b.author a";
+
+    /** 리비전 프로젝션 SELECT 절 (조건부 요청 검증용, 작성자 조인 없음) */
+    String REVISION_SELECT = "SELECT new dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRevision(b.id, b.updatedAt) FROM Board b";
+
+    /** 키워드 검색 조건 (제목 또는 내용, 대소문자 무시) */
+    String KEYWORD_MATCH = "(LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(b.content) LIKE LOWER(CONCAT('%', :keyword, '%')))";
+
     @Override
     @EntityGraph(attributePaths = "author")
     Optional<Board> findById(UUID id);
@@ -28,26 +41,198 @@ public interface BoardRepository extends JpaRepository<Board, UUID> {
     @EntityGraph(attributePaths = "author")
     Page<Board> findAll(Pageable pageable);
 
+    /**
+     * 게시글 목록 요약 페이지 조회
+     *
+     * @param pageable 페이지네이션 정보
+     * @return 게시글 요약 페이지
+     */
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT count(b) FROM Board b")
+    Page<BoardSummary> findSummaries(Pageable pageable);
+
+    /**
+     * 게시글 목록 요약 페이지 내용만 조회 (count 쿼리 없음)
+     * <p>
+     * 전체 건수는 {@link dev.xiyo.bunnyholes.boardhole.shared.pagination.ListingCounter}가 별도로 제공합니다.
+     *
+     * @param pageable 페이지네이션 정보
+     * @return 게시글 요약 목록
+     */
+    @Query(SUMMARY_SELECT)
+    List<BoardSummary> findSummaryRows(Pageable pageable);
+
+    /**
+     * 게시글 목록 리비전 페이지 조회 (조건부 요청 검증용)
+     * <p>
+     * {@link #findSummaries(Pageable)}와 같은 행을 같은 순서로 조회하되 ID와 수정 시각만 읽습니다.
+     *
+     * @param pageable 페이지네이션 정보
+     * @return 게시글 리비전 페이지
+     */
+    @Query(value = REVISION_SELECT, countQuery = "SELECT count(b) FROM Board b")
+    Page<BoardRevision> findRevisions(Pageable pageable);
+
+    /**
+     * 게시글 목록 리비전 내용만 조회 (count 쿼리 없음)
+     *
+     * @param pageable 페이지네이션 정보
+     * @return 게시글 리비전 목록
+     */
+    @Query(REVISION_SELECT)
+    List<BoardRevision> findRevisionRows(Pageable pageable);
+
+    /**
+     * 게시글 내용 수정 시각만 조회 (조건부 요청 검증용)
+     *
+     * @param id 게시글 ID
+     * @return 수정 시각 (게시글이 없으면 빈 값)
+     */
+    @Query("SELECT b.updatedAt FROM Board b WHERE b.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+    /**
+     * 조회수 1 증가
+     * <p>
+     * 엔티티를 거치지 않는 원자적 UPDATE이므로 버전과 수정 시각이 바뀌지 않습니다(내용 ETag 유지).
+     *
+     * @param id 게시글 ID
+     * @return 변경된 행 수 (게시글이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Board b SET b.viewCount = b.viewCount + 1 WHERE b.id = :id")
+    int incrementViewCount(@Param("id") UUID id);
+
     /**
      * 키워드로 게시글 검색 (JPQL 사용)
      *
      * @param keyword  검색 키워드
      * @param pageable 페이지네이션 정보
-     * @return 검색된 게시글 페이지
+     * @return 검색된 게시글 요약 페이지
+     */
+    @Query(value = SUMMARY_SELECT + " WHERE " + KEYWORD_MATCH, countQuery = "SELECT count(b) FROM Board b WHERE " + KEYWORD_MATCH)
+    Page<BoardSummary> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * pg_trgm 인덱스 기반 키워드 검색 (PostgreSQL 전용 Native Query)
+     * <p>
+     * 제목/내용의 trigram GIN 인덱스로 ILIKE를 처리하고, 제목 일치와 제목 유사도 순으로 정렬합니다.
+     * 소프트 삭제 필터가 자동 적용되지 않으므로 직접 제외합니다.
+     *
+     * @param keyword  검색 키워드 (유사도 계산용)
+     * @param pattern  이스케이프된 ILIKE 패턴 (%keyword%)
+     * @param pageable 페이지네이션 정보 (정렬 없음)
+     * @return 관련도 순 게시글 ID 페이지
+     */
+    @Query(value = """
+            SELECT b.id FROM boards b
+            WHERE b.deleted = false AND (b.title ILIKE :pattern OR b.content ILIKE :pattern)
+            ORDER BY CAST(b.title ILIKE :pattern AS int) DESC, word_similarity(:keyword, b.title) DESC, b.created_at DESC, b.id DESC
+            """,
+            countQuery = "SELECT count(*) FROM boards b WHERE b.deleted = false AND (b.title ILIKE :pattern OR b.content ILIKE :pattern)",
+            nativeQuery = true)
+    Page<UUID> searchIdsByTrigram(@Param("keyword") String keyword, @Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * ID 목록으로 게시글 요약 조회
+     *
+     * @param ids 게시글 ID 목록
+     * @return 게시글 요약 목록 (순서 보장 없음)
+     */
+    @Query(SUMMARY_SELECT + " WHERE b.id IN :ids")
+    List<BoardSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 키셋 페이지네이션 첫 페이지 조회 (최신순, count 쿼리 없음)
+     * <p>
+     * 본문이 필요한 일괄 처리(검색 색인 적재)용입니다. 목록 화면은 {@link #findLatestSummaries(Limit)}를 사용합니다.
+     *
+     * @param limit 조회 건수
+     * @return 게시글 목록 (created_at DESC, id DESC)
+     */
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT b FROM Board b ORDER BY b.createdAt DESC, b.id DESC")
+    List<Board> findLatest(Limit limit);
+
+    /**
+     * 키셋 페이지네이션 다음 페이지 조회 - 기준 행보다 오래된 게시글
+     *
+     * @param createdAt 기준 행 생성 시각
+     * @param id        기준 행 ID
+     * @param limit     조회 건수
+     * @return 게시글 목록 (created_at DESC, id DESC)
      */
     @EntityGraph(attributePaths = "author")
-    @Query("SELECT b FROM Board b WHERE LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(b.content) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Board> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    @Query("SELECT b FROM Board b WHERE b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id) ORDER BY b.createdAt DESC, b.id DESC")
+    List<Board> findOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * 키셋 페이지네이션 첫 페이지 요약 조회 (최신순, count 쿼리 없음)
+     *
+     * @param limit 조회 건수
+     * @return 게시글 요약 목록 (created_at DESC, id DESC)
+     */
+    @Query(SUMMARY_SELECT + " ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardSummary> findLatestSummaries(Limit limit);
 
     /**
-     * 게시글 작성자 ID만 조회 (권한 체크용 최적화 쿼리)
-     * N+1 문제 해결: 전체 엔티티 대신 작성자 ID만 조회하여 성능 최적화
+     * 키셋 페이지네이션 다음 페이지 요약 조회 - 기준 행보다 오래된 게시글
      *
-     * @param boardId 게시글 ID
-     * @return 작성자 ID (Optional)
+     * @param createdAt 기준 행 생성 시각
+     * @param id        기준 행 ID
+     * @param limit     조회 건수
+     * @return 게시글 요약 목록 (created_at DESC, id DESC)
      */
-    @Query("SELECT b.author.id FROM Board b WHERE b.id = :boardId")
-    Optional<UUID> findAuthorIdById(@Param("boardId") UUID boardId);
+    @Query(SUMMARY_SELECT + " WHERE b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id) ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardSummary> findSummariesOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * 키셋 페이지네이션 이전 페이지 요약 조회 - 기준 행보다 최근 게시글
+     *
+     * @param createdAt 기준 행 생성 시각
+     * @param id        기준 행 ID
+     * @param limit     조회 건수
+     * @return 게시글 요약 목록 (created_at ASC, id ASC - 호출 측에서 뒤집어 사용)
+     */
+    @Query(SUMMARY_SELECT + " WHERE b.createdAt > :createdAt OR (b.createdAt = :createdAt AND b.id > :id) ORDER BY b.createdAt ASC, b.id ASC")
+    List<BoardSummary> findSummariesNewerThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * 키워드 검색 키셋 페이지네이션 첫 페이지 조회
+     *
+     * @param keyword 검색 키워드
+     * @param limit   조회 건수
+     * @return 검색된 게시글 요약 목록 (created_at DESC, id DESC)
+     */
+    @Query(SUMMARY_SELECT + " WHERE " + KEYWORD_MATCH + " ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardSummary> searchLatest(@Param("keyword") String keyword, Limit limit);
+
+    /**
+     * 키워드 검색 키셋 페이지네이션 다음 페이지 조회
+     *
+     * @param keyword   검색 키워드
+     * @param createdAt 기준 행 생성 시각
+     * @param id        기준 행 ID
+     * @param limit     조회 건수
+     * @return 검색된 게시글 요약 목록 (created_at DESC, id DESC)
+     */
+    @Query(SUMMARY_SELECT + " WHERE " + KEYWORD_MATCH
+            + " AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardSummary> searchOlderThan(@Param("keyword") String keyword, @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id,
+                                       Limit limit);
+
+    /**
+     * 키워드 검색 키셋 페이지네이션 이전 페이지 조회
+     *
+     * @param keyword   검색 키워드
+     * @param createdAt 기준 행 생성 시각
+     * @param id        기준 행 ID
+     * @param limit     조회 건수
+     * @return 검색된 게시글 요약 목록 (created_at ASC, id ASC - 호출 측에서 뒤집어 사용)
+     */
+    @Query(SUMMARY_SELECT + " WHERE " + KEYWORD_MATCH
+            + " AND (b.createdAt > :createdAt OR (b.createdAt = :createdAt AND b.id > :id)) ORDER BY b.createdAt ASC, b.id ASC")
+    List<BoardSummary> searchNewerThan(@Param("keyword") String keyword, @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id,
+                                       Limit limit);
 
     /**
      * 삭제된 게시글 포함 전체 조회 (Native Query)
@@ -83,6 +268,24 @@ public interface BoardRepository extends JpaRepository<Board, UUID> {
      */
     long countByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
 
+    /**
+     * 기준 시각 이후 작성일별 게시글 수 집계 (대시보드 통계 보정용)
+     *
+     * @param from 집계 시작 시각
+     * @return 작성일별 게시글 수
+     */
+    @Query("SELECT new dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardCountByDate(CAST(b.createdAt AS LocalDate), count(b)) "
+            + "FROM Board b WHERE b.createdAt >= :from GROUP BY CAST(b.createdAt AS LocalDate)")
+    List<BoardCountByDate> countByCreatedDateSince(@Param("from") LocalDateTime from);
+
+    /**
+     * 작성자별 게시글 수 집계 (대시보드 통계 보정용)
+     *
+     * @return 작성자별 게시글 수
+     */
+    @Query("SELECT new dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardCountByAuthor(b.author.id, count(b)) FROM Board b GROUP BY b.author.id")
+    List<BoardCountByAuthor> countGroupByAuthor();
+
     /**
      * 특정 작성자의 게시글 수 조회
      *
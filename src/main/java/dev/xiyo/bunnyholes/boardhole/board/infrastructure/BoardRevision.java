@@ -0,0 +1,12 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게시글 내용 리비전 프로젝션
+ * <p>
+ * 조건부 요청(ETag) 검증용으로 ID와 내용 수정 시각만 조회합니다. 조회수는 수정 시각을 바꾸지 않으므로 리비전에 영향을 주지 않습니다.
+ */
+public record BoardRevision(UUID id, LocalDateTime updatedAt) {
+}
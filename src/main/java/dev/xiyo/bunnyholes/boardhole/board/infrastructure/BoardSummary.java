@@ -0,0 +1,17 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게시글 목록용 요약 프로젝션
+ * <p>
+ * 본문 전체와 작성자 엔티티 대신 본문 앞부분({@value #EXCERPT_LENGTH}자)과 작성자 ID/사용자명만 조회하여
+ * 목록 한 행의 전송량과 영속성 컨텍스트 메모리를 줄입니다.
+ */
+public record BoardSummary(UUID id, String title, String excerpt, UUID authorId, String authorName, int viewCount, LocalDateTime createdAt,
+                           LocalDateTime updatedAt) {
+
+    /** 목록 본문 미리보기 최대 길이 */
+    public static final int EXCERPT_LENGTH = 200;
+}
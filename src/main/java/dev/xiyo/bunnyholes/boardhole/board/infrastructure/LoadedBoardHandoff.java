@@ -0,0 +1,69 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
+
+/**
+ * 요청 범위 게시글 엔티티 전달
+ * <p>
+ * 권한 확인에서 적재한 게시글을 같은 요청의 수정/삭제 명령이 다시 조회하지 않고 사용하도록 요청 속성에 보관합니다.
+ * 명령 트랜잭션의 영속성 컨텍스트가 관리 중인 엔티티일 때만 넘겨주며, 그 외(요청 밖 호출, 준영속 엔티티)에는 비어 있어 호출자가 직접 조회합니다.
+ * 권한 확인과 명령이 같은 영속성 컨텍스트를 쓰려면 {@code spring.jpa.open-in-view=true}(application.yml에 명시)여야 하며,
+ * 끄면 재사용 없이 명령이 다시 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadedBoardHandoff {
+
+    private static final String ATTRIBUTE = LoadedBoardHandoff.class.getName();
+
+    private final EntityManager entityManager;
+
+    @SuppressWarnings("unchecked")
+    private static Map<UUID, Board> boards(RequestAttributes attributes, boolean create) {
+        Object existing = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (existing != null || !create)
+            return existing == null ? Map.of() : (Map<UUID, Board>) existing;
+        Map<UUID, Board> boards = new HashMap<>(2);
+        attributes.setAttribute(ATTRIBUTE, boards, RequestAttributes.SCOPE_REQUEST);
+        return boards;
+    }
+
+    /**
+     * 현재 요청에 적재한 게시글 보관 (요청 밖에서는 무시)
+     */
+    public void offer(Board board) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null)
+            boards(attributes, true).put(board.getId(), board);
+    }
+
+    /**
+     * 현재 요청에 보관된 게시글 꺼내기
+     *
+     * @param boardId 게시글 ID
+     * @return 영속성 컨텍스트가 관리 중인 게시글 (없으면 빈 값)
+     */
+    public Optional<Board> take(UUID boardId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null)
+            return Optional.empty();
+        Board board = boards(attributes, false).get(boardId);
+        if (board == null)
+            return Optional.empty();
+        boards(attributes, false).remove(boardId);
+        return entityManager.contains(board) ? Optional.of(board) : Optional.empty();
+    }
+}
@@ -0,0 +1,76 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.search;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.shared.util.DatabaseProducts;
+
+/**
+ * 게시글 검색 엔진 설정
+ * <p>
+ * {@code boardhole.search.mode} 값과 실행 중인 DB에 따라 검색 엔진을 선택합니다.
+ * PostgreSQL이 아니거나 pg_trgm을 사용할 수 없으면 LIKE 검색으로 폴백합니다.
+ * MEMORY 모드는 JVM 내장 색인을 우선 사용하고 처리할 수 없는 검색은 DB 검색 엔진에 위임합니다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(BoardSearchProperties.class)
+public class BoardSearchConfiguration {
+
+    private static BoardSearchEngine databaseEngine(BoardSearchProperties properties, BoardRepository boardRepository, DataSource dataSource) {
+        if (properties.mode() == BoardSearchProperties.Mode.LIKE)
+            return new LikeBoardSearchEngine(boardRepository);
+        boolean trigramReady = DatabaseProducts.isPostgres(dataSource)
+                && new TrigramSchemaInitializer(new JdbcTemplate(dataSource)).prepare(properties.createTrigramIndex());
+        return trigramReady ? new TrigramBoardSearchEngine(boardRepository) : new LikeBoardSearchEngine(boardRepository);
+    }
+
+    @Bean
+    public BoardSearchEngine boardSearchEngine(BoardSearchProperties properties, BoardRepository boardRepository, DataSource dataSource,
+                                               ObjectProvider<BoardSearchIndex> searchIndex) {
+        BoardSearchEngine engine = databaseEngine(properties, boardRepository, dataSource);
+        BoardSearchIndex index = searchIndex.getIfAvailable();
+        if (properties.mode() == BoardSearchProperties.Mode.MEMORY && index != null)
+            engine = new MemoryBoardSearchEngine(index, engine, boardRepository);
+        log.info("Board search engine: {} (configured: {})", engine.mode(), properties.mode());
+        return engine;
+    }
+
+    /**
+     * JVM 내장 색인 구성 요소 (mode=MEMORY일 때만 등록)
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "boardhole.search", name = "mode", havingValue = "memory")
+    static class MemoryIndexConfiguration {
+
+        @Bean
+        BoardSearchIndex boardSearchIndex(BoardSearchProperties properties) {
+            BoardSearchProperties.Memory memory = properties.memory();
+            return new BoardSearchIndex(memory.maxDocuments(), memory.maxIndexedChars(), memory.maxMemory().toBytes());
+        }
+
+        @Bean
+        BoardSearchIndexLoader boardSearchIndexLoader(BoardSearchIndex index, BoardRepository boardRepository, BoardSearchProperties properties) {
+            return new BoardSearchIndexLoader(index, boardRepository, properties.memory().buildBatchSize());
+        }
+
+        @Bean
+        BoardSearchIndexListener boardSearchIndexListener(BoardSearchIndex index, BoardSearchIndexLoader loader) {
+            return new BoardSearchIndexListener(index, loader);
+        }
+
+        @Bean
+        BoardSearchIndexEndpoint boardSearchIndexEndpoint(BoardSearchIndex index) {
+            return new BoardSearchIndexEndpoint(index);
+        }
+    }
+}
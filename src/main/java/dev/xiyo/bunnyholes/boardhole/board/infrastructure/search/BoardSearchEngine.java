@@ -0,0 +1,48 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.search;
+
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardSummary;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.CursorPage;
+
+/**
+ * 게시글 키워드 검색 엔진
+ * <p>
+ * 실행 환경(DB 종류, 설정)에 따라 구현이 선택되며 조회 서비스는 구현을 알 필요가 없습니다.
+ *
+ * @see BoardSearchConfiguration
+ */
+public interface BoardSearchEngine {
+
+    /**
+     * 제목, 내용에서 키워드 검색
+     *
+     * @param keyword  검색 키워드 (공백 제거된 값)
+     * @param pageable 페이지네이션 정보
+     * @return 검색된 게시글 요약 페이지
+     */
+    Page<BoardSummary> search(String keyword, Pageable pageable);
+
+    /**
+     * 검색 모드 이름 (로그, 모니터링 용도)
+     */
+    BoardSearchProperties.Mode mode();
+
+    /**
+     * 관련도 순 search-after 검색
+     * <p>
+     * 지원하지 않는 엔진이거나 해당 검색어를 처리할 수 없으면 빈 값을 반환하며, 호출자는 최신순 키셋 검색으로 폴백합니다.
+     *
+     * @param keyword 검색 키워드
+     * @param after   이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size    페이지 크기
+     * @return 검색된 게시글 요약 커서 페이지 (처리할 수 없으면 빈 값)
+     */
+    default Optional<CursorPage<BoardSummary>> searchAfter(String keyword, @Nullable String after, int size) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,490 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.search;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.jspecify.annotations.Nullable;
+
+import dev.xiyo.bunnyholes.boardhole.shared.exception.ValidationException;
+import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
+
+/**
+ * 게시글 제목/내용 bigram 역색인 (JVM 내장)
+ * <p>
+ * gram → 게시글 posting list 구조로 검색어의 모든 gram을 포함한 게시글을 찾고,
+ * 제목 일치에 가중치를 둔 점수 → 작성일 → ID 순으로 정렬합니다.
+ * <p>
+ * 색인 문서 수({@code maxDocuments})와 추정 메모리 사용량({@code maxBytes})이 제한되며, 한도를 넘으면 불완전 상태로 표시되어
+ * 검색 엔진이 DB 검색으로 폴백합니다. 불완전 상태는 {@link #reset()} 후 재구축해야 해제됩니다({@link #needsRebuild()}).
+ * <p>
+ * 삭제된 posting 항목은 필드 비트를 비운 tombstone으로 남기고, 목록의 절반 이상이 tombstone이 되면 한 번에 압축합니다.
+ * 읽기/쓰기는 ReadWriteLock으로 보호됩니다.
+ */
+public class BoardSearchIndex {
+
+    /** posting 항목 하위 2비트: gram이 등장한 필드 */
+    private static final int TITLE = 1;
+    private static final int CONTENT = 2;
+    private static final int FIELD_BITS = 2;
+    private static final int FIELD_MASK = (1 << FIELD_BITS) - 1;
+    /** int posting 항목(docId << 2 | 필드 비트)에 담을 수 있는 최대 docId */
+    static final int MAX_DOC_ID = Integer.MAX_VALUE >>> FIELD_BITS;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    // 메모리 추정치(바이트): JVM 객체 헤더/참조 크기 기준 근사값
+    private static final long BYTES_PER_DOCUMENT = 96;
+    private static final long BYTES_PER_GRAM = 72;
+    private static final long BYTES_PER_POSTING = 8;
+
+    private static final Comparator<Hit> RANKING = Comparator
+            .comparingInt(Hit::score).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::createdAt).reversed())
+            .thenComparing(Comparator.comparing(Hit::id).reversed());
+
+    private final int maxDocuments;
+    private final int maxIndexedChars;
+    private final long maxBytes;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> gramIds = new HashMap<>();
+    private final List<PostingList> postings = new ArrayList<>();
+    private final Map<UUID, Integer> docIds = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    /** 초기 색인 중 삭제된 게시글 (색인 로더가 오래된 스냅샷을 다시 넣지 않도록) */
+    private final Set<UUID> removedDuringBuild = new HashSet<>();
+
+    private int nextDocId;
+    private long postingCount;
+    /** 압축 전 남아 있는 tombstone 항목 수 */
+    private long tombstones;
+    private boolean ready;
+    private boolean truncated;
+    /** 한도에 걸린 시점의 문서 수 (재구축 판단용) */
+    private int truncatedAt;
+
+    /**
+     * @param maxDocuments    색인할 최대 게시글 수
+     * @param maxIndexedChars 필드별 색인할 최대 글자 수
+     * @param maxBytes        색인 추정 메모리 사용량 한도(바이트)
+     */
+    public BoardSearchIndex(int maxDocuments, int maxIndexedChars, long maxBytes) {
+        this.maxDocuments = maxDocuments;
+        this.maxIndexedChars = maxIndexedChars;
+        this.maxBytes = maxBytes;
+    }
+
+    private static long toEpochMicros(LocalDateTime createdAt) {
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), createdAt);
+    }
+
+    /**
+     * 게시글 색인 추가 또는 갱신
+     *
+     * @param id        게시글 ID
+     * @param title     제목
+     * @param content   내용
+     * @param createdAt 작성일 (동점 정렬용)
+     */
+    public void upsert(UUID id, String title, String content, LocalDateTime createdAt) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            add(id, title, content, createdAt);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 초기 색인 중 게시글 추가 (이미 색인되었거나 삭제된 게시글은 건너뜀)
+     */
+    void addIfAbsent(UUID id, String title, String content, LocalDateTime createdAt) {
+        lock.writeLock().lock();
+        try {
+            if (docIds.containsKey(id) || removedDuringBuild.contains(id))
+                return;
+            add(id, title, content, createdAt);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 색인 제거
+     *
+     * @param id 게시글 ID
+     */
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            if (!ready)
+                removedDuringBuild.add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 초기 색인 완료 표시
+     */
+    void markReady() {
+        lock.writeLock().lock();
+        try {
+            ready = true;
+            removedDuringBuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인을 비우고 초기 색인 전 상태로 되돌림 (재구축 시작)
+     * <p>
+     * 불완전 상태와 docId도 초기화되며, 재구축이 끝날 때까지 검색은 DB 검색 엔진이 처리합니다.
+     */
+    void reset() {
+        lock.writeLock().lock();
+        try {
+            gramIds.clear();
+            postings.clear();
+            docIds.clear();
+            documents.clear();
+            removedDuringBuild.clear();
+            nextDocId = 0;
+            postingCount = 0;
+            tombstones = 0;
+            ready = false;
+            truncated = false;
+            truncatedAt = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재구축이 필요한지 확인
+     * <p>
+     * 한도로 일부만 색인된 뒤 삭제로 여유가 생겼거나(한도에 걸린 시점 문서 수의 90% 미만), docId를 모두 사용한 경우입니다.
+     */
+    public boolean needsRebuild() {
+        lock.readLock().lock();
+        try {
+            return ready && truncated && (nextDocId > MAX_DOC_ID || documents.size() < truncatedAt * 9L / 10);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 색인으로 정확히 처리할 수 있는지 확인
+     * <p>
+     * 초기 색인이 끝나지 않았거나, 문서 수/메모리 한도로 일부만 색인되었거나, 1글자 토큰이 포함된 검색어는 처리할 수 없습니다.
+     */
+    public boolean canAnswer(String keyword) {
+        lock.readLock().lock();
+        try {
+            return ready && !truncated && NGramTokenizer.isSearchable(keyword);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 관련도 순 검색 (오프셋 페이지)
+     *
+     * @param keyword 검색어
+     * @param offset  건너뛸 건수
+     * @param limit   조회 건수
+     * @return 검색 결과 ID와 전체 건수
+     */
+    public Hits search(String keyword, long offset, int limit) {
+        List<Hit> ranked = rank(keyword);
+        int from = (int) Math.min(offset, ranked.size());
+        int to = Math.min(from + limit, ranked.size());
+        return new Hits(ranked.subList(from, to).stream().map(Hit::id).toList(), ranked.size());
+    }
+
+    /**
+     * 관련도 순 search-after 검색
+     * <p>
+     * 이전 페이지 마지막 항목(after) 이후의 결과를 반환합니다. 오프셋 계산이 필요 없어 깊은 페이지도 비용이 같습니다.
+     *
+     * @param keyword 검색어
+     * @param after   이전 페이지의 search-after 토큰 (첫 페이지면 null)
+     * @param limit   조회 건수
+     * @return 검색 결과 (limit 건까지)
+     */
+    public List<Hit> searchAfter(String keyword, @Nullable String after, int limit) {
+        Hit position = Hit.decode(after);
+        List<Hit> ranked = rank(keyword);
+        int from = 0;
+        if (position != null) {
+            int idx = Collections.binarySearch(ranked, position, RANKING);
+            from = idx >= 0 ? idx + 1 : -idx - 1;
+        }
+        return List.copyOf(ranked.subList(from, Math.min(from + limit, ranked.size())));
+    }
+
+    /**
+     * 색인 통계 (actuator 노출용)
+     */
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            return new Stats(ready, truncated, documents.size(), maxDocuments, gramIds.size(), postingCount, tombstones, estimatedBytes(), maxBytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long estimatedBytes() {
+        return documents.size() * BYTES_PER_DOCUMENT + gramIds.size() * BYTES_PER_GRAM + (postingCount + tombstones) * BYTES_PER_POSTING;
+    }
+
+    private List<Hit> rank(String keyword) {
+        Set<String> queryGrams = NGramTokenizer.grams(keyword, maxIndexedChars);
+        lock.readLock().lock();
+        try {
+            if (queryGrams.isEmpty())
+                return List.of();
+            List<PostingList> lists = new ArrayList<>(queryGrams.size());
+            for (String gram : queryGrams) {
+                Integer gramId = gramIds.get(gram);
+                if (gramId == null || postings.get(gramId).live() == 0)
+                    return List.of();
+                lists.add(postings.get(gramId));
+            }
+            lists.sort(Comparator.comparingInt(PostingList::live));
+
+            // 가장 짧은 posting list를 기준으로 나머지 목록과 교집합 계산
+            PostingList shortest = lists.getFirst();
+            List<Hit> hits = new ArrayList<>();
+            candidates:
+            for (int i = 0; i < shortest.size; i++) {
+                int entry = shortest.entries[i];
+                if (isTombstone(entry))
+                    continue;
+                int docId = entry >>> FIELD_BITS;
+                int score = score(entry);
+                for (int l = 1; l < lists.size(); l++) {
+                    int other = lists.get(l).find(docId);
+                    if (other < 0)
+                        continue candidates;
+                    score += score(other);
+                }
+                Document doc = documents.get(docId);
+                hits.add(new Hit(doc.id, score, doc.createdAt));
+            }
+            hits.sort(RANKING);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean isTombstone(int entry) {
+        return (entry & FIELD_MASK) == 0;
+    }
+
+    private static int score(int entry) {
+        int fields = entry & FIELD_MASK;
+        return ((fields & TITLE) != 0 ? TITLE_WEIGHT : 0) + ((fields & CONTENT) != 0 ? CONTENT_WEIGHT : 0);
+    }
+
+    private void add(UUID id, String title, String content, LocalDateTime createdAt) {
+        if (documents.size() >= maxDocuments || nextDocId > MAX_DOC_ID) {
+            markTruncated();
+            return;
+        }
+        Map<String, Integer> fields = new HashMap<>();
+        NGramTokenizer.grams(title, maxIndexedChars).forEach(gram -> fields.merge(gram, TITLE, (a, b) -> a | b));
+        NGramTokenizer.grams(content, maxIndexedChars).forEach(gram -> fields.merge(gram, CONTENT, (a, b) -> a | b));
+
+        long newGrams = fields.keySet().stream().filter(gram -> !gramIds.containsKey(gram)).count();
+        long cost = BYTES_PER_DOCUMENT + newGrams * BYTES_PER_GRAM + fields.size() * BYTES_PER_POSTING;
+        if (estimatedBytes() + cost > maxBytes) {
+            markTruncated();
+            return;
+        }
+
+        int docId = nextDocId++;
+        int[] docGrams = new int[fields.size()];
+        int i = 0;
+        for (var field : fields.entrySet()) {
+            int gramId = gramIds.computeIfAbsent(field.getKey(), key -> {
+                postings.add(new PostingList());
+                return postings.size() - 1;
+            });
+            // docId는 단조 증가하므로 뒤에 추가해도 posting list 정렬이 유지됨
+            postings.get(gramId).append(docId << FIELD_BITS | field.getValue());
+            docGrams[i++] = gramId;
+        }
+        postingCount += docGrams.length;
+        docIds.put(id, docId);
+        documents.put(docId, new Document(id, toEpochMicros(createdAt), docGrams));
+    }
+
+    private void markTruncated() {
+        if (!truncated)
+            truncatedAt = documents.size();
+        truncated = true;
+    }
+
+    private void removeInternal(UUID id) {
+        Integer docId = docIds.remove(id);
+        if (docId == null)
+            return;
+        Document doc = documents.remove(docId);
+        for (int gramId : doc.grams) {
+            PostingList list = postings.get(gramId);
+            int before = list.dead;
+            list.remove(docId);
+            tombstones += list.dead - before;
+        }
+        postingCount -= doc.grams.length;
+    }
+
+    /**
+     * 검색 결과 항목
+     *
+     * @param id        게시글 ID
+     * @param score     관련도 점수
+     * @param createdAt 작성일 (epoch 마이크로초)
+     */
+    public record Hit(UUID id, int score, long createdAt) {
+
+        @Nullable
+        static Hit decode(@Nullable String token) {
+            if (token == null || token.isBlank())
+                return null;
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8).split("\\|", -1);
+                if (parts.length != 3)
+                    throw new ValidationException(MessageUtils.get("error.invalid-cursor"));
+                return new Hit(UUID.fromString(parts[2]), Integer.parseInt(parts[0]), Long.parseLong(parts[1]));
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException(MessageUtils.get("error.invalid-cursor"), e);
+            }
+        }
+
+        /**
+         * search-after 토큰으로 인코딩
+         */
+        public String encode() {
+            String raw = score + "|" + createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 오프셋 검색 결과
+     *
+     * @param ids   현재 페이지 게시글 ID (관련도 순)
+     * @param total 전체 일치 건수
+     */
+    public record Hits(List<UUID> ids, long total) {
+    }
+
+    /**
+     * 색인 통계
+     *
+     * @param ready          초기 색인 완료 여부
+     * @param truncated      문서 수 한도 초과로 일부만 색인되었는지 여부
+     * @param documents      색인된 게시글 수
+     * @param maxDocuments   색인 가능한 최대 게시글 수
+     * @param grams          gram 사전 크기
+     * @param postings       posting 항목 수
+     * @param tombstones     압축 전 남아 있는 삭제 항목 수
+     * @param estimatedBytes 추정 메모리 사용량(바이트)
+     * @param maxBytes       추정 메모리 사용량 한도(바이트)
+     */
+    public record Stats(boolean ready, boolean truncated, int documents, int maxDocuments, int grams, long postings, long tombstones,
+                        long estimatedBytes, long maxBytes) {
+    }
+
+    private record Document(UUID id, long createdAt, int[] grams) {
+    }
+
+    /**
+     * docId 오름차순 posting list (항목 = docId << 2 | 필드 비트, 필드 비트가 0이면 tombstone)
+     */
+    private static final class PostingList {
+        private int[] entries = new int[4];
+        /** 배열에 채워진 항목 수 (tombstone 포함) */
+        private int size;
+        private int dead;
+
+        int live() {
+            return size - dead;
+        }
+
+        void append(int entry) {
+            if (size == entries.length)
+                entries = Arrays.copyOf(entries, size * 2);
+            entries[size++] = entry;
+        }
+
+        int find(int docId) {
+            int idx = indexOf(docId);
+            return idx >= 0 && !isTombstone(entries[idx]) ? entries[idx] : -1;
+        }
+
+        /**
+         * 항목을 tombstone으로 표시하고, 절반 이상이 tombstone이면 압축 (압축 비용은 제거 횟수에 분할 상환됨)
+         */
+        void remove(int docId) {
+            int idx = indexOf(docId);
+            if (idx < 0 || isTombstone(entries[idx]))
+                return;
+            entries[idx] = docId << FIELD_BITS;
+            dead++;
+            if (dead * 2 >= size)
+                compact();
+        }
+
+        private void compact() {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (!isTombstone(entries[i]))
+                    entries[kept++] = entries[i];
+            }
+            if (entries.length > 16 && kept < entries.length / 4)
+                entries = Arrays.copyOf(entries, Math.max(4, kept * 2));
+            size = kept;
+            dead = 0;
+        }
+
+        private int indexOf(int docId) {
+            int lo = 0;
+            int hi = size - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int midDoc = entries[mid] >>> FIELD_BITS;
+                if (midDoc < docId)
+                    lo = mid + 1;
+                else if (midDoc > docId)
+                    hi = mid - 1;
+                else
+                    return mid;
+            }
+            return -1;
+        }
+    }
+}
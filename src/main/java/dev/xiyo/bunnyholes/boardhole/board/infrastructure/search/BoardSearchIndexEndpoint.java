@@ -0,0 +1,21 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.search;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * JVM 내장 검색 색인 상태 actuator 엔드포인트 ({@code /actuator/boardsearch})
+ */
+@Endpoint(id = "boardsearch")
+@RequiredArgsConstructor
+public class BoardSearchIndexEndpoint {
+
+    private final BoardSearchIndex index;
+
+    @ReadOperation
+    public BoardSearchIndex.Stats stats() {
+        return index.stats();
+    }
+}
@@ -0,0 +1,50 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.search;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardCreatedEvent;
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardDeletedEvent;
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardUpdatedEvent;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+
+/**
+ * 게시글 변경 이벤트로 JVM 내장 검색 색인 갱신
+ * <p>
+ * 롤백된 변경이 색인에 반영되지 않도록 커밋 이후에만 처리합니다.
+ * 한도로 일부만 색인된 뒤 삭제로 여유가 생기면 색인을 다시 구축합니다.
+ */
+@RequiredArgsConstructor
+public class BoardSearchIndexListener {
+
+    private final BoardSearchIndex index;
+    private final BoardSearchIndexLoader loader;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCreated(BoardCreatedEvent event) {
+        upsert(event.board());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUpdated(BoardUpdatedEvent event) {
+        upsert(event.board());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeleted(BoardDeletedEvent event) {
+        index.remove(event.boardId());
+        rebuildIfNeeded();
+    }
+
+    private void upsert(BoardResult board) {
+        index.upsert(board.id(), board.title(), board.content(), board.createdAt());
+        rebuildIfNeeded();
+    }
+
+    private void rebuildIfNeeded() {
+        if (index.needsRebuild())
+            loader.rebuild();
+    }
+}
@@ -0,0 +1,75 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.search;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+
+import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+
+/**
+ * 시작 시 JVM 내장 검색 색인 구축
+ * <p>
+ * 애플리케이션 기동을 막지 않도록 비동기로 최신 게시글부터 키셋 배치로 읽어 색인합니다.
+ * 구축이 끝나기 전까지 검색은 DB 검색 엔진이 처리합니다. 재구축은 색인을 비운 뒤 같은 방식으로 다시 읽으며,
+ * 동시에 하나만 실행됩니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BoardSearchIndexLoader {
+
+    private final BoardSearchIndex index;
+    private final BoardRepository boardRepository;
+    private final int batchSize;
+    private final AtomicBoolean building = new AtomicBoolean();
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!building.compareAndSet(false, true))
+            return;
+        try {
+            build();
+        } finally {
+            building.set(false);
+        }
+    }
+
+    /**
+     * 색인을 비우고 다시 구축 (이미 구축 중이면 무시)
+     */
+    @Async
+    public void rebuild() {
+        if (!building.compareAndSet(false, true))
+            return;
+        try {
+            index.reset();
+            build();
+        } finally {
+            building.set(false);
+        }
+    }
+
+    private void build() {
+        long started = System.currentTimeMillis();
+        Limit limit = Limit.of(batchSize);
+        List<Board> batch = boardRepository.findLatest(limit);
+        while (!batch.isEmpty() && !index.stats().truncated()) {
+            batch.forEach(board -> index.addIfAbsent(board.getId(), board.getTitle(), board.getContent(), board.getCreatedAt()));
+            Board last = batch.getLast();
+            batch = batch.size() < batchSize ? List.of() : boardRepository.findOlderThan(last.getCreatedAt(), last.getId(), limit);
+        }
+        index.markReady();
+
+        BoardSearchIndex.Stats stats = index.stats();
+        log.info("Board search index built: documents={}, grams={}, estimatedBytes={}, truncated={}, took={}ms",
+                stats.documents(), stats.grams(), stats.estimatedBytes(), stats.truncated(), System.currentTimeMillis() - started);
+    }
+}
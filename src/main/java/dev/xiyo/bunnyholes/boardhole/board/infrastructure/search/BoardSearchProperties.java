@@ -0,0 +1,67 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 게시글 검색 관련 설정
+ */
+@ConfigurationProperties(prefix = "boardhole.search")
+public record BoardSearchProperties(
+        /**
+         * 검색 모드 (AUTO: PostgreSQL이면 TRIGRAM, 그 외 LIKE)
+         */
+        @DefaultValue("AUTO") Mode mode,
+
+        /**
+         * 시작 시 pg_trgm 확장과 trigram GIN 인덱스 생성 여부
+         */
+        @DefaultValue("true") boolean createTrigramIndex,
+
+        /**
+         * JVM 내장 색인 설정 (mode=MEMORY)
+         */
+        @DefaultValue Memory memory
+) {
+
+    /**
+     * JVM 내장 bigram 색인 설정
+     */
+    public record Memory(
+            /**
+             * 색인할 최대 게시글 수 (초과 시 DB 검색으로 폴백)
+             */
+            @DefaultValue("100000") int maxDocuments,
+
+            /**
+             * 필드별 색인할 최대 글자 수
+             */
+            @DefaultValue("10000") int maxIndexedChars,
+
+            /**
+             * 색인 추정 메모리 사용량 한도 (초과 시 DB 검색으로 폴백)
+             */
+            @DefaultValue("256MB") DataSize maxMemory,
+
+            /**
+             * 시작 시 색인 구축 배치 크기
+             */
+            @DefaultValue("500") int buildBatchSize
+    ) {
+    }
+
+    /**
+     * 게시글 검색 모드
+     */
+    public enum Mode {
+        /** 실행 환경에 맞춰 자동 선택 */
+        AUTO,
+        /** JPQL LIKE 검색 (모든 DB) */
+        LIKE,
+        /** PostgreSQL pg_trgm GIN 인덱스 검색 */
+        TRIGRAM,
+        /** JVM 내장 bigram 역색인 검색 (처리 불가 시 DB 검색으로 폴백) */
+        MEMORY
+    }
+}
@@ -0,0 +1,30 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.search;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardSummary;
+
+/**
+ * JPQL LIKE 기반 검색 엔진
+ * <p>
+ * 모든 DB에서 동작하는 기본(폴백) 구현입니다. 인덱스를 사용하지 못하므로 대용량 테이블에서는 느립니다.
+ */
+@RequiredArgsConstructor
+public class LikeBoardSearchEngine implements BoardSearchEngine {
+
+    private final BoardRepository boardRepository;
+
+    @Override
+    public Page<BoardSummary> search(String keyword, Pageable pageable) {
+        return boardRepository.searchByKeyword(keyword, pageable);
+    }
+
+    @Override
+    public BoardSearchProperties.Mode mode() {
+        return BoardSearchProperties.Mode.LIKE;
+    }
+}
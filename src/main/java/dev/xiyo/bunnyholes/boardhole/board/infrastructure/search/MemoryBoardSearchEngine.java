@@ -0,0 +1,58 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.search;
+
+import java.util.List;
+import java.util.Optional;
+
+import lombok.RequiredArgsConstructor;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardSummary;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.CursorPage;
+
+/**
+ * JVM 내장 bigram 역색인 검색 엔진
+ * <p>
+ * 검색(후보 추출, 관련도 정렬)은 메모리에서 처리하고, 현재 페이지 게시글 요약만 PK로 로딩합니다.
+ * 색인이 준비되지 않았거나 처리할 수 없는 검색어는 DB 검색 엔진으로 위임합니다.
+ */
+@RequiredArgsConstructor
+public class MemoryBoardSearchEngine implements BoardSearchEngine {
+
+    private final BoardSearchIndex index;
+    private final BoardSearchEngine fallback;
+    private final BoardRepository boardRepository;
+
+    @Override
+    public Page<BoardSummary> search(String keyword, Pageable pageable) {
+        if (!index.canAnswer(keyword) || pageable.isUnpaged())
+            return fallback.search(keyword, pageable);
+
+        BoardSearchIndex.Hits hits = index.search(keyword, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(RankedBoards.load(boardRepository, hits.ids()), pageable, hits.total());
+    }
+
+    @Override
+    public BoardSearchProperties.Mode mode() {
+        return BoardSearchProperties.Mode.MEMORY;
+    }
+
+    @Override
+    public Optional<CursorPage<BoardSummary>> searchAfter(String keyword, @Nullable String after, int size) {
+        if (!index.canAnswer(keyword))
+            return Optional.empty();
+
+        int pageSize = CursorPage.normalizeSize(size);
+        List<BoardSearchIndex.Hit> hits = index.searchAfter(keyword, after, pageSize + 1);
+        boolean hasMore = hits.size() > pageSize;
+        List<BoardSearchIndex.Hit> page = hasMore ? hits.subList(0, pageSize) : hits;
+
+        List<BoardSummary> boards = RankedBoards.load(boardRepository, page.stream().map(BoardSearchIndex.Hit::id).toList());
+        String next = hasMore ? page.getLast().encode() : null;
+        return Optional.of(new CursorPage<>(boards, next, null, pageSize));
+    }
+}
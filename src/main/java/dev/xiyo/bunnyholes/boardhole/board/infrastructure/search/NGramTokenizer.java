@@ -0,0 +1,84 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * 검색 색인용 bigram 토크나이저
+ * <p>
+ * 문자/숫자 연속 구간을 토큰으로 나누고 각 토큰을 2글자 단위(bigram)로 분해합니다.
+ * 형태소 분석 없이 한국어 부분 일치 검색이 가능하며, 1글자 토큰은 그대로 색인합니다.
+ */
+@UtilityClass
+class NGramTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+
+    /**
+     * 텍스트에서 중복 없는 gram 집합 추출
+     *
+     * @param text     원문
+     * @param maxChars 색인할 최대 글자 수 (초과분은 무시)
+     * @return gram 집합 (등장 순서 유지)
+     */
+    Set<String> grams(String text, int maxChars) {
+        Set<String> grams = new LinkedHashSet<>();
+        String normalized = (text.length() > maxChars ? text.substring(0, maxChars) : text).toLowerCase(Locale.ROOT);
+        forEachToken(normalized, token -> {
+            if (token.codePointCount(0, token.length()) < GRAM_SIZE) {
+                grams.add(token);
+                return;
+            }
+            int start = 0;
+            while (start < token.length()) {
+                int end = token.offsetByCodePoints(start, 1);
+                if (end >= token.length())
+                    break;
+                grams.add(token.substring(start, token.offsetByCodePoints(end, 1)));
+                start = end;
+            }
+        });
+        return grams;
+    }
+
+    /**
+     * 검색어가 bigram 색인으로 처리 가능한지 확인
+     * <p>
+     * 1글자 토큰은 부분 일치를 bigram으로 표현할 수 없으므로 처리할 수 없습니다.
+     *
+     * @param keyword 검색어
+     * @return 모든 토큰이 2글자 이상이면 true
+     */
+    boolean isSearchable(String keyword) {
+        boolean[] searchable = {false};
+        boolean[] tooShort = {false};
+        forEachToken(keyword.toLowerCase(Locale.ROOT), token -> {
+            if (token.codePointCount(0, token.length()) < GRAM_SIZE)
+                tooShort[0] = true;
+            else
+                searchable[0] = true;
+        });
+        return searchable[0] && !tooShort[0];
+    }
+
+    private void forEachToken(String text, Consumer<String> consumer) {
+        int start = -1;
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            boolean wordChar = Character.isLetterOrDigit(cp);
+            if (wordChar && start < 0)
+                start = i;
+            else if (!wordChar && start >= 0) {
+                consumer.accept(text.substring(start, i));
+                start = -1;
+            }
+            i += Character.charCount(cp);
+        }
+        if (start >= 0)
+            consumer.accept(text.substring(start));
+    }
+}
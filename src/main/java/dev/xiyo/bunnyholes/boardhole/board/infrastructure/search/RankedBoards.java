@@ -0,0 +1,38 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.search;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.experimental.UtilityClass;
+
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardSummary;
+
+/**
+ * 검색 엔진이 정한 순서대로 게시글 요약 로딩
+ */
+@UtilityClass
+class RankedBoards {
+
+    /**
+     * ID 목록을 한 번의 쿼리로 로딩하고 주어진 순서로 정렬
+     *
+     * @param boardRepository 게시글 리포지토리
+     * @param rankedIds       관련도 순 게시글 ID
+     * @return 관련도 순 게시글 요약 (그 사이 삭제된 게시글은 제외)
+     */
+    List<BoardSummary> load(BoardRepository boardRepository, List<UUID> rankedIds) {
+        if (rankedIds.isEmpty())
+            return List.of();
+        Map<UUID, Integer> rank = HashMap.newHashMap(rankedIds.size());
+        rankedIds.forEach(id -> rank.put(id, rank.size()));
+        return boardRepository
+                .findSummariesByIdIn(rankedIds)
+                .stream()
+                .sorted(Comparator.comparingInt(board -> rank.get(board.id())))
+                .toList();
+    }
+}
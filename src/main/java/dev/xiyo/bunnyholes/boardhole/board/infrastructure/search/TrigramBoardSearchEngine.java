@@ -0,0 +1,62 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.search;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardSummary;
+
+/**
+ * PostgreSQL pg_trgm 기반 검색 엔진
+ * <p>
+ * 제목/내용의 trigram GIN 인덱스로 ILIKE 부분 일치를 처리합니다.
+ * trigram은 문자 단위 n-gram이므로 형태소 분석기 없이도 한국어 부분 검색이 가능합니다.
+ * <p>
+ * 결과는 관련도(제목 일치 우선, 제목 word_similarity) 순으로 정렬되며 요청의 정렬 조건은 무시됩니다.
+ * 한 페이지의 ID만 먼저 조회한 뒤 요약 프로젝션을 한 번에 로딩하여 N+1 조회를 피합니다.
+ */
+@RequiredArgsConstructor
+public class TrigramBoardSearchEngine implements BoardSearchEngine {
+
+    private final BoardRepository boardRepository;
+
+    /**
+     * LIKE 패턴 특수문자(\, %, _)를 이스케이프하여 부분 일치 패턴 생성
+     *
+     * @param keyword 검색 키워드
+     * @return ILIKE 패턴
+     */
+    static String toContainsPattern(String keyword) {
+        StringBuilder sb = new StringBuilder(keyword.length() + 2).append('%');
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (c == '\\' || c == '%' || c == '_')
+                sb.append('\\');
+            sb.append(c);
+        }
+        return sb.append('%').toString();
+    }
+
+    @Override
+    public Page<BoardSummary> search(String keyword, Pageable pageable) {
+        Pageable unsorted = pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : pageable;
+        Page<UUID> ids = boardRepository.searchIdsByTrigram(keyword, toContainsPattern(keyword), unsorted);
+        if (ids.isEmpty())
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+
+        List<BoardSummary> boards = RankedBoards.load(boardRepository, ids.getContent());
+        return new PageImpl<>(boards, pageable, ids.getTotalElements());
+    }
+
+    @Override
+    public BoardSearchProperties.Mode mode() {
+        return BoardSearchProperties.Mode.TRIGRAM;
+    }
+}
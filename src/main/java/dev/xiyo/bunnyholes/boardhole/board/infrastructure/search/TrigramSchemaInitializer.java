@@ -0,0 +1,46 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * pg_trgm 확장 및 trigram GIN 인덱스 생성기
+ * <p>
+ * 스키마는 Hibernate DDL로 관리되므로 JPA 매핑으로 표현할 수 없는 GIN 인덱스는 시작 시 멱등하게 생성합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class TrigramSchemaInitializer {
+
+    static final String CREATE_EXTENSION = "CREATE EXTENSION IF NOT EXISTS pg_trgm";
+    static final String CREATE_TITLE_INDEX = "CREATE INDEX IF NOT EXISTS idx_board_title_trgm ON boards USING gin (title gin_trgm_ops)";
+    static final String CREATE_CONTENT_INDEX = "CREATE INDEX IF NOT EXISTS idx_board_content_trgm ON boards USING gin (content gin_trgm_ops)";
+    static final String CHECK_EXTENSION = "SELECT count(*) FROM pg_extension WHERE extname = 'pg_trgm'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 확장과 인덱스 준비
+     *
+     * @param createIndex 인덱스 생성 여부 (false면 확장 설치 여부만 확인)
+     * @return pg_trgm 사용 가능 여부
+     */
+    boolean prepare(boolean createIndex) {
+        try {
+            if (createIndex) {
+                jdbcTemplate.execute(CREATE_EXTENSION);
+                jdbcTemplate.execute(CREATE_TITLE_INDEX);
+                jdbcTemplate.execute(CREATE_CONTENT_INDEX);
+                return true;
+            }
+            Integer installed = jdbcTemplate.queryForObject(CHECK_EXTENSION, Integer.class);
+            return installed != null && installed > 0;
+        } catch (DataAccessException e) {
+            log.warn("pg_trgm is not available, falling back to LIKE search: {}", e.getMessage());
+            return false;
+        }
+    }
+}
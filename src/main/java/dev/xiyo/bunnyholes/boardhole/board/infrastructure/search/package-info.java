@@ -0,0 +1,8 @@
+/**
+ * Board search infrastructure package
+ * 게시글 검색 엔진 구현 패키지
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.search;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,205 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.viewcount;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jspecify.annotations.Nullable;
+
+import dev.xiyo.bunnyholes.boardhole.shared.util.HyperLogLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 게시글 조회자 추적기
+ * <p>
+ * 1. 중복 조회 제거: (게시글, 조회자) 쌍을 교대형 Bloom filter에 기록해 설정한 기간 안의 재조회(새로고침, 봇 반복 요청)를
+ * 조회수 증가 대상에서 제외합니다. 기간의 절반마다 세대를 교체하므로 재조회는 최소 window/2, 최대 window 동안 무시됩니다.
+ * 2. 고유 조회자 수: 게시글별 HyperLogLog로 대략적인 고유 조회자 수를 집계합니다.
+ * 노드 메모리에만 유지되므로 재시작 시 초기화됩니다. 추적 게시글 수가 상한에 도달하면
+ * 가장 오래 조회되지 않은 게시글부터 상한의 10%를 한 번에 제거해 새 게시글의 자리를 만듭니다(근사 LRU).
+ */
+public class BoardViewerTracker {
+
+    private final ViewCountProperties.Dedup properties;
+    private final Clock clock;
+    private final @Nullable RotatingBloomFilter recentViews;
+    private final ConcurrentHashMap<UUID, TrackedBoard> viewers = new ConcurrentHashMap<>();
+    private final long rotationMillis;
+    private final int evictionBatch;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final Counter acceptedViews;
+    private final Counter duplicateViews;
+    private final Counter evictedBoards;
+
+    private volatile long lastRotation;
+
+    public BoardViewerTracker(ViewCountProperties.Dedup properties, Clock clock, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.clock = clock;
+        this.recentViews = properties.enabled()
+                ? new RotatingBloomFilter(properties.expectedViews(), properties.falsePositiveRate())
+                : null;
+        this.rotationMillis = Math.max(1, properties.window().toMillis() / 2);
+        this.lastRotation = clock.millis();
+        this.evictionBatch = Math.max(1, properties.maxTrackedBoards() / 10);
+
+        this.acceptedViews = Counter.builder("board.view.dedup")
+                                    .tag("result", "accepted")
+                                    .description("Board views counted after deduplication")
+                                    .register(meterRegistry);
+        this.duplicateViews = Counter.builder("board.view.dedup")
+                                     .tag("result", "duplicate")
+                                     .description("Repeat board views dropped within the dedup window")
+                                     .register(meterRegistry);
+        this.evictedBoards = Counter.builder("board.view.viewers.evicted")
+                                    .description("Unique viewer sketches evicted to make room for other boards")
+                                    .register(meterRegistry);
+        Gauge.builder("board.view.viewers.tracked", viewers, ConcurrentHashMap::size)
+             .description("Boards with an in-memory unique viewer sketch")
+             .register(meterRegistry);
+    }
+
+    /**
+     * 64비트 FNV-1a 해시
+     */
+    static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * SplitMix64 최종 혼합 (비트 확산)
+     */
+    static long mix(long value) {
+        return HyperLogLog.mix(value);
+    }
+
+    /**
+     * 조회 기록
+     *
+     * @param boardId   게시글 ID
+     * @param viewerKey 조회자 식별 키 (없으면 중복 판정 없이 항상 집계)
+     * @return 조회수를 증가시켜야 하면 true, 기간 내 재조회이면 false
+     */
+    public boolean recordView(UUID boardId, @Nullable String viewerKey) {
+        if (viewerKey == null) {
+            acceptedViews.increment();
+            return true;
+        }
+        long viewerHash = mix(fnv1a(viewerKey));
+        HyperLogLog sketch = sketchFor(boardId);
+        if (sketch != null)
+            sketch.offer(viewerHash);
+
+        if (recentViews == null) {
+            acceptedViews.increment();
+            return true;
+        }
+        rotateIfDue();
+        long h1 = mix(viewerHash ^ boardId.getMostSignificantBits());
+        long h2 = mix(h1 ^ boardId.getLeastSignificantBits()) | 1;
+        boolean firstView = recentViews.putIfAbsent(h1, h2);
+        (firstView ? acceptedViews : duplicateViews).increment();
+        return firstView;
+    }
+
+    /**
+     * 대략적인 고유 조회자 수
+     *
+     * @param boardId 게시글 ID
+     * @return 추정치, 추적하지 않는 게시글이면 null
+     */
+    public @Nullable Long uniqueViewers(UUID boardId) {
+        TrackedBoard tracked = viewers.get(boardId);
+        return tracked == null ? null : tracked.sketch.estimate();
+    }
+
+    /**
+     * 게시글 추적 정보 제거 (삭제된 게시글)
+     */
+    public void forget(UUID boardId) {
+        viewers.remove(boardId);
+    }
+
+    private @Nullable HyperLogLog sketchFor(UUID boardId) {
+        TrackedBoard tracked = viewers.get(boardId);
+        if (tracked == null) {
+            // 다른 스레드가 제거 중이면 이번 조회는 추적하지 않음
+            if (viewers.size() >= properties.maxTrackedBoards() && !evictLeastRecentlyViewed())
+                return null;
+            tracked = viewers.computeIfAbsent(boardId, id -> new TrackedBoard(new HyperLogLog(properties.uniqueViewerPrecision())));
+        }
+        tracked.lastViewed = clock.millis();
+        return tracked.sketch;
+    }
+
+    /**
+     * 가장 오래 조회되지 않은 게시글부터 상한 아래로 {@code evictionBatch}개 여유가 생길 때까지 제거
+     * <p>
+     * 정렬 비용(O(n log n))은 한 번에 상한의 10%를 비우므로 새 게시글 추가마다 분할 상환됩니다.
+     *
+     * @return 제거를 실행했으면 true, 다른 스레드가 실행 중이면 false
+     */
+    private boolean evictLeastRecentlyViewed() {
+        if (!evicting.compareAndSet(false, true))
+            return false;
+        try {
+            int excess = viewers.size() - properties.maxTrackedBoards() + evictionBatch;
+            if (excess <= 0)
+                return true;
+            // 정렬 중 값이 바뀌지 않도록 마지막 조회 시각을 먼저 복사
+            List<EvictionCandidate> idle = viewers.entrySet().stream()
+                                                  .map(entry -> new EvictionCandidate(entry.getKey(), entry.getValue(), entry.getValue().lastViewed))
+                                                  .sorted(Comparator.comparingLong(EvictionCandidate::lastViewed))
+                                                  .limit(excess)
+                                                  .toList();
+            for (EvictionCandidate candidate : idle) {
+                if (viewers.remove(candidate.boardId(), candidate.tracked()))
+                    evictedBoards.increment();
+            }
+            return true;
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private void rotateIfDue() {
+        long now = clock.millis();
+        if (now - lastRotation < rotationMillis)
+            return;
+        synchronized (this) {
+            if (now - lastRotation < rotationMillis)
+                return;
+            lastRotation = now;
+            if (recentViews != null)
+                recentViews.rotate();
+        }
+    }
+
+    /**
+     * 게시글별 고유 조회자 스케치와 마지막 조회 시각
+     */
+    private static final class TrackedBoard {
+
+        private final HyperLogLog sketch;
+        private volatile long lastViewed;
+
+        TrackedBoard(HyperLogLog sketch) {
+            this.sketch = sketch;
+        }
+    }
+
+    private record EvictionCandidate(UUID boardId, TrackedBoard tracked, long lastViewed) {
+    }
+}
@@ -0,0 +1,93 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.viewcount;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 두 세대로 교대하는 Bloom filter
+ * <p>
+ * 삽입은 현재 세대에만 하고, 조회는 현재/이전 세대를 모두 확인합니다.
+ * {@link #rotate()}가 주기 T마다 호출되면 한 키는 최소 T, 최대 2T 동안 "이미 본 키"로 판정됩니다.
+ * 오탐(false positive)은 있지만 미탐은 없으므로, 처음 보는 키를 중복으로 판정할 확률이 설정한 오탐률 이하입니다.
+ */
+final class RotatingBloomFilter {
+
+    private final int bitCount;
+    private final int hashCount;
+
+    private volatile AtomicLongArray current;
+    private volatile AtomicLongArray previous;
+
+    /**
+     * @param expectedInsertions 한 세대 동안 예상 삽입 수
+     * @param falsePositiveRate  목표 오탐률 (0~1)
+     */
+    RotatingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        double p = Math.clamp(falsePositiveRate, 1e-9, 0.5);
+        long bits = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.clamp(bits, 64, Integer.MAX_VALUE - 63L);
+        this.hashCount = (int) Math.clamp(Math.round((double) bitCount / n * Math.log(2)), 1, 16);
+        this.current = newGeneration();
+        this.previous = newGeneration();
+    }
+
+    private static boolean contains(AtomicLongArray generation, int[] indexes) {
+        for (int index : indexes)
+            if ((generation.get(index >>> 6) & (1L << index)) == 0)
+                return false;
+        return true;
+    }
+
+    /**
+     * 키를 기록하고 처음 보는 키인지 반환
+     *
+     * @param h1 키의 첫 번째 해시
+     * @param h2 키의 두 번째 해시
+     * @return 최근 두 세대 안에 없던 키이면 true
+     */
+    boolean putIfAbsent(long h1, long h2) {
+        int[] indexes = indexes(h1, h2);
+        AtomicLongArray generation = current;
+        if (contains(generation, indexes))
+            return false;
+        boolean seenBefore = contains(previous, indexes);
+        for (int index : indexes) {
+            long mask = 1L << index;
+            generation.getAndUpdate(index >>> 6, word -> word | mask);
+        }
+        return !seenBefore;
+    }
+
+    /**
+     * 세대 교체: 현재 세대를 이전 세대로 내리고 새 세대를 시작
+     */
+    synchronized void rotate() {
+        previous = current;
+        current = newGeneration();
+    }
+
+    /**
+     * 두 세대가 차지하는 대략적인 메모리 (바이트)
+     */
+    long estimatedBytes() {
+        return 2L * (bitCount / 64 + 1) * Long.BYTES;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    private int[] indexes(long h1, long h2) {
+        int[] indexes = new int[hashCount];
+        long combined = h1;
+        for (int i = 0; i < hashCount; i++) {
+            indexes[i] = (int) Long.remainderUnsigned(combined, bitCount);
+            combined += h2;
+        }
+        return indexes;
+    }
+
+    private AtomicLongArray newGeneration() {
+        return new AtomicLongArray(bitCount / 64 + 1);
+    }
+}
@@ -0,0 +1,191 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.viewcount;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 게시글 조회수 write-behind 누적기
+ * <p>
+ * 조회마다 DB 트랜잭션을 여는 대신 게시글별 {@link LongAdder}(스트라이프 카운터)에 증분을 모으고,
+ * 주기적으로 또는 대기 게시글 수가 한도에 도달하면 한 번의 JDBC 배치 UPDATE로 반영합니다.
+ * <p>
+ * flush는 카운터를 {@link LongAdder#sumThenReset()}으로 비우므로 동시 증가분이 유실되지 않습니다.
+ * 한 주기 동안 조회가 없던 게시글의 카운터는 맵에서 제거합니다. 제거 시 evicted 표시 후 한 번 더 비우고,
+ * 증가 스레드는 증가 후 evicted 표시를 확인해 남은 값을 새 카운터로 옮기므로 제거 직전의 증분도 유실되지 않습니다.
+ * 반영에 실패한 증분은 카운터로 되돌려 다음 flush에서 재시도합니다.
+ * 애플리케이션 종료 시 남은 증분을 모두 반영합니다.
+ */
+@Slf4j
+public class ViewCountAccumulator {
+
+    private final ViewCountBatchWriter writer;
+    private final ViewCountProperties properties;
+    private final ScheduledExecutorService flusher;
+
+    private final ConcurrentHashMap<UUID, Slot> counters = new ConcurrentHashMap<>();
+    private final LongAdder pending = new LongAdder();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final Counter flushedViews;
+    private final Counter failedFlushes;
+    private final Timer flushTimer;
+
+    public ViewCountAccumulator(ViewCountBatchWriter writer, ViewCountProperties properties, MeterRegistry meterRegistry) {
+        this.writer = writer;
+        this.properties = properties;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "view-count-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("board.view.count.pending", pending, LongAdder::sum)
+             .description("Buffered board views not yet written")
+             .register(meterRegistry);
+        this.flushedViews = Counter.builder("board.view.count.flushed")
+                                   .description("Board views written by batched updates")
+                                   .register(meterRegistry);
+        this.failedFlushes = Counter.builder("board.view.count.flush.failures")
+                                    .description("Failed view count flushes (retried on next flush)")
+                                    .register(meterRegistry);
+        this.flushTimer = Timer.builder("board.view.count.flush")
+                               .description("Duration of view count flushes")
+                               .register(meterRegistry);
+
+        long intervalMs = properties.flushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 조회수 1 증가 (lock-free)
+     *
+     * @param boardId 게시글 ID
+     */
+    public void increment(UUID boardId) {
+        pending.increment();
+        Slot slot = slotFor(boardId);
+        slot.views.increment();
+        if (slot.evicted)
+            add(boardId, slot.views.sumThenReset());
+    }
+
+    /**
+     * 반영 대기 중인 조회수
+     */
+    public long pendingViews() {
+        return pending.sum();
+    }
+
+    /**
+     * 누적된 조회수를 DB에 반영
+     *
+     * @return 반영한 조회수
+     */
+    public synchronized long flush() {
+        flushRequested.set(false);
+
+        Map<UUID, Long> deltas = new HashMap<>();
+        counters.forEach((boardId, slot) -> {
+            long views = slot.views.sumThenReset();
+            if (views == 0 && counters.remove(boardId, slot)) {
+                slot.evicted = true;
+                views = slot.views.sumThenReset();
+            }
+            if (views > 0)
+                deltas.merge(boardId, views, Long::sum);
+        });
+        if (deltas.isEmpty())
+            return 0;
+
+        long views = deltas.values().stream().mapToLong(Long::longValue).sum();
+        try {
+            flushTimer.record(() -> writer.write(deltas));
+            pending.add(-views);
+            flushedViews.increment(views);
+            return views;
+        } catch (RuntimeException e) {
+            failedFlushes.increment();
+            log.warn("View count flush failed, {} views for {} boards will be retried: {}", views, deltas.size(), e.getMessage());
+            deltas.forEach(this::add);
+            return 0;
+        }
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(properties.flushInterval().toMillis(), TimeUnit.MILLISECONDS))
+                flusher.shutdownNow();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private Slot slotFor(UUID boardId) {
+        Slot slot = counters.get(boardId);
+        if (slot != null)
+            return slot;
+        slot = counters.computeIfAbsent(boardId, id -> new Slot());
+        if (counters.size() >= properties.maxPendingBoards())
+            requestFlush();
+        return slot;
+    }
+
+    /**
+     * 증분을 살아 있는 카운터에 더함 (제거된 카운터에 더해졌으면 다시 옮김)
+     */
+    private void add(UUID boardId, long views) {
+        long remaining = views;
+        while (remaining > 0) {
+            Slot slot = slotFor(boardId);
+            slot.views.add(remaining);
+            if (!slot.evicted)
+                return;
+            remaining = slot.views.sumThenReset();
+        }
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true) && !flusher.isShutdown())
+            flusher.execute(this::flushQuietly);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Unexpected error while flushing view counts", e);
+        }
+    }
+
+    /**
+     * 게시글별 카운터
+     */
+    private static final class Slot {
+
+        private final LongAdder views = new LongAdder();
+        /** flush가 맵에서 제거한 카운터 (이후 더해진 값은 새 카운터로 옮겨야 함) */
+        private volatile boolean evicted;
+    }
+}
@@ -0,0 +1,42 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.viewcount;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 누적된 조회수 증분을 JDBC 배치 UPDATE로 반영
+ * <p>
+ * 엔티티를 로딩하지 않고 {@code view_count = view_count + ?}로 원자적으로 더하므로
+ * 낙관적 락(@Version) 충돌이 발생하지 않습니다. 여러 노드가 동시에 flush 하더라도
+ * 행 잠금 순서가 같도록 게시글 ID 순으로 정렬해 교착 상태를 피합니다.
+ */
+@RequiredArgsConstructor
+public class ViewCountBatchWriter {
+
+    static final String UPDATE_SQL = "UPDATE boards SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    /**
+     * 조회수 증분 일괄 반영
+     *
+     * @param deltas 게시글 ID별 증분
+     */
+    @Transactional
+    public void write(Map<UUID, Long> deltas) {
+        List<Map.Entry<UUID, Long>> rows = new ArrayList<>(deltas.entrySet());
+        rows.sort(Map.Entry.comparingByKey());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, rows, batchSize, (ps, row) -> {
+            ps.setLong(1, row.getValue());
+            ps.setObject(2, row.getKey());
+        });
+    }
+}
@@ -0,0 +1,39 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.viewcount;
+
+import java.time.Clock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 게시글 조회수 집계 설정
+ * <p>
+ * write-behind 누적기는 {@code boardhole.view-count.write-behind=false}이면 등록되지 않으며,
+ * 이때는 조회마다 개별 트랜잭션으로 증가합니다. 중복 조회 제거는 두 방식 모두에 적용됩니다.
+ */
+@Configuration
+@EnableConfigurationProperties(ViewCountProperties.class)
+public class ViewCountConfiguration {
+
+    @Bean
+    public BoardViewerTracker boardViewerTracker(ViewCountProperties properties, MeterRegistry meterRegistry) {
+        return new BoardViewerTracker(properties.dedup(), Clock.systemUTC(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "boardhole.view-count", name = "write-behind", havingValue = "true", matchIfMissing = true)
+    public ViewCountBatchWriter viewCountBatchWriter(JdbcTemplate jdbcTemplate, ViewCountProperties properties) {
+        return new ViewCountBatchWriter(jdbcTemplate, properties.batchSize());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "boardhole.view-count", name = "write-behind", havingValue = "true", matchIfMissing = true)
+    public ViewCountAccumulator viewCountAccumulator(ViewCountBatchWriter writer, ViewCountProperties properties, MeterRegistry meterRegistry) {
+        return new ViewCountAccumulator(writer, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,58 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.viewcount;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 게시글 조회수 집계 설정
+ */
+@ConfigurationProperties(prefix = "boardhole.view-count")
+public record ViewCountProperties(
+        /**
+         * write-behind 집계 사용 여부 (false면 조회마다 개별 트랜잭션으로 증가)
+         */
+        @DefaultValue("true") boolean writeBehind,
+
+        /**
+         * 주기적 flush 간격
+         */
+        @DefaultValue("5s") Duration flushInterval,
+
+        /**
+         * 대기 중인 게시글 수가 이 값에 도달하면 주기와 상관없이 flush
+         */
+        @DefaultValue("1000") int maxPendingBoards,
+
+        /**
+         * JDBC 배치 크기
+         */
+        @DefaultValue("500") int batchSize,
+
+        /**
+         * 중복 조회 제거 및 고유 조회자 집계 설정
+         */
+        @DefaultValue Dedup dedup
+) {
+
+    /**
+     * 중복 조회 제거 설정
+     *
+     * @param enabled               같은 조회자의 재조회를 조회수에서 제외할지 여부
+     * @param window                재조회로 간주하는 기간
+     * @param expectedViews         기간의 절반 동안 예상되는 (게시글, 조회자) 쌍의 수 (Bloom filter 크기 산정)
+     * @param falsePositiveRate     처음 조회를 재조회로 잘못 판정할 확률
+     * @param uniqueViewerPrecision 고유 조회자 HyperLogLog 정밀도 (레지스터 2^p 바이트, 오차 약 1.04/sqrt(2^p))
+     * @param maxTrackedBoards      고유 조회자를 추적할 최대 게시글 수 (초과 시 오래 조회되지 않은 게시글부터 제거)
+     */
+    public record Dedup(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("30m") Duration window,
+            @DefaultValue("1000000") long expectedViews,
+            @DefaultValue("0.01") double falsePositiveRate,
+            @DefaultValue("10") int uniqueViewerPrecision,
+            @DefaultValue("10000") int maxTrackedBoards
+    ) {
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Board view count infrastructure package
+ * 게시글 조회수 write-behind 집계 패키지
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.viewcount;
+
+import org.jspecify.annotations.NullMarked;
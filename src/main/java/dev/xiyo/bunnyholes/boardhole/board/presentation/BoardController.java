@@ -1,8 +1,11 @@
 package dev.xiyo.bunnyholes.boardhole.board.presentation;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 import jakarta.annotation.security.PermitAll;
+import jakarta.servlet.http.HttpServletRequest;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,8 +15,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -28,17 +33,23 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import dev.xiyo.bunnyholes.boardhole.board.application.command.BoardCommandService;
 import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardQueryService;
 import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRevision;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardCreateRequest;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardResponse;
+import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardSummaryResponse;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardUpdateRequest;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.mapper.BoardWebMapper;
 import dev.xiyo.bunnyholes.boardhole.shared.constants.ApiPaths;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.CursorPage;
 import dev.xiyo.bunnyholes.boardhole.shared.security.AppUserPrincipal;
-import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+import dev.xiyo.bunnyholes.boardhole.shared.web.EntityTags;
+import dev.xiyo.bunnyholes.boardhole.shared.web.ViewerKeys;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -66,32 +77,65 @@ public class BoardController {
     @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
     @ResponseStatus(HttpStatus.CREATED)
     public BoardResponse create(@Validated @ModelAttribute BoardCreateRequest req, @AuthenticationPrincipal AppUserPrincipal principal) {
-        User current = principal.user();
-        var cmd = boardWebMapper.toCreateCommand(req, current.getId());
+        var cmd = boardWebMapper.toCreateCommand(req, principal.id());
         var result = boardCommandService.create(cmd);
         return boardWebMapper.toResponse(result);
     }
 
     @GetMapping
     @PermitAll
-    @Operation(summary = "게시글 목록 조회", description = "[PUBLIC] 게시글 목록을 페이지네이션으로 조회합니다. 제목과 내용에서 검색이 가능합니다.")
+    @Operation(summary = "게시글 목록 조회", description = "[PUBLIC] 게시글 목록을 페이지네이션으로 조회합니다. 제목과 내용에서 검색이 가능합니다. 전체 건수가 추정값이면 totalApproximate가 true입니다. 검색어가 없으면 ETag를 제공하며, If-None-Match가 일치하면 본문 없이 304로 응답합니다.")
     @Parameter(name = "page", description = "0부터 시작하는 페이지 인덱스", example = "0")
     @Parameter(name = "size", description = "페이지 크기", example = "10")
     @Parameter(name = "sort", description = "정렬 (필드,방향)", example = "id,desc")
     @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공", content = @Content(schema = @Schema(implementation = Page.class)))
-    public Page<BoardResponse> list(@Parameter(description = "페이지네이션 정보 (기본: 페이지 크기 10, ID 내림차순 정렬)") @PageableDefault(sort = "id", direction = Sort.Direction.DESC) @ParameterObject Pageable pageable, @Parameter(description = "검색어 (제목 또는 내용에서 검색)", example = "공지") @RequestParam(required = false) @Nullable String search) {
-        Page<BoardResult> page = search == null ? boardQueryService.listWithPaging(pageable) : boardQueryService.listWithPaging(pageable, search);
-        return page.map(boardWebMapper::toResponse);
+    @ApiResponse(responseCode = "304", description = "목록이 변경되지 않음 (If-None-Match 일치)")
+    public @Nullable ResponseEntity<Page<BoardSummaryResponse>> list(@Parameter(description = "페이지네이션 정보 (기본: 페이지 크기 10, ID 내림차순 정렬)") @PageableDefault(sort = "id", direction = Sort.Direction.DESC) @ParameterObject Pageable pageable, @Parameter(description = "검색어 (제목 또는 내용에서 검색)", example = "공지") @RequestParam(required = false) @Nullable String search, @Parameter(hidden = true) WebRequest webRequest) {
+        if (search != null) {
+            Page<BoardSummaryResult> page = boardQueryService.listWithPaging(pageable, search);
+            return ResponseEntity.ok(page.map(boardWebMapper::toSummaryResponse));
+        }
+        // 클라이언트 사본이 있으면 ID/수정 시각만 조회해 지문을 비교하고, 같으면 본문 조회와 직렬화를 생략
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null && webRequest.checkNotModified(
+                EntityTags.ofPage(boardQueryService.listRevisions(pageable), BoardRevision::id, BoardRevision::updatedAt)))
+            return null;
+        Page<BoardSummaryResult> page = boardQueryService.listWithPaging(pageable);
+        return ResponseEntity.ok()
+                             .eTag(EntityTags.ofPage(page, BoardSummaryResult::id, BoardSummaryResult::updatedAt))
+                             .body(page.map(boardWebMapper::toSummaryResponse));
+    }
+
+    @GetMapping(ApiPaths.CURSOR)
+    @PermitAll
+    @Operation(summary = "게시글 목록 커서 조회", description = "[PUBLIC] 게시글 목록을 최신순 커서(키셋) 페이지네이션으로 조회합니다. 전체 건수를 계산하지 않아 깊은 페이지도 일정한 속도로 조회됩니다.")
+    @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공", content = @Content(schema = @Schema(implementation = CursorPage.class)))
+    @ApiResponse(responseCode = "422", description = "잘못된 커서")
+    public CursorPage<BoardSummaryResponse> listByCursor(@Parameter(description = "이전 응답의 nextCursor 또는 prevCursor (첫 페이지는 생략)") @RequestParam(required = false) @Nullable String cursor, @Parameter(description = "페이지 크기 (최대 100)", example = "10") @RequestParam(defaultValue = "10") int size, @Parameter(description = "검색어 (제목 또는 내용에서 검색)", example = "공지") @RequestParam(required = false) @Nullable String search) {
+        return boardQueryService.listWithCursor(cursor, size, search).map(boardWebMapper::toSummaryResponse);
     }
 
     @GetMapping("/{id}")
     @PermitAll
-    @Operation(summary = "게시글 상세 조회", description = "[PUBLIC] 특정 게시글의 상세 정보를 조회합니다. 조회수가 자동으로 증가됩니다.")
+    @Operation(summary = "게시글 상세 조회", description = "[PUBLIC] 특정 게시글의 상세 정보를 조회합니다. 조회수가 자동으로 증가되며, 같은 조회자의 재조회는 일정 기간 집계에서 제외됩니다. 내용 수정 시각 기반 ETag/Last-Modified를 제공하며(조회수 변경은 반영하지 않음), 조건부 요청이 일치하면 본문 없이 304로 응답합니다.")
     @ApiResponse(responseCode = "200", description = "게시글 조회 성공", content = @Content(schema = @Schema(implementation = BoardResponse.class)))
+    @ApiResponse(responseCode = "304", description = "게시글 내용이 변경되지 않음 (If-None-Match 또는 If-Modified-Since 일치)")
     @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음")
-    public BoardResponse get(@Parameter(description = "조회할 게시글 ID") @PathVariable UUID id) {
-        BoardResult result = boardQueryService.handle(boardWebMapper.toGetBoardQuery(id));
-        return boardWebMapper.toResponse(result);
+    public @Nullable ResponseEntity<BoardResponse> get(@Parameter(description = "조회할 게시글 ID") @PathVariable UUID id, @Parameter(hidden = true) HttpServletRequest request, @Parameter(hidden = true) WebRequest webRequest) {
+        var query = boardWebMapper.toGetBoardQuery(id, ViewerKeys.resolve(request));
+        // 조건부 요청이면 수정 시각만 조회해 비교하고, 같으면 엔티티 적재와 직렬화 없이 조회만 집계
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            Optional<LocalDateTime> revision = boardQueryService.getRevision(id);
+            if (revision.isPresent()
+                    && webRequest.checkNotModified(EntityTags.ofRevision(revision.get()), EntityTags.lastModified(revision.get()))) {
+                boardQueryService.recordView(query);
+                return null;
+            }
+        }
+        BoardResult result = boardQueryService.handle(query);
+        var response = ResponseEntity.ok();
+        if (result.updatedAt() != null)
+            response.eTag(EntityTags.ofRevision(result.updatedAt())).lastModified(EntityTags.lastModified(result.updatedAt()));
+        return response.body(boardWebMapper.toResponse(result));
     }
 
     @PutMapping(value = "/{id}", consumes = {MediaType.APPLICATION_FORM_URLENCODED_VALUE, MediaType.MULTIPART_FORM_DATA_VALUE}, produces = MediaType.APPLICATION_JSON_VALUE)
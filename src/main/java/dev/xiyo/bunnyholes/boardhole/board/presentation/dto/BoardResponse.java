@@ -3,6 +3,8 @@ package dev.xiyo.bunnyholes.boardhole.board.presentation.dto;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.jspecify.annotations.Nullable;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(name = "BoardResponse", description = "게시글 응답")
@@ -13,5 +15,6 @@ public record BoardResponse(@Schema(description = "게시글 ID", example = "550
                             @Schema(description = "작성자 이름", example = "홍길동") String authorName,
                             @Schema(description = "조회수", example = "42") Integer viewCount,
                             @Schema(description = "작성 일시", example = "2024-01-15T10:30:00") LocalDateTime createdAt,
-                            @Schema(description = "수정 일시", example = "2024-01-15T15:45:30") LocalDateTime updatedAt) {
+                            @Schema(description = "수정 일시", example = "2024-01-15T15:45:30") LocalDateTime updatedAt,
+                            @Schema(description = "대략적인 고유 조회자 수 (상세 조회에서만 제공, 없으면 null)", example = "17") @Nullable Long uniqueViewers) {
 }
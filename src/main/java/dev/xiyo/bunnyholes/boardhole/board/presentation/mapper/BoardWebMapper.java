@@ -10,9 +10,11 @@ import dev.xiyo.bunnyholes.boardhole.board.application.command.CreateBoardComman
 import dev.xiyo.bunnyholes.boardhole.board.application.command.UpdateBoardCommand;
 import dev.xiyo.bunnyholes.boardhole.board.application.query.GetBoardQuery;
 import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardCreateRequest;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardFormRequest;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardResponse;
+import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardSummaryResponse;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardUpdateRequest;
 
 /**
@@ -31,6 +33,14 @@ public interface BoardWebMapper {
      */
     BoardResponse toResponse(BoardResult result);
 
+    /**
+     * 게시글 목록 결과를 웹 응답으로 변환
+     *
+     * @param result 게시글 목록 결과
+     * @return 목록 항목 응답 DTO
+     */
+    BoardSummaryResponse toSummaryResponse(BoardSummaryResult result);
+
     /**
      * 게시글 생성 요청을 명령으로 변환
      *
@@ -59,10 +69,11 @@ public interface BoardWebMapper {
     /**
      * ID로 게시글 조회 쿼리 생성
      *
-     * @param id 게시글 ID
+     * @param id        게시글 ID
+     * @param viewerKey 조회자 식별 키
      * @return 게시글 조회 쿼리
      */
-    GetBoardQuery toGetBoardQuery(UUID id);
+    GetBoardQuery toGetBoardQuery(UUID id, String viewerKey);
 
     @Mapping(target = "authorId", source = "authorId")
     @Mapping(target = "title", source = "formRequest.title")
@@ -2,6 +2,8 @@ package dev.xiyo.bunnyholes.boardhole.board.presentation.view;
 
 import java.util.UUID;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.data.domain.Pageable;
@@ -15,6 +17,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardQueryService;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.CountedPage;
+import dev.xiyo.bunnyholes.boardhole.shared.web.ViewerKeys;
 
 /**
  * 게시판 조회 전용 뷰 컨트롤러
@@ -33,7 +37,7 @@ public class BoardViewController {
      * 게시글 목록 페이지
      * <p>
      * 검색어가 있으면 제목/내용에서 검색하여 결과를 표시합니다.
-     * 페이지네이션을 지원합니다.
+     * 페이지네이션을 지원합니다. 전체 건수가 추정값이면 "약 N건"으로 표시합니다.
      *
      * @param search   검색어 (선택사항)
      * @param pageable 페이지네이션 설정 (기본 10개씩)
@@ -49,6 +53,33 @@ public class BoardViewController {
         var boards = boardQueryService.getBoards(search, pageable);
         model.addAttribute("boards", boards);
         model.addAttribute("search", search);
+        model.addAttribute("approximateTotal", CountedPage.isApproximate(boards));
+        return "boards";
+    }
+
+    /**
+     * 게시글 목록 페이지 (커서 페이지네이션)
+     * <p>
+     * cursor 파라미터가 있으면 최신순 키셋 탐색으로 목록을 표시합니다.
+     * 전체 건수를 계산하지 않으므로 이전/다음 이동만 제공합니다.
+     *
+     * @param search 검색어 (선택사항)
+     * @param cursor 이전/다음 페이지 커서 (빈 값이면 첫 페이지)
+     * @param size   페이지 크기 (기본 10개씩)
+     * @param model  뷰에 전달할 데이터
+     * @return 게시글 목록 템플릿
+     */
+    @GetMapping(params = "cursor")
+    public String listByCursor(
+            @RequestParam(required = false) String search,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            Model model
+    ) {
+        var boards = boardQueryService.listWithCursor(cursor, size, search);
+        model.addAttribute("boards", boards);
+        model.addAttribute("search", search);
+        model.addAttribute("cursorMode", true);
         return "boards";
     }
 
@@ -64,8 +95,8 @@ public class BoardViewController {
      * @throws ResourceNotFoundException 게시글을 찾을 수 없는 경우
      */
     @GetMapping("/{id}")
-    public String detail(@PathVariable UUID id, Model model) {
-        var board = boardQueryService.getBoard(id);
+    public String detail(@PathVariable UUID id, Model model, HttpServletRequest request) {
+        var board = boardQueryService.getBoard(id, ViewerKeys.resolve(request));
         model.addAttribute("board", board);
         return "board/detail";
     }
@@ -70,7 +70,7 @@ public class BoardWriteViewController {
         if (bindingResult.hasErrors())
             return "board/write";
 
-        var command = boardWebMapper.toCreateCommand(formRequest, principal.user().getId());
+        var command = boardWebMapper.toCreateCommand(formRequest, principal.id());
         var result = boardCommandService.create(command);
 
         redirectAttributes.addFlashAttribute("success", "게시글이 성공적으로 작성되었습니다.");
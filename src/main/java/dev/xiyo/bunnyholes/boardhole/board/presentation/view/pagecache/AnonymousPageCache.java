@@ -0,0 +1,80 @@
+package dev.xiyo.bunnyholes.boardhole.board.presentation.view.pagecache;
+
+import java.time.Clock;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardCreatedEvent;
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardDeletedEvent;
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardUpdatedEvent;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.WeightedLruCache;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 렌더링된 페이지 저장소
+ * <p>
+ * 요청 키(경로, 페이지, 정렬, 검색어, 로케일)별 HTML 바이트를 노드 로컬 가중치 LRU에 보관합니다.
+ * 게시글이 생성/수정/삭제되면 목록 페이지 구성이 달라지므로 커밋 후 전부 비웁니다.
+ * 다른 노드의 변경은 {@code expire-after-write} 이내에 반영됩니다.
+ */
+public class AnonymousPageCache {
+
+    /** 키 문자열과 항목 객체의 대략적인 크기 */
+    private static final long ENTRY_OVERHEAD_BYTES = 256;
+
+    private final WeightedLruCache<String, CachedPage> cache;
+    private final long maxEntryBytes;
+
+    public AnonymousPageCache(AnonymousPageCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = new WeightedLruCache<>("page.anonymous", properties.maxWeight().toBytes(), properties.expireAfterWrite(),
+                page -> page.body().length + ENTRY_OVERHEAD_BYTES, Clock.systemUTC(), meterRegistry);
+        this.maxEntryBytes = properties.maxEntrySize().toBytes();
+    }
+
+    /**
+     * 저장된 페이지 조회
+     *
+     * @param key 요청 키
+     * @return 저장된 페이지, 없거나 만료되었으면 null
+     */
+    public @Nullable CachedPage get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * 페이지 저장 (최대 크기를 넘으면 무시)
+     *
+     * @param key         요청 키
+     * @param contentType 응답 Content-Type
+     * @param body        렌더링된 HTML
+     */
+    public void put(String key, String contentType, byte[] body) {
+        if (body.length <= maxEntryBytes)
+            cache.put(key, new CachedPage(contentType, body));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(BoardCreatedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUpdated(BoardUpdatedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(BoardDeletedEvent event) {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 렌더링된 페이지
+     *
+     * @param contentType 응답 Content-Type
+     * @param body        HTML 바이트
+     */
+    public record CachedPage(String contentType, byte[] body) {
+    }
+}
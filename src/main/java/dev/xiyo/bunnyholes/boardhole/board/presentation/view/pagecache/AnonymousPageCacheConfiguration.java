@@ -0,0 +1,39 @@
+package dev.xiyo.bunnyholes.boardhole.board.presentation.view.pagecache;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardQueryService;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 비로그인 게시판 페이지 캐시 설정
+ * <p>
+ * {@code boardhole.page-cache.enabled=true}일 때만 등록되며, 인증 상태를 판단할 수 있도록 보안 필터 체인 다음 순서로 필터를 등록합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(AnonymousPageCacheProperties.class)
+@ConditionalOnProperty(prefix = "boardhole.page-cache", name = "enabled", havingValue = "true")
+public class AnonymousPageCacheConfiguration {
+
+    @Bean
+    public AnonymousPageCache anonymousPageCache(AnonymousPageCacheProperties properties, MeterRegistry meterRegistry) {
+        return new AnonymousPageCache(properties, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<AnonymousPageCacheFilter> anonymousPageCacheFilter(AnonymousPageCache cache,
+                                                                                     BoardQueryService boardQueryService) {
+        FilterRegistrationBean<AnonymousPageCacheFilter> registration = new FilterRegistrationBean<>(
+                new AnonymousPageCacheFilter(cache, boardQueryService));
+        registration.setUrlPatterns(List.of("/boards", "/boards/*"));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
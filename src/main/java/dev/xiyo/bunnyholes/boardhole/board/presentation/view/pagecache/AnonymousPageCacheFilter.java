@@ -0,0 +1,152 @@
+package dev.xiyo.bunnyholes.boardhole.board.presentation.view.pagecache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+import lombok.RequiredArgsConstructor;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.support.SessionFlashMapManager;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardQueryService;
+import dev.xiyo.bunnyholes.boardhole.board.application.query.GetBoardQuery;
+import dev.xiyo.bunnyholes.boardhole.shared.web.ViewerKeys;
+
+/**
+ * 비로그인 게시글 목록/상세 페이지 캐시 필터
+ * <p>
+ * 보안 필터 체인 뒤에서 동작하며, 비로그인 사용자의 {@code GET /boards}, {@code GET /boards/{id}} 요청만 대상으로 합니다.
+ * 사용자에 따라 달라지는 부분은 다음과 같이 처리합니다.
+ * <ul>
+ *     <li>헤더 로그인 상태, 작성/수정 버튼: 비로그인 요청만 저장하고 제공하므로 항상 비로그인 화면입니다.</li>
+ *     <li>CSRF 토큰: 본문에 CSRF 토큰이 포함된 페이지나 렌더링 중 세션이 생긴 응답은 저장하지 않습니다.</li>
+ *     <li>플래시 메시지: 세션에 플래시 속성이 남아 있으면 캐시를 거치지 않고 렌더링합니다.</li>
+ * </ul>
+ * 목록은 페이지/크기/정렬/검색어/커서 외의 파라미터가 있으면 캐시하지 않습니다.
+ * 상세 페이지가 캐시에서 제공되어도 조회는 {@link BoardQueryService#recordView(GetBoardQuery)}로 집계합니다.
+ */
+@RequiredArgsConstructor
+public class AnonymousPageCacheFilter extends OncePerRequestFilter {
+
+    private static final String BOARDS_PATH = "/boards";
+    private static final Set<String> LIST_PARAMETERS = Set.of("page", "size", "sort", "search", "cursor");
+    private static final String FLASH_MAPS_ATTRIBUTE = SessionFlashMapManager.class.getName() + ".FLASH_MAPS";
+    private static final byte[] CSRF_MARKER = "_csrf".getBytes(StandardCharsets.US_ASCII);
+
+    private final AnonymousPageCache cache;
+    private final BoardQueryService boardQueryService;
+
+    /**
+     * 요청 캐시 키 (캐시 대상이 아니면 null)
+     */
+    static @Nullable String cacheKey(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod()) || !isAnonymous() || hasFlashAttributes(request))
+            return null;
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Map<String, String[]> parameters = request.getParameterMap();
+        if (path.equals(BOARDS_PATH)) {
+            if (!LIST_PARAMETERS.containsAll(parameters.keySet()))
+                return null;
+        } else if (boardId(path) == null || !parameters.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder key = new StringBuilder(64).append(request.getLocale().toLanguageTag()).append(' ').append(path);
+        new TreeMap<>(parameters).forEach((name, values) -> key.append('|').append(name).append('=').append(String.join(",", values)));
+        return key.toString();
+    }
+
+    private static @Nullable UUID boardId(String path) {
+        if (!path.startsWith(BOARDS_PATH + "/"))
+            return null;
+        try {
+            return UUID.fromString(path.substring(BOARDS_PATH.length() + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isAnonymous() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken;
+    }
+
+    private static boolean hasFlashAttributes(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        return session != null && session.getAttribute(FLASH_MAPS_ATTRIBUTE) != null;
+    }
+
+    private static boolean containsCsrfToken(byte[] body) {
+        outer:
+        for (int i = 0; i <= body.length - CSRF_MARKER.length; i++) {
+            for (int j = 0; j < CSRF_MARKER.length; j++)
+                if (body[i + j] != CSRF_MARKER[j])
+                    continue outer;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = cacheKey(request);
+        if (key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AnonymousPageCache.CachedPage cached = cache.get(key);
+        if (cached != null) {
+            recordView(request);
+            response.setContentType(cached.contentType());
+            response.setContentLength(cached.body().length);
+            response.getOutputStream().write(cached.body());
+            return;
+        }
+
+        boolean hadSession = request.getSession(false) != null;
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+            byte[] body = wrapper.getContentAsByteArray();
+            if (isStorable(request, wrapper, hadSession, body))
+                cache.put(key, wrapper.getContentType(), body);
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private boolean isStorable(HttpServletRequest request, ContentCachingResponseWrapper response, boolean hadSession, byte[] body) {
+        String contentType = response.getContentType();
+        return response.getStatus() == HttpServletResponse.SC_OK
+                && contentType != null && MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(contentType))
+                && !response.containsHeader(HttpHeaders.SET_COOKIE)
+                && (hadSession || request.getSession(false) == null)
+                && !containsCsrfToken(body);
+    }
+
+    private void recordView(HttpServletRequest request) {
+        UUID id = boardId(request.getRequestURI().substring(request.getContextPath().length()));
+        if (id != null)
+            boardQueryService.recordView(new GetBoardQuery(id, ViewerKeys.resolve(request)));
+    }
+}
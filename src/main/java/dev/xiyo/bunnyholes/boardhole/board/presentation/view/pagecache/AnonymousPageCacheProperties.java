@@ -0,0 +1,34 @@
+package dev.xiyo.bunnyholes.boardhole.board.presentation.view.pagecache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 비로그인 게시판 페이지 캐시 설정
+ */
+@ConfigurationProperties(prefix = "boardhole.page-cache")
+public record AnonymousPageCacheProperties(
+        /**
+         * 캐시 사용 여부
+         */
+        @DefaultValue("false") boolean enabled,
+
+        /**
+         * 최대 가중치 (보관한 HTML 바이트 수 합)
+         */
+        @DefaultValue("4MB") DataSize maxWeight,
+
+        /**
+         * 이보다 큰 페이지는 보관하지 않음
+         */
+        @DefaultValue("128KB") DataSize maxEntrySize,
+
+        /**
+         * 저장 후 만료 시간 (조회수, 다른 노드의 변경이 반영되는 최대 지연)
+         */
+        @DefaultValue("10s") Duration expireAfterWrite
+) {
+}
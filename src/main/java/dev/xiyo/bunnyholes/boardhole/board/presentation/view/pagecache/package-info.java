@@ -0,0 +1,9 @@
+/**
+ * 비로그인 게시판 페이지 렌더링 결과 캐시
+ * <p>
+ * 비로그인 사용자의 게시글 목록/상세 HTML을 메모리에 보관해 Thymeleaf 렌더링을 건너뜁니다. 기본 비활성화입니다.
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.board.presentation.view.pagecache;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,39 @@
+package dev.xiyo.bunnyholes.boardhole.dashboard.application;
+
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Service;
+
+import dev.xiyo.bunnyholes.boardhole.dashboard.application.result.DailyCountResult;
+import dev.xiyo.bunnyholes.boardhole.dashboard.application.result.DashboardResult;
+import dev.xiyo.bunnyholes.boardhole.dashboard.infrastructure.DashboardStatsStore;
+import dev.xiyo.bunnyholes.boardhole.user.application.query.UserQueryService;
+
+/**
+ * 대시보드 통계 조회 서비스
+ * <p>
+ * 게시글 수치는 {@link DashboardStatsStore}, 활성 사용자 수는 사용자 활동 스케치({@link UserQueryService#getActiveUserCount()})의
+ * 메모리 통계에서 읽으므로 조회 시 테이블을 스캔하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardQueryService {
+
+    private final DashboardStatsStore dashboardStatsStore;
+    private final UserQueryService userQueryService;
+
+    /**
+     * 대시보드 통계 조회
+     *
+     * @param userId 로그인 사용자 ID (비로그인 시 null)
+     * @return 대시보드 통계
+     */
+    public DashboardResult get(@Nullable UUID userId) {
+        DashboardStatsStore.Snapshot snapshot = dashboardStatsStore.snapshot(userId);
+        var recentDays = snapshot.recentDays().stream().map(day -> new DailyCountResult(day.date(), day.count())).toList();
+        return new DashboardResult(snapshot.totalBoards(), snapshot.todayBoards(), snapshot.authorBoards(), userQueryService.getActiveUserCount(), recentDays);
+    }
+}
@@ -0,0 +1,32 @@
+package dev.xiyo.bunnyholes.boardhole.dashboard.application.event;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardCreatedEvent;
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardDeletedEvent;
+import dev.xiyo.bunnyholes.boardhole.dashboard.infrastructure.DashboardStatsStore;
+
+/**
+ * 게시글 생성·삭제 시 대시보드 통계 증감
+ * <p>
+ * 롤백된 변경이 반영되지 않도록 커밋 이후에 증감합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardStatsListener {
+
+    private final DashboardStatsStore dashboardStatsStore;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardCreated(BoardCreatedEvent event) {
+        dashboardStatsStore.boardCreated(event.board().authorId(), event.board().createdAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardDeleted(BoardDeletedEvent event) {
+        dashboardStatsStore.boardDeleted(event.authorId(), event.createdAt());
+    }
+}
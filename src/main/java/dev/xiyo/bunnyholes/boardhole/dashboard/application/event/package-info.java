@@ -0,0 +1,8 @@
+/**
+ * Dashboard event package
+ * 도메인 이벤트로 대시보드 통계를 갱신하는 리스너 패키지
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.dashboard.application.event;
+
+import org.jspecify.annotations.NullMarked;
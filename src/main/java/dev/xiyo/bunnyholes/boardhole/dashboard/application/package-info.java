@@ -0,0 +1,8 @@
+/**
+ * Dashboard application package
+ * 대시보드 통계 조회 서비스 패키지
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.dashboard.application;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,9 @@
+package dev.xiyo.bunnyholes.boardhole.dashboard.application.result;
+
+import java.time.LocalDate;
+
+/**
+ * 작성일별 게시글 수
+ */
+public record DailyCountResult(LocalDate date, long count) {
+}
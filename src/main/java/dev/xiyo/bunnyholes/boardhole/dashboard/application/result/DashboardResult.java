@@ -0,0 +1,17 @@
+package dev.xiyo.bunnyholes.boardhole.dashboard.application.result;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 대시보드 통계 조회 결과
+ *
+ * @param totalBoards 전체 게시글 수
+ * @param todayBoards 오늘 작성된 게시글 수
+ * @param myBoards    로그인 사용자의 게시글 수 (비로그인 시 null)
+ * @param activeUsers 최근 7일 활성 사용자 수 (근사치)
+ * @param recentDays  최근 작성일별 게시글 수 (오래된 날짜부터)
+ */
+public record DashboardResult(long totalBoards, long todayBoards, @Nullable Long myBoards, long activeUsers, List<DailyCountResult> recentDays) {
+}
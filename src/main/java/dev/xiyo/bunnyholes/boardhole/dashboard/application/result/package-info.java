@@ -0,0 +1,8 @@
+/**
+ * Dashboard result package
+ * 대시보드 통계 조회 결과 패키지
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.dashboard.application.result;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,29 @@
+package dev.xiyo.bunnyholes.boardhole.dashboard.infrastructure;
+
+import java.time.Clock;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+
+/**
+ * 대시보드 통계 설정
+ * <p>
+ * 작성일은 JPA 감사 필드와 같은 시스템 기본 시간대 기준으로 나눕니다.
+ */
+@Configuration
+@EnableConfigurationProperties(DashboardStatsProperties.class)
+public class DashboardStatsConfiguration {
+
+    @Bean
+    public DashboardStatsLoader dashboardStatsLoader(BoardRepository boardRepository) {
+        return new DashboardStatsLoader(boardRepository);
+    }
+
+    @Bean
+    public DashboardStatsStore dashboardStatsStore(DashboardStatsLoader loader, DashboardStatsProperties properties) {
+        return new DashboardStatsStore(loader, properties, Clock.systemDefaultZone());
+    }
+}
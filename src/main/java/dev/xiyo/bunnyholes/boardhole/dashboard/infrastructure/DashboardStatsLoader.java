@@ -0,0 +1,52 @@
+package dev.xiyo.bunnyholes.boardhole.dashboard.infrastructure;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardCountByAuthor;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardCountByDate;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+
+/**
+ * 대시보드 통계 DB 집계
+ * <p>
+ * 시작 시 한 번과 보정 주기마다만 실행되며, 요청 경로에서는 호출되지 않습니다.
+ */
+@RequiredArgsConstructor
+public class DashboardStatsLoader {
+
+    private final BoardRepository boardRepository;
+
+    /**
+     * 현재 DB 기준 통계 집계
+     *
+     * @param since 작성일별 집계 시작일
+     * @return 집계 결과
+     */
+    @Transactional(readOnly = true)
+    public Aggregates load(LocalDate since) {
+        Map<LocalDate, Long> perDay = new HashMap<>();
+        for (BoardCountByDate row : boardRepository.countByCreatedDateSince(since.atStartOfDay()))
+            perDay.merge(row.date(), row.count(), Long::sum);
+        Map<UUID, Long> perAuthor = new HashMap<>();
+        for (BoardCountByAuthor row : boardRepository.countGroupByAuthor())
+            perAuthor.put(row.authorId(), row.count());
+        return new Aggregates(boardRepository.count(), perDay, perAuthor);
+    }
+
+    /**
+     * DB 집계 결과
+     *
+     * @param boards    전체 게시글 수
+     * @param perDay    작성일별 게시글 수
+     * @param perAuthor 작성자별 게시글 수
+     */
+    public record Aggregates(long boards, Map<LocalDate, Long> perDay, Map<UUID, Long> perAuthor) {
+    }
+}
@@ -0,0 +1,23 @@
+package dev.xiyo.bunnyholes.boardhole.dashboard.infrastructure;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 대시보드 통계 설정
+ */
+@ConfigurationProperties(prefix = "boardhole.dashboard")
+public record DashboardStatsProperties(
+        /**
+         * DB 집계로 메모리 통계를 다시 맞추는 주기 (이벤트 유실, 다른 노드의 변경 반영)
+         */
+        @DefaultValue("10m") Duration repairInterval,
+
+        /**
+         * 작성일별 게시글 수를 보관할 일수 (오늘 포함)
+         */
+        @DefaultValue("30") int retainedDays
+) {
+}
@@ -0,0 +1,214 @@
+package dev.xiyo.bunnyholes.boardhole.dashboard.infrastructure;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * 메모리 상주 대시보드 통계
+ * <p>
+ * 전체 게시글 수, 작성일별 게시글 수, 작성자별 게시글 수를 원자 카운터로 보관하고
+ * 생성/삭제 이벤트로 증감합니다. 조회는 DB에 접근하지 않습니다.
+ * <p>
+ * 컨텍스트가 시작되면({@link #start()}) 보정 스레드가 DB 집계로 적재하고(그 전에 들어온 첫 조회는 직접 적재),
+ * 이후 보정 주기마다 다시 집계해 카운터 묶음을 통째로 교체합니다. 빈 생성 중에는 DB에 접근하지 않습니다.
+ * 집계 도중 반영된 이벤트나 다른 노드의 변경으로 생긴 오차는 다음 보정에서 맞춰집니다.
+ * <p>
+ * 적재는 요청 스레드에서 DB 집계를 기다릴 수 있으므로 {@code synchronized} 대신 {@link ReentrantLock}으로 직렬화해
+ * 가상 스레드가 캐리어 스레드를 고정하지 않도록 합니다.
+ */
+@Slf4j
+public class DashboardStatsStore implements SmartLifecycle {
+
+    private final DashboardStatsLoader loader;
+    private final DashboardStatsProperties properties;
+    private final Clock clock;
+    private volatile @Nullable ScheduledExecutorService repairer;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private volatile @Nullable Counters counters;
+
+    public DashboardStatsStore(DashboardStatsLoader loader, DashboardStatsProperties properties, Clock clock) {
+        this.loader = loader;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * 적재 및 주기 보정 시작
+     */
+    @Override
+    public synchronized void start() {
+        if (repairer != null)
+            return;
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-stats-repair");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = properties.repairInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::repairQuietly, 0, intervalMs, TimeUnit.MILLISECONDS);
+        repairer = executor;
+    }
+
+    /**
+     * 주기 보정 중지
+     */
+    @Override
+    public synchronized void stop() {
+        ScheduledExecutorService executor = repairer;
+        if (executor != null) {
+            executor.shutdownNow();
+            repairer = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return repairer != null;
+    }
+
+    /**
+     * 현재 통계 스냅샷
+     *
+     * @param authorId 작성자별 게시글 수를 함께 조회할 사용자 (없으면 null)
+     * @return 통계 스냅샷
+     */
+    public Snapshot snapshot(@Nullable UUID authorId) {
+        Counters current = loaded();
+        LocalDate today = LocalDate.now(clock);
+        List<DailyCount> days = new ArrayList<>(properties.retainedDays());
+        for (int i = properties.retainedDays() - 1; i >= 0; i--) {
+            LocalDate date = today.minusDays(i);
+            days.add(new DailyCount(date, valueOf(current.perDay.get(date))));
+        }
+        Long authorBoards = authorId == null ? null : valueOf(current.perAuthor.get(authorId));
+        return new Snapshot(current.boards.get(), valueOf(current.perDay.get(today)), authorBoards, List.copyOf(days));
+    }
+
+    /**
+     * 게시글 생성 반영
+     */
+    public void boardCreated(UUID authorId, LocalDateTime createdAt) {
+        Counters current = counters;
+        if (current == null)
+            return;
+        current.boards.incrementAndGet();
+        counterFor(current.perDay, createdAt.toLocalDate()).incrementAndGet();
+        counterFor(current.perAuthor, authorId).incrementAndGet();
+    }
+
+    /**
+     * 게시글 삭제 반영
+     */
+    public void boardDeleted(UUID authorId, LocalDateTime createdAt) {
+        Counters current = counters;
+        if (current == null)
+            return;
+        current.boards.decrementAndGet();
+        decrement(current.perDay, createdAt.toLocalDate());
+        decrement(current.perAuthor, authorId);
+    }
+
+    /**
+     * DB 집계로 통계를 다시 맞춤
+     */
+    public void repair() {
+        loadLock.lock();
+        try {
+            reload();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void reload() {
+        LocalDate since = LocalDate.now(clock).minusDays(properties.retainedDays() - 1L);
+        DashboardStatsLoader.Aggregates aggregates = loader.load(since);
+        Counters fresh = new Counters();
+        fresh.boards.set(aggregates.boards());
+        aggregates.perDay().forEach((date, count) -> fresh.perDay.put(date, new AtomicLong(count)));
+        aggregates.perAuthor().forEach((author, count) -> fresh.perAuthor.put(author, new AtomicLong(count)));
+
+        Counters previous = counters;
+        counters = fresh;
+        if (previous != null && previous.boards.get() != aggregates.boards())
+            log.debug("Dashboard stats repaired: boards {} -> {}", previous.boards.get(), aggregates.boards());
+    }
+
+    private void repairQuietly() {
+        try {
+            repair();
+        } catch (RuntimeException e) {
+            log.warn("Dashboard stats repair failed: {}", e.getMessage());
+        }
+    }
+
+    private Counters loaded() {
+        Counters current = counters;
+        if (current != null)
+            return current;
+        loadLock.lock();
+        try {
+            if (counters == null)
+                reload();
+            return Objects.requireNonNull(counters);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private static <K> void decrement(Map<K, AtomicLong> counts, K key) {
+        AtomicLong count = counts.get(key);
+        if (count != null)
+            count.decrementAndGet();
+    }
+
+    private static <K> AtomicLong counterFor(Map<K, AtomicLong> counts, K key) {
+        return counts.computeIfAbsent(key, ignored -> new AtomicLong());
+    }
+
+    private static long valueOf(@Nullable AtomicLong count) {
+        return count == null ? 0 : Math.max(0, count.get());
+    }
+
+    /**
+     * 대시보드 통계 스냅샷
+     *
+     * @param totalBoards  전체 게시글 수
+     * @param todayBoards  오늘 작성된 게시글 수
+     * @param authorBoards 요청 사용자의 게시글 수 (사용자 미지정 시 null)
+     * @param recentDays   최근 작성일별 게시글 수 (오래된 날짜부터)
+     */
+    public record Snapshot(long totalBoards, long todayBoards, @Nullable Long authorBoards, List<DailyCount> recentDays) {
+    }
+
+    /**
+     * 작성일별 게시글 수
+     */
+    public record DailyCount(LocalDate date, long count) {
+    }
+
+    private static final class Counters {
+        private final AtomicLong boards = new AtomicLong();
+        private final Map<LocalDate, AtomicLong> perDay = new ConcurrentHashMap<>();
+        private final Map<UUID, AtomicLong> perAuthor = new ConcurrentHashMap<>();
+    }
+}
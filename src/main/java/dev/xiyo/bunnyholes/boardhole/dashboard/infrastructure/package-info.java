@@ -0,0 +1,8 @@
+/**
+ * Dashboard infrastructure package
+ * 메모리 상주 대시보드 통계 저장소 패키지
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.dashboard.infrastructure;
+
+import org.jspecify.annotations.NullMarked;
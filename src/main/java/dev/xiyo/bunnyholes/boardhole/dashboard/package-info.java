@@ -0,0 +1,8 @@
+/**
+ * Dashboard module package
+ * 대시보드 통계 모듈
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.dashboard;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,40 @@
+package dev.xiyo.bunnyholes.boardhole.dashboard.presentation;
+
+import jakarta.annotation.security.PermitAll;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.xiyo.bunnyholes.boardhole.dashboard.application.DashboardQueryService;
+import dev.xiyo.bunnyholes.boardhole.dashboard.presentation.dto.DashboardResponse;
+import dev.xiyo.bunnyholes.boardhole.dashboard.presentation.mapper.DashboardWebMapper;
+import dev.xiyo.bunnyholes.boardhole.shared.constants.ApiPaths;
+import dev.xiyo.bunnyholes.boardhole.shared.security.AppUserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping(ApiPaths.DASHBOARD)
+@RequiredArgsConstructor
+@Tag(name = "대시보드 API", description = "게시판 통계 조회 API")
+public class DashboardController {
+    private final DashboardQueryService dashboardQueryService;
+    private final DashboardWebMapper dashboardWebMapper;
+
+    @GetMapping
+    @PermitAll
+    @Operation(summary = "대시보드 통계 조회", description = "[PUBLIC] 전체/오늘/최근 작성일별 게시글 수와 활성 사용자 수를 조회합니다. 로그인 시 내 게시글 수를 포함합니다. 메모리 통계에서 응답하며 주기적으로 DB와 보정됩니다.")
+    @ApiResponse(responseCode = "200", description = "통계 조회 성공", content = @Content(schema = @Schema(implementation = DashboardResponse.class)))
+    public DashboardResponse get(@Parameter(hidden = true) @AuthenticationPrincipal @Nullable AppUserPrincipal principal) {
+        return dashboardWebMapper.toResponse(dashboardQueryService.get(principal == null ? null : principal.id()));
+    }
+}
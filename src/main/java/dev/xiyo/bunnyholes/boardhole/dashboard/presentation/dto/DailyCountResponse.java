@@ -0,0 +1,10 @@
+package dev.xiyo.bunnyholes.boardhole.dashboard.presentation.dto;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "DailyCountResponse", description = "작성일별 게시글 수")
+public record DailyCountResponse(@Schema(description = "작성일", example = "2024-01-15") LocalDate date,
+                                 @Schema(description = "게시글 수", example = "12") long count) {
+}
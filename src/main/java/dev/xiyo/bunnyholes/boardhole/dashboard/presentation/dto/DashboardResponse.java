@@ -0,0 +1,15 @@
+package dev.xiyo.bunnyholes.boardhole.dashboard.presentation.dto;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "DashboardResponse", description = "대시보드 통계 응답")
+public record DashboardResponse(@Schema(description = "전체 게시글 수", example = "1280") long totalBoards,
+                                @Schema(description = "오늘 작성된 게시글 수", example = "12") long todayBoards,
+                                @Schema(description = "내 게시글 수 (비로그인 시 null)", example = "7") @Nullable Long myBoards,
+                                @Schema(description = "최근 7일 활성 사용자 수 (근사치)", example = "342") long activeUsers,
+                                @Schema(description = "최근 작성일별 게시글 수 (오래된 날짜부터)") List<DailyCountResponse> recentDays) {
+}
@@ -0,0 +1,8 @@
+/**
+ * Dashboard DTO package
+ * 대시보드 응답 DTO 패키지
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.dashboard.presentation.dto;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,24 @@
+package dev.xiyo.bunnyholes.boardhole.dashboard.presentation.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+import dev.xiyo.bunnyholes.boardhole.dashboard.application.result.DashboardResult;
+import dev.xiyo.bunnyholes.boardhole.dashboard.presentation.dto.DashboardResponse;
+
+/**
+ * 대시보드 웹 계층 매퍼
+ * 대시보드 통계 결과와 웹 응답 DTO 간 매핑을 담당합니다.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+@SuppressWarnings("NullableProblems")
+public interface DashboardWebMapper {
+
+    /**
+     * 대시보드 통계 결과를 웹 응답으로 변환
+     *
+     * @param result 대시보드 통계 결과
+     * @return 웹 응답 DTO
+     */
+    DashboardResponse toResponse(DashboardResult result);
+}
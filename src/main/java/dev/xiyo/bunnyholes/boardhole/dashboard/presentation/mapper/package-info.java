@@ -0,0 +1,8 @@
+/**
+ * Dashboard web mapper package
+ * 대시보드 웹 계층 매퍼 패키지
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.dashboard.presentation.mapper;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,8 @@
+/**
+ * Dashboard presentation package
+ * 대시보드 REST API 패키지
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.dashboard.presentation;
+
+import org.jspecify.annotations.NullMarked;
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
 import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.shared.config.log.I18nLogger;
 import dev.xiyo.bunnyholes.boardhole.shared.properties.DefaultUsersProperties;
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
 import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
@@ -22,6 +23,8 @@ import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
 
+    private static final I18nLogger i18n = I18nLogger.of(log);
+
     /*
      * IMPORTANT: Intentional behavior across ALL profiles (including prod)
      * ---------------------------------------------------------------------------------
@@ -50,7 +53,7 @@ public class DataInitializer implements CommandLineRunner {
         // NOTE: Runs in ALL environments (including production) by design.
         // 기본 관리자/사용자 계정과 환영 게시글을 삽입합니다 (멱등 보장).
         // 비밀번호 변경/회전 책임은 운영자/소비자에게 있습니다.
-        log.info(MessageUtils.get("log.user.init.start"));
+        i18n.info("log.user.init.start");
 
         DefaultUsersProperties.UserInfo adminInfo = defaultUsersProperties.admin();
 
@@ -65,14 +68,14 @@ public class DataInitializer implements CommandLineRunner {
                              .build();
             admin.verifyEmail(); // 기본 사용자는 이메일 인증 완료 상태로 생성
             userRepository.save(admin);
-            log.info(MessageUtils.get("log.user.admin.created", adminInfo.username()));
+            i18n.info("log.user.admin.created", adminInfo.username());
         } else
-            log.info(MessageUtils.get("log.user.admin.exists", adminInfo.username()));
+            i18n.info("log.user.admin.exists", adminInfo.username());
 
         // 기본 환영 게시글 생성
         if (boardRepository.count() == 0) {
             createWelcomeBoard();
-            log.info(MessageUtils.get("log.board.welcome.created"));
+            i18n.info("log.board.welcome.created");
         }
 
         // Ensure anonymous default user exists for E2E tests
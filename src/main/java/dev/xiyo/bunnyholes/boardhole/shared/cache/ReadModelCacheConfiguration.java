@@ -0,0 +1,35 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.CacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 읽기 모델 캐시 설정
+ * <p>
+ * {@code boardhole.cache.redis.enabled=true}이고 Redis 연결이 구성되어 있으면 Redis를 공유(L2) 캐시와
+ * 무효화 채널로 사용하고, 그렇지 않으면 노드 로컬 캐시만 사용합니다.
+ */
+@Slf4j
+@Configuration
+public class ReadModelCacheConfiguration {
+
+    @Bean
+    public ReadModelCaches readModelCaches(CacheProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper,
+                                           ObjectProvider<RedisConnectionFactory> redisConnectionFactory) {
+        CacheProperties.Redis redis = properties.redis();
+        RedisConnectionFactory connectionFactory = redis.enabled() ? redisConnectionFactory.getIfAvailable() : null;
+        SharedCacheStore store = null;
+        if (connectionFactory != null)
+            store = new RedisSharedCacheStore(connectionFactory, redis.keyPrefix(), redis.channel());
+        log.info("Read model caches: {}", store != null ? "local + redis" : "local only");
+        return new ReadModelCaches(meterRegistry, objectMapper, store, redis.expireAfterWrite());
+    }
+}
@@ -0,0 +1,95 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+import org.jspecify.annotations.Nullable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.CacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 읽기 모델 캐시 생성 및 노드 간 무효화 수신
+ * <p>
+ * 공유 저장소가 있으면 2단계 캐시를, 없으면 노드 로컬 캐시만 만듭니다.
+ * 다른 노드의 무효화 알림은 이름으로 캐시를 찾아 L1에서 지웁니다. 캐시가 아닌 노드 로컬 상태도
+ * {@link #listen}과 {@link #broadcast}로 같은 채널을 통해 무효화할 수 있습니다.
+ */
+public class ReadModelCaches {
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final @Nullable SharedCacheStore sharedStore;
+    private final Duration sharedTtl;
+    private final Map<String, TwoLevelCache<?>> caches = new ConcurrentHashMap<>();
+    private final Map<String, Consumer<UUID>> listeners = new ConcurrentHashMap<>();
+
+    public ReadModelCaches(MeterRegistry meterRegistry, ObjectMapper objectMapper, @Nullable SharedCacheStore sharedStore, Duration sharedTtl) {
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.sharedStore = sharedStore;
+        this.sharedTtl = sharedTtl;
+        if (sharedStore != null)
+            sharedStore.subscribe(this::onRemoteInvalidation);
+    }
+
+    /**
+     * 캐시 생성
+     *
+     * @param name    캐시 이름 (지표 태그, 공유 키, 무효화 메시지에 사용)
+     * @param spec    노드 로컬 캐시 설정
+     * @param type    값 타입 (공유 캐시 역직렬화용)
+     * @param weigher 항목 가중치 계산 함수
+     */
+    public <V> TwoLevelCache<V> create(String name, CacheProperties.Local spec, Class<V> type, ToLongFunction<V> weigher) {
+        WeightedLruCache<UUID, V> local = new WeightedLruCache<>(name, spec.effectiveMaxWeight(), spec.expireAfterWrite(), weigher,
+                Clock.systemUTC(), meterRegistry);
+        SharedCacheStore store = spec.enabled() ? sharedStore : null;
+        TwoLevelCache<V> cache = new TwoLevelCache<>(name, local, store, sharedTtl, objectMapper, type, meterRegistry);
+        caches.put(name, cache);
+        return cache;
+    }
+
+    /**
+     * 공유 캐시 사용 여부
+     */
+    public boolean isShared() {
+        return sharedStore != null;
+    }
+
+    /**
+     * 캐시가 아닌 노드 로컬 상태의 무효화 수신 등록
+     *
+     * @param name     무효화 이름 (캐시 이름과 겹치지 않아야 함)
+     * @param listener 다른 노드가 {@link #broadcast}한 항목 ID 수신 함수
+     */
+    public void listen(String name, Consumer<UUID> listener) {
+        listeners.put(name, listener);
+    }
+
+    /**
+     * 다른 노드에 무효화 알림 (공유 저장소가 없으면 무시, 이 노드의 수신 함수는 호출하지 않음)
+     *
+     * @param name 무효화 이름
+     * @param id   무효화할 항목 ID
+     */
+    public void broadcast(String name, UUID id) {
+        if (sharedStore != null)
+            sharedStore.publishInvalidation(name, id);
+    }
+
+    private void onRemoteInvalidation(String cacheName, UUID id) {
+        TwoLevelCache<?> cache = caches.get(cacheName);
+        if (cache != null)
+            cache.invalidateLocal(id);
+        Consumer<UUID> listener = listeners.get(cacheName);
+        if (listener != null)
+            listener.accept(id);
+    }
+}
@@ -0,0 +1,120 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis 기반 공유 캐시 저장소
+ * <p>
+ * 값은 문자열(JSON)로 TTL과 함께 저장하고, 무효화는 pub/sub 채널로 {@code 노드ID|캐시이름|항목ID} 형식의 메시지를 보냅니다.
+ * 노드 ID는 JVM마다 새로 만들며, 자신이 보낸 메시지는 구독자에게 전달하지 않습니다.
+ * <p>
+ * 세대는 값 옆의 {@code :gen} 키에 두고, 세대 비교 저장과 삭제+세대 증가는 Lua 스크립트로 원자적으로 처리합니다.
+ * 두 키는 같은 해시 태그를 써서 클러스터에서도 같은 슬롯에 놓입니다.
+ */
+@Slf4j
+public class RedisSharedCacheStore implements SharedCacheStore, DisposableBean {
+
+    private static final char SEPARATOR = '|';
+    /** 세대 키 유지 시간 (진행 중인 적재보다 충분히 길면 됨) */
+    private static final Duration GENERATION_TTL = Duration.ofHours(1);
+
+    private static final RedisScript<Long> PUT_IF_GENERATION = RedisScript.of("""
+            if (redis.call('GET', KEYS[2]) or '0') == ARGV[2] then
+              redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+              return 1
+            end
+            return 0
+            """, Long.class);
+    private static final RedisScript<Long> DELETE_AND_BUMP = RedisScript.of("""
+            redis.call('DEL', KEYS[1])
+            local generation = redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return generation
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final ChannelTopic channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisSharedCacheStore(RedisConnectionFactory connectionFactory, String keyPrefix, String channel) {
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+        this.keyPrefix = keyPrefix;
+        this.channel = new ChannelTopic(channel);
+        this.listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+    }
+
+    @Override
+    public Entry get(String key) {
+        List<String> values = redisTemplate.opsForValue().multiGet(keys(key));
+        if (values == null)
+            return new Entry(null, 0);
+        String generation = values.get(1);
+        return new Entry(values.get(0), generation == null ? 0 : Long.parseLong(generation));
+    }
+
+    @Override
+    public boolean putIfGeneration(String key, String value, Duration ttl, long generation) {
+        Long stored = redisTemplate.execute(PUT_IF_GENERATION, keys(key), value, Long.toString(generation), Long.toString(ttl.toMillis()));
+        return stored != null && stored == 1;
+    }
+
+    @Override
+    public void delete(String key) {
+        redisTemplate.execute(DELETE_AND_BUMP, keys(key), Long.toString(GENERATION_TTL.toMillis()));
+    }
+
+    @Override
+    public void publishInvalidation(String cacheName, UUID id) {
+        redisTemplate.convertAndSend(channel.getTopic(), nodeId + SEPARATOR + cacheName + SEPARATOR + id);
+    }
+
+    @Override
+    public void subscribe(BiConsumer<String, UUID> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int first = body.indexOf(SEPARATOR);
+            int last = body.lastIndexOf(SEPARATOR);
+            if (first < 0 || first == last) {
+                log.warn("Ignoring malformed cache invalidation message: {}", body);
+                return;
+            }
+            if (body.substring(0, first).equals(nodeId))
+                return;
+            try {
+                listener.accept(body.substring(first + 1, last), UUID.fromString(body.substring(last + 1)));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring malformed cache invalidation message: {}", body);
+            }
+        }, channel);
+        if (!listenerContainer.isRunning())
+            listenerContainer.start();
+    }
+
+    private List<String> keys(String key) {
+        String valueKey = keyPrefix + '{' + key + '}';
+        return List.of(valueKey, valueKey + ":gen");
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+}
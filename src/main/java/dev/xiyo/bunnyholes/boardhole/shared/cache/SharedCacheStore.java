@@ -0,0 +1,61 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 노드 간 공유 캐시 저장소 (L2) 및 무효화 메시지 채널
+ * <p>
+ * 키마다 세대(generation)를 두어 삭제할 때 증가시키고, 저장은 조회 시점의 세대가 그대로일 때만 수행합니다.
+ * 무효화 전에 시작된 적재가 무효화 후에 오래된 값을 다시 쓰는 경쟁을 막기 위함입니다.
+ */
+public interface SharedCacheStore {
+
+    /**
+     * 직렬화된 값과 현재 세대 조회
+     *
+     * @param key 캐시 키 (접두사 제외)
+     * @return 값(없으면 null)과 세대
+     */
+    Entry get(String key);
+
+    /**
+     * 세대가 조회 시점과 같을 때만 직렬화된 값 저장
+     *
+     * @param generation {@link #get(String)}로 읽은 세대
+     * @return 저장했으면 true, 그 사이 무효화되어 저장하지 않았으면 false
+     */
+    boolean putIfGeneration(String key, String value, Duration ttl, long generation);
+
+    /**
+     * 값 삭제 및 세대 증가
+     */
+    void delete(String key);
+
+    /**
+     * 다른 노드에 무효화 알림
+     *
+     * @param cacheName 캐시 이름
+     * @param id        무효화할 항목 ID
+     */
+    void publishInvalidation(String cacheName, UUID id);
+
+    /**
+     * 다른 노드가 보낸 무효화 알림 구독 (자기 자신이 보낸 알림은 전달하지 않음)
+     *
+     * @param listener (캐시 이름, 항목 ID) 수신 함수
+     */
+    void subscribe(BiConsumer<String, UUID> listener);
+
+    /**
+     * 조회 결과
+     *
+     * @param value      직렬화된 값 (없으면 null)
+     * @param generation 키의 현재 세대
+     */
+    record Entry(@Nullable String value, long generation) {
+    }
+}
@@ -0,0 +1,145 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 노드 로컬(L1) + 공유(L2) 2단계 읽기 모델 캐시
+ * <p>
+ * 조회 순서는 L1 → L2 → 적재 함수이며, L2에서 찾거나 새로 적재한 값은 L1에 저장합니다.
+ * 무효화는 L1과 L2를 지운 뒤 다른 노드에 알려 각 노드의 L1도 지우게 합니다.
+ * L2 쓰기는 조회 시점의 세대가 그대로일 때만 수행하므로, 무효화 전에 DB에서 읽은 값이 무효화 후 L2에 다시 쓰이지 않습니다.
+ * L2 장애(연결 실패, 역직렬화 실패)는 캐시 미스로 취급하므로 조회는 DB로 계속 동작합니다.
+ *
+ * @param <V> 캐시 값 타입 (JSON 직렬화 가능한 읽기 모델)
+ */
+@Slf4j
+public final class TwoLevelCache<V> {
+
+    private final String name;
+    private final WeightedLruCache<UUID, V> local;
+    private final @Nullable SharedCacheStore shared;
+    private final Duration sharedTtl;
+    private final ObjectMapper objectMapper;
+    private final Class<V> type;
+
+    private final Counter sharedHits;
+    private final Counter sharedMisses;
+    private final Counter sharedErrors;
+
+    TwoLevelCache(String name, WeightedLruCache<UUID, V> local, @Nullable SharedCacheStore shared, Duration sharedTtl, ObjectMapper objectMapper,
+                  Class<V> type, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.shared = shared;
+        this.sharedTtl = sharedTtl;
+        this.objectMapper = objectMapper;
+        this.type = type;
+        String l2 = name + ".l2";
+        this.sharedHits = Counter.builder("cache.gets").tag("cache", l2).tag("result", "hit")
+                                 .description("Shared cache hits").register(meterRegistry);
+        this.sharedMisses = Counter.builder("cache.gets").tag("cache", l2).tag("result", "miss")
+                                   .description("Shared cache misses").register(meterRegistry);
+        this.sharedErrors = Counter.builder("cache.errors").tag("cache", l2)
+                                   .description("Shared cache operations that failed and fell back").register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회, 없으면 적재
+     *
+     * @param id     항목 ID
+     * @param loader 적재 함수 (예외는 그대로 전파되며 캐시하지 않음)
+     */
+    public V get(UUID id, Function<UUID, V> loader) {
+        return local.get(id, key -> loadThroughShared(key, loader));
+    }
+
+    /**
+     * 항목 무효화 (L1, L2 및 다른 노드의 L1)
+     */
+    public void invalidate(UUID id) {
+        local.invalidate(id);
+        if (shared == null)
+            return;
+        try {
+            shared.delete(sharedKey(id));
+            shared.publishInvalidation(name, id);
+        } catch (RuntimeException e) {
+            sharedErrors.increment();
+            log.warn("Failed to invalidate shared cache entry {}:{} ({})", name, id, e.getMessage());
+        }
+    }
+
+    /**
+     * 이 노드의 L1만 무효화 (다른 노드의 무효화 알림 수신 시)
+     */
+    void invalidateLocal(UUID id) {
+        local.invalidate(id);
+    }
+
+    String name() {
+        return name;
+    }
+
+    private V loadThroughShared(UUID id, Function<UUID, V> loader) {
+        if (shared == null)
+            return loader.apply(id);
+        String key = sharedKey(id);
+        SharedCacheStore.Entry entry = readShared(key);
+        V cached = entry == null ? null : decode(key, entry.value());
+        if (cached != null) {
+            sharedHits.increment();
+            return cached;
+        }
+        sharedMisses.increment();
+        V loaded = loader.apply(id);
+        // L2 조회가 실패했으면 기준 세대를 모르므로 쓰지 않음
+        if (entry != null)
+            writeShared(key, loaded, entry.generation());
+        return loaded;
+    }
+
+    private SharedCacheStore.@Nullable Entry readShared(String key) {
+        try {
+            return shared == null ? null : shared.get(key);
+        } catch (RuntimeException e) {
+            sharedErrors.increment();
+            log.debug("Shared cache read failed for {} ({})", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private @Nullable V decode(String key, @Nullable String json) {
+        try {
+            return json == null ? null : objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            sharedErrors.increment();
+            log.debug("Shared cache read failed for {} ({})", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeShared(String key, V value, long generation) {
+        try {
+            if (shared != null && !shared.putIfGeneration(key, objectMapper.writeValueAsString(value), sharedTtl, generation))
+                log.debug("Skipped shared cache write for {}: invalidated while loading", key);
+        } catch (JsonProcessingException | RuntimeException e) {
+            sharedErrors.increment();
+            log.debug("Shared cache write failed for {} ({})", key, e.getMessage());
+        }
+    }
+
+    private String sharedKey(UUID id) {
+        return name + ':' + id;
+    }
+}
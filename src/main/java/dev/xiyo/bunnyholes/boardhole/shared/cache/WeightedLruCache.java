@@ -0,0 +1,238 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.jspecify.annotations.Nullable;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 가중치 기반 노드 로컬 LRU 캐시
+ * <p>
+ * 키 해시로 나눈 세그먼트마다 접근 순서 {@link LinkedHashMap}과 잠금을 두어 경합을 나눕니다.
+ * 각 세그먼트는 전체 최대 가중치를 세그먼트 수로 나눈 예산을 넘으면 가장 오래 사용하지 않은 항목부터 제거하며,
+ * 항목은 저장 후 {@code expireAfterWrite}가 지나면 만료됩니다.
+ * <p>
+ * {@link #get(Object, Function)}은 적재 중 같은 세그먼트에 무효화가 일어나면 적재 결과를 저장하지 않으므로,
+ * 수정 직전에 읽은 오래된 값이 무효화 이후에 다시 저장되는 경쟁을 막습니다.
+ * <p>
+ * 지표는 Micrometer 캐시 지표 이름을 따릅니다: {@code cache.gets{result=hit|miss}}, {@code cache.evictions},
+ * {@code cache.size}, {@code cache.weight} (모두 {@code cache} 태그로 구분).
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public final class WeightedLruCache<K, V> {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+    private final ToLongFunction<V> weigher;
+    private final long expireAfterWriteMillis;
+    private final Clock clock;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    /**
+     * @param name             지표 태그로 쓰일 캐시 이름
+     * @param maxWeight        최대 가중치 (0이면 저장하지 않음)
+     * @param expireAfterWrite 저장 후 만료 시간
+     * @param weigher          항목 가중치 계산 함수
+     * @param clock            만료 판정용 시계
+     * @param meterRegistry    지표 레지스트리
+     */
+    @SuppressWarnings("unchecked")
+    public WeightedLruCache(String name, long maxWeight, Duration expireAfterWrite, ToLongFunction<V> weigher, Clock clock,
+                            MeterRegistry meterRegistry) {
+        this.weigher = weigher;
+        this.expireAfterWriteMillis = expireAfterWrite.toMillis();
+        this.clock = clock;
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++)
+            segments[i] = new Segment<>(Math.max(0, maxWeight) / SEGMENTS);
+
+        this.hits = Counter.builder("cache.gets").tag("cache", name).tag("result", "hit")
+                           .description("Cache hits").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", name).tag("result", "miss")
+                             .description("Cache misses").register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", name)
+                                .description("Entries evicted by weight or expiry").register(meterRegistry);
+        Gauge.builder("cache.size", this, WeightedLruCache::size).tag("cache", name)
+             .description("Number of cached entries").register(meterRegistry);
+        Gauge.builder("cache.weight", this, WeightedLruCache::weight).tag("cache", name)
+             .description("Total weight of cached entries").register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회
+     *
+     * @param key 키
+     * @return 캐시된 값, 없거나 만료되었으면 null
+     */
+    public @Nullable V getIfPresent(K key) {
+        V value = segmentFor(key).get(key, clock.millis());
+        (value != null ? hits : misses).increment();
+        return value;
+    }
+
+    /**
+     * 캐시 조회, 없으면 적재 후 저장
+     * <p>
+     * 적재는 잠금 밖에서 실행되므로 같은 키를 동시에 적재할 수 있습니다. 적재 함수의 예외는 그대로 전파되며 아무것도 저장하지 않습니다.
+     *
+     * @param key    키
+     * @param loader 적재 함수
+     * @return 캐시된 값 또는 적재한 값
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Segment<K, V> segment = segmentFor(key);
+        V cached = segment.get(key, clock.millis());
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        long generation = segment.generation();
+        V loaded = loader.apply(key);
+        evictions.increment(segment.putIfGeneration(key, loaded, weigher.applyAsLong(loaded), clock.millis() + expireAfterWriteMillis, generation));
+        return loaded;
+    }
+
+    /**
+     * 값 저장
+     */
+    public void put(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        evictions.increment(segment.putIfGeneration(key, value, weigher.applyAsLong(value), clock.millis() + expireAfterWriteMillis, -1));
+    }
+
+    /**
+     * 키 무효화
+     */
+    public void invalidate(K key) {
+        segmentFor(key).invalidate(key);
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments)
+            segment.clear();
+    }
+
+    /**
+     * 캐시된 항목 수
+     */
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments)
+            size += segment.size();
+        return size;
+    }
+
+    /**
+     * 캐시된 항목의 총 가중치
+     */
+    public long weight() {
+        long weight = 0;
+        for (Segment<K, V> segment : segments)
+            weight += segment.weight();
+        return weight;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return segments[h & (SEGMENTS - 1)];
+    }
+
+    private record Entry<V>(V value, long weight, long expiresAt) {
+    }
+
+    private static final class Segment<K, V> {
+
+        private final long maxWeight;
+        private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long weight;
+        private long generation;
+
+        Segment(long maxWeight) {
+            this.maxWeight = maxWeight;
+        }
+
+        synchronized @Nullable V get(K key, long now) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null)
+                return null;
+            if (entry.expiresAt() <= now) {
+                entries.remove(key);
+                weight -= entry.weight();
+                return null;
+            }
+            return entry.value();
+        }
+
+        synchronized long generation() {
+            return generation;
+        }
+
+        /**
+         * 저장 후 가중치 예산을 넘으면 LRU 순으로 제거
+         *
+         * @param expectedGeneration 적재 시작 시점의 세대 (-1이면 확인하지 않음)
+         * @return 제거된 항목 수
+         */
+        synchronized int putIfGeneration(K key, V value, long entryWeight, long expiresAt, long expectedGeneration) {
+            if (expectedGeneration >= 0 && expectedGeneration != generation)
+                return 0;
+            if (entryWeight > maxWeight)
+                return 0;
+            Entry<V> previous = entries.put(key, new Entry<>(value, entryWeight, expiresAt));
+            if (previous != null)
+                weight -= previous.weight();
+            weight += entryWeight;
+
+            int evicted = 0;
+            Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+            while (weight > maxWeight && eldest.hasNext()) {
+                Entry<V> victim = eldest.next().getValue();
+                eldest.remove();
+                weight -= victim.weight();
+                evicted++;
+            }
+            return evicted;
+        }
+
+        synchronized void invalidate(K key) {
+            generation++;
+            Entry<V> removed = entries.remove(key);
+            if (removed != null)
+                weight -= removed.weight();
+        }
+
+        synchronized void clear() {
+            generation++;
+            entries.clear();
+            weight = 0;
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized long weight() {
+            return weight;
+        }
+    }
+}
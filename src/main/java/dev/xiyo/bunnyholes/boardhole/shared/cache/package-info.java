@@ -0,0 +1,10 @@
+/**
+ * 캐시 공통 패키지
+ * <p>
+ * 노드 로컬 가중치 기반 LRU 캐시 등 읽기 모델 캐싱에 공통으로 사용되는 기능들을 포함합니다.
+ * </p>
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import org.jspecify.annotations.NullMarked;
@@ -2,33 +2,84 @@ package dev.xiyo.bunnyholes.boardhole.shared.config;
 
 import java.util.Map;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
 
 import org.slf4j.MDC;
 import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * 비동기 설정 - Spring Boot 기본 설정 활용
  * 대부분의 설정은 application.yml의 spring.task.execution으로 관리
+ * <p>
+ * {@code spring.threads.virtual.enabled=true}이면 Tomcat 요청 처리(Spring Boot 자동 설정)와 함께
+ * 비동기 작업도 가상 스레드에서 실행합니다. 어느 모드든 MDC 컨텍스트는 작업 스레드로 전파됩니다.
+ * <p>
+ * 두 모드 모두 같은 이름의 게이지로 대기/실행 중 작업 수를 노출합니다.
+ * {@code boardhole.async.queued}는 플랫폼 모드에서 풀 큐 길이, 가상 스레드 모드에서 동시 실행 제한에 막혀 기다리는 작업 수이고,
+ * {@code boardhole.async.active}는 실행 중인 작업(스레드) 수입니다.
+ * 플랫폼 모드는 풀 스레드 수({@code boardhole.async.pool.size})도 노출하며, 모든 게이지에 {@code mode} 태그를 붙입니다.
  */
+@Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    static final String QUEUED_GAUGE = "boardhole.async.queued";
+    static final String ACTIVE_GAUGE = "boardhole.async.active";
+    static final String POOL_SIZE_GAUGE = "boardhole.async.pool.size";
+
+    /**
+     * MDC 컨텍스트 전파 TaskDecorator
+     * <p>
+     * 제출 시점의 MDC를 복사해 작업 스레드에 설정하고, 작업이 끝나면 비웁니다.
+     */
+    static TaskDecorator mdcPropagatingDecorator() {
+        return runnable -> {
+            Map<String, String> contextMap = MDC.getCopyOfContextMap();
+            return () -> {
+                if (contextMap != null)
+                    MDC.setContextMap(contextMap);
+                try {
+                    runnable.run();
+                } finally {
+                    MDC.clear();
+                }
+            };
+        };
+    }
+
     /**
      * Spring Boot TaskExecutor 빈 설정
-     * - RejectedExecutionHandler: 큐가 가득 찼을 때 처리 방식
+     * - 플랫폼 스레드 모드: 고정 풀 {@link ThreadPoolTaskExecutor}, 큐가 가득 차면 호출 스레드에서 실행
+     * - 가상 스레드 모드: 작업마다 가상 스레드를 만드는 {@link SimpleAsyncTaskExecutor}
+     * (spring.task.execution.simple.concurrency-limit이 있으면 동시 실행 수 제한)
      * - TaskDecorator: MDC 컨텍스트 전파
      * application.yml의 spring.task.execution 설정과 함께 작동
      *
-     * @param properties Spring Boot TaskExecutionProperties
+     * @param properties    Spring Boot TaskExecutionProperties
+     * @param environment   스레드 모드 판별용 환경
+     * @param meterRegistry 대기/실행 중 작업 게이지 등록용
      * @return 커스터마이징된 TaskExecutor
      */
     @Bean
-    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutionProperties properties) {
+    public AsyncTaskExecutor applicationTaskExecutor(TaskExecutionProperties properties, Environment environment, MeterRegistry meterRegistry) {
+        if (Threading.VIRTUAL.isActive(environment))
+            return virtualThreadTaskExecutor(properties, meterRegistry);
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         // Spring Boot properties 적용
@@ -42,20 +93,47 @@ public class AsyncConfig {
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
 
         // MDC 컨텍스트 전파를 위한 TaskDecorator
+        executor.setTaskDecorator(mdcPropagatingDecorator());
+
+        executor.initialize();
+
+        Gauge.builder(QUEUED_GAUGE, executor, ThreadPoolTaskExecutor::getQueueSize).tag("mode", "platform").register(meterRegistry);
+        Gauge.builder(ACTIVE_GAUGE, executor, ThreadPoolTaskExecutor::getActiveCount).tag("mode", "platform").register(meterRegistry);
+        Gauge.builder(POOL_SIZE_GAUGE, executor, ThreadPoolTaskExecutor::getPoolSize).tag("mode", "platform").register(meterRegistry);
+        return executor;
+    }
+
+    private static SimpleAsyncTaskExecutor virtualThreadTaskExecutor(TaskExecutionProperties properties, MeterRegistry meterRegistry) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("app-async-vt-");
+        executor.setVirtualThreads(true);
+
+        // 데코레이터는 동시 실행 제한 대기 전에 적용되므로, 감싼 뒤 아직 시작하지 않은 작업이 대기 중인 작업
+        AtomicInteger queued = new AtomicInteger();
+        AtomicInteger active = new AtomicInteger();
+        TaskDecorator mdc = mdcPropagatingDecorator();
         executor.setTaskDecorator(runnable -> {
-            Map<String, String> contextMap = MDC.getCopyOfContextMap();
+            Runnable decorated = mdc.decorate(runnable);
+            queued.incrementAndGet();
             return () -> {
-                if (contextMap != null)
-                    MDC.setContextMap(contextMap);
+                queued.decrementAndGet();
+                active.incrementAndGet();
                 try {
-                    runnable.run();
+                    decorated.run();
                 } finally {
-                    MDC.clear();
+                    active.decrementAndGet();
                 }
             };
         });
+        Gauge.builder(QUEUED_GAUGE, queued, AtomicInteger::get).tag("mode", "virtual").register(meterRegistry);
+        Gauge.builder(ACTIVE_GAUGE, active, AtomicInteger::get).tag("mode", "virtual").register(meterRegistry);
 
-        executor.initialize();
+        // 가상 스레드는 풀 크기 제한이 없으므로 DB 커넥션 등 하위 자원 보호가 필요하면 동시 실행 수로 제한
+        Integer concurrencyLimit = properties.getSimple().getConcurrencyLimit();
+        if (concurrencyLimit != null)
+            executor.setConcurrencyLimit(concurrencyLimit);
+
+        log.info("Application task executor running on virtual threads (concurrency limit: {})",
+                concurrencyLimit == null ? "none" : concurrencyLimit);
         return executor;
     }
-}
\ No newline at end of file
+}
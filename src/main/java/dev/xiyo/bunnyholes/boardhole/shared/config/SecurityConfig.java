@@ -1,7 +1,11 @@
 package dev.xiyo.bunnyholes.boardhole.shared.config;
 
+import java.time.Clock;
+import java.util.Map;
+
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,25 +15,41 @@ import org.springframework.security.access.PermissionEvaluator;
 import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
 import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.LoginUrlAuthenticationEntryPoint;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
 import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.security.web.savedrequest.NullRequestCache;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import dev.xiyo.bunnyholes.boardhole.shared.cache.ReadModelCaches;
 import dev.xiyo.bunnyholes.boardhole.shared.constants.ApiPaths;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.ActuatorSecurityProperties;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.PasswordHashingProperties;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.SessionStoreProperties;
+import dev.xiyo.bunnyholes.boardhole.shared.security.AppUserDetailsService;
+import dev.xiyo.bunnyholes.boardhole.shared.security.BoundedPasswordEncoder;
+import dev.xiyo.bunnyholes.boardhole.shared.security.PrincipalRefreshFilter;
+import dev.xiyo.bunnyholes.boardhole.shared.security.PrincipalRefresher;
 import dev.xiyo.bunnyholes.boardhole.shared.security.ProblemDetailsAccessDeniedHandler;
 import dev.xiyo.bunnyholes.boardhole.shared.security.ProblemDetailsAuthenticationEntryPoint;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Spring Security 설정
@@ -42,12 +62,23 @@ public class SecurityConfig {
 
     /**
      * 비밀번호 인코더 빈 설정
+     * <p>
+     * 새 해시는 {@code {bcrypt}} 접두사를 붙여 저장하고, 접두사가 없는 기존 BCrypt 해시도 검증합니다.
+     * 접두사가 없거나 비용이 설정보다 낮은 해시는 로그인 성공 시 {@link AppUserDetailsService}가 다시 저장하므로,
+     * 비용 조정이나 알고리즘 교체({@code encoders}에 추가 후 {@code idForEncode} 변경)에 일괄 초기화가 필요 없습니다.
+     * 해싱은 {@link BoundedPasswordEncoder}의 전용 풀에서 실행합니다.
      *
-     * @return BCrypt 를 사용하는 비밀번호 인코더
+     * @param properties    해싱 풀 및 BCrypt 비용 설정
+     * @param meterRegistry 해싱 지표 등록용
+     * @return 전용 풀에서 실행되는 위임 비밀번호 인코더
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(properties.bcryptStrength());
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return new BoundedPasswordEncoder(delegating, properties.effectiveThreads(), properties.queueCapacity(), properties.maxWait(),
+                meterRegistry);
     }
 
     /**
@@ -61,6 +92,67 @@ public class SecurityConfig {
         return configuration.getAuthenticationManager();
     }
 
+    /**
+     * 세션 사용자 스냅샷 갱신기
+     * <p>
+     * 두 보안 필터 체인 모두 SecurityContext를 불러온 직후 {@link PrincipalRefreshFilter}로 낡은 스냅샷을 교체합니다.
+     *
+     * @param userRepository 스냅샷 재생성용
+     * @param caches         노드 간 변경 알림 채널
+     * @param properties     스냅샷 최대 보관 시간
+     * @return 스냅샷 갱신기
+     */
+    @Bean
+    public PrincipalRefresher principalRefresher(UserRepository userRepository, ReadModelCaches caches, SessionStoreProperties properties) {
+        return new PrincipalRefresher(userRepository, caches, properties.principalMaxAge(), Clock.systemUTC());
+    }
+
+    /**
+     * actuator 전용 보안 필터 체인 (최우선)
+     * - health, info는 공개
+     * - prometheus는 지표 수집기 계정(HTTP Basic, 역할 METRICS) 또는 ADMIN
+     * - 그 외 엔드포인트는 ADMIN (웹 로그인 세션 사용)
+     * - 수집기 요청마다 세션을 만들지 않음
+     */
+    @Bean
+    @Order(0)
+    public SecurityFilterChain actuatorFilterChain(
+            HttpSecurity http,
+            ActuatorSecurityProperties properties,
+            PasswordEncoder passwordEncoder,
+            PrincipalRefresher principalRefresher,
+            SecurityContextRepository securityContextRepository
+    ) throws Exception {
+        http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(EndpointRequest.to("health", "info")).permitAll()
+                        .requestMatchers(EndpointRequest.to("prometheus")).hasAnyRole("METRICS", "ADMIN")
+                        .anyRequest().hasRole("ADMIN"))
+                .formLogin(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.NEVER))  // 기존 세션만 사용
+                .securityContext(context -> context
+                        .securityContextRepository(securityContextRepository))
+                .addFilterAfter(new PrincipalRefreshFilter(principalRefresher, securityContextRepository), SecurityContextHolderFilter.class);
+
+        if (properties.scrapePassword().isBlank()) {
+            http.httpBasic(AbstractHttpConfigurer::disable);
+        } else {
+            // 수집기 계정만 HTTP Basic으로 인증 (일반 사용자 계정은 Basic으로 actuator에 접근할 수 없음)
+            InMemoryUserDetailsManager scrapers = new InMemoryUserDetailsManager(User.withUsername(properties.scrapeUsername())
+                                                                                     .password(passwordEncoder.encode(properties.scrapePassword()))
+                                                                                     .roles("METRICS")
+                                                                                     .build());
+            DaoAuthenticationProvider provider = new DaoAuthenticationProvider(scrapers);
+            provider.setPasswordEncoder(passwordEncoder);
+            http.authenticationManager(new ProviderManager(provider))
+                .httpBasic(Customizer.withDefaults());
+        }
+
+        return http.build();
+    }
+
     /**
      * REST API 전용 보안 필터 체인 (우선순위 높음)
      * - /api/** 경로만 처리
@@ -73,7 +165,9 @@ public class SecurityConfig {
     public SecurityFilterChain apiFilterChain(
             HttpSecurity http,
             ProblemDetailsAuthenticationEntryPoint authenticationEntryPoint,
-            ProblemDetailsAccessDeniedHandler accessDeniedHandler
+            ProblemDetailsAccessDeniedHandler accessDeniedHandler,
+            PrincipalRefresher principalRefresher,
+            SecurityContextRepository securityContextRepository
     ) throws Exception {
         http
                 .securityMatcher("/api/**")  // /api/** 경로만 이 필터체인 적용
@@ -85,6 +179,7 @@ public class SecurityConfig {
                                 ApiPaths.AUTH + ApiPaths.AUTH_LOGIN,
                                 ApiPaths.AUTH + ApiPaths.AUTH_PUBLIC_ACCESS).permitAll()
                         .requestMatchers(HttpMethod.GET, ApiPaths.BOARDS, ApiPaths.BOARDS + "/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, ApiPaths.DASHBOARD).permitAll()
                         // All other API requests require authentication
                         .anyRequest().authenticated())
                 .formLogin(AbstractHttpConfigurer::disable)  // formLogin 비활성화
@@ -95,7 +190,8 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED))  // 세션 필요 시 생성
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint(authenticationEntryPoint)  // 401 JSON 응답
-                        .accessDeniedHandler(accessDeniedHandler));
+                        .accessDeniedHandler(accessDeniedHandler))
+                .addFilterAfter(new PrincipalRefreshFilter(principalRefresher, securityContextRepository), SecurityContextHolderFilter.class);
 
         return http.build();
     }
@@ -111,7 +207,8 @@ public class SecurityConfig {
     public SecurityFilterChain webFilterChain(
             HttpSecurity http,
             SecurityContextRepository securityContextRepository,
-            LoginUrlAuthenticationEntryPoint loginUrlAuthenticationEntryPoint
+            LoginUrlAuthenticationEntryPoint loginUrlAuthenticationEntryPoint,
+            PrincipalRefresher principalRefresher
     ) throws Exception {
         http
                 .csrf(Customizer.withDefaults())  // CSRF 기본값 사용
@@ -127,8 +224,6 @@ public class SecurityConfig {
                         .requestMatchers("/error", "/error/**").permitAll()
                         // Swagger UI (개발용)
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**").permitAll()
-                        // Actuator
-                        .requestMatchers("/actuator/health", "/actuator/info").permitAll()
                         // Authentication required pages
                         .requestMatchers("/users", "/users/**").authenticated()
                         .requestMatchers("/mypage", "/mypage/**").authenticated()
@@ -155,7 +250,8 @@ public class SecurityConfig {
                 .securityContext(context -> context
                         .securityContextRepository(securityContextRepository))
                 .exceptionHandling(ex -> ex
-                        .authenticationEntryPoint(loginUrlAuthenticationEntryPoint));  // 로그인 페이지로 리다이렉트
+                        .authenticationEntryPoint(loginUrlAuthenticationEntryPoint))  // 로그인 페이지로 리다이렉트
+                .addFilterAfter(new PrincipalRefreshFilter(principalRefresher, securityContextRepository), SecurityContextHolderFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,104 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PreDestroy;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.shared.properties.ThreadingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 감지
+ * <p>
+ * 가상 스레드가 {@code synchronized} 블록이나 네이티브 호출 안에서 블로킹되면 캐리어(플랫폼) 스레드를 놓지 못해
+ * 동시 처리량이 캐리어 수로 다시 제한됩니다. JFR {@code jdk.VirtualThreadPinned} 이벤트를 스트리밍으로 구독해
+ * 임계값 이상 고정된 경우를 지표({@code jvm.threads.virtual.pinned})로 기록하고,
+ * 같은 호출 위치는 처음 한 번만 스택과 함께 WARN으로 남깁니다(이후는 DEBUG).
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "boardhole.threads.pinning", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /** 중복 제거할 호출 위치 최대 수 (초과 시 모두 DEBUG) */
+    private static final int MAX_REPORTED_SITES = 1_000;
+
+    private final int stackDepth;
+    private final Timer pinnedTimer;
+    private final Counter reportedSites;
+    private final Map<String, Boolean> sites = new ConcurrentHashMap<>();
+    private final RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(ThreadingProperties properties, MeterRegistry meterRegistry) {
+        ThreadingProperties.Pinning pinning = properties.pinning();
+        this.stackDepth = pinning.stackDepth();
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+                                .description("Virtual threads pinned to their carrier longer than the threshold")
+                                .register(meterRegistry);
+        this.reportedSites = Counter.builder("jvm.threads.virtual.pinned.sites")
+                                    .description("Distinct code locations reported for virtual thread pinning")
+                                    .register(meterRegistry);
+
+        this.stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(pinning.threshold()).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold: {} ms)", pinning.threshold().toMillis());
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        String stack = describe(event.getStackTrace());
+        boolean firstAtSite = sites.size() < MAX_REPORTED_SITES && sites.putIfAbsent(stack, Boolean.TRUE) == null;
+        if (firstAtSite) {
+            reportedSites.increment();
+            log.warn("Virtual thread pinned for {} ms on {}\n{}", event.getDuration().toMillis(), threadName(event), stack);
+        } else if (log.isDebugEnabled()) {
+            log.debug("Virtual thread pinned for {} ms on {} at {}", event.getDuration().toMillis(), threadName(event),
+                    stack.lines().findFirst().orElse("?"));
+        }
+    }
+
+    private static String threadName(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        if (thread == null)
+            return "unknown thread";
+        String name = thread.getJavaName();
+        return name == null || name.isEmpty() ? "virtual thread #" + thread.getJavaThreadId() : name;
+    }
+
+    private String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null)
+            return "\t(no stack trace)";
+        return stackTrace.getFrames().stream()
+                         .filter(RecordedFrame::isJavaFrame)
+                         .limit(stackDepth)
+                         .map(frame -> "\tat " + frame.getMethod().getType().getName() + '.' + frame.getMethod().getName()
+                                 + ':' + frame.getLineNumber())
+                         .collect(Collectors.joining("\n"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        stream.close();
+    }
+}
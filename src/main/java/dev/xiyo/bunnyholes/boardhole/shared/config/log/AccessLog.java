@@ -0,0 +1,188 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config.log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.logstash.logback.marker.LogstashMarker;
+import net.logstash.logback.marker.Markers;
+
+/**
+ * 비동기 구조화 접근 로그
+ * <p>
+ * 요청 스레드는 고정 크기 버퍼에 이벤트를 넣기만 하고(가득 차면 {@link AccessLogProperties.Overflow}에 따라 버림),
+ * 전용 기록 스레드가 묶음으로 꺼내 JSON 인코더가 붙은 appender에 씁니다. 요청 스레드는 디스크 I/O를 기다리지 않습니다.
+ * <p>
+ * 지표: {@code access.log.events{outcome=written|dropped|failed}}, {@code access.log.queue}
+ */
+@Slf4j
+public class AccessLog {
+
+    static final String LOGGER_NAME = "boardhole.access";
+    private static final int MAX_USER_AGENT_LENGTH = 256;
+
+    private final BlockingQueue<AccessLogEvent> queue;
+    private final AccessLogProperties.Overflow overflow;
+    private final int batchSize;
+    private final Appender<ILoggingEvent> appender;
+    private final ch.qos.logback.classic.Logger logger;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final @Nullable Thread writer;
+
+    private volatile boolean running = true;
+
+    /**
+     * @param properties    접근 로그 설정
+     * @param appender      JSON 인코더가 붙은 시작된 appender (기록 스레드에서만 호출)
+     * @param meterRegistry 지표 레지스트리
+     * @param startWriter   기록 스레드 시작 여부 (테스트에서는 {@link #drain()}을 직접 호출)
+     */
+    public AccessLog(AccessLogProperties properties, Appender<ILoggingEvent> appender, MeterRegistry meterRegistry, boolean startWriter) {
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.overflow = properties.overflow();
+        this.batchSize = properties.batchSize();
+        this.appender = appender;
+        this.logger = ((LoggerContext) LoggerFactory.getILoggerFactory()).getLogger(LOGGER_NAME);
+        this.written = counter(meterRegistry, "written");
+        this.dropped = counter(meterRegistry, "dropped");
+        this.failed = counter(meterRegistry, "failed");
+        Gauge.builder("access.log.queue", queue, BlockingQueue::size)
+             .description("Access log events waiting to be written")
+             .register(meterRegistry);
+
+        if (startWriter) {
+            this.writer = new Thread(this::writeLoop, "access-log-writer");
+            writer.setDaemon(true);
+            writer.start();
+        } else {
+            this.writer = null;
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("access.log.events")
+                      .description("Access log events by outcome")
+                      .tag("outcome", outcome)
+                      .register(meterRegistry);
+    }
+
+    static @Nullable String truncateUserAgent(@Nullable String userAgent) {
+        if (userAgent == null || userAgent.length() <= MAX_USER_AGENT_LENGTH)
+            return userAgent;
+        return userAgent.substring(0, MAX_USER_AGENT_LENGTH);
+    }
+
+    /**
+     * 접근 로그 이벤트 추가 (기다리지 않음)
+     *
+     * @return 버퍼에 들어갔으면 true, 새 이벤트를 버렸으면 false
+     */
+    public boolean record(AccessLogEvent event) {
+        if (queue.offer(event))
+            return true;
+        if (overflow == AccessLogProperties.Overflow.DROP_OLDEST) {
+            // 기록 스레드와 경쟁해 빈 자리가 생겼을 수도 있으므로 한 번 꺼낸 뒤 다시 시도
+            if (queue.poll() != null)
+                dropped.increment();
+            if (queue.offer(event))
+                return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * 버퍼에 쌓인 이벤트를 모두 기록
+     *
+     * @return 기록한 이벤트 수
+     */
+    int drain() {
+        List<AccessLogEvent> batch = new ArrayList<>(batchSize);
+        int total = 0;
+        while (queue.drainTo(batch, batchSize) > 0) {
+            total += write(batch);
+            batch.clear();
+        }
+        return total;
+    }
+
+    private void writeLoop() {
+        List<AccessLogEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AccessLogEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null)
+                    continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        drain();
+    }
+
+    private int write(List<AccessLogEvent> batch) {
+        int count = 0;
+        for (AccessLogEvent event : batch)
+            try {
+                appender.doAppend(toLoggingEvent(event));
+                count++;
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.warn("Access log write failed: {}", e.getMessage());
+            }
+        written.increment(count);
+        return count;
+    }
+
+    private ILoggingEvent toLoggingEvent(AccessLogEvent event) {
+        LoggingEvent loggingEvent = new LoggingEvent(AccessLog.class.getName(), logger, Level.INFO, "access", null, null);
+        loggingEvent.setTimeStamp(event.timestamp());
+        // 기록 스레드가 아닌 요청 스레드의 이름과 MDC로 기록
+        loggingEvent.setThreadName(event.threadName());
+        loggingEvent.setMDCPropertyMap(event.mdc());
+        LogstashMarker fields = Markers.append("traceId", event.traceId())
+                                       .and(Markers.append("method", event.method()))
+                                       .and(Markers.append("path", event.path()))
+                                       .and(Markers.append("status", event.status()))
+                                       .and(Markers.append("durationMs", event.durationMs()))
+                                       .and(Markers.append("clientIp", event.clientIp()));
+        if (event.userAgent() != null)
+            fields = fields.and(Markers.append("userAgent", event.userAgent()));
+        loggingEvent.addMarker(fields);
+        return loggingEvent;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        if (writer != null)
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        else
+            drain();
+        appender.stop();
+    }
+}
@@ -0,0 +1,71 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config.log;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.ConsoleAppender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy;
+import ch.qos.logback.core.util.FileSize;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.logstash.logback.encoder.LogstashEncoder;
+
+/**
+ * 구조화 접근 로그 설정
+ * <p>
+ * 접근 로그는 애플리케이션 로그와 섞이지 않도록 logback 설정 파일 대신 전용 appender를 직접 구성합니다.
+ * {@code file}이 지정되면 크기/일자 기준으로 회전하는 파일에, 아니면 표준 출력에 한 줄 JSON으로 씁니다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(AccessLogProperties.class)
+@ConditionalOnProperty(name = "boardhole.access-log.enabled", havingValue = "true")
+public class AccessLogConfiguration {
+
+    private static OutputStreamAppender<ILoggingEvent> appender(AccessLogProperties properties, LoggerContext context) {
+        String file = properties.file();
+        if (file == null || file.isBlank())
+            return new ConsoleAppender<>();
+
+        RollingFileAppender<ILoggingEvent> appender = new RollingFileAppender<>();
+        appender.setContext(context);
+        appender.setFile(file);
+        SizeAndTimeBasedRollingPolicy<ILoggingEvent> policy = new SizeAndTimeBasedRollingPolicy<>();
+        policy.setContext(context);
+        policy.setParent(appender);
+        policy.setFileNamePattern(file + ".%d{yyyy-MM-dd}.%i.gz");
+        policy.setMaxFileSize(new FileSize(properties.maxFileSize().toBytes()));
+        policy.setMaxHistory(properties.maxHistory());
+        policy.start();
+        appender.setRollingPolicy(policy);
+        return appender;
+    }
+
+    @Bean
+    public AccessLog accessLog(AccessLogProperties properties, MeterRegistry meterRegistry) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.setIncludeContext(false);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = appender(properties, context);
+        appender.setContext(context);
+        appender.setName("ACCESS_JSON");
+        appender.setEncoder(encoder);
+        appender.start();
+
+        log.info("Access log: {} (queue {}, overflow {})", properties.file() == null ? "stdout" : properties.file(),
+                properties.queueCapacity(), properties.overflow());
+        return new AccessLog(properties, appender, meterRegistry, true);
+    }
+}
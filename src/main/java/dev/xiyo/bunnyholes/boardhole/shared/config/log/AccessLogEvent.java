@@ -0,0 +1,25 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config.log;
+
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 요청 한 건의 접근 로그 이벤트 (JSON 필드로 그대로 기록)
+ * <p>
+ * 기록은 별도 스레드에서 하므로 스레드 이름과 MDC는 요청 스레드에서 이벤트를 만들 때 복사해 둡니다.
+ *
+ * @param timestamp  요청 시작 시각 (epoch ms, 로그의 {@code @timestamp})
+ * @param traceId    요청 추적 ID (X-Request-Id)
+ * @param method     HTTP 메서드
+ * @param path       요청 경로 (쿼리 문자열 제외)
+ * @param status     응답 상태 코드
+ * @param durationMs 처리 시간
+ * @param clientIp   클라이언트 IP
+ * @param userAgent  User-Agent (최대 256자)
+ * @param threadName 요청을 처리한 스레드 이름 (로그의 {@code thread_name})
+ * @param mdc        요청 스레드의 MDC 복사본 (이후 변경되지 않아야 함)
+ */
+public record AccessLogEvent(long timestamp, String traceId, String method, String path, int status, long durationMs, String clientIp,
+                             @Nullable String userAgent, String threadName, Map<String, String> mdc) {
+}
@@ -0,0 +1,39 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config.log;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 구조화(JSON) 접근 로그 설정
+ *
+ * @param enabled       사용 여부 (끄면 RequestLoggingFilter가 요청 시작/완료를 애플리케이션 로그에 남김)
+ * @param file          접근 로그 파일 (비우면 표준 출력)
+ * @param queueCapacity 요청 스레드와 기록 스레드 사이 버퍼 크기
+ * @param overflow      버퍼가 가득 찼을 때 버릴 이벤트
+ * @param batchSize     기록 스레드가 한 번에 꺼내 쓰는 최대 이벤트 수
+ * @param maxFileSize   파일 회전 크기
+ * @param maxHistory    보관할 회전 파일 일수
+ */
+@ConfigurationProperties(prefix = "boardhole.access-log")
+public record AccessLogProperties(
+        @DefaultValue("false") boolean enabled,
+        @Nullable String file,
+        @DefaultValue("8192") int queueCapacity,
+        @DefaultValue("drop-newest") Overflow overflow,
+        @DefaultValue("256") int batchSize,
+        @DefaultValue("100MB") DataSize maxFileSize,
+        @DefaultValue("14") int maxHistory
+) {
+
+    /**
+     * 버퍼 포화 시 정책 (어느 쪽이든 요청 스레드는 기다리지 않음)
+     */
+    public enum Overflow {
+        /** 새 이벤트를 버림 */
+        DROP_NEWEST,
+        /** 가장 오래된 이벤트를 버리고 새 이벤트를 넣음 */
+        DROP_OLDEST
+    }
+}
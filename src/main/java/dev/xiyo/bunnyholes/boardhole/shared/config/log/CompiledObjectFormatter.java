@@ -0,0 +1,203 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config.log;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.jspecify.annotations.Nullable;
+
+import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
+
+/**
+ * 클래스별로 한 번 컴파일한 로그 인자 포매터
+ * <p>
+ * 필드 접근자({@link MethodHandle})와 민감 필드의 마스크 메시지 키를 클래스당 한 번만 해석해 {@link ClassValue}에 보관하므로,
+ * 인자를 포매팅할 때마다 getDeclaredFields/setAccessible/Field.get을 반복하지 않습니다.
+ * 레코드는 컴포넌트 접근자를, 그 외 클래스는 static이 아닌 선언 필드를 사용합니다.
+ * 접근자를 만들 수 없는 클래스(다른 모듈의 비공개 타입 등)는 클래스 이름만 출력합니다.
+ */
+final class CompiledObjectFormatter {
+
+    private static final int MAX_VALUE_LENGTH = 100;
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<CompiledObjectFormatter> FORMATTERS = new ClassValue<>() {
+        @Override
+        protected CompiledObjectFormatter computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private static final ClassValue<Boolean> JDK_TYPES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            Package pkg = type.getPackage();
+            String packageName = (pkg != null) ? pkg.getName() : "";
+            return type.isPrimitive() || packageName.startsWith("java.") || packageName.startsWith("jakarta.")
+                    || packageName.startsWith("org.springframework.");
+        }
+    };
+
+    private final Class<?> type;
+    private final boolean jdkType;
+    private final Accessor @Nullable [] accessors;
+    private final int estimatedLength;
+
+    private CompiledObjectFormatter(Class<?> type, boolean jdkType, Accessor @Nullable [] accessors) {
+        this.type = type;
+        this.jdkType = jdkType;
+        this.accessors = accessors;
+        // 필드당 평균 20자 예상
+        this.estimatedLength = type.getSimpleName().length() + 2 + (accessors == null ? 0 : accessors.length * 20);
+    }
+
+    static CompiledObjectFormatter forClass(Class<?> type) {
+        return FORMATTERS.get(type);
+    }
+
+    // JDK/프레임워크 타입 체크 (toString을 그대로 사용)
+    static boolean isJdkType(Class<?> type) {
+        return JDK_TYPES.get(type);
+    }
+
+    // 문제가 될 수 있는 타입 체크
+    static boolean isProblematicType(Object o) {
+        return o instanceof jakarta.servlet.ServletRequest || o instanceof jakarta.servlet.ServletResponse
+                || o instanceof org.springframework.web.multipart.MultipartFile || o instanceof byte[] || o instanceof java.io.InputStream
+                || o instanceof java.io.OutputStream || o instanceof java.io.File;
+    }
+
+    /**
+     * 필드 이름이 민감 정보인지 판단 (정확히 같거나 접미사로 끝나는 경우, 예: newPassword, accessToken)
+     *
+     * @return 마스크 메시지 키 (민감하지 않으면 null)
+     */
+    static @Nullable String maskKeyOf(String fieldName) {
+        String lowerName = fieldName.toLowerCase(Locale.ROOT);
+        for (String sensitive : LogConstants.SENSITIVE_FIELDS)
+            if (lowerName.endsWith(sensitive))
+                return maskKey(lowerName);
+        return null;
+    }
+
+    private static String maskKey(String lowerName) {
+        if (lowerName.contains("password") || lowerName.contains("pwd"))
+            return "mask.password";
+        else if (lowerName.contains("token"))
+            return "mask.token";
+        else if (lowerName.contains("secret"))
+            return "mask.secret";
+        else if (lowerName.contains("credential"))
+            return "mask.credential";
+        else if (lowerName.contains("key"))
+            return "mask.key";
+        else
+            return "mask.sensitive";
+    }
+
+    private static CompiledObjectFormatter compile(Class<?> type) {
+        if (isJdkType(type))
+            return new CompiledObjectFormatter(type, true, null);
+        try {
+            List<Accessor> accessors = new ArrayList<>();
+            if (type.isRecord())
+                for (RecordComponent component : type.getRecordComponents()) {
+                    Method accessor = component.getAccessor();
+                    accessor.setAccessible(true);
+                    accessors.add(Accessor.of(component.getName(), MethodHandles.lookup().unreflect(accessor)));
+                }
+            else
+                for (Field field : type.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic())
+                        continue;
+                    field.setAccessible(true);
+                    accessors.add(Accessor.of(field.getName(), MethodHandles.lookup().unreflectGetter(field)));
+                }
+            return new CompiledObjectFormatter(type, false, accessors.toArray(Accessor[]::new));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return new CompiledObjectFormatter(type, false, null);
+        }
+    }
+
+    /**
+     * 예상 출력 길이 (버퍼 초기 용량)
+     */
+    int estimatedLength() {
+        return estimatedLength;
+    }
+
+    /**
+     * 객체를 {@code SimpleName{field=value,...}} 형태로 추가
+     * <p>
+     * 민감 필드는 값을 읽지 않고 마스크로, JDK 타입 값은 100자까지, 그 외 값은 타입 이름으로 출력합니다.
+     */
+    void appendTo(StringBuilder sb, Object obj) {
+        if (jdkType) {
+            sb.append(obj);
+            return;
+        }
+        Accessor[] fields = accessors;
+        if (fields == null) {
+            sb.append(type.getName());
+            return;
+        }
+        sb.append(type.getSimpleName()).append('{');
+        for (int i = 0; i < fields.length; i++) {
+            Accessor field = fields[i];
+            if (i > 0)
+                sb.append(',');
+            sb.append(field.label());
+            if (field.maskKey() != null)
+                sb.append(MessageUtils.get(field.maskKey()));
+            else
+                appendValue(sb, field.read(obj));
+        }
+        sb.append('}');
+    }
+
+    private static void appendValue(StringBuilder sb, @Nullable Object value) {
+        if (value == null)
+            sb.append("null");
+        else if (isProblematicType(value))
+            sb.append(value.getClass().getName());
+        else if (isJdkType(value.getClass())) {
+            String strValue = String.valueOf(value);
+            if (strValue.length() > MAX_VALUE_LENGTH)
+                sb.append(strValue, 0, MAX_VALUE_LENGTH - 3).append("...");
+            else
+                sb.append(strValue);
+        } else
+            sb.append(value.getClass().getSimpleName());
+    }
+
+    /**
+     * 컴파일된 필드 접근자
+     *
+     * @param label   출력 접두사 ({@code name=})
+     * @param maskKey 민감 필드 마스크 메시지 키 (민감하지 않으면 null)
+     * @param getter  {@code (Object)Object} 형태의 접근자
+     */
+    private record Accessor(String label, @Nullable String maskKey, MethodHandle getter) {
+
+        static Accessor of(String name, MethodHandle getter) {
+            return new Accessor(name + '=', maskKeyOf(name), getter.asType(GETTER_TYPE));
+        }
+
+        @Nullable Object read(Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config.log;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
+
+/**
+ * 지연 평가 다국어 로거
+ * <p>
+ * {@code log.debug(MessageUtils.get(...))}는 레벨이 꺼져 있어도 메시지를 조회하고 포매팅합니다.
+ * 이 로거는 레벨을 먼저 확인하고 켜져 있을 때만 메시지 키를 해석하며, 인자 1~3개는 고정 인자 메서드로 받아
+ * 꺼진 레벨에서 가변 인자 배열도 만들지 않습니다.
+ * <pre>{@code
+ * private static final I18nLogger i18n = I18nLogger.of(log);
+ * i18n.debug("log.security.authorized.access", method, username);
+ * }</pre>
+ */
+public final class I18nLogger {
+
+    private final Logger logger;
+
+    private I18nLogger(Logger logger) {
+        this.logger = logger;
+    }
+
+    public static I18nLogger of(Logger logger) {
+        return new I18nLogger(logger);
+    }
+
+    public boolean isEnabled(Level level) {
+        return logger.isEnabledForLevel(level);
+    }
+
+    /**
+     * 지정 레벨로 메시지 기록 (레벨이 꺼져 있으면 키를 해석하지 않음)
+     */
+    public void log(Level level, String key, @Nullable Object... args) {
+        if (logger.isEnabledForLevel(level))
+            logger.atLevel(level).log(MessageUtils.get(key, args));
+    }
+
+    public void trace(String key, @Nullable Object... args) {
+        if (logger.isTraceEnabled())
+            logger.trace(MessageUtils.get(key, args));
+    }
+
+    public void debug(String key) {
+        if (logger.isDebugEnabled())
+            logger.debug(MessageUtils.get(key));
+    }
+
+    public void debug(String key, @Nullable Object arg) {
+        if (logger.isDebugEnabled())
+            logger.debug(MessageUtils.get(key, arg));
+    }
+
+    public void debug(String key, @Nullable Object arg1, @Nullable Object arg2) {
+        if (logger.isDebugEnabled())
+            logger.debug(MessageUtils.get(key, arg1, arg2));
+    }
+
+    public void debug(String key, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3) {
+        if (logger.isDebugEnabled())
+            logger.debug(MessageUtils.get(key, arg1, arg2, arg3));
+    }
+
+    public void info(String key) {
+        if (logger.isInfoEnabled())
+            logger.info(MessageUtils.get(key));
+    }
+
+    public void info(String key, @Nullable Object arg) {
+        if (logger.isInfoEnabled())
+            logger.info(MessageUtils.get(key, arg));
+    }
+
+    public void info(String key, @Nullable Object arg1, @Nullable Object arg2) {
+        if (logger.isInfoEnabled())
+            logger.info(MessageUtils.get(key, arg1, arg2));
+    }
+
+    public void info(String key, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3) {
+        if (logger.isInfoEnabled())
+            logger.info(MessageUtils.get(key, arg1, arg2, arg3));
+    }
+
+    public void warn(String key, @Nullable Object... args) {
+        if (logger.isWarnEnabled())
+            logger.warn(MessageUtils.get(key, args));
+    }
+
+    public void error(String key, @Nullable Object... args) {
+        if (logger.isErrorEnabled())
+            logger.error(MessageUtils.get(key, args));
+    }
+}
@@ -1,10 +1,5 @@
 package dev.xiyo.bunnyholes.boardhole.shared.config.log;
 
-import java.lang.reflect.Field;
-import java.util.Arrays;
-import java.util.Set;
-import java.util.stream.Collectors;
-
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -17,7 +12,9 @@ import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
 @ConditionalOnProperty(name = "boardhole.logging.enabled", havingValue = "true", matchIfMissing = true)
 class LogFormatter {
 
-    private static final Set<String> SENSITIVE_FIELD_NAMES = Set.of(LogConstants.SENSITIVE_FIELDS);
+    private static final int INITIAL_BUFFER = 256;
+    private static final int MAX_RETAINED_BUFFER = 8 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFERS = ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER));
     private final LoggingProperties loggingProperties;
 
     public LogFormatter(LoggingProperties loggingProperties) {
@@ -62,26 +59,23 @@ class LogFormatter {
             return LogConstants.RESET;
     }
 
-    // 문제가 될 수 있는 타입 체크
-    private static boolean isProblematicType(Object o) {
-        return o instanceof jakarta.servlet.ServletRequest || o instanceof jakarta.servlet.ServletResponse || o instanceof org.springframework.web.multipart.MultipartFile || o instanceof byte[] || o instanceof java.io.InputStream || o instanceof java.io.OutputStream || o instanceof java.io.File;
-    }
-
-    // JDK 타입 체크
-    private static boolean isJdkType(Class<?> cls) {
-        Package pkg = cls.getPackage();
-        String packageName = (pkg != null) ? pkg.getName() : "";
-        return cls.isPrimitive() || packageName.startsWith("java.") || packageName.startsWith("jakarta.") || packageName.startsWith(
-                "org.springframework.");
-    }
-
-    static String formatMethodStart(String signature, Object[] args) {
+    static String formatMethodStart(String signature, String formattedArgs) {
         String layerColor = getLayerColor(signature);
         String layerIcon = getLayerIcon(signature);
-        Object[] safeArgs = (args == null) ? new Object[0] : args;
-        String argsString = Arrays.stream(safeArgs).map(LogFormatter::safeToString).collect(Collectors.joining(", "));
 
-        return MessageUtils.get("log.method.start", layerColor + layerIcon + signature + LogConstants.RESET, argsString);
+        return MessageUtils.get("log.method.start", layerColor + layerIcon + signature + LogConstants.RESET, formattedArgs);
+    }
+
+    // 메서드 인자 목록 (한 버퍼에 이어 붙임)
+    static String formatArguments(Object[] args) {
+        StringBuilder sb = buffer(args == null ? 0 : args.length * 32);
+        if (args != null)
+            for (int i = 0; i < args.length; i++) {
+                if (i > 0)
+                    sb.append(", ");
+                appendSafely(sb, args[i]);
+            }
+        return sb.toString();
     }
 
     String formatMethodEnd(String signature, long tookMs) {
@@ -134,84 +128,53 @@ class LogFormatter {
         return loggingProperties.isSlow(ms);
     }
 
+    /**
+     * 포매팅 버퍼
+     * <p>
+     * 플랫폼 스레드는 스레드별 버퍼를 재사용하고(너무 커진 버퍼는 교체), 요청마다 새로 생기는 가상 스레드는
+     * ThreadLocal에 남겨도 재사용되지 않으므로 필요한 크기로 새로 만듭니다.
+     */
+    private static StringBuilder buffer(int expectedLength) {
+        if (Thread.currentThread().isVirtual())
+            return new StringBuilder(Math.max(expectedLength, 16));
+        StringBuilder sb = BUFFERS.get();
+        if (sb.capacity() > MAX_RETAINED_BUFFER) {
+            sb = new StringBuilder(INITIAL_BUFFER);
+            BUFFERS.set(sb);
+        }
+        sb.setLength(0);
+        return sb;
+    }
+
     // 안전한 객체 문자열 변환
-    private static String safeToString(Object arg) {
+    private static void appendSafely(StringBuilder sb, Object arg) {
         // null 인자는 그대로 문자열 "null" 로 처리
-        if (arg == null)
-            return "null";
+        if (arg == null) {
+            sb.append("null");
+            return;
+        }
 
-        if (isProblematicType(arg))
-            return arg.getClass().getName();
+        if (CompiledObjectFormatter.isProblematicType(arg)) {
+            sb.append(arg.getClass().getName());
+            return;
+        }
 
+        int mark = sb.length();
         try {
-            return sanitizeObject(arg);
-        } catch (Exception e) {
+            CompiledObjectFormatter.forClass(arg.getClass()).appendTo(sb, arg);
+        } catch (RuntimeException e) {
             // 포매팅 중 예외가 발생하면 클래스 이름만 출력하여 로깅 자체가 실패하지 않도록 보호
-            return arg.getClass().getName();
+            sb.setLength(mark);
+            sb.append(arg.getClass().getName());
         }
     }
 
-    // 객체 정보 안전하게 추출 (StringBuilder 최적화)
-    private static String sanitizeObject(Object obj) throws IllegalAccessException {
-        Class<?> cls = obj.getClass();
-        if (isJdkType(cls))
-            return String.valueOf(obj);
-
-        // TODO: 성능 최적화 - 실제 부하 발생 시 추가 개선
-        // 1. StringBuilder 풀링 사용 고려 (ThreadLocal<StringBuilder>)
-        // 2. Reflection 캐싱으로 Field 접근 최적화
-        // 3. 자주 사용되는 객체 타입에 대한 캐싱
-
-        Field[] fields = cls.getDeclaredFields();
-        // StringBuilder 초기 용량 최적화 (필드당 평균 20자 예상)
-        int estimatedSize = cls.getSimpleName().length() + 2 + (fields.length * 20);
-        StringBuilder sb = new StringBuilder(estimatedSize);
-
-        sb.append(cls.getSimpleName()).append('{');
-
-        for (int i = 0; i < fields.length; i++) {
-            Field field = fields[i];
-            field.setAccessible(true);
-            Object value = field.get(obj);
-            sb.append(field.getName()).append('=');
-
-            if (SENSITIVE_FIELD_NAMES.contains(field.getName().toLowerCase()))
-                sb.append(getSensitiveFieldMask(field.getName()));
-            else if (value == null)
-                sb.append("null");
-            else if (isProblematicType(value))
-                sb.append(value.getClass().getName());
-            else if (isJdkType(value.getClass())) {
-                String strValue = String.valueOf(value);
-                if (strValue.length() > 100)
-                    sb.append(strValue, 0, 97).append("...");
-                else
-                    sb.append(strValue);
-            } else
-                sb.append(value.getClass().getSimpleName());
-
-            if (i < fields.length - 1)
-                sb.append(',');
-        }
-        sb.append('}');
+    // 객체 정보 안전하게 추출 (클래스별 컴파일된 포매터 사용)
+    static String sanitizeObject(Object obj) {
+        CompiledObjectFormatter formatter = CompiledObjectFormatter.forClass(obj.getClass());
+        StringBuilder sb = buffer(formatter.estimatedLength());
+        formatter.appendTo(sb, obj);
         return sb.toString();
     }
 
-    // 민감정보 마스킹 (강화된 보안)
-    private static String getSensitiveFieldMask(String fieldName) {
-        String lowerName = fieldName.toLowerCase();
-        if (lowerName.contains("password") || lowerName.contains("pwd"))
-            return MessageUtils.get("mask.password");
-        else if (lowerName.contains("token"))
-            return MessageUtils.get("mask.token");
-        else if (lowerName.contains("secret"))
-            return MessageUtils.get("mask.secret");
-        else if (lowerName.contains("credential"))
-            return MessageUtils.get("mask.credential");
-        else if (lowerName.contains("key"))
-            return MessageUtils.get("mask.key");
-        else
-            return MessageUtils.get("mask.sensitive");
-    }
-
 }
@@ -0,0 +1,50 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config.log;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.slf4j.event.Level;
+
+/**
+ * 메서드 실행 로깅 대상 지정
+ * <p>
+ * 붙은 메서드(클래스에 붙이면 그 클래스의 public 메서드)만 {@link LoggingAspect}가 감쌉니다.
+ * 붙지 않은 메서드는 로깅 어드바이스를 거치지 않습니다. 메서드에 붙은 설정이 클래스에 붙은 설정보다 우선합니다.
+ * <pre>{@code
+ * @Loggable(event = "log.board.created")
+ * public BoardResult create(CreateBoardCommand cmd) { ... }
+ * }</pre>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Loggable {
+
+    /**
+     * 시작/완료 로그 레벨 (이 레벨이 꺼져 있으면 인자 포매팅도 하지 않음)
+     */
+    Level level() default Level.DEBUG;
+
+    /**
+     * 시작 로그에 인자 출력 여부
+     */
+    boolean logArgs() default true;
+
+    /**
+     * 이 시간(ms) 이상 걸리면 WARN으로 성능 경고 (음수면 boardhole.logging.performance.normal-threshold 사용)
+     */
+    long slowThresholdMs() default -1;
+
+    /**
+     * 완료 로그 최소 실행 시간(ms) (이보다 빨리 끝나면 완료 로그 생략)
+     */
+    long minDurationMs() default 0;
+
+    /**
+     * 성공 시 INFO로 남길 업무 이벤트 메시지 키 (예: {@code log.board.created}, 비우면 남기지 않음)
+     */
+    String event() default "";
+}
@@ -1,5 +1,10 @@
 package dev.xiyo.bunnyholes.boardhole.shared.config.log;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -7,13 +12,30 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.event.Level;
+import org.springframework.aop.support.AopUtils;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
-
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.user.application.result.UserResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link Loggable} 메서드 실행 로깅 및 측정
+ * <p>
+ * 어노테이션이 붙은 메서드만 감싸므로, 붙지 않은 조회 등 빈번한 경로에는 로깅 어드바이스가 적용되지 않습니다.
+ * 시작/완료는 지정한 레벨로, 실패는 ERROR로, 임계값 초과는 WARN으로, 업무 이벤트는 성공 시 INFO로 남깁니다.
+ * <p>
+ * 실행 시간은 로그 레벨과 관계없이 {@code boardhole.method} 타이머(layer, class, method, outcome, exception 태그)로 기록합니다.
+ * 엔드포인트별 지연은 {@code http.server.requests}, 저장소 호출은 {@code spring.data.repository.invocations}가 담당합니다.
+ */
 @Slf4j
 @Aspect
 @Component
@@ -22,101 +44,94 @@ import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
 @RequiredArgsConstructor
 public class LoggingAspect {
 
+    static final String METHOD_TIMER = "boardhole.method";
+    private static final I18nLogger i18n = I18nLogger.of(log);
+
     private final LogFormatter logFormatter;
+    private final MeterRegistry meterRegistry;
+
+    /** 메서드별 적용 설정과 성공 타이머 (메서드 어노테이션 우선, 없으면 클래스 어노테이션) */
+    private final Map<Method, Settings> settings = new ConcurrentHashMap<>();
 
-    private static String extractLayer(String signature) {
-        if (signature.contains("Controller"))
+    private static String extractLayer(String typeName) {
+        if (typeName.contains("Controller"))
             return "controller";
-        if (signature.contains("Service"))
+        if (typeName.contains("Service"))
             return "service";
-        if (signature.contains("Repository"))
+        if (typeName.contains("Repository"))
             return "repository";
         return "unknown";
     }
 
-    /**
-     * Controller 레이어 메소드 포인트컷
-     * 모든 Controller 클래스의 public 메소드를 대상으로 합니다.
-     */
-    @Pointcut("execution(public * dev.xiyo.bunnyholes.boardhole..*Controller.*(..))")
-    void anyController() {
-        // AOP 포인트컷 정의용 빈 메소드
+    private static Object[] extractEventArgs(@Nullable Object result) {
+        if (result instanceof UserResult user)
+            return new Object[]{user.username(), user.email()};
+        if (result instanceof BoardResult board)
+            return new Object[]{board.id(), board.title(), board.authorName()};
+        return new Object[0];
     }
 
     /**
-     * Service 레이어 메소드 포인트컷
-     * 모든 Service 클래스의 public 메소드를 대상으로 합니다.
+     * {@link Loggable}이 붙은 메서드 또는 클래스의 public 메서드
      */
-    @Pointcut("execution(public * dev.xiyo.bunnyholes.boardhole..*Service.*(..))")
-    void anyService() {
+    @Pointcut("@annotation(dev.xiyo.bunnyholes.boardhole.shared.config.log.Loggable) "
+            + "|| (@within(dev.xiyo.bunnyholes.boardhole.shared.config.log.Loggable) && execution(public * *(..)))")
+    void loggable() {
         // AOP 포인트컷 정의용 빈 메소드
     }
 
-    /**
-     * Repository 레이어 메소드 포인트컷
-     * 모든 Repository 클래스의 public 메소드를 대상으로 합니다.
-     */
-    @Pointcut("execution(public * dev.xiyo.bunnyholes.boardhole..*Repository.*(..))")
-    void anyRepository() {
-        // AOP 포인트컷 정의용 빈 메소드
-    }
-
-    @Around("anyController() || anyService() || anyRepository()")
+    @Around("loggable()")
     public Object logAround(ProceedingJoinPoint pjp) throws Throwable {
-        String signature = pjp.getSignature().toShortString();
-        String layer = extractLayer(signature);
-
-        // TODO: 성능 최적화 - 실제 부하 발생 시 추가 최적화
-        // 1. 특정 메서드만 로깅하도록 @Loggable 어노테이션 기반으로 변경
-        // 2. 비동기 로깅으로 전환 (Logback AsyncAppender 사용)
-        // 3. 로그 레벨별 필터링 강화
+        MethodSignature methodSignature = (MethodSignature) pjp.getSignature();
+        Settings methodSettings = settingsFor(methodSignature.getMethod(), pjp.getTarget());
+        Loggable loggable = methodSettings.loggable();
+        String signature = methodSignature.toShortString();
+        boolean levelEnabled = log.isEnabledForLevel(loggable.level());
 
-        // 성능 임계값 기반 선택적 로깅
-        // Repository 레이어는 기본적으로 로깅 최소화 (DB 호출이 많아 오버헤드 큼)
-        boolean shouldLog = !"repository".equals(layer) || log.isTraceEnabled();
-
-        // 로깅 없이 바로 실행 (Repository 레이어 성능 최적화)
-        if (!shouldLog)
-            return pjp.proceed();
-
-        MDCUtil.setLayer(layer);
+        MDCUtil.setLayer(methodSettings.layer());
         MDCUtil.setUserId();
 
         long start = System.nanoTime();
 
-        // 메서드 시작 로깅은 DEBUG 레벨에서만 (로깅 포맷 실패 시 비즈니스에 영향 없도록 보호)
-        if (log.isDebugEnabled())
+        // 시작 로깅 (로깅 포맷 실패 시 비즈니스에 영향 없도록 보호)
+        if (levelEnabled)
             try {
-                log.debug(LogFormatter.formatMethodStart(signature, pjp.getArgs()));
+                String args = loggable.logArgs() ? LogFormatter.formatArguments(pjp.getArgs()) : "";
+                log.atLevel(loggable.level()).log(LogFormatter.formatMethodStart(signature, args));
             } catch (Throwable formatEx) {
-                log.warn(MessageUtils.get("log.method.format.failed", signature, formatEx.toString()));
+                i18n.warn("log.method.format.failed", signature, formatEx.toString());
             }
 
         try {
             Object result = pjp.proceed();
-            long tookMs = (System.nanoTime() - start) / 1_000_000;
+            long tookNanos = System.nanoTime() - start;
+            methodSettings.success().record(tookNanos, TimeUnit.NANOSECONDS);
+            long tookMs = tookNanos / 1_000_000;
 
-            // 성능 경고는 임계값 초과 시에만 (불필요한 로깅 감소)
-            if (logFormatter.shouldWarnPerformance(tookMs))
-                log.warn(MessageUtils.get("log.performance.warning", signature, tookMs));
+            if (isSlow(loggable, tookMs))
+                i18n.warn("log.performance.warning", signature, tookMs);
 
-            // 메서드 종료 로깅은 DEBUG 레벨에서만 (로깅 포맷 오류가 있어도 비즈니스 흐름에 영향 주지 않도록 보호)
-            // 10ms 이상인 경우만 로깅
-            if (log.isDebugEnabled() && tookMs > 10)
+            if (levelEnabled && tookMs >= loggable.minDurationMs())
                 try {
-                    log.debug(logFormatter.formatMethodEnd(signature, tookMs));
+                    log.atLevel(loggable.level()).log(logFormatter.formatMethodEnd(signature, tookMs));
                 } catch (Throwable formatEx) {
-                    log.warn(MessageUtils.get("log.method.format.failed", signature, formatEx.toString()));
+                    i18n.warn("log.method.format.failed", signature, formatEx.toString());
                 }
+
+            if (!loggable.event().isEmpty())
+                i18n.log(Level.INFO, loggable.event(), extractEventArgs(result));
             return result;
         } catch (Throwable ex) {
-            long tookMs = (System.nanoTime() - start) / 1_000_000;
+            long tookNanos = System.nanoTime() - start;
+            timer(meterRegistry, methodSettings.layer(), methodSettings.className(), methodSettings.methodName(), "error",
+                    ex.getClass().getSimpleName()).record(tookNanos, TimeUnit.NANOSECONDS);
+            long tookMs = tookNanos / 1_000_000;
 
             // 에러 로깅 중 포맷 실패가 비즈니스 예외를 가리지 않도록 보호
             try {
                 log.error(LogFormatter.formatMethodError(signature, tookMs, ex.getMessage()));
             } catch (Throwable formatEx) {
-                log.error(MessageUtils.get("log.method.format.failed.with.error", signature, formatEx, ex.toString()));
+                i18n.error("log.method.format.failed.with.error", signature, formatEx, ex.toString());
             }
             throw ex;
         } finally {
@@ -124,4 +139,45 @@ public class LoggingAspect {
         }
     }
 
+    private boolean isSlow(Loggable loggable, long tookMs) {
+        return loggable.slowThresholdMs() < 0 ? logFormatter.shouldWarnPerformance(tookMs) : tookMs >= loggable.slowThresholdMs();
+    }
+
+    private Settings settingsFor(Method method, @Nullable Object target) {
+        Settings cached = settings.get(method);
+        if (cached != null)
+            return cached;
+        Class<?> targetClass = target == null ? method.getDeclaringClass() : AopUtils.getTargetClass(target);
+        Method specific = AopUtils.getMostSpecificMethod(method, targetClass);
+        Loggable resolved = AnnotatedElementUtils.findMergedAnnotation(specific, Loggable.class);
+        if (resolved == null)
+            resolved = AnnotatedElementUtils.findMergedAnnotation(targetClass, Loggable.class);
+        if (resolved == null)
+            throw new IllegalStateException("No @Loggable on " + specific);
+        String className = targetClass.getSimpleName();
+        String layer = extractLayer(className);
+        Settings created = new Settings(resolved, layer, className, method.getName(),
+                timer(meterRegistry, layer, className, method.getName(), "success", "none"));
+        Settings existing = settings.putIfAbsent(method, created);
+        return existing != null ? existing : created;
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String layer, String className, String methodName, String outcome, String exception) {
+        return Timer.builder(METHOD_TIMER)
+                    .description("@Loggable method execution time")
+                    .tag("layer", layer)
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .register(meterRegistry);
+    }
+
+    /**
+     * 메서드별 로깅 설정과 측정 태그
+     *
+     * @param success 성공 타이머 (호출마다 레지스트리를 조회하지 않도록 보관)
+     */
+    private record Settings(Loggable loggable, String layer, String className, String methodName, Timer success) {
+    }
 }
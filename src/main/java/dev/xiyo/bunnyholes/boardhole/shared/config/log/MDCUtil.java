@@ -1,5 +1,6 @@
 package dev.xiyo.bunnyholes.boardhole.shared.config.log;
 
+import java.util.Map;
 import java.util.Optional;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -41,6 +42,14 @@ class MDCUtil {
         MDC.remove("operation");
     }
 
+    /**
+     * 현재 스레드 MDC의 복사본 (비어 있으면 빈 맵)
+     */
+    Map<String, String> copy() {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return context == null ? Map.of() : context;
+    }
+
     void setTraceId(String traceId) {
         MDC.put(LogConstants.TRACE_ID_KEY, traceId);
     }
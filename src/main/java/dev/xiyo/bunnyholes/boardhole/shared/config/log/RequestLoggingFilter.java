@@ -8,26 +8,35 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
-
 @Slf4j
 @Component
 @ConditionalOnProperty(name = "boardhole.logging.enabled", havingValue = "true", matchIfMissing = true)
 @Order(Ordered.HIGHEST_PRECEDENCE)
-@RequiredArgsConstructor
 public class RequestLoggingFilter extends OncePerRequestFilter {
 
     public static final String TRACE_ID = LogConstants.TRACE_ID_KEY;
+    private static final I18nLogger i18n = I18nLogger.of(log);
     private final LogFormatter logFormatter;
+    private final @Nullable AccessLog accessLog;
+
+    /**
+     * @param logFormatter 요청 시작/완료 로그 포매터
+     * @param accessLog    구조화 접근 로그 (켜져 있으면 요청당 JSON 한 줄만 남기고 시작/완료 로그는 생략)
+     */
+    public RequestLoggingFilter(LogFormatter logFormatter, ObjectProvider<AccessLog> accessLog) {
+        this.logFormatter = logFormatter;
+        this.accessLog = accessLog.getIfAvailable();
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -38,24 +47,43 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
         MDCUtil.setClientIp(request.getRemoteAddr());
         response.setHeader("X-Request-Id", traceId);
 
+        long startedAt = System.currentTimeMillis();
         long start = System.nanoTime();
         try {
-            try {
-                log.info(LogFormatter.formatRequestStart(request.getMethod(), request.getRequestURI(), request.getRemoteAddr()));
-            } catch (Throwable formatEx) {
-                log.warn(MessageUtils.get("log.request.format.failed.start", request.getMethod(), request.getRequestURI(), formatEx.toString()));
-            }
+            if (accessLog == null)
+                logRequestStart(request);
             filterChain.doFilter(request, response);
         } finally {
             long tookMs = (System.nanoTime() - start) / 1_000_000;
-            try {
-                log.info(logFormatter.formatRequestEnd(request.getMethod(), request.getRequestURI(), response.getStatus(), tookMs));
-            } catch (Throwable formatEx) {
-                log.warn(MessageUtils.get("log.request.format.failed.end", request.getMethod(), request.getRequestURI(), response.getStatus(),
-                        formatEx.toString()));
-            }
+            if (accessLog != null)
+                accessLog.record(new AccessLogEvent(startedAt, traceId, request.getMethod(), request.getRequestURI(), response.getStatus(), tookMs,
+                        request.getRemoteAddr(), AccessLog.truncateUserAgent(request.getHeader("User-Agent")), Thread.currentThread().getName(),
+                        MDCUtil.copy()));
+            else
+                logRequestEnd(request, response, tookMs);
             MDCUtil.clearRequest();
         }
     }
 
+    private static void logRequestStart(HttpServletRequest request) {
+        if (!log.isInfoEnabled())
+            return;
+        try {
+            log.info(LogFormatter.formatRequestStart(request.getMethod(), request.getRequestURI(), request.getRemoteAddr()));
+        } catch (Throwable formatEx) {
+            i18n.warn("log.request.format.failed.start", request.getMethod(), request.getRequestURI(), formatEx.toString());
+        }
+    }
+
+    private void logRequestEnd(HttpServletRequest request, HttpServletResponse response, long tookMs) {
+        if (!log.isInfoEnabled())
+            return;
+        try {
+            log.info(logFormatter.formatRequestEnd(request.getMethod(), request.getRequestURI(), response.getStatus(), tookMs));
+        } catch (Throwable formatEx) {
+            i18n.warn("log.request.format.failed.end", request.getMethod(), request.getRequestURI(), response.getStatus(),
+                    formatEx.toString());
+        }
+    }
+
 }
@@ -15,7 +15,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
 
 @Slf4j
 @Aspect
@@ -26,6 +25,8 @@ import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
 @RequiredArgsConstructor
 public class SecurityLoggingAspect {
 
+    private static final I18nLogger i18n = I18nLogger.of(log);
+
     /**
      * 인증 관련 메소드 포인트컷
      * Auth 패키지의 모든 메소드를 대상으로 합니다.
@@ -59,7 +60,7 @@ public class SecurityLoggingAspect {
         String method = joinPoint.getSignature().toShortString();
         String username = getCurrentUsername();
 
-        log.info(MessageUtils.get("log.security.auth.attempt", method, username));
+        i18n.info("log.security.auth.attempt", method, username);
     }
 
     @AfterReturning("authMethods()")
@@ -67,7 +68,7 @@ public class SecurityLoggingAspect {
         String method = joinPoint.getSignature().toShortString();
         String username = getCurrentUsername();
 
-        log.info(MessageUtils.get("log.security.auth.success", method, username));
+        i18n.info("log.security.auth.success", method, username);
     }
 
     @AfterThrowing(value = "authMethods() || securityMethods()", throwing = "ex")
@@ -76,7 +77,7 @@ public class SecurityLoggingAspect {
         String username = getCurrentUsername();
         String clientIp = MDCUtil.getClientIp();
 
-        log.warn(MessageUtils.get("log.security.auth.failure", method, username, ex.getMessage(), clientIp));
+        i18n.warn("log.security.auth.failure", method, username, ex.getMessage(), clientIp);
     }
 
     @Before("authorizedMethods()")
@@ -84,8 +85,7 @@ public class SecurityLoggingAspect {
         String method = joinPoint.getSignature().toShortString();
         String username = getCurrentUsername();
 
-        if (log.isDebugEnabled())
-            log.debug(MessageUtils.get("log.security.authorized.access", method, username));
+        i18n.debug("log.security.authorized.access", method, username);
     }
 
     private static String getCurrentUsername() {
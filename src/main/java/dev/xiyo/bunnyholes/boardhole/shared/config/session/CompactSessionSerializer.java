@@ -0,0 +1,215 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config.session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import dev.xiyo.bunnyholes.boardhole.shared.security.AppUserPrincipal;
+
+/**
+ * Spring Session 속성 직렬화기
+ * <p>
+ * 세션 해시의 모든 값(생성/접근 시각 등 메타데이터 포함)이 이 직렬화기를 거치며, 요청마다 전부 역직렬화됩니다.
+ * 첫 바이트로 형식을 구분해 자주 쓰는 값은 고정 레이아웃으로 씁니다.
+ * <ul>
+ *   <li>{@link AppUserPrincipal} 인증이 담긴 SecurityContext: ID, 사용자명, 역할 비트마스크, 이메일 인증 여부, 발급 시각, 요청 세부정보만 기록</li>
+ *   <li>{@link Long}, {@link Integer}, {@link String}: 값 자체만 기록 (JDK 직렬화는 클래스 설명자 때문에 수십 바이트)</li>
+ *   <li>그 외(CSRF 토큰, 저장된 요청 등): JDK 직렬화, {@code compressionThreshold} 이상이면 gzip으로 줄어들 때만 압축</li>
+ * </ul>
+ * <p>
+ * JDK 직렬화 스트림 헤더({@code 0xACED})로 시작하는 값은 이전 형식으로 보고 JDK 직렬화로 읽습니다. 다만 이전 세션의 SecurityContext에는
+ * 엔티티를 감싸던 이전 {@link AppUserPrincipal}(record, {@code serialVersionUID} 1)이 들어 있어 더 이상 역직렬화되지 않으므로,
+ * 이전 형식 값을 읽지 못하면 그 속성을 없는 값으로 돌려줍니다. 세션 자체는 유지되고 인증만 사라져 사용자는 다시 로그인하게 됩니다.
+ * <p>
+ * 반대로 이전 버전 노드는 새 형식 값도, 바뀐 {@link AppUserPrincipal}의 JDK 직렬화 값도 읽지 못하므로 롤링 배포 중 새 노드에서 로그인한
+ * 세션으로 이전 노드에 요청하면 실패합니다. 모든 노드를 한 번에 교체하거나 교체가 끝날 때까지 세션을 노드에 고정해야 합니다.
+ */
+@Slf4j
+public class CompactSessionSerializer implements RedisSerializer<Object> {
+
+    private static final byte JDK_STREAM_MAGIC = (byte) 0xAC;
+
+    private static final byte SECURITY_CONTEXT = 1;
+    private static final byte LONG = 2;
+    private static final byte INTEGER = 3;
+    private static final byte STRING = 4;
+    private static final byte JDK = 5;
+    private static final byte JDK_GZIP = 6;
+
+    private static final byte NO_DETAILS = 0;
+    private static final byte WEB_DETAILS = 1;
+
+    private final JdkSerializationRedisSerializer jdk;
+    private final int compressionThreshold;
+
+    /**
+     * @param classLoader          JDK 직렬화 값 역직렬화용 클래스 로더
+     * @param compressionThreshold JDK 직렬화 값을 압축할 최소 크기 (바이트)
+     */
+    public CompactSessionSerializer(@Nullable ClassLoader classLoader, int compressionThreshold) {
+        this.jdk = new JdkSerializationRedisSerializer(classLoader);
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(@Nullable Object value) {
+        return switch (value) {
+            case null -> new byte[0];
+            case Long number -> ByteBuffer.allocate(9).put(LONG).putLong(number).array();
+            case Integer number -> ByteBuffer.allocate(5).put(INTEGER).putInt(number).array();
+            case String text -> tagged(STRING, text.getBytes(StandardCharsets.UTF_8));
+            case SecurityContext context when isCompact(context) -> securityContext(context);
+            default -> serializeJdk(value);
+        };
+    }
+
+    @Override
+    public @Nullable Object deserialize(byte @Nullable [] bytes) {
+        if (bytes == null || bytes.length == 0)
+            return null;
+        try {
+            return switch (bytes[0]) {
+                case JDK_STREAM_MAGIC -> deserializeLegacy(bytes);
+                case SECURITY_CONTEXT -> readSecurityContext(bytes);
+                case LONG -> ByteBuffer.wrap(bytes, 1, 8).getLong();
+                case INTEGER -> ByteBuffer.wrap(bytes, 1, 4).getInt();
+                case STRING -> new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+                case JDK -> jdk.deserialize(Arrays.copyOfRange(bytes, 1, bytes.length));
+                case JDK_GZIP -> jdk.deserialize(gunzip(bytes));
+                default -> throw new SerializationException("Unknown session value format: " + bytes[0]);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Cannot deserialize session value", e);
+        }
+    }
+
+    /**
+     * 이전 형식(JDK 직렬화) 값 읽기, 클래스가 바뀌어 읽을 수 없으면 없는 값으로 취급
+     */
+    private @Nullable Object deserializeLegacy(byte[] bytes) {
+        try {
+            return jdk.deserialize(bytes);
+        } catch (SerializationException e) {
+            log.debug("Discarding unreadable legacy session value: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 고정 레이아웃으로 쓸 수 있는 SecurityContext인지 여부 (복원했을 때 같은 값이 되는 경우만)
+     */
+    private static boolean isCompact(SecurityContext context) {
+        if (context.getClass() != SecurityContextImpl.class)
+            return false;
+        Authentication authentication = context.getAuthentication();
+        if (authentication == null || authentication.getClass() != UsernamePasswordAuthenticationToken.class)
+            return false;
+        Object details = authentication.getDetails();
+        return authentication.isAuthenticated()
+               && authentication.getCredentials() == null
+               && authentication.getPrincipal() instanceof AppUserPrincipal principal
+               && authentication.getAuthorities().equals(principal.getAuthorities())
+               && (details == null || details.getClass() == WebAuthenticationDetails.class);
+    }
+
+    private static byte[] securityContext(SecurityContext context) {
+        Authentication authentication = context.getAuthentication();
+        AppUserPrincipal principal = (AppUserPrincipal) authentication.getPrincipal();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(SECURITY_CONTEXT);
+            out.writeLong(principal.id().getMostSignificantBits());
+            out.writeLong(principal.id().getLeastSignificantBits());
+            out.writeUTF(principal.username());
+            out.writeInt(principal.roleMask());
+            out.writeBoolean(principal.emailVerified());
+            out.writeLong(principal.issuedAt());
+            if (authentication.getDetails() instanceof WebAuthenticationDetails details) {
+                out.writeByte(WEB_DETAILS);
+                writeNullable(out, details.getRemoteAddress());
+                writeNullable(out, details.getSessionId());
+            } else {
+                out.writeByte(NO_DETAILS);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Cannot serialize security context", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static SecurityContext readSecurityContext(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            UUID id = new UUID(in.readLong(), in.readLong());
+            AppUserPrincipal principal = new AppUserPrincipal(id, in.readUTF(), in.readInt(), in.readBoolean(), in.readLong());
+            UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(principal, null,
+                    principal.getAuthorities());
+            if (in.readByte() == WEB_DETAILS)
+                authentication.setDetails(new WebAuthenticationDetails(readNullable(in), readNullable(in)));
+            return new SecurityContextImpl(authentication);
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, @Nullable String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null)
+            out.writeUTF(value);
+    }
+
+    private static @Nullable String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private byte[] serializeJdk(Object value) {
+        byte[] serialized = jdk.serialize(value);
+        if (serialized.length >= compressionThreshold) {
+            byte[] compressed = gzip(serialized);
+            if (compressed.length < serialized.length)
+                return tagged(JDK_GZIP, compressed);
+        }
+        return tagged(JDK, serialized);
+    }
+
+    private static byte[] tagged(byte tag, byte[] payload) {
+        byte[] bytes = new byte[payload.length + 1];
+        bytes[0] = tag;
+        System.arraycopy(payload, 0, bytes, 1, payload.length);
+        return bytes;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new SerializationException("Cannot compress session value", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            return in.readAllBytes();
+        }
+    }
+}
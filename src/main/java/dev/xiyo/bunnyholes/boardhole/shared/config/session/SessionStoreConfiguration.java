@@ -0,0 +1,32 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config.session;
+
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import dev.xiyo.bunnyholes.boardhole.shared.properties.SessionStoreProperties;
+
+/**
+ * Spring Session 저장 형식 설정
+ * <p>
+ * Spring Session Redis는 {@code springSessionDefaultRedisSerializer} 이름의 직렬화기가 있으면 세션 속성 저장에 사용합니다.
+ * 끄면 JDK 직렬화로 돌아가며, 압축 형식으로 저장된 세션은 다시 로그인해야 합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "boardhole.session.compact-serializer", havingValue = "true", matchIfMissing = true)
+public class SessionStoreConfiguration implements BeanClassLoaderAware {
+
+    private ClassLoader classLoader = SessionStoreConfiguration.class.getClassLoader();
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Bean
+    public RedisSerializer<Object> springSessionDefaultRedisSerializer(SessionStoreProperties properties) {
+        return new CompactSessionSerializer(classLoader, (int) properties.compressionThreshold().toBytes());
+    }
+}
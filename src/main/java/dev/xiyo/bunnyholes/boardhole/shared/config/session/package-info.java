@@ -0,0 +1,7 @@
+/**
+ * bunny.boardhole.shared.config.session package
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.shared.config.session;
+
+import org.jspecify.annotations.NullMarked;
@@ -15,11 +15,13 @@ public final class ApiPaths {
     public static final String AUTH_USER_ACCESS = "/user-access";
     public static final String AUTH_PUBLIC_ACCESS = "/public-access";
     public static final String USERS_ME = "/me";
+    public static final String CURSOR = "/cursor";
     // 기본 경로
     private static final String API_PREFIX = "/api";
     // 메인 엔드포인트 (RequestMapping용)
     public static final String AUTH = API_PREFIX + "/auth";
     public static final String USERS = API_PREFIX + "/users";
     public static final String BOARDS = API_PREFIX + "/boards";
+    public static final String DASHBOARD = API_PREFIX + "/dashboard";
 
 }
\ No newline at end of file
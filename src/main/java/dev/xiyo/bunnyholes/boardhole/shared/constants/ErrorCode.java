@@ -23,6 +23,7 @@ public enum ErrorCode {
     NOT_FOUND("NOT_FOUND"),
     PAYLOAD_TOO_LARGE("PAYLOAD_TOO_LARGE"),
     SERVICE_UNAVAILABLE("SERVICE_UNAVAILABLE"),
+    TOO_MANY_REQUESTS("TOO_MANY_REQUESTS"),
 
     // User domain errors
     USER_DUPLICATE_USERNAME("USER_DUPLICATE_USERNAME"),
@@ -22,6 +22,7 @@ import org.slf4j.MDC;
 import org.springframework.beans.TypeMismatchException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -43,6 +44,7 @@ import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import dev.xiyo.bunnyholes.boardhole.shared.config.log.RequestLoggingFilter;
 import dev.xiyo.bunnyholes.boardhole.shared.constants.ErrorCode;
+import dev.xiyo.bunnyholes.boardhole.shared.security.PasswordHashingUnavailableException;
 import dev.xiyo.bunnyholes.boardhole.shared.security.ProblemDetailsHelper;
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -370,6 +372,16 @@ public class GlobalExceptionHandler {
         return pd;
     }
 
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handlePasswordHashingUnavailable(PasswordHashingUnavailableException ex, HttpServletRequest request) {
+        log.warn("Password hashing saturated: path={}", request.getRequestURI());
+        ProblemDetail pd = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+        pd.setTitle(MessageUtils.get("exception.title.service-unavailable"));
+        pd.setType(ProblemDetailsHelper.buildType("password-hashing-busy"));
+        ProblemDetailsHelper.addCommonProperties(pd, request, ErrorCode.SERVICE_UNAVAILABLE.getCode());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(pd);
+    }
+
     @ExceptionHandler(Exception.class)
     public ProblemDetail handleUnexpected(Exception ex, HttpServletRequest request) {
         // 500 에러는 반드시 로깅
@@ -0,0 +1,52 @@
+package dev.xiyo.bunnyholes.boardhole.shared.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 전체 건수가 근사값일 수 있는 오프셋 페이지
+ * <p>
+ * {@link ListingCounter}가 추정 모드로 전체 건수를 계산하면 {@link #isTotalApproximate()}가 true이며,
+ * 화면과 API는 "약 N건"으로 표시합니다. JSON 응답에는 {@code totalApproximate} 필드로 노출됩니다.
+ *
+ * @param <T> 항목 타입
+ */
+public class CountedPage<T> extends PageImpl<T> {
+
+    private final boolean totalApproximate;
+
+    public CountedPage(List<T> content, Pageable pageable, long total, boolean totalApproximate) {
+        super(content, pageable, total);
+        this.totalApproximate = totalApproximate;
+    }
+
+    /**
+     * count 쿼리로 정확히 계산된 페이지 감싸기
+     */
+    public static <T> CountedPage<T> exact(Page<T> page) {
+        return new CountedPage<>(page.getContent(), page.getPageable(), page.getTotalElements(), false);
+    }
+
+    /**
+     * 전체 건수가 근사값인지 확인 (일반 {@link Page}는 항상 정확한 값으로 간주)
+     */
+    public static boolean isApproximate(Page<?> page) {
+        return page instanceof CountedPage<?> counted && counted.isTotalApproximate();
+    }
+
+    public boolean isTotalApproximate() {
+        return totalApproximate;
+    }
+
+    /**
+     * 항목 타입 변환 (근사 여부 유지)
+     */
+    @Override
+    public <U> CountedPage<U> map(Function<? super T, ? extends U> converter) {
+        return new CountedPage<>(getConvertedContent(converter), getPageable(), getTotalElements(), totalApproximate);
+    }
+}
@@ -0,0 +1,114 @@
+package dev.xiyo.bunnyholes.boardhole.shared.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+
+import dev.xiyo.bunnyholes.boardhole.shared.exception.ValidationException;
+import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
+
+/**
+ * 키셋(커서) 페이지네이션 위치
+ * <p>
+ * (created_at, id) 조합으로 마지막으로 본 행의 위치를 표현합니다.
+ * 클라이언트에는 Base64 URL-safe 문자열로 인코딩된 불투명 토큰으로만 노출됩니다.
+ *
+ * @param createdAt 기준 행의 생성 시각
+ * @param id        기준 행의 ID (동일 생성 시각 내 정렬 보조 키)
+ * @param direction 기준 행으로부터의 이동 방향
+ */
+public record Cursor(LocalDateTime createdAt, UUID id, Direction direction) {
+
+    private static final String SEPARATOR = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    /**
+     * 다음 페이지(더 오래된 행) 커서 생성
+     */
+    public static Cursor next(LocalDateTime createdAt, UUID id) {
+        return new Cursor(createdAt, id, Direction.NEXT);
+    }
+
+    /**
+     * 기준 시각의 행부터 시작하는 다음 페이지 커서 생성
+     * <p>
+     * 다음 방향 조회는 기준 위치를 제외하므로, 저장 정밀도(마이크로초) 한 단위 뒤의 가장 작은 ID를 기준으로 삼아
+     * 생성 시각이 {@code createdAt} 이하인 모든 행(기준 행 포함)을 조회하게 합니다.
+     * 기준 행보다 최신인 행이 없다고 확인된 경우에만 사용합니다(같은 시각의 더 큰 ID 행도 포함되므로).
+     */
+    public static Cursor nextIncluding(LocalDateTime createdAt) {
+        return next(createdAt.plus(1, ChronoUnit.MICROS), MIN_ID);
+    }
+
+    /**
+     * 이전 페이지(더 최근 행) 커서 생성
+     */
+    public static Cursor prev(LocalDateTime createdAt, UUID id) {
+        return new Cursor(createdAt, id, Direction.PREV);
+    }
+
+    /**
+     * 불투명 커서 토큰 해석
+     *
+     * @param token 클라이언트가 전달한 커서 토큰 (없으면 첫 페이지)
+     * @return 커서, 토큰이 비어있으면 null
+     * @throws ValidationException 토큰 형식이 올바르지 않은 경우
+     */
+    public static @Nullable Cursor decode(@Nullable String token) {
+        if (token == null || token.isBlank())
+            return null;
+        try {
+            String raw = new String(DECODER.decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3)
+                throw new ValidationException(MessageUtils.get("error.invalid-cursor"));
+            return new Cursor(LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]), Direction.fromCode(parts[0]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException(MessageUtils.get("error.invalid-cursor"), e);
+        }
+    }
+
+    /**
+     * 커서를 불투명 토큰으로 인코딩
+     *
+     * @return Base64 URL-safe 토큰
+     */
+    public String encode() {
+        String raw = direction.code + SEPARATOR + createdAt + SEPARATOR + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isNext() {
+        return direction == Direction.NEXT;
+    }
+
+    /**
+     * 커서 이동 방향
+     */
+    public enum Direction {
+        /** 기준 행 이후(더 오래된 행) */
+        NEXT("n"),
+        /** 기준 행 이전(더 최근 행) */
+        PREV("p");
+
+        private final String code;
+
+        Direction(String code) {
+            this.code = code;
+        }
+
+        static Direction fromCode(String code) {
+            for (Direction d : values())
+                if (d.code.equals(code))
+                    return d;
+            throw new IllegalArgumentException("Unknown cursor direction: " + code);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package dev.xiyo.bunnyholes.boardhole.shared.pagination;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Limit;
+
+/**
+ * 키셋(커서) 페이지네이션 결과
+ * <p>
+ * 전체 건수(count) 쿼리 없이 (created_at DESC, id DESC) 순서로 한 페이지를 반환합니다.
+ * 다음/이전 페이지는 {@link #nextCursor()}, {@link #prevCursor()} 토큰으로 이동합니다.
+ *
+ * @param content    페이지 내용 (최신순)
+ * @param nextCursor 다음 페이지 커서 (없으면 null)
+ * @param prevCursor 이전 페이지 커서 (없으면 null)
+ * @param size       요청한 페이지 크기
+ * @param <T>        항목 타입
+ */
+public record CursorPage<T>(List<T> content, @Nullable String nextCursor, @Nullable String prevCursor, int size) {
+
+    public static final int DEFAULT_SIZE = 10;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 요청 페이지 크기를 허용 범위(1 ~ {@link #MAX_SIZE})로 보정
+     */
+    public static int normalizeSize(int size) {
+        return Math.clamp(size, 1, MAX_SIZE);
+    }
+
+    /**
+     * 다음 페이지 존재 여부 확인용으로 한 건 더 조회하기 위한 Limit
+     */
+    public static Limit fetchLimit(int size) {
+        return Limit.of(normalizeSize(size) + 1);
+    }
+
+    /**
+     * 리포지토리에서 size + 1건 조회한 결과로 커서 페이지 구성
+     * <p>
+     * 이전 방향 조회 결과는 오름차순으로 조회되므로 뒤집어서 최신순으로 맞춥니다.
+     * 이전 방향 결과가 비어 있어도(그 사이 최신 행이 삭제된 경우 등) 기준 행과 그 이후는 남아 있을 수 있으므로
+     * 기준 행부터 다시 시작하는 다음 커서를 돌려줍니다({@link Cursor#nextIncluding(LocalDateTime)}).
+     *
+     * @param rows      size + 1건까지 조회된 행
+     * @param size      요청 페이지 크기
+     * @param cursor    요청 커서 (첫 페이지면 null)
+     * @param createdAt 행의 생성 시각 추출 함수
+     * @param id        행의 ID 추출 함수
+     * @param <E>       행 타입
+     * @return 커서 페이지
+     */
+    public static <E> CursorPage<E> of(List<E> rows, int size, @Nullable Cursor cursor, Function<E, LocalDateTime> createdAt, Function<E, UUID> id) {
+        int pageSize = normalizeSize(size);
+        boolean hasMore = rows.size() > pageSize;
+        List<E> content = new ArrayList<>(hasMore ? rows.subList(0, pageSize) : rows);
+        boolean backward = cursor != null && !cursor.isNext();
+        if (backward)
+            Collections.reverse(content);
+
+        if (content.isEmpty()) {
+            String next = backward ? Cursor.nextIncluding(cursor.createdAt()).encode() : null;
+            return new CursorPage<>(List.of(), next, null, pageSize);
+        }
+
+        // 정방향: 더 있으면 next, 커서로 들어왔으면 prev 존재
+        // 역방향: 더 있으면 prev, 기준 행이 뒤에 있으므로 next 존재
+        boolean hasNext = backward || hasMore;
+        boolean hasPrev = backward ? hasMore : cursor != null;
+
+        E first = content.getFirst();
+        E last = content.getLast();
+        String next = hasNext ? Cursor.next(createdAt.apply(last), id.apply(last)).encode() : null;
+        String prev = hasPrev ? Cursor.prev(createdAt.apply(first), id.apply(first)).encode() : null;
+        return new CursorPage<>(List.copyOf(content), next, prev, pageSize);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean hasPrevious() {
+        return prevCursor != null;
+    }
+
+    /**
+     * 항목 타입 변환
+     */
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), nextCursor, prevCursor, size);
+    }
+}
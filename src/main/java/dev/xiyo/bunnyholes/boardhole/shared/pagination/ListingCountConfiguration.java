@@ -0,0 +1,34 @@
+package dev.xiyo.bunnyholes.boardhole.shared.pagination;
+
+import java.time.Clock;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.xiyo.bunnyholes.boardhole.shared.util.DatabaseProducts;
+
+/**
+ * 목록 전체 건수 제공자 설정
+ * <p>
+ * ESTIMATED 모드는 PostgreSQL에서만 플래너 통계를 사용하며, 그 외 DB에서는 CACHED 모드와 같이 동작합니다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ListingCountProperties.class)
+public class ListingCountConfiguration {
+
+    @Bean
+    public ListingCounter listingCounter(ListingCountProperties properties, DataSource dataSource) {
+        boolean estimating = properties.mode() == ListingCountProperties.Mode.ESTIMATED && DatabaseProducts.isPostgres(dataSource);
+        JdbcTemplate estimateTemplate = estimating ? new JdbcTemplate(dataSource) : null;
+        log.info("Listing count mode: {}{}", properties.mode(),
+                properties.mode() == ListingCountProperties.Mode.ESTIMATED && estimateTemplate == null ? " (cached fallback)" : "");
+        return new ListingCounter(properties, estimateTemplate, Clock.systemUTC());
+    }
+}
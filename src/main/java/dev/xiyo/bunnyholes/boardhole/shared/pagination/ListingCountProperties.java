@@ -0,0 +1,42 @@
+package dev.xiyo.bunnyholes.boardhole.shared.pagination;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 목록 전체 건수 계산 설정
+ */
+@ConfigurationProperties(prefix = "boardhole.listing-count")
+public record ListingCountProperties(
+        /**
+         * 전체 건수 계산 방식
+         */
+        @DefaultValue("EXACT") Mode mode,
+
+        /**
+         * CACHED/ESTIMATED 모드에서 건수를 재사용하는 기간
+         */
+        @DefaultValue("30s") Duration ttl,
+
+        /**
+         * INCREMENTAL 모드에서 누적 건수를 count 쿼리로 다시 맞추는 주기 (이벤트 유실 등 오차 보정)
+         */
+        @DefaultValue("10m") Duration resyncInterval
+) {
+
+    /**
+     * 목록 전체 건수 계산 방식
+     */
+    public enum Mode {
+        /** 페이지마다 count 쿼리 실행 */
+        EXACT,
+        /** count 결과를 TTL 동안 재사용 */
+        CACHED,
+        /** 최초 count 이후 생성/삭제 이벤트로 증감 */
+        INCREMENTAL,
+        /** PostgreSQL 플래너 통계(pg_class.reltuples에서 소프트 삭제 비율 제외) 사용, 그 외 DB는 CACHED로 동작 ("약 N건"으로 표시) */
+        ESTIMATED
+    }
+}
@@ -0,0 +1,206 @@
+package dev.xiyo.bunnyholes.boardhole.shared.pagination;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 오프셋 목록의 전체 건수 제공자
+ * <p>
+ * 소프트 삭제 필터가 붙은 count(*)는 페이지 조회보다 비싼 경우가 많아, 설정된 {@link ListingCountProperties.Mode}에 따라
+ * 매번 세거나(EXACT), TTL 동안 재사용하거나(CACHED), 생성/삭제 이벤트로 증감하거나(INCREMENTAL),
+ * PostgreSQL 플래너 통계를 사용합니다(ESTIMATED). 검색 결과처럼 조건이 붙은 목록은 대상이 아니며 항상 정확히 셉니다.
+ * <p>
+ * 목록 키는 테이블 이름과 같으며, ESTIMATED 모드에서 {@code pg_class} 조회에 그대로 사용합니다.
+ * {@code reltuples}는 소프트 삭제된 행도 포함하므로, 같은 ANALYZE가 수집한 {@code pg_stats}의 삭제 컬럼 값 분포
+ * ({@code deleted = true} 비율)만큼 빼서 목록에 보이는 건수에 맞춥니다. 두 값 모두 마지막 ANALYZE 시점 기준입니다.
+ */
+@Slf4j
+public class ListingCounter {
+
+    /**
+     * 소프트 삭제 컬럼 ({@code @SoftDelete(columnName = "deleted")})
+     */
+    private static final String SOFT_DELETE_COLUMN = "deleted";
+
+    // 통계가 없으면(ANALYZE 전) reltuples가 -1이므로 결과도 음수로 남아 정확한 건수로 폴백
+    private static final String RELTUPLES_SQL = """
+            SELECT CAST(c.reltuples * (1 - COALESCE((
+                       SELECT m.freq
+                       FROM pg_stats s, unnest(CAST(CAST(s.most_common_vals AS text) AS boolean[]), s.most_common_freqs) AS m(val, freq)
+                       WHERE s.schemaname = n.nspname AND s.tablename = c.relname AND s.attname = ? AND m.val), 0)) AS bigint)
+            FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+            WHERE c.oid = to_regclass(?)""";
+
+    private final ListingCountProperties properties;
+    private final @Nullable JdbcTemplate estimateTemplate;
+    private final Clock clock;
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * @param properties       건수 계산 설정
+     * @param estimateTemplate PostgreSQL 통계 조회용 JdbcTemplate (PostgreSQL이 아니면 null, ESTIMATED가 CACHED로 동작)
+     * @param clock            TTL 계산용 시계
+     */
+    public ListingCounter(ListingCountProperties properties, @Nullable JdbcTemplate estimateTemplate, Clock clock) {
+        this.properties = properties;
+        this.estimateTemplate = estimateTemplate;
+        this.clock = clock;
+    }
+
+    public ListingCountProperties.Mode mode() {
+        return properties.mode();
+    }
+
+    /**
+     * 목록 한 페이지 조회
+     * <p>
+     * EXACT 모드는 count 쿼리를 포함한 페이지 조회를 그대로 사용하고, 그 외 모드는 내용만 조회한 뒤 전체 건수를 붙입니다.
+     * 마지막 페이지처럼 내용이 페이지 크기보다 적으면 전체 건수를 확정할 수 있으므로 정확한 값을 사용합니다.
+     *
+     * @param listing       목록 키 (테이블 이름)
+     * @param pageable      페이지네이션 정보
+     * @param countingQuery count 쿼리를 포함한 페이지 조회
+     * @param rowsQuery     count 쿼리 없이 내용만 조회
+     * @param exactCount    전체 건수 count 쿼리
+     * @param <T>           항목 타입
+     * @return 전체 건수 근사 여부가 표시된 페이지
+     */
+    public <T> CountedPage<T> page(String listing, Pageable pageable, Function<Pageable, Page<T>> countingQuery,
+                                   Function<Pageable, List<T>> rowsQuery, LongSupplier exactCount) {
+        if (properties.mode() == ListingCountProperties.Mode.EXACT || pageable.isUnpaged())
+            return CountedPage.exact(countingQuery.apply(pageable));
+
+        List<T> rows = rowsQuery.apply(pageable);
+        boolean complete = rows.size() < pageable.getPageSize() && (!rows.isEmpty() || pageable.getOffset() == 0);
+        if (complete)
+            return new CountedPage<>(rows, pageable, pageable.getOffset() + rows.size(), false);
+
+        Total total = total(listing, exactCount);
+        // 근사값이 실제보다 작아도 다음 페이지로 이동할 수 있도록 현재 페이지 이후 한 건 이상을 보장
+        long floor = pageable.getOffset() + rows.size() + (rows.isEmpty() ? 0 : 1);
+        return new CountedPage<>(rows, pageable, Math.max(total.value(), floor), total.approximate());
+    }
+
+    /**
+     * 목록 전체 건수
+     *
+     * @param listing    목록 키 (테이블 이름)
+     * @param exactCount 전체 건수 count 쿼리
+     * @return 전체 건수와 근사 여부
+     */
+    public Total total(String listing, LongSupplier exactCount) {
+        return switch (properties.mode()) {
+            case EXACT -> new Total(exactCount.getAsLong(), false);
+            case CACHED -> new Total(cached(listing, exactCount), false);
+            case INCREMENTAL -> new Total(incremental(listing, exactCount), false);
+            case ESTIMATED -> estimated(listing, exactCount);
+        };
+    }
+
+    /**
+     * 생성/삭제 이벤트로 누적 건수 증감 (INCREMENTAL 모드, 아직 세지 않은 목록은 무시)
+     *
+     * @param listing 목록 키
+     * @param delta   증감량
+     */
+    public void adjust(String listing, long delta) {
+        if (properties.mode() != ListingCountProperties.Mode.INCREMENTAL)
+            return;
+        Counter counter = counters.get(listing);
+        if (counter != null)
+            counter.value().addAndGet(delta);
+    }
+
+    private long cached(String key, LongSupplier loader) {
+        Instant now = clock.instant();
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null && now.isBefore(snapshot.expiresAt()))
+            return snapshot.value();
+        // 만료된 값이 있으면 한 스레드만 갱신하고 나머지는 이전 값을 사용
+        if (snapshot != null && !refreshing.add(key))
+            return snapshot.value();
+        try {
+            long value = loader.getAsLong();
+            snapshots.put(key, new Snapshot(value, now.plus(properties.ttl())));
+            return value;
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+
+    private long incremental(String listing, LongSupplier exactCount) {
+        Instant now = clock.instant();
+        Counter counter = counters.get(listing);
+        if (counter == null) {
+            // computeIfAbsent 안에서 count 쿼리를 실행하면 맵 버킷 모니터를 잡은 채 블로킹되므로 밖에서 세고 경합 시 먼저 넣은 값을 사용
+            Counter seeded = new Counter(new AtomicLong(exactCount.getAsLong()), now);
+            Counter existing = counters.putIfAbsent(listing, seeded);
+            counter = existing != null ? existing : seeded;
+        }
+        if (now.isAfter(counter.seededAt().plus(properties.resyncInterval())) && refreshing.add(listing)) {
+            try {
+                long actual = exactCount.getAsLong();
+                long drift = actual - counter.value().getAndSet(actual);
+                counters.put(listing, new Counter(counter.value(), now));
+                if (drift != 0)
+                    log.debug("Listing count for {} resynced (drift {})", listing, drift);
+            } finally {
+                refreshing.remove(listing);
+            }
+        }
+        return Math.max(0, counter.value().get());
+    }
+
+    private Total estimated(String listing, LongSupplier exactCount) {
+        JdbcTemplate template = estimateTemplate;
+        if (template == null)
+            return new Total(cached(listing, exactCount), false);
+        long estimate = cached("estimate:" + listing, () -> reltuples(template, listing));
+        // 한 번도 ANALYZE되지 않은 테이블은 -1을 반환하므로 정확한 건수를 캐시해 사용
+        if (estimate < 0)
+            return new Total(cached(listing, exactCount), false);
+        return new Total(estimate, true);
+    }
+
+    private static long reltuples(JdbcTemplate template, String table) {
+        try {
+            Long value = template.queryForObject(RELTUPLES_SQL, Long.class, SOFT_DELETE_COLUMN, table);
+            return value == null ? -1 : value;
+        } catch (DataAccessException e) {
+            log.warn("Could not read planner estimate for {}: {}", table, e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * 전체 건수
+     *
+     * @param value       건수
+     * @param approximate 플래너 통계 등 근사값 여부
+     */
+    public record Total(long value, boolean approximate) {
+    }
+
+    private record Snapshot(long value, Instant expiresAt) {
+    }
+
+    private record Counter(AtomicLong value, Instant seededAt) {
+    }
+}
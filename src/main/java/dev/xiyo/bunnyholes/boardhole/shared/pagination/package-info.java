@@ -0,0 +1,7 @@
+/**
+ * bunny.boardhole.shared.pagination package
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.shared.pagination;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,17 @@
+package dev.xiyo.bunnyholes.boardhole.shared.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * actuator 접근 설정
+ *
+ * @param scrapeUsername 지표 수집기(Prometheus)가 {@code /actuator/prometheus}에 HTTP Basic으로 접근할 사용자명
+ * @param scrapePassword 지표 수집기 비밀번호 (비어 있으면 수집기 계정 없이 ADMIN 세션으로만 접근)
+ */
+@ConfigurationProperties(prefix = "boardhole.actuator")
+public record ActuatorSecurityProperties(
+        @DefaultValue("prometheus") String scrapeUsername,
+        @DefaultValue("") String scrapePassword
+) {
+}
@@ -0,0 +1,73 @@
+package dev.xiyo.bunnyholes.boardhole.shared.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 읽기 모델 캐시 설정
+ */
+@ConfigurationProperties(prefix = "boardhole.cache")
+public record CacheProperties(
+        /**
+         * 게시글 상세 노드 로컬 캐시
+         */
+        @DefaultValue Local board,
+
+        /**
+         * 사용자 상세 노드 로컬 캐시
+         */
+        @DefaultValue Local user,
+
+        /**
+         * 게시글 작성자(소유권) 노드 로컬 캐시
+         */
+        @DefaultValue Local ownership,
+
+        /**
+         * Redis 공유(L2) 캐시 및 노드 간 무효화
+         */
+        @DefaultValue Redis redis
+) {
+
+    /**
+     * 노드 로컬 캐시 설정
+     *
+     * @param enabled          캐시 사용 여부
+     * @param maxWeight        최대 가중치 (항목의 대략적인 메모리 크기 합)
+     * @param expireAfterWrite 저장 후 만료 시간 (조회수 등 자주 바뀌는 값의 최대 지연)
+     */
+    public record Local(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("32MB") DataSize maxWeight,
+            @DefaultValue("60s") Duration expireAfterWrite
+    ) {
+
+        /**
+         * 실제 적용할 최대 가중치 (비활성화 시 0)
+         */
+        public long effectiveMaxWeight() {
+            return enabled ? maxWeight.toBytes() : 0;
+        }
+    }
+
+    /**
+     * Redis 공유 캐시 설정
+     * <p>
+     * Redis 연결이 없는 환경(예: test 프로필)에서는 설정과 무관하게 노드 로컬 캐시만 사용합니다.
+     *
+     * @param enabled          Redis 공유 캐시 및 pub/sub 무효화 사용 여부
+     * @param expireAfterWrite 공유 캐시 항목 TTL (무효화 메시지 유실 시 최대 지연)
+     * @param keyPrefix        캐시 키 접두사
+     * @param channel          무효화 메시지 채널
+     */
+    public record Redis(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("5m") Duration expireAfterWrite,
+            @DefaultValue("boardhole:cache:") String keyPrefix,
+            @DefaultValue("boardhole:cache:invalidation") String channel
+    ) {
+    }
+}
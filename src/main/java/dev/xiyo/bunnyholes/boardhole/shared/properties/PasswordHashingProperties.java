@@ -0,0 +1,29 @@
+package dev.xiyo.bunnyholes.boardhole.shared.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 비밀번호 해싱 실행 설정
+ * <p>
+ * 해싱은 요청 스레드가 아닌 전용 고정 풀에서 실행하고, 대기열이 가득 차면 즉시 503으로 거절합니다.
+ *
+ * @param threads        해싱 스레드 수 (0이면 CPU 코어 수)
+ * @param queueCapacity  대기열 크기 (가득 차면 거절)
+ * @param maxWait        요청 스레드가 해싱 결과를 기다리는 최대 시간 (넘으면 거절)
+ * @param bcryptStrength 새로 인코딩할 때의 BCrypt 비용 (낮은 비용으로 저장된 해시는 로그인 시 재해싱)
+ */
+@ConfigurationProperties(prefix = "boardhole.password-hashing")
+public record PasswordHashingProperties(
+        @DefaultValue("0") int threads,
+        @DefaultValue("32") int queueCapacity,
+        @DefaultValue("3s") Duration maxWait,
+        @DefaultValue("10") int bcryptStrength
+) {
+
+    public int effectiveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
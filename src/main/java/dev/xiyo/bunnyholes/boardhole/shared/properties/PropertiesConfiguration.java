@@ -11,7 +11,12 @@ import org.springframework.context.annotation.Configuration;
 @EnableConfigurationProperties({
         CorsProperties.class,
         ApiProperties.class,
-        DefaultUsersProperties.class
+        DefaultUsersProperties.class,
+        CacheProperties.class,
+        ThreadingProperties.class,
+        PasswordHashingProperties.class,
+        SessionStoreProperties.class,
+        ActuatorSecurityProperties.class
 })
 public class PropertiesConfiguration {
 }
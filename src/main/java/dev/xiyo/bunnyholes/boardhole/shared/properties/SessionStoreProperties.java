@@ -0,0 +1,22 @@
+package dev.xiyo.bunnyholes.boardhole.shared.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 세션 저장 설정
+ *
+ * @param compactSerializer    Spring Session 속성을 압축 형식으로 저장할지 여부 (끄면 JDK 직렬화, 압축 형식으로 저장된 값은 읽지 못함)
+ * @param compressionThreshold JDK 직렬화로 저장하는 속성을 gzip으로 압축할 최소 크기
+ * @param principalMaxAge      세션의 사용자 스냅샷을 DB에서 다시 만드는 주기 (다른 노드의 변경 알림을 받지 못해도 이 시간 안에 반영)
+ */
+@ConfigurationProperties(prefix = "boardhole.session")
+public record SessionStoreProperties(
+        @DefaultValue("true") boolean compactSerializer,
+        @DefaultValue("1KB") DataSize compressionThreshold,
+        @DefaultValue("15m") Duration principalMaxAge
+) {
+}
@@ -0,0 +1,34 @@
+package dev.xiyo.bunnyholes.boardhole.shared.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 스레드 실행 모드 진단 설정
+ * <p>
+ * 가상 스레드 사용 여부 자체는 Spring Boot의 {@code spring.threads.virtual.enabled}로 설정합니다.
+ */
+@ConfigurationProperties(prefix = "boardhole.threads")
+public record ThreadingProperties(
+        /**
+         * 가상 스레드 캐리어 고정(pinning) 감지
+         */
+        @DefaultValue Pinning pinning
+) {
+
+    /**
+     * 가상 스레드 캐리어 고정 감지 설정 (JFR {@code jdk.VirtualThreadPinned})
+     *
+     * @param enabled    가상 스레드 모드에서 감지 사용 여부
+     * @param threshold  이 시간 이상 고정된 경우만 기록
+     * @param stackDepth 로그에 남길 스택 프레임 수
+     */
+    public record Pinning(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("20ms") Duration threshold,
+            @DefaultValue("12") int stackDepth
+    ) {
+    }
+}
@@ -12,15 +12,14 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
-import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardOwnershipCache;
 import dev.xiyo.bunnyholes.boardhole.shared.constants.PermissionType;
-import dev.xiyo.bunnyholes.boardhole.user.domain.User;
 
 @Component
 @RequiredArgsConstructor
 public class AppPermissionEvaluator implements PermissionEvaluator {
 
-    private final BoardRepository boardRepository;
+    private final BoardOwnershipCache boardOwnershipCache;
 
     private static boolean hasRole(Authentication auth, String role) {
         if (!auth.isAuthenticated())
@@ -35,15 +34,15 @@ public class AppPermissionEvaluator implements PermissionEvaluator {
 
     private static @Nullable UUID extractUserId(Authentication auth) {
         Object principal = auth.getPrincipal();
-        if (principal instanceof AppUserPrincipal(User user))
-            return user.getId();
+        if (principal instanceof AppUserPrincipal appUser)
+            return appUser.id();
         return null;
     }
 
     private static boolean isEmailVerified(Authentication auth) {
         Object principal = auth.getPrincipal();
-        if (principal instanceof AppUserPrincipal(User user))
-            return user.isEmailVerified();
+        if (principal instanceof AppUserPrincipal appUser)
+            return appUser.emailVerified();
         return false;
     }
 
@@ -94,14 +93,7 @@ public class AppPermissionEvaluator implements PermissionEvaluator {
     }
 
     private boolean isBoardOwner(Authentication auth, UUID boardId) {
-        // TODO: 성능 최적화 - 실제 부하 발생 시 캐싱 고려
-        // 현재는 매 권한 체크마다 DB 조회가 발생하지만,
-        // 실제 운영 환경에서 부하가 발생하면 다음과 같은 최적화 가능:
-        // 1. @Cacheable 적용으로 권한 체크 결과 캐싱
-        // 2. Spring Security의 MethodSecurityExpressionOperations 캐싱 활용
-
-        // N+1 문제 해결: 작성자 ID만 조회하는 경량 쿼리 사용
-        // 전체 Board 엔티티를 로드하지 않고 필요한 정보만 조회하여 성능 최적화
-        return boardRepository.findAuthorIdById(boardId).map(ownerId -> isSameUser(auth, ownerId)).orElse(false);
+        // 작성자는 바뀌지 않으므로 캐시에서 확인하고, 캐시에 없을 때 적재한 게시글은 같은 요청의 명령이 재사용
+        return boardOwnershipCache.authorOf(boardId).map(ownerId -> isSameUser(auth, ownerId)).orElse(false);
     }
 }
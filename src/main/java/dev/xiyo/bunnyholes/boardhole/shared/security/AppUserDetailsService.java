@@ -1,11 +1,15 @@
 package dev.xiyo.bunnyholes.boardhole.shared.security;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
@@ -15,11 +19,15 @@ import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 /**
  * 사용자 인증 세부 정보 서비스
  * Spring Security UserDetailsService 구현체로 사용자명 기반 인증을 담당합니다.
+ * <p>
+ * {@link UserDetailsPasswordService}도 구현하므로, 로그인에 성공한 사용자의 해시가 현재 인코딩 설정보다 낡았으면
+ * DaoAuthenticationProvider가 방금 검증한 비밀번호로 다시 해싱해 {@link #updatePassword}로 저장합니다.
  */
+@Slf4j
 @Service
 @Validated
 @RequiredArgsConstructor
-public class AppUserDetailsService implements UserDetailsService {
+public class AppUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
 
     @Override
@@ -29,4 +37,20 @@ public class AppUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException(MessageUtils.get("error.user.not-found.username", username)));
         return new AppUserPrincipal(user);
     }
-}
\ No newline at end of file
+
+    /**
+     * 로그인 시 재해싱된 비밀번호 저장
+     * <p>
+     * API 로그인은 읽기 전용 트랜잭션 안에서 인증하므로 별도 트랜잭션으로 저장합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User stored = userRepository
+                .findByUsername(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException(MessageUtils.get("error.user.not-found.username", user.getUsername())));
+        stored.changePassword(newPassword);
+        log.info("Password hash upgraded on login: userId={}", stored.getId());
+        return new AppUserPrincipal(stored);
+    }
+}
@@ -2,10 +2,16 @@ package dev.xiyo.bunnyholes.boardhole.shared.security;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.UUID;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,24 +19,145 @@ import org.springframework.security.core.userdetails.UserDetails;
 import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
 
-public record AppUserPrincipal(User user) implements UserDetails, Serializable {
+/**
+ * 인증된 사용자 스냅샷
+ * <p>
+ * 세션에 저장되는 보안 주체로, JPA 엔티티 대신 요청 처리에 필요한 값(ID, 사용자명, 역할 비트마스크, 이메일 인증 여부)만 불변으로 담습니다.
+ * 권한 목록은 비트마스크별로 미리 만들어 둔 불변 목록을 공유합니다.
+ * <p>
+ * 비밀번호 해시는 로그인 검증 동안에만 필요하므로 {@code transient}로 두고, 인증 직후 {@link #eraseCredentials()}로 지웁니다.
+ * {@code issuedAt}은 스냅샷을 만든 시각이며, {@link PrincipalRefresher}가 사용자 변경 이후 또는 최대 보관 시간이 지난 스냅샷을 다시 만듭니다.
+ * <p>
+ * 같은 사용자의 스냅샷은 ID가 같으면 같은 보안 주체로 취급합니다(동시 세션 제한의 세션 레지스트리 키).
+ */
+public final class AppUserPrincipal implements UserDetails, CredentialsContainer, Serializable {
+
     @Serial
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
+
+    private static final Role[] ROLES = Role.values();
+    private static final List<List<GrantedAuthority>> AUTHORITIES = authoritiesByMask();
+
+    private final UUID id;
+    private final String username;
+    private final int roleMask;
+    private final boolean emailVerified;
+    private final long issuedAt;
+    private transient @Nullable String password;
+
+    /**
+     * 사용자 엔티티로 스냅샷 생성 (로그인 검증용 비밀번호 해시 포함)
+     *
+     * @param user 사용자 엔티티 (역할 컬렉션이 적재되어 있어야 함)
+     */
+    public AppUserPrincipal(User user) {
+        this(user.getId(), user.getUsername(), roleMask(user.getRoles()), user.isEmailVerified(), System.currentTimeMillis());
+        this.password = user.getPassword();
+    }
+
+    /**
+     * 저장된 값으로 스냅샷 복원
+     *
+     * @param id            사용자 ID
+     * @param username      사용자명
+     * @param roleMask      역할 비트마스크 ({@link Role#ordinal()} 위치의 비트)
+     * @param emailVerified 이메일 인증 여부
+     * @param issuedAt      스냅샷 생성 시각 (epoch ms)
+     */
+    public AppUserPrincipal(UUID id, String username, int roleMask, boolean emailVerified, long issuedAt) {
+        this.id = id;
+        this.username = username;
+        this.roleMask = roleMask & (AUTHORITIES.size() - 1);
+        this.emailVerified = emailVerified;
+        this.issuedAt = issuedAt;
+    }
+
+    /**
+     * 역할 집합을 비트마스크로 변환
+     */
+    public static int roleMask(Collection<Role> roles) {
+        int mask = 0;
+        for (Role role : roles)
+            mask |= 1 << role.ordinal();
+        return mask;
+    }
+
+    private static List<List<GrantedAuthority>> authoritiesByMask() {
+        List<List<GrantedAuthority>> byMask = new ArrayList<>(1 << ROLES.length);
+        for (int mask = 0; mask < 1 << ROLES.length; mask++) {
+            List<GrantedAuthority> authorities = new ArrayList<>(ROLES.length);
+            for (Role role : ROLES)
+                if ((mask & 1 << role.ordinal()) != 0)
+                    authorities.add(new SimpleGrantedAuthority("ROLE_" + role.name()));
+            byMask.add(List.copyOf(authorities));
+        }
+        return List.copyOf(byMask);
+    }
+
+    public UUID id() {
+        return id;
+    }
+
+    public String username() {
+        return username;
+    }
+
+    public int roleMask() {
+        return roleMask;
+    }
+
+    public boolean emailVerified() {
+        return emailVerified;
+    }
+
+    public long issuedAt() {
+        return issuedAt;
+    }
+
+    public boolean hasRole(Role role) {
+        return (roleMask & 1 << role.ordinal()) != 0;
+    }
+
+    public Set<Role> roles() {
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        for (Role role : ROLES)
+            if (hasRole(role))
+                roles.add(role);
+        return roles;
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        Set<Role> roles = user.getRoles();
-        return roles.stream().map(r -> new SimpleGrantedAuthority("ROLE_" + r.name())).collect(Collectors.toSet());
+        return AUTHORITIES.get(roleMask);
     }
 
     @Override
-    public String getPassword() {
-        return user.getPassword();
+    public @Nullable String getPassword() {
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return username;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
     }
 
+    @Override
+    public boolean equals(@Nullable Object other) {
+        return other instanceof AppUserPrincipal principal && Objects.equals(id, principal.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+        return "AppUserPrincipal[id=" + id + ", username=" + username + ", roles=" + roles() + "]";
+    }
 }
@@ -0,0 +1,129 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 전용 스레드 풀에서 해싱하는 PasswordEncoder
+ * <p>
+ * BCrypt 같은 느린 해시를 요청 스레드에서 직접 계산하면 로그인이 몰릴 때 모든 요청 스레드가 CPU를 점유해
+ * 익명 게시글 조회까지 밀립니다. 해싱(encode/matches)은 코어 수 크기의 고정 풀에서 실행하고,
+ * 대기열이 가득 차거나 {@code maxWait} 안에 끝나지 않으면 {@link PasswordHashingUnavailableException}으로 즉시 거절합니다.
+ * 재해싱 필요 여부 판단({@link #upgradeEncoding})은 해시를 계산하지 않으므로 호출 스레드에서 처리합니다.
+ * <p>
+ * 지표: {@code password.hashing{operation}} 타이머(대기 포함), {@code password.hashing.rejected},
+ * {@code password.hashing.queue}, {@code password.hashing.active}
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitNanos;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    /**
+     * @param delegate      실제 해싱 인코더
+     * @param threads       해싱 스레드 수
+     * @param queueCapacity 대기열 크기
+     * @param maxWait       결과 대기 최대 시간
+     * @param meterRegistry 지표 레지스트리
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration maxWait, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxWaitNanos = maxWait.toNanos();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = timer(meterRegistry, "encode");
+        this.matchesTimer = timer(meterRegistry, "matches");
+        this.rejected = Counter.builder("password.hashing.rejected")
+                               .description("Password hashing requests rejected because the pool was saturated")
+                               .register(meterRegistry);
+        Gauge.builder("password.hashing.queue", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("password.hashing")
+                    .description("Password hashing time including queue wait")
+                    .tag("operation", operation)
+                    .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        // 호출 스레드의 CharSequence가 바뀌지 않도록 문자열로 고정해 넘김
+        String raw = rawPassword.toString();
+        return run(encodeTimer, () -> delegate.encode(raw));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        String raw = rawPassword.toString();
+        return run(matchesTimer, () -> delegate.matches(raw, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Timer timer, Callable<T> task) {
+        long start = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw reject();
+        }
+        try {
+            return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw reject();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw reject();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime)
+                throw runtime;
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private PasswordHashingUnavailableException reject() {
+        rejected.increment();
+        return new PasswordHashingUnavailableException(MessageUtils.get("error.password-hashing.busy"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,20 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security;
+
+import java.io.Serial;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 해싱 풀이 포화되어 요청을 거절함
+ * <p>
+ * 인증 처리 중 발생하므로 {@link AuthenticationServiceException}을 상속합니다.
+ * 폼 로그인은 실패 페이지로, API는 503으로 응답합니다.
+ */
+public class PasswordHashingUnavailableException extends AuthenticationServiceException {
+    @Serial
+    private static final long serialVersionUID = 3817224850718419630L;
+
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+}
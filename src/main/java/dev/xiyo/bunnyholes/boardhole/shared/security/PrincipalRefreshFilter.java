@@ -0,0 +1,57 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 낡은 세션 사용자 스냅샷 교체 필터
+ * <p>
+ * 보안 필터 체인에서 SecurityContext를 불러온 직후 실행되어, {@link PrincipalRefresher}가 낡았다고 판정한 스냅샷을 DB 값으로 다시 만들고
+ * 세션에 저장합니다. 사용자가 삭제되었으면 인증을 지워 로그아웃 상태로 만듭니다. 대부분의 요청은 맵 조회 한 번으로 끝납니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PrincipalRefreshFilter extends OncePerRequestFilter {
+
+    private final PrincipalRefresher refresher;
+    private final SecurityContextRepository securityContextRepository;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AppUserPrincipal principal && refresher.isStale(principal))
+            refresh(authentication, principal, request, response);
+        filterChain.doFilter(request, response);
+    }
+
+    private void refresh(Authentication current, AppUserPrincipal principal, HttpServletRequest request, HttpServletResponse response) {
+        Optional<AppUserPrincipal> fresh = refresher.reload(principal.id());
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        if (fresh.isPresent()) {
+            UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(fresh.get(), null,
+                    fresh.get().getAuthorities());
+            authentication.setDetails(current.getDetails());
+            context.setAuthentication(authentication);
+        } else {
+            log.info("Session user no longer exists, clearing authentication: userId={}", principal.id());
+        }
+        SecurityContextHolder.setContext(context);
+        securityContextRepository.saveContext(context, request, response);
+    }
+}
@@ -0,0 +1,81 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.xiyo.bunnyholes.boardhole.shared.cache.ReadModelCaches;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
+
+/**
+ * 세션 사용자 스냅샷 갱신 판정 및 재생성
+ * <p>
+ * 세션에는 로그인 시점의 {@link AppUserPrincipal}이 저장되므로, 역할이나 이메일 인증 여부가 바뀌면 스냅샷을 다시 만들어야 합니다.
+ * 사용자 변경 알림({@link #markChanged})을 받은 시각 이전에 만든 스냅샷과 {@code maxAge}보다 오래된 스냅샷을 낡은 것으로 봅니다.
+ * 변경 알림은 공유 캐시 무효화 채널로 다른 노드에도 전달되며, 알림이 유실되거나 DB를 직접 고친 경우에도 {@code maxAge} 안에 반영됩니다.
+ * <p>
+ * 변경 시각은 {@code maxAge}가 지나면 의미가 없으므로(그 전 스냅샷은 모두 나이로 갱신됨) 기록할 때 함께 정리합니다.
+ */
+@Slf4j
+public class PrincipalRefresher {
+
+    static final String INVALIDATION_NAME = "security.principal";
+
+    private final UserRepository userRepository;
+    private final ReadModelCaches caches;
+    private final Clock clock;
+    private final long maxAgeMillis;
+    private final Map<UUID, Long> changedAt = new ConcurrentHashMap<>();
+
+    public PrincipalRefresher(UserRepository userRepository, ReadModelCaches caches, Duration maxAge, Clock clock) {
+        this.userRepository = userRepository;
+        this.caches = caches;
+        this.clock = clock;
+        this.maxAgeMillis = maxAge.toMillis();
+        caches.listen(INVALIDATION_NAME, this::markChangedLocally);
+    }
+
+    /**
+     * 스냅샷을 다시 만들어야 하는지 여부
+     */
+    public boolean isStale(AppUserPrincipal principal) {
+        if (clock.millis() - principal.issuedAt() > maxAgeMillis)
+            return true;
+        Long changed = changedAt.get(principal.id());
+        return changed != null && changed >= principal.issuedAt();
+    }
+
+    /**
+     * DB에서 스냅샷 재생성
+     *
+     * @param userId 사용자 ID
+     * @return 새 스냅샷 (사용자가 삭제되었으면 빈 값)
+     */
+    public Optional<AppUserPrincipal> reload(UUID userId) {
+        return userRepository.findById(userId).map(user -> {
+            AppUserPrincipal principal = new AppUserPrincipal(user);
+            principal.eraseCredentials();
+            return principal;
+        });
+    }
+
+    /**
+     * 사용자 변경 기록 (역할, 이메일 인증, 삭제 등) 및 다른 노드에 알림
+     */
+    public void markChanged(UUID userId) {
+        markChangedLocally(userId);
+        caches.broadcast(INVALIDATION_NAME, userId);
+    }
+
+    private void markChangedLocally(UUID userId) {
+        long now = clock.millis();
+        changedAt.values().removeIf(changed -> now - changed > maxAgeMillis);
+        changedAt.put(userId, now);
+        log.debug("Session principals of user {} marked for refresh", userId);
+    }
+}
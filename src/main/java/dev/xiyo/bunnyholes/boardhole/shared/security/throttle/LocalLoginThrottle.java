@@ -0,0 +1,169 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security.throttle;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 노드 로컬 로그인 시도 제한기
+ * <p>
+ * 키마다 불변 {@link State}를 {@link AtomicReference}에 두고 CAS로 교체하므로 잠금이 없습니다.
+ * 토큰은 마지막 갱신 이후 경과 시간만큼 조회 시점에 보충합니다.
+ * <p>
+ * 키 수가 {@code maxKeys}를 넘으면 한 스레드만 정리를 실행해, 버킷이 가득 차 있고 차단/실패 기록이 없는(새 키와 같은) 항목부터 제거하고,
+ * 그래도 넘치면 임의의 항목을 제거합니다. 정리는 최대치의 90%까지 줄여 매 요청마다 정리가 일어나지 않게 합니다.
+ */
+@Slf4j
+public class LocalLoginThrottle implements LoginThrottle {
+
+    private final LoginThrottleProperties properties;
+    private final Clock clock;
+    private final Map<String, AtomicReference<State>> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final Counter idleEvictions;
+    private final Counter pressureEvictions;
+
+    public LocalLoginThrottle(LoginThrottleProperties properties, Clock clock, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.clock = clock;
+        this.idleEvictions = Counter.builder("login.throttle.evictions").tag("reason", "idle").register(meterRegistry);
+        this.pressureEvictions = Counter.builder("login.throttle.evictions").tag("reason", "pressure").register(meterRegistry);
+        meterRegistry.gauge("login.throttle.keys", buckets, Map::size);
+    }
+
+    @Override
+    public Decision tryAcquire(String key) {
+        LoginThrottleProperties.Bucket bucket = properties.bucketFor(key);
+        AtomicReference<State> ref = bucketFor(key, bucket);
+        while (true) {
+            long now = clock.millis();
+            State current = ref.get();
+            if (now < current.blockedUntil())
+                return Decision.rejected(current.blockedUntil() - now);
+            double tokens = current.tokensAt(now, bucket);
+            if (tokens < 1)
+                return Decision.rejected((long) Math.ceil((1 - tokens) / bucket.refillPerMilli()));
+            if (ref.compareAndSet(current, current.withTokens(tokens - 1, now)))
+                return Decision.ALLOWED;
+        }
+    }
+
+    @Override
+    public void failed(String key) {
+        LoginThrottleProperties.Bucket bucket = properties.bucketFor(key);
+        LoginThrottleProperties.Backoff backoff = properties.backoff();
+        AtomicReference<State> ref = bucketFor(key, bucket);
+        while (true) {
+            long now = clock.millis();
+            State current = ref.get();
+            int failures = current.failuresAt(now, backoff) + 1;
+            long blockedUntil = Math.max(current.blockedUntil(), now + backoff.blockMillis(key, failures));
+            State next = new State(current.tokens(), current.refilledAt(), failures, now, blockedUntil);
+            if (ref.compareAndSet(current, next)) {
+                if (blockedUntil > now && blockedUntil != current.blockedUntil())
+                    log.debug("Login throttle blocked {} for {}ms after {} failures", key, blockedUntil - now, failures);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void succeeded(String key) {
+        AtomicReference<State> ref = buckets.get(key);
+        if (ref == null)
+            return;
+        while (true) {
+            State current = ref.get();
+            if (current.failures() == 0 && current.blockedUntil() == 0)
+                return;
+            State next = new State(current.tokens(), current.refilledAt(), 0, 0, 0);
+            if (ref.compareAndSet(current, next))
+                return;
+        }
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private AtomicReference<State> bucketFor(String key, LoginThrottleProperties.Bucket bucket) {
+        AtomicReference<State> ref = buckets.get(key);
+        if (ref != null)
+            return ref;
+        AtomicReference<State> created = new AtomicReference<>(State.full(bucket, clock.millis()));
+        ref = buckets.putIfAbsent(key, created);
+        if (ref != null)
+            return ref;
+        if (buckets.size() > properties.maxKeys())
+            evict();
+        return created;
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true))
+            return;
+        try {
+            long now = clock.millis();
+            int target = Math.max(1, properties.maxKeys() / 10 * 9);
+            LoginThrottleProperties.Backoff backoff = properties.backoff();
+            // 1차: 새 키와 상태가 같은 항목은 지워도 제한 동작이 달라지지 않음
+            Iterator<Map.Entry<String, AtomicReference<State>>> iterator = buckets.entrySet().iterator();
+            while (iterator.hasNext() && buckets.size() > target) {
+                Map.Entry<String, AtomicReference<State>> entry = iterator.next();
+                if (entry.getValue().get().isIdle(now, properties.bucketFor(entry.getKey()), backoff)
+                    && buckets.remove(entry.getKey(), entry.getValue()))
+                    idleEvictions.increment();
+            }
+            // 2차: 키 공간을 부풀리는 공격에도 메모리 상한을 지키기 위해 남은 항목을 제거
+            iterator = buckets.entrySet().iterator();
+            while (iterator.hasNext() && buckets.size() > target) {
+                Map.Entry<String, AtomicReference<State>> entry = iterator.next();
+                if (buckets.remove(entry.getKey(), entry.getValue()))
+                    pressureEvictions.increment();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * 버킷 상태
+     *
+     * @param tokens       {@code refilledAt} 시점의 토큰 수
+     * @param refilledAt   토큰을 마지막으로 계산한 시각 (epoch ms)
+     * @param failures     연속 실패 횟수
+     * @param failedAt     마지막 실패 시각 (epoch ms)
+     * @param blockedUntil 차단 해제 시각 (epoch ms, 차단 없으면 0)
+     */
+    record State(double tokens, long refilledAt, int failures, long failedAt, long blockedUntil) {
+
+        static State full(LoginThrottleProperties.Bucket bucket, long now) {
+            return new State(bucket.capacity(), now, 0, 0, 0);
+        }
+
+        double tokensAt(long now, LoginThrottleProperties.Bucket bucket) {
+            long elapsed = Math.max(0, now - refilledAt);
+            return Math.min(bucket.capacity(), tokens + elapsed * bucket.refillPerMilli());
+        }
+
+        int failuresAt(long now, LoginThrottleProperties.Backoff backoff) {
+            return failures > 0 && now - failedAt > backoff.resetAfter().toMillis() ? 0 : failures;
+        }
+
+        State withTokens(double tokens, long now) {
+            return new State(tokens, now, failures, failedAt, blockedUntil);
+        }
+
+        boolean isIdle(long now, LoginThrottleProperties.Bucket bucket, LoginThrottleProperties.Backoff backoff) {
+            return now >= blockedUntil && failuresAt(now, backoff) == 0 && tokensAt(now, bucket) >= bucket.capacity();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security.throttle;
+
+import java.time.Duration;
+
+/**
+ * 로그인 시도 제한기
+ * <p>
+ * 키는 {@code ip:<주소>} 또는 {@code user:<사용자명>} 형식이며, 종류별 버킷 설정은 {@link LoginThrottleProperties}를 따릅니다.
+ */
+public interface LoginThrottle {
+
+    String IP_KEY_PREFIX = "ip:";
+    String USERNAME_KEY_PREFIX = "user:";
+
+    static String ipKey(String address) {
+        return IP_KEY_PREFIX + address;
+    }
+
+    static String usernameKey(String username) {
+        return USERNAME_KEY_PREFIX + username;
+    }
+
+    /**
+     * 시도 토큰 하나를 소비
+     *
+     * @param key 버킷 키
+     * @return 허용 여부와 거절 시 재시도까지 남은 시간
+     */
+    Decision tryAcquire(String key);
+
+    /**
+     * 인증 실패 기록 (연속 실패가 허용 횟수를 넘으면 차단 시간 적용)
+     */
+    void failed(String key);
+
+    /**
+     * 인증 성공 기록 (연속 실패와 차단 해제, 남은 토큰은 유지)
+     */
+    void succeeded(String key);
+
+    /**
+     * 시도 허용 판정
+     *
+     * @param allowed    허용 여부
+     * @param retryAfter 거절 시 다시 시도할 수 있을 때까지 남은 시간 (허용 시 0)
+     */
+    record Decision(boolean allowed, Duration retryAfter) {
+
+        static final Decision ALLOWED = new Decision(true, Duration.ZERO);
+
+        static Decision rejected(long retryAfterMillis) {
+            return new Decision(false, Duration.ofMillis(Math.max(1, retryAfterMillis)));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security.throttle;
+
+import java.time.Clock;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 로그인 시도 제한 설정
+ * <p>
+ * {@code boardhole.login-throttle.redis.enabled=true}이고 Redis 연결이 구성되어 있으면 노드 간에 버킷을 공유하고,
+ * 그렇지 않으면 노드 로컬 버킷을 사용합니다. 필터는 요청 로깅 필터 바로 다음, Spring Security 필터 체인보다 먼저 실행됩니다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(LoginThrottleProperties.class)
+@ConditionalOnProperty(name = "boardhole.login-throttle.enabled", havingValue = "true", matchIfMissing = true)
+public class LoginThrottleConfiguration {
+
+    @Bean
+    public LoginThrottle loginThrottle(LoginThrottleProperties properties, MeterRegistry meterRegistry,
+                                       ObjectProvider<RedisConnectionFactory> redisConnectionFactory) {
+        RedisConnectionFactory connectionFactory = properties.redis().enabled() ? redisConnectionFactory.getIfAvailable() : null;
+        log.info("Login throttle: {}", connectionFactory != null ? "redis" : "local");
+        if (connectionFactory != null)
+            return new RedisLoginThrottle(connectionFactory, properties, meterRegistry);
+        return new LocalLoginThrottle(properties, Clock.systemUTC(), meterRegistry);
+    }
+
+    @Bean
+    public LoginThrottleFilter loginThrottleFilter(LoginThrottle loginThrottle, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        return new LoginThrottleFilter(loginThrottle, objectMapper, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<LoginThrottleFilter> loginThrottleFilterRegistration(LoginThrottleFilter loginThrottleFilter) {
+        FilterRegistrationBean<LoginThrottleFilter> registration = new FilterRegistrationBean<>(loginThrottleFilter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
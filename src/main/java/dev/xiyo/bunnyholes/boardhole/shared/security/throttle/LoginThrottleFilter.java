@@ -0,0 +1,187 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security.throttle;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.xiyo.bunnyholes.boardhole.shared.constants.ApiPaths;
+import dev.xiyo.bunnyholes.boardhole.shared.constants.ErrorCode;
+import dev.xiyo.bunnyholes.boardhole.shared.security.ProblemDetailsHelper;
+import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 로그인 시도 제한 필터
+ * <p>
+ * API 로그인({@code POST /api/auth/login})과 폼 로그인 처리 URL({@code POST /auth/login})에서 Spring Security보다 먼저 실행되어,
+ * 클라이언트 IP와 사용자명 버킷에서 토큰을 하나씩 소비하고 어느 쪽이든 비어 있거나 차단 중이면 인증을 시도하지 않고 거절합니다.
+ * 두 경로 모두 form-urlencoded 요청이라 {@code username} 파라미터로 사용자명 키를 만듭니다.
+ * 클라이언트 IP는 {@link HttpServletRequest#getRemoteAddr()}이므로 프록시 뒤에서는 {@code server.forward-headers-strategy}로
+ * 신뢰하는 프록시가 붙인 전달 헤더에서 복원되어 있어야 합니다(그렇지 않으면 모든 클라이언트가 프록시 IP 버킷 하나를 나눠 씀).
+ * <p>
+ * 인증 결과는 {@code AuthenticationManager}가 발행하는 인증 이벤트로 받습니다. 실패하면 두 키 모두에 실패를 기록하고,
+ * 성공하면 사용자명 키의 실패 기록만 지웁니다. IP 키는 성공 한 번으로 풀리지 않아야 하므로 {@code resetAfter} 경과로만 초기화됩니다.
+ * <p>
+ * 거절 응답은 API가 429 ProblemDetail, 폼 로그인은 {@code /auth/login?throttled} 리다이렉트이며 둘 다 {@code Retry-After}를 포함합니다.
+ */
+@Slf4j
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+    static final String ATTEMPT_ATTRIBUTE = LoginThrottleFilter.class.getName() + ".ATTEMPT";
+    static final String FORM_LOGIN_PATH = "/auth/login";
+
+    // 실제 사용자명 길이 제한보다 길면 존재할 수 없는 계정이므로 잘라서 키 크기만 제한
+    private static final int MAX_USERNAME_KEY_LENGTH = 64;
+    private static final Set<String> LOGIN_PATHS = Set.of(ApiPaths.AUTH + ApiPaths.AUTH_LOGIN, FORM_LOGIN_PATH);
+
+    private final LoginThrottle throttle;
+    private final ObjectMapper objectMapper;
+    private final Counter allowed;
+    private final Counter rejectedByIp;
+    private final Counter rejectedByUsername;
+    private final Counter failures;
+
+    public LoginThrottleFilter(LoginThrottle throttle, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.throttle = throttle;
+        this.objectMapper = objectMapper;
+        this.allowed = decisions(meterRegistry, "allowed", "none");
+        this.rejectedByIp = decisions(meterRegistry, "rejected", "ip");
+        this.rejectedByUsername = decisions(meterRegistry, "rejected", "username");
+        this.failures = meterRegistry.counter("login.throttle.failures");
+    }
+
+    private static Counter decisions(MeterRegistry registry, String outcome, String limit) {
+        return Counter.builder("login.throttle.requests").tag("outcome", outcome).tag("limit", limit).register(registry);
+    }
+
+    static @Nullable String usernameKey(@Nullable String username) {
+        if (username == null || username.isBlank())
+            return null;
+        String normalized = username.strip().toLowerCase(Locale.ROOT);
+        if (normalized.length() > MAX_USERNAME_KEY_LENGTH)
+            normalized = normalized.substring(0, MAX_USERNAME_KEY_LENGTH);
+        return LoginThrottle.usernameKey(normalized);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+               || !LOGIN_PATHS.contains(pathWithinApplication(request));
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String ipKey = LoginThrottle.ipKey(request.getRemoteAddr());
+        String usernameKey = usernameKey(request.getParameter("username"));
+
+        LoginThrottle.Decision decision = throttle.tryAcquire(ipKey);
+        Counter rejected = rejectedByIp;
+        if (decision.allowed() && usernameKey != null) {
+            decision = throttle.tryAcquire(usernameKey);
+            rejected = rejectedByUsername;
+        }
+        if (!decision.allowed()) {
+            rejected.increment();
+            log.debug("Login attempt throttled: {} / {} (retry after {})", ipKey, usernameKey, decision.retryAfter());
+            reject(request, response, decision);
+            return;
+        }
+
+        allowed.increment();
+        request.setAttribute(ATTEMPT_ATTRIBUTE, new Attempt(ipKey, usernameKey));
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 인증 실패 시 IP와 사용자명 키에 실패 기록
+     * <p>
+     * 잠긴/비활성 계정이나 해싱 풀 포화처럼 자격 증명과 무관한 실패는 차단 시간을 늘리지 않습니다.
+     */
+    @EventListener
+    public void onBadCredentials(AuthenticationFailureBadCredentialsEvent event) {
+        Attempt attempt = currentAttempt();
+        if (attempt == null)
+            return;
+        failures.increment();
+        throttle.failed(attempt.ipKey());
+        String usernameKey = attempt.usernameKey();
+        if (usernameKey != null)
+            throttle.failed(usernameKey);
+    }
+
+    /**
+     * 인증 성공 시 사용자명 키의 실패 기록 해제
+     */
+    @EventListener
+    public void onSuccess(AuthenticationSuccessEvent event) {
+        Attempt attempt = currentAttempt();
+        String usernameKey = attempt == null ? null : attempt.usernameKey();
+        if (usernameKey != null)
+            throttle.succeeded(usernameKey);
+    }
+
+    private static @Nullable Attempt currentAttempt() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null)
+            return null;
+        return attributes.getAttribute(ATTEMPT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Attempt attempt ? attempt : null;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, LoginThrottle.Decision decision) throws IOException {
+        long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+
+        if (FORM_LOGIN_PATH.equals(pathWithinApplication(request))) {
+            response.sendRedirect(request.getContextPath() + FORM_LOGIN_PATH + "?throttled");
+            return;
+        }
+
+        ProblemDetail pd = ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS,
+                MessageUtils.get("error.auth.login-throttled", retryAfterSeconds));
+        pd.setTitle(MessageUtils.get("exception.title.too-many-requests"));
+        pd.setType(ProblemDetailsHelper.buildType("login-throttled"));
+        ProblemDetailsHelper.addCommonProperties(pd, request, ErrorCode.TOO_MANY_REQUESTS.getCode());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), pd);
+    }
+
+    /**
+     * 현재 요청의 로그인 시도 키
+     *
+     * @param ipKey       클라이언트 IP 키
+     * @param usernameKey 사용자명 키 (사용자명이 없으면 null)
+     */
+    record Attempt(String ipKey, @Nullable String usernameKey) {
+    }
+}
@@ -0,0 +1,121 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security.throttle;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 로그인 시도 제한 설정
+ * <p>
+ * 로그인 요청은 사용자 조회와 BCrypt 검증 비용이 크므로 인증 전에 클라이언트 IP와 사용자명별 토큰 버킷으로 시도 횟수를 제한하고,
+ * 연속 실패에는 점진적으로 늘어나는 차단 시간을 적용합니다.
+ *
+ * @param enabled              시도 제한 사용 여부
+ * @param ipCapacity           클라이언트 IP별 연속 시도 허용 횟수 (NAT 뒤의 여러 사용자를 고려해 넉넉하게)
+ * @param ipRefillPeriod       클라이언트 IP별 빈 버킷이 가득 차는 데 걸리는 시간
+ * @param usernameCapacity     사용자명별 연속 시도 허용 횟수
+ * @param usernameRefillPeriod 사용자명별 빈 버킷이 가득 차는 데 걸리는 시간
+ * @param backoff              연속 실패 차단
+ * @param maxKeys              노드 로컬 모드에서 보관할 최대 키 수 (넘으면 쉬고 있는 키부터 제거)
+ * @param redis                Redis 공유 버킷
+ */
+@ConfigurationProperties(prefix = "boardhole.login-throttle")
+public record LoginThrottleProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int ipCapacity,
+        @DefaultValue("1m") Duration ipRefillPeriod,
+        @DefaultValue("10") int usernameCapacity,
+        @DefaultValue("5m") Duration usernameRefillPeriod,
+        @DefaultValue Backoff backoff,
+        @DefaultValue("100000") int maxKeys,
+        @DefaultValue Redis redis
+) {
+
+    public Bucket ipBucket() {
+        return new Bucket(ipCapacity, ipRefillPeriod);
+    }
+
+    public Bucket usernameBucket() {
+        return new Bucket(usernameCapacity, usernameRefillPeriod);
+    }
+
+    /**
+     * 버킷 키 종류에 맞는 설정
+     */
+    public Bucket bucketFor(String key) {
+        return key.startsWith(LoginThrottle.USERNAME_KEY_PREFIX) ? usernameBucket() : ipBucket();
+    }
+
+    /**
+     * 토큰 버킷 설정
+     *
+     * @param capacity     최대 토큰 수 (연속 시도 허용 횟수)
+     * @param refillPeriod 빈 버킷이 가득 차는 데 걸리는 시간
+     */
+    public record Bucket(
+            int capacity,
+            Duration refillPeriod
+    ) {
+
+        /**
+         * 밀리초당 보충 토큰 수
+         */
+        public double refillPerMilli() {
+            return (double) capacity / Math.max(1, refillPeriod.toMillis());
+        }
+    }
+
+    /**
+     * 연속 실패 차단 설정
+     * <p>
+     * 차단 없이 허용하는 실패 수를 넘는 실패마다 차단 시간이 {@code initial}부터 두 배씩 늘어나 {@code max}에서 멈춥니다.
+     * IP 키는 NAT나 프록시 뒤의 여러 사용자가 나눠 쓰므로 훨씬 많은 실패를 허용해, 몇 사람의 비밀번호 실수로 같은 IP의 모두가 차단되지 않게 합니다.
+     *
+     * @param freeFailures   사용자명 키에서 차단 없이 허용하는 연속 실패 수
+     * @param ipFreeFailures IP 키에서 차단 없이 허용하는 연속 실패 수
+     * @param initial      첫 차단 시간
+     * @param max          최대 차단 시간
+     * @param resetAfter   마지막 실패 후 이 시간이 지나면 실패 횟수 초기화
+     */
+    public record Backoff(
+            @DefaultValue("3") int freeFailures,
+            @DefaultValue("100") int ipFreeFailures,
+            @DefaultValue("1s") Duration initial,
+            @DefaultValue("5m") Duration max,
+            @DefaultValue("15m") Duration resetAfter
+    ) {
+
+        /**
+         * 버킷 키 종류에 맞는 차단 없이 허용하는 연속 실패 수
+         */
+        public int freeFailuresFor(String key) {
+            return key.startsWith(LoginThrottle.USERNAME_KEY_PREFIX) ? freeFailures : ipFreeFailures;
+        }
+
+        /**
+         * 연속 실패 횟수에 따른 차단 시간 (밀리초, 차단하지 않으면 0)
+         */
+        public long blockMillis(String key, int failures) {
+            int exceeded = failures - freeFailuresFor(key);
+            if (exceeded <= 0)
+                return 0;
+            long delay = initial.toMillis() << Math.min(exceeded - 1, 20);
+            return Math.min(delay, max.toMillis());
+        }
+    }
+
+    /**
+     * Redis 공유 버킷 설정
+     * <p>
+     * Redis 연결이 없는 환경에서는 설정과 무관하게 노드 로컬 버킷을 사용합니다.
+     *
+     * @param enabled   여러 노드가 Redis에서 버킷을 공유할지 여부
+     * @param keyPrefix 버킷 키 접두사
+     */
+    public record Redis(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("boardhole:login-throttle:") String keyPrefix
+    ) {
+    }
+}
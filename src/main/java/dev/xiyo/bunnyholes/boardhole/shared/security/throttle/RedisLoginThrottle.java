@@ -0,0 +1,117 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security.throttle;
+
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Redis 공유 로그인 시도 제한기
+ * <p>
+ * 버킷을 Redis 해시({@code tokens, ts, failures, failedAt, blocked})로 두고 Lua 스크립트 하나로 읽기-계산-쓰기를 원자적으로 처리하므로
+ * 여러 노드가 같은 버킷을 나눠 씁니다. 시각은 노드 간 시계 차이를 피하려고 Redis {@code TIME}을 사용하며,
+ * 키는 버킷이 가득 차고 실패 기록이 잊히는 시점까지만 유지합니다.
+ * <p>
+ * Redis 오류 시에는 로그인 자체를 막지 않도록 허용하고 {@code login.throttle.errors}를 증가시킵니다.
+ */
+@Slf4j
+public class RedisLoginThrottle implements LoginThrottle {
+
+    private static final RedisScript<Long> SCRIPT = RedisScript.of("""
+            local now_parts = redis.call('TIME')
+            local now = tonumber(now_parts[1]) * 1000 + math.floor(tonumber(now_parts[2]) / 1000)
+            local op = ARGV[1]
+            local capacity = tonumber(ARGV[2])
+            local rate = tonumber(ARGV[3])
+            local free_failures = tonumber(ARGV[4])
+            local initial = tonumber(ARGV[5])
+            local max_block = tonumber(ARGV[6])
+            local reset_after = tonumber(ARGV[7])
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts', 'failures', 'failedAt', 'blocked')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            local failures = tonumber(state[3]) or 0
+            local failed_at = tonumber(state[4]) or 0
+            local blocked = tonumber(state[5]) or 0
+            if failures > 0 and now - failed_at > reset_after then
+                failures = 0
+            end
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+            if op == 'acquire' then
+                if now < blocked then
+                    return blocked - now
+                end
+                if tokens < 1 then
+                    return math.ceil((1 - tokens) / rate)
+                end
+                tokens = tokens - 1
+            elseif op == 'fail' then
+                failures = failures + 1
+                failed_at = now
+                if failures > free_failures then
+                    local delay = math.min(max_block, initial * 2 ^ math.min(failures - free_failures - 1, 20))
+                    blocked = math.max(blocked, now + delay)
+                end
+            else
+                failures = 0
+                blocked = 0
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now, 'failures', failures, 'failedAt', failed_at, 'blocked', blocked)
+            local ttl = math.ceil((capacity - tokens) / rate)
+            if failures > 0 then
+                ttl = math.max(ttl, failed_at + reset_after - now)
+            end
+            ttl = math.max(ttl, blocked - now, 1000)
+            redis.call('PEXPIRE', KEYS[1], ttl)
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LoginThrottleProperties properties;
+    private final Counter errors;
+
+    public RedisLoginThrottle(RedisConnectionFactory connectionFactory, LoginThrottleProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+        this.properties = properties;
+        this.errors = meterRegistry.counter("login.throttle.errors");
+    }
+
+    @Override
+    public Decision tryAcquire(String key) {
+        long retryAfter = execute("acquire", key);
+        return retryAfter > 0 ? Decision.rejected(retryAfter) : Decision.ALLOWED;
+    }
+
+    @Override
+    public void failed(String key) {
+        execute("fail", key);
+    }
+
+    @Override
+    public void succeeded(String key) {
+        execute("reset", key);
+    }
+
+    private long execute(String operation, String key) {
+        LoginThrottleProperties.Bucket bucket = properties.bucketFor(key);
+        LoginThrottleProperties.Backoff backoff = properties.backoff();
+        try {
+            Long result = redisTemplate.execute(SCRIPT, List.of(properties.redis().keyPrefix() + key), operation,
+                    Integer.toString(bucket.capacity()), Double.toString(bucket.refillPerMilli()),
+                    Integer.toString(backoff.freeFailuresFor(key)), Long.toString(backoff.initial().toMillis()),
+                    Long.toString(backoff.max().toMillis()), Long.toString(backoff.resetAfter().toMillis()));
+            return result == null ? 0 : result;
+        } catch (DataAccessException e) {
+            errors.increment();
+            log.warn("Login throttle unavailable, allowing {} for {}: {}", operation, key, e.getMessage());
+            return 0;
+        }
+    }
+}
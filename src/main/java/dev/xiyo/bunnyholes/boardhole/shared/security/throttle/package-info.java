@@ -0,0 +1,8 @@
+/**
+ * Login throttling package
+ * 로그인 시도 제한 패키지
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.shared.security.throttle;
+
+import org.jspecify.annotations.NullMarked;
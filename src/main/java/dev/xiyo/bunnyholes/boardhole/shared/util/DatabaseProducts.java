@@ -0,0 +1,30 @@
+package dev.xiyo.bunnyholes.boardhole.shared.util;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실행 중인 DB 제품 판별 유틸리티
+ * <p>
+ * PostgreSQL 전용 기능(플래너 통계, pg_trgm 등)을 켤지 결정하는 설정 클래스에서 사용합니다.
+ */
+@Slf4j
+@UtilityClass
+public class DatabaseProducts {
+
+    /**
+     * PostgreSQL 여부 (연결 실패 시 false)
+     */
+    public boolean isPostgres(DataSource dataSource) {
+        try (var connection = dataSource.getConnection()) {
+            return "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            log.warn("Could not detect database product: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package dev.xiyo.bunnyholes.boardhole.shared.util;
+
+/**
+ * 고유 원소 수를 근사하는 HyperLogLog
+ * <p>
+ * 레지스터 {@code 2^precision}개(바이트 단위)를 사용하며 표준 오차는 약 {@code 1.04 / sqrt(2^precision)}입니다.
+ * 작은 카디널리티는 linear counting으로 보정합니다. 정밀도가 같은 스케치는 레지스터별 최댓값으로 합칠 수 있습니다.
+ */
+public final class HyperLogLog {
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+        this.precision = Math.clamp(precision, 4, 16);
+        this.registers = new byte[1 << this.precision];
+    }
+
+    /**
+     * SplitMix64 최종 혼합 (비트 확산)
+     */
+    public static long mix(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 64비트 해시 추가
+     *
+     * @param hash 균등 분포 64비트 해시
+     */
+    public synchronized void offer(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        long remaining = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+        if (rank > registers[index])
+            registers[index] = rank;
+    }
+
+    /**
+     * 다른 스케치의 원소를 이 스케치에 합침 (합집합)
+     *
+     * @param other 정밀도가 같은 스케치
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision)
+            throw new IllegalArgumentException("Cannot merge HyperLogLog of precision " + other.precision + " into " + precision);
+        byte[] copy;
+        synchronized (other) {
+            copy = other.registers.clone();
+        }
+        synchronized (this) {
+            for (int i = 0; i < registers.length; i++)
+                if (copy[i] > registers[i])
+                    registers[i] = copy[i];
+        }
+    }
+
+    /**
+     * 고유 원소 수 추정
+     */
+    public synchronized long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0)
+                zeros++;
+        }
+        double alpha = 0.7213 / (1 + 1.079 / m);
+        double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0)
+            estimate = m * Math.log((double) m / zeros);
+        return Math.round(estimate);
+    }
+
+    public int sizeInBytes() {
+        return registers.length;
+    }
+}
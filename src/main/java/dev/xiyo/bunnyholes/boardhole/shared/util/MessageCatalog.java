@@ -0,0 +1,265 @@
+package dev.xiyo.bunnyholes.boardhole.shared.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.DateFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+/**
+ * 미리 컴파일된 불변 메시지 카탈로그
+ * <p>
+ * 시작 시 {@code <basename>*.properties}를 모두 읽어 로케일별로 기본 번들 위에 언어 번들을 덮어쓴 하나의 불변 맵을 만들고,
+ * 각 메시지를 리터럴/인자 조각으로 미리 분해해 둡니다. 조회는 불변 맵 읽기뿐이라 잠금이 없고,
+ * {@link org.springframework.context.support.ResourceBundleMessageSource}처럼 공유 {@link MessageFormat}을 동기화하지 않습니다.
+ * <p>
+ * 포매팅 결과는 MessageSource와 같습니다. 인자가 없으면 원문을 그대로, 있으면 MessageFormat 규칙(작은따옴표 이스케이프,
+ * 로케일별 숫자/날짜 형식)을 적용합니다. {@code {0,number}}처럼 형식이 지정된 메시지만 호출마다 MessageFormat을 새로 만듭니다.
+ * <p>
+ * 로케일 해석 순서: 요청 로케일 → 언어 → 시스템 기본 로케일 → 기본 번들
+ */
+public final class MessageCatalog {
+
+    private static final Pattern LOCALE_SUFFIX = Pattern.compile("_([a-zA-Z]{2,3}(?:_[a-zA-Z]{2})?)\\.properties$");
+
+    private final Map<String, Bundle> bundles;
+    private final Bundle root;
+    private final Map<Locale, Bundle> resolved = new ConcurrentHashMap<>();
+
+    private MessageCatalog(Map<String, Bundle> bundles, Bundle root) {
+        this.bundles = bundles;
+        this.root = root;
+    }
+
+    /**
+     * 클래스패스의 {@code <basename>.properties}와 {@code <basename>_<locale>.properties}로 카탈로그 생성 (UTF-8)
+     *
+     * @param basename 메시지 파일 베이스네임
+     * @return 카탈로그
+     */
+    public static MessageCatalog load(String basename) {
+        Map<String, Map<String, String>> raw = new HashMap<>();
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources("classpath*:" + basename + "*.properties");
+            for (Resource resource : resources) {
+                String tag = localeTag(basename, resource.getFilename());
+                if (tag != null)
+                    raw.putIfAbsent(tag, read(resource));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load message catalog: " + basename, e);
+        }
+        return of(raw);
+    }
+
+    /**
+     * 로케일 태그별 원문 메시지로 카탈로그 생성
+     *
+     * @param messages 로케일 태그({@code ""}는 기본 번들, {@code "en"}, {@code "ko_KR"} 등)별 메시지
+     * @return 카탈로그
+     */
+    public static MessageCatalog of(Map<String, Map<String, String>> messages) {
+        Map<String, String> base = messages.getOrDefault("", Map.of());
+        // 기본 번들의 숫자/날짜 형식은 시스템 기본 로케일을 따름
+        Bundle root = Bundle.compile(base, Locale.getDefault());
+        Map<String, Bundle> bundles = new HashMap<>();
+        messages.forEach((tag, entries) -> {
+            if (tag.isEmpty())
+                return;
+            Locale locale = Locale.forLanguageTag(tag.replace('_', '-'));
+            Map<String, String> merged = new HashMap<>(base);
+            // ko_KR은 ko 위에 덮어씀
+            int separator = tag.indexOf('_');
+            if (separator > 0)
+                merged.putAll(messages.getOrDefault(tag.substring(0, separator), Map.of()));
+            merged.putAll(entries);
+            bundles.put(locale.toString(), Bundle.compile(merged, locale));
+        });
+        return new MessageCatalog(Map.copyOf(bundles), root);
+    }
+
+    private static @Nullable String localeTag(String basename, @Nullable String filename) {
+        if (filename == null)
+            return null;
+        if (filename.equals(basename + ".properties"))
+            return "";
+        if (!filename.startsWith(basename + "_"))
+            return null;
+        Matcher matcher = LOCALE_SUFFIX.matcher(filename.substring(basename.length()));
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private static Map<String, String> read(Resource resource) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = resource.getInputStream()) {
+            properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        Map<String, String> entries = new HashMap<>();
+        properties.stringPropertyNames().forEach(key -> entries.put(key, properties.getProperty(key)));
+        return entries;
+    }
+
+    /**
+     * 메시지 조회 및 포매팅
+     *
+     * @param key    메시지 키
+     * @param args   인자 (없으면 원문 반환)
+     * @param locale 로케일
+     * @return 포매팅된 메시지
+     * @throws NoSuchMessageException 해석 순서의 어느 번들에도 키가 없을 때
+     */
+    public String get(String key, Object @Nullable [] args, Locale locale) {
+        Template template = bundleFor(locale).templates.get(key);
+        if (template == null)
+            throw new NoSuchMessageException(key, locale);
+        return template.format(args);
+    }
+
+    /**
+     * 메시지 존재 여부
+     */
+    public boolean contains(String key, Locale locale) {
+        return bundleFor(locale).templates.containsKey(key);
+    }
+
+    private Bundle bundleFor(Locale locale) {
+        Bundle bundle = resolved.get(locale);
+        if (bundle != null)
+            return bundle;
+        return resolved.computeIfAbsent(locale, this::resolve);
+    }
+
+    private Bundle resolve(Locale locale) {
+        Bundle bundle = lookup(locale);
+        if (bundle == null)
+            bundle = lookup(Locale.getDefault());
+        return bundle == null ? root : bundle;
+    }
+
+    private @Nullable Bundle lookup(Locale locale) {
+        Bundle exact = bundles.get(locale.toString());
+        return exact != null ? exact : bundles.get(locale.getLanguage());
+    }
+
+    private record Bundle(Map<String, Template> templates) {
+
+        static Bundle compile(Map<String, String> messages, Locale locale) {
+            Map<String, Template> templates = new HashMap<>(messages.size() * 2);
+            messages.forEach((key, pattern) -> templates.put(key, Template.compile(pattern, locale)));
+            return new Bundle(Map.copyOf(templates));
+        }
+    }
+
+    /**
+     * 컴파일된 메시지
+     * <p>
+     * {@code segments}는 리터럴 문자열과 인자 위치({@link Integer})가 번갈아 오는 목록입니다.
+     * 형식 지정이 있는 패턴은 {@code segments}가 null이고 MessageFormat으로 처리합니다.
+     */
+    private record Template(String pattern, Object @Nullable [] segments, int estimatedLength, Locale locale, DecimalFormatSymbols symbols) {
+
+        static Template compile(String pattern, Locale locale) {
+            List<Object> segments = new ArrayList<>();
+            StringBuilder literal = new StringBuilder(pattern.length());
+            boolean quoted = false;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == '\'') {
+                    if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                        literal.append('\'');
+                        i++;
+                    } else {
+                        quoted = !quoted;
+                    }
+                } else if (c == '{' && !quoted) {
+                    int close = pattern.indexOf('}', i);
+                    String argument = close < 0 ? "" : pattern.substring(i + 1, close);
+                    if (!argument.isEmpty() && argument.chars().allMatch(Character::isDigit)) {
+                        if (!literal.isEmpty()) {
+                            segments.add(literal.toString());
+                            literal.setLength(0);
+                        }
+                        segments.add(Integer.parseInt(argument));
+                        i = close;
+                    } else if (argument.indexOf(',') > 0) {
+                        // {0,number,#} 등 형식 지정은 MessageFormat에 맡김
+                        return new Template(pattern, null, pattern.length(), locale, DecimalFormatSymbols.getInstance(locale));
+                    } else {
+                        literal.append(c);
+                    }
+                } else {
+                    literal.append(c);
+                }
+            }
+            if (!literal.isEmpty())
+                segments.add(literal.toString());
+            return new Template(pattern, segments.toArray(), pattern.length() + 16, locale, DecimalFormatSymbols.getInstance(locale));
+        }
+
+        String format(Object @Nullable [] args) {
+            if (args == null || args.length == 0)
+                return pattern;
+            Object[] compiled = segments;
+            if (compiled == null)
+                return new MessageFormat(pattern, locale).format(args);
+            StringBuilder sb = new StringBuilder(estimatedLength);
+            for (Object segment : compiled) {
+                if (segment instanceof Integer index) {
+                    if (index < args.length)
+                        appendArgument(sb, args[index]);
+                    else
+                        sb.append('{').append(index).append('}');
+                } else {
+                    sb.append((String) segment);
+                }
+            }
+            return sb.toString();
+        }
+
+        private void appendArgument(StringBuilder sb, @Nullable Object arg) {
+            switch (arg) {
+                case null -> sb.append("null");
+                case String text -> sb.append(text);
+                case Long value -> appendGrouped(sb, value);
+                case Integer value -> appendGrouped(sb, value);
+                case Short value -> appendGrouped(sb, value);
+                case Byte value -> appendGrouped(sb, value);
+                case Number number -> sb.append(NumberFormat.getInstance(locale).format(number));
+                case Date date -> sb.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(date));
+                default -> sb.append(arg);
+            }
+        }
+
+        /**
+         * MessageFormat의 기본 정수 형식(세 자리 구분)과 같은 결과를 NumberFormat 생성 없이 만듦
+         */
+        private void appendGrouped(StringBuilder sb, long value) {
+            if (value < 0)
+                sb.append(symbols.getMinusSign());
+            String digits = value == Long.MIN_VALUE ? Long.toString(value).substring(1) : Long.toString(Math.abs(value));
+            int first = digits.length() % 3 == 0 ? 3 : digits.length() % 3;
+            sb.append(digits, 0, first);
+            for (int i = first; i < digits.length(); i += 3)
+                sb.append(symbols.getGroupingSeparator()).append(digits, i, i + 3);
+        }
+    }
+}
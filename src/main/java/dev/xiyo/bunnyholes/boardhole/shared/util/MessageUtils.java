@@ -3,42 +3,43 @@ package dev.xiyo.bunnyholes.boardhole.shared.util;
 import lombok.Setter;
 import lombok.experimental.UtilityClass;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
-import org.springframework.context.support.ResourceBundleMessageSource;
 
 /**
  * 메시지 유틸리티 클래스
  * - 순수 정적 유틸리티(@UtilityClass)
  * - 기본 베이스네임: messages (application.yml과 일치)
+ * - 기본 조회는 잠금 없는 {@link MessageCatalog}, MessageSource를 지정하면(테스트 등) 그쪽으로 위임
  */
 @UtilityClass
 public class MessageUtils {
 
+    private final MessageCatalog catalog = MessageCatalog.load("messages");
+
     // Suppress final warning: field must be mutable for test access
     @SuppressWarnings("FieldMayBeFinal")
     @Setter
-    private MessageSource messageSource = createDefaultMessageSource();
-
-    private MessageSource createDefaultMessageSource() {
-        ResourceBundleMessageSource source = new ResourceBundleMessageSource();
-        source.setBasenames("messages");
-        source.setDefaultEncoding("UTF-8");
-        source.setFallbackToSystemLocale(true);
-        return source;
-    }
+    private @Nullable MessageSource messageSource = null;
 
     /**
      * 메시지 키와 파라미터로 메시지 조회
      */
     public String get(String key, Object... args) {
-        return messageSource.getMessage(key, args, LocaleContextHolder.getLocale());
+        MessageSource source = messageSource;
+        if (source != null)
+            return source.getMessage(key, args, LocaleContextHolder.getLocale());
+        return catalog.get(key, args, LocaleContextHolder.getLocale());
     }
 
     /**
      * 메시지 키로 메시지 조회 (파라미터 없음)
      */
     public String get(String key) {
-        return messageSource.getMessage(key, null, LocaleContextHolder.getLocale());
+        MessageSource source = messageSource;
+        if (source != null)
+            return source.getMessage(key, null, LocaleContextHolder.getLocale());
+        return catalog.get(key, null, LocaleContextHolder.getLocale());
     }
 }
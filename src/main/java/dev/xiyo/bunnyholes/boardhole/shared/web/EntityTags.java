@@ -0,0 +1,88 @@
+package dev.xiyo.bunnyholes.boardhole.shared.web;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.CountedPage;
+
+/**
+ * 조건부 요청(ETag / Last-Modified) 검증값 유틸리티
+ * <p>
+ * 검증값은 내용 수정 시각에서 계산하며, 조회수처럼 응답에 포함되지만 수정 시각을 바꾸지 않는 값은 반영하지 않습니다.
+ * 그래서 응답 바이트가 달라도 같은 값을 낼 수 있으므로 약한(weak) ETag를 사용합니다.
+ */
+public final class EntityTags {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private EntityTags() {
+    }
+
+    /**
+     * 단건 리소스 ETag
+     *
+     * @param updatedAt 내용 수정 시각
+     * @return 약한 ETag
+     */
+    public static String ofRevision(LocalDateTime updatedAt) {
+        return weak(Long.toHexString(epochMicros(updatedAt)));
+    }
+
+    /**
+     * 목록 페이지 ETag
+     * <p>
+     * 페이지 위치와 정렬, 전체 건수, 항목별 ID와 수정 시각을 지문으로 사용하므로 항목 추가/삭제/수정과 페이지 밀림이 모두 반영됩니다.
+     *
+     * @param page      목록 페이지
+     * @param id        항목 ID
+     * @param updatedAt 항목 내용 수정 시각
+     * @param <T>       항목 타입
+     * @return 약한 ETag
+     */
+    public static <T> String ofPage(Page<T> page, Function<T, UUID> id, Function<T, LocalDateTime> updatedAt) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, page.getNumber());
+        hash = mix(hash, page.getSize());
+        hash = mix(hash, page.getSort().toString().hashCode());
+        hash = mix(hash, page.getTotalElements());
+        hash = mix(hash, CountedPage.isApproximate(page) ? 1 : 0);
+        for (T item : page.getContent()) {
+            UUID itemId = id.apply(item);
+            hash = mix(hash, itemId.getMostSignificantBits());
+            hash = mix(hash, itemId.getLeastSignificantBits());
+            hash = mix(hash, epochMicros(updatedAt.apply(item)));
+        }
+        return weak(Long.toHexString(hash));
+    }
+
+    /**
+     * Last-Modified 헤더용 epoch 밀리초 (시스템 시간대 기준, 감사 시각과 동일)
+     */
+    public static long lastModified(LocalDateTime updatedAt) {
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long epochMicros(LocalDateTime at) {
+        // DB 저장 정밀도(마이크로초)에 맞춰 캐시된 값과 DB에서 읽은 값이 같은 지문을 내도록 함
+        return at.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + at.getNano() / 1_000;
+    }
+
+    private static long mix(long hash, long value) {
+        long result = hash;
+        for (int i = 0; i < Long.BYTES; i++) {
+            result ^= (value >>> (i * 8)) & 0xff;
+            result *= FNV_PRIME;
+        }
+        return result;
+    }
+
+    private static String weak(String value) {
+        return "W/\"" + value + '"';
+    }
+}
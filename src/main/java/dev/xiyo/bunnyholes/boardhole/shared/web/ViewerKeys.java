@@ -0,0 +1,35 @@
+package dev.xiyo.bunnyholes.boardhole.shared.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 조회자 식별 키 유틸리티
+ * <p>
+ * 로그인 사용자는 사용자명으로, 비로그인 사용자는 클라이언트 IP와 User-Agent 조합으로 식별합니다.
+ * 비로그인 사용자의 세션은 첫 요청에서 새로 생길 수 있어 식별 키로 사용하지 않습니다.
+ * 키는 중복 조회 판정용 해시 입력으로만 쓰이며 저장되지 않습니다.
+ */
+public final class ViewerKeys {
+
+    private ViewerKeys() {
+    }
+
+    /**
+     * 현재 요청의 조회자 키
+     *
+     * @param request HTTP 요청
+     * @return 조회자 식별 키
+     */
+    public static String resolve(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken))
+            return "u:" + authentication.getName();
+        String userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+        return "a:" + request.getRemoteAddr() + '|' + (userAgent == null ? "" : userAgent);
+    }
+}
@@ -9,17 +9,23 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import dev.xiyo.bunnyholes.boardhole.shared.config.log.I18nLogger;
+import dev.xiyo.bunnyholes.boardhole.shared.config.log.Loggable;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.DuplicateEmailException;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.DuplicateUsernameException;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.UnauthorizedException;
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
+import dev.xiyo.bunnyholes.boardhole.user.application.event.UserDeletedEvent;
+import dev.xiyo.bunnyholes.boardhole.user.application.event.UserRegisteredEvent;
+import dev.xiyo.bunnyholes.boardhole.user.application.event.UserUpdatedEvent;
 import dev.xiyo.bunnyholes.boardhole.user.application.mapper.UserMapper;
 import dev.xiyo.bunnyholes.boardhole.user.application.result.UserResult;
 import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
@@ -36,9 +42,12 @@ import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 @RequiredArgsConstructor
 public class UserCommandService {
 
+    private static final I18nLogger i18n = I18nLogger.of(log);
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자 생성
@@ -48,6 +57,7 @@ public class UserCommandService {
      * @throws DuplicateUsernameException 사용자명 중복 시
      * @throws DuplicateEmailException    이메일 중복 시
      */
+    @Loggable(event = "log.user.created")
     @Transactional
     public UserResult create(@Valid CreateUserCommand cmd) {
         if (userRepository.existsByUsername(cmd.username()))
@@ -63,8 +73,9 @@ public class UserCommandService {
                 .roles(Set.of(Role.USER))
                 .build();
         User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserRegisteredEvent(saved.getId()));
 
-        // 사용자 생성 이벤트 발행 (필요시 향후 사용)
+        // 이메일 인증용 사용자 생성 이벤트 발행 (필요시 향후 사용)
         // eventPublisher.publishEvent(userMapper.toUserCreatedEvent(saved));
 
         return userMapper.toResult(saved);
@@ -79,6 +90,7 @@ public class UserCommandService {
      * @return 수정된 사용자 결과
      * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
      */
+    @Loggable(event = "log.user.updated")
     @Transactional
     @PreAuthorize("hasPermission(#cmd.userId, 'USER', 'WRITE')")
     public UserResult update(@Valid UpdateUserCommand cmd) {
@@ -90,6 +102,7 @@ public class UserCommandService {
         userMapper.updateUserFromCommand(cmd, user);
 
         User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserUpdatedEvent(id));
 
         return userMapper.toResult(saved);
     }
@@ -100,6 +113,7 @@ public class UserCommandService {
      * @param id 삭제할 사용자 ID (UUID)
      * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
      */
+    @Loggable(event = "log.user.deleted")
     @Transactional
     @PreAuthorize("hasPermission(#id, 'USER', 'DELETE')")
     public void delete(@NotNull UUID id) {
@@ -107,21 +121,7 @@ public class UserCommandService {
                 .findById(id).orElseThrow(() -> new ResourceNotFoundException(MessageUtils.get("error.user.not-found.id", id)));
 
         userRepository.delete(existing);
-    }
-
-    /**
-     * 마지막 로그인 시간 업데이트
-     *
-     * @param userId 로그인한 사용자 ID
-     * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
-     */
-    @Transactional
-    public void updateLastLogin(@NotNull UUID userId) {
-        User user = userRepository
-                .findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException(MessageUtils.get("error.user.not-found.id", userId)));
-        user.recordLastLogin();
-        userRepository.save(user);
+        eventPublisher.publishEvent(new UserDeletedEvent(id));
     }
 
     /**
@@ -131,6 +131,7 @@ public class UserCommandService {
      * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
      * @throws UnauthorizedException     현재 패스워드가 일치하지 않는 경우
      */
+    @Loggable(logArgs = false)
     @Transactional
     @PreAuthorize("hasPermission(#cmd.userId, 'USER', 'WRITE')")
     public void updatePassword(@Valid UpdatePasswordCommand cmd) {
@@ -140,7 +141,7 @@ public class UserCommandService {
 
         // 현재 패스워드 확인
         if (!passwordEncoder.matches(cmd.currentPassword(), user.getPassword())) {
-            log.warn(MessageUtils.get("log.user.password.change.failed", cmd.userId()));
+            i18n.warn("log.user.password.change.failed", cmd.userId());
             throw new UnauthorizedException(MessageUtils.get("error.user.password.current.mismatch"));
         }
 
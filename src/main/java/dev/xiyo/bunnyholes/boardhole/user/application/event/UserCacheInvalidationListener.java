@@ -0,0 +1,30 @@
+package dev.xiyo.bunnyholes.boardhole.user.application.event;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.xiyo.bunnyholes.boardhole.user.application.query.UserDetailCache;
+
+/**
+ * 사용자 수정/삭제 시 상세 캐시 무효화
+ * <p>
+ * 커밋 이후에 무효화해야 다른 요청이 커밋 전 값을 다시 캐시하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener {
+
+    private final UserDetailCache userDetailCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUpdated(UserUpdatedEvent event) {
+        userDetailCache.evict(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(UserDeletedEvent event) {
+        userDetailCache.evict(event.userId());
+    }
+}
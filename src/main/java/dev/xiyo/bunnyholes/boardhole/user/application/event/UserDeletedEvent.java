@@ -0,0 +1,10 @@
+package dev.xiyo.bunnyholes.boardhole.user.application.event;
+
+import java.util.UUID;
+
+/**
+ * 사용자 삭제 이벤트
+ * 사용자 삭제 후 발행되며, 사용자 읽기 모델 캐시 무효화에 사용됩니다.
+ */
+public record UserDeletedEvent(UUID userId) {
+}
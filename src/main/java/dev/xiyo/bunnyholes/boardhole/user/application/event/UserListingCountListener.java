@@ -0,0 +1,31 @@
+package dev.xiyo.bunnyholes.boardhole.user.application.event;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.ListingCounter;
+import dev.xiyo.bunnyholes.boardhole.user.application.query.UserQueryService;
+
+/**
+ * 사용자 가입/삭제 시 목록 전체 건수 증감 (INCREMENTAL 모드)
+ * <p>
+ * 롤백된 변경이 반영되지 않도록 커밋 이후에 증감합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserListingCountListener {
+
+    private final ListingCounter listingCounter;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRegistered(UserRegisteredEvent event) {
+        listingCounter.adjust(UserQueryService.LISTING, 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(UserDeletedEvent event) {
+        listingCounter.adjust(UserQueryService.LISTING, -1);
+    }
+}
@@ -0,0 +1,29 @@
+package dev.xiyo.bunnyholes.boardhole.user.application.event;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.shared.security.AppUserPrincipal;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.activity.UserActivityRecorder;
+
+/**
+ * 로그인 성공을 사용자 활동 기록기에 전달
+ * <p>
+ * API 로그인과 폼 로그인 모두 인증 성공 이벤트를 발행하므로 한 곳에서 기록합니다.
+ * 메모리 기록만 수행하므로 로그인 스레드에서 바로 처리하며, DB 반영은 {@link UserActivityRecorder}가 배치로 수행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserLoginActivityListener {
+
+    private final UserActivityRecorder userActivityRecorder;
+
+    @EventListener
+    public void onAuthenticationSuccess(AuthenticationSuccessEvent event) {
+        if (event.getAuthentication().getPrincipal() instanceof AppUserPrincipal principal)
+            userActivityRecorder.loggedIn(principal.id());
+    }
+}
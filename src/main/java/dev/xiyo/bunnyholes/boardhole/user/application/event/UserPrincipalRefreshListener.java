@@ -0,0 +1,31 @@
+package dev.xiyo.bunnyholes.boardhole.user.application.event;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.xiyo.bunnyholes.boardhole.shared.security.PrincipalRefresher;
+
+/**
+ * 사용자 수정/삭제 시 세션 사용자 스냅샷 갱신 표시
+ * <p>
+ * 역할이나 이메일 인증 여부가 바뀌면 이미 로그인한 세션의 스냅샷도 다음 요청에서 다시 만들어야 합니다.
+ * 커밋 이후에 표시해야 다시 만든 스냅샷이 커밋 전 값을 읽지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalRefreshListener {
+
+    private final PrincipalRefresher principalRefresher;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUpdated(UserUpdatedEvent event) {
+        principalRefresher.markChanged(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(UserDeletedEvent event) {
+        principalRefresher.markChanged(event.userId());
+    }
+}
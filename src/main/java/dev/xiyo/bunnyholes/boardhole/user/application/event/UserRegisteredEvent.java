@@ -0,0 +1,10 @@
+package dev.xiyo.bunnyholes.boardhole.user.application.event;
+
+import java.util.UUID;
+
+/**
+ * 사용자 가입 이벤트
+ * 사용자 저장 후 발행되며, 목록 건수 등 읽기 모델 갱신에 사용됩니다.
+ */
+public record UserRegisteredEvent(UUID userId) {
+}
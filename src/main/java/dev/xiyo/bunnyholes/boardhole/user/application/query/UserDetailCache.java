@@ -0,0 +1,54 @@
+package dev.xiyo.bunnyholes.boardhole.user.application.query;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.shared.cache.ReadModelCaches;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.TwoLevelCache;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.CacheProperties;
+import dev.xiyo.bunnyholes.boardhole.user.application.result.UserResult;
+
+/**
+ * 사용자 상세 조회 결과 캐시
+ * <p>
+ * 노드 로컬 캐시와 (Redis가 구성된 경우) 공유 캐시에 사용자 ID별 {@link UserResult}를 보관합니다.
+ * 수정/삭제 커밋 후 모든 노드에서 무효화됩니다. 마지막 로그인 시각은 배치로 반영되므로 flush 주기와 만료 시간만큼 늦게 보일 수 있습니다.
+ */
+@Component
+public class UserDetailCache {
+
+    /** 문자열 외 필드(UUID, 시각, 권한, 객체 헤더 등)의 대략적인 크기 */
+    private static final long ENTRY_OVERHEAD_BYTES = 256;
+
+    private final TwoLevelCache<UserResult> cache;
+
+    public UserDetailCache(CacheProperties properties, ReadModelCaches caches) {
+        this.cache = caches.create("user.detail", properties.user(), UserResult.class, UserDetailCache::weigh);
+    }
+
+    /**
+     * 항목 가중치: 문자열 길이(UTF-16 2바이트) + 고정 오버헤드
+     */
+    static long weigh(UserResult result) {
+        return 2L * (result.username().length() + result.name().length() + result.email().length()) + ENTRY_OVERHEAD_BYTES;
+    }
+
+    /**
+     * 캐시 조회, 없으면 적재
+     *
+     * @param userId 사용자 ID
+     * @param loader 적재 함수 (사용자가 없으면 예외)
+     */
+    public UserResult get(UUID userId, Function<UUID, UserResult> loader) {
+        return cache.get(userId, loader);
+    }
+
+    /**
+     * 사용자 무효화
+     */
+    public void evict(UUID userId) {
+        cache.invalidate(userId);
+    }
+}
@@ -1,10 +1,12 @@
 package dev.xiyo.bunnyholes.boardhole.user.application.query;
 
+import java.util.List;
 import java.util.UUID;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -12,10 +14,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.CountedPage;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.Cursor;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.CursorPage;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.ListingCounter;
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
 import dev.xiyo.bunnyholes.boardhole.user.application.mapper.UserMapper;
 import dev.xiyo.bunnyholes.boardhole.user.application.result.UserResult;
+import dev.xiyo.bunnyholes.boardhole.user.domain.User;
 import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.activity.UserActivityRecorder;
 
 /**
  * 사용자 조회 서비스
@@ -26,8 +34,14 @@ import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 @RequiredArgsConstructor
 public class UserQueryService {
 
+    /** 전체 건수 목록 키 (테이블 이름) */
+    public static final String LISTING = "users";
+
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final UserDetailCache userDetailCache;
+    private final ListingCounter listingCounter;
+    private final UserActivityRecorder userActivityRecorder;
 
     /**
      * 사용자 ID로 단일 사용자 조회
@@ -36,24 +50,24 @@ public class UserQueryService {
      * @return 사용자 조회 결과
      * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
      */
-    @Transactional(readOnly = true)
     @PreAuthorize("hasPermission(#id, 'USER', 'READ')")
     public UserResult get(UUID id) {
-        return userRepository
-                .findById(id)
-                .map(userMapper::toResult)
-                .orElseThrow(() -> new ResourceNotFoundException(MessageUtils.get("error.user.not-found.id", id)));
+        return userDetailCache.get(id, this::loadUser);
     }
 
     /**
      * 사용자 목록 페이지네이션 조회
+     * <p>
+     * 전체 건수는 {@link ListingCounter} 설정에 따라 count 쿼리, 캐시, 이벤트 누적값 또는 플래너 추정값을 사용합니다.
      *
      * @param pageable 페이지네이션 정보
      * @return 사용자 목록 페이지
      */
     @Transactional(readOnly = true)
     public Page<UserResult> listWithPaging(Pageable pageable) {
-        return userRepository.findAll(pageable).map(userMapper::toResult);
+        return listingCounter
+                .page(LISTING, pageable, userRepository::findAll, userRepository::findPageRows, userRepository::count)
+                .map(userMapper::toResult);
     }
 
     /**
@@ -65,11 +79,30 @@ public class UserQueryService {
      */
     @Transactional(readOnly = true)
     public Page<UserResult> listWithPaging(Pageable pageable, String search) {
-        return userRepository
-                .findByUsernameContainingIgnoreCaseOrNameContainingIgnoreCaseOrEmailContainingIgnoreCase(search, search, search, pageable)
+        return CountedPage
+                .exact(userRepository.findByUsernameContainingIgnoreCaseOrNameContainingIgnoreCaseOrEmailContainingIgnoreCase(search, search, search, pageable))
                 .map(userMapper::toResult);
     }
 
+    /**
+     * 사용자 목록 커서(키셋) 페이지네이션 조회
+     * <p>
+     * (created_at, id) 기준으로 탐색하므로 OFFSET 스캔과 전체 건수(count) 쿼리가 발생하지 않습니다.
+     *
+     * @param cursor 이전 응답의 next/prev 커서 (첫 페이지면 null)
+     * @param size   페이지 크기
+     * @return 사용자 커서 페이지 (최신 가입순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserResult> listWithCursor(@Nullable String cursor, int size) {
+        Cursor position = Cursor.decode(cursor);
+        var limit = CursorPage.fetchLimit(size);
+        List<User> rows = position == null ? userRepository.findLatest(limit)
+                : position.isNext() ? userRepository.findOlderThan(position.createdAt(), position.id(), limit)
+                : userRepository.findNewerThan(position.createdAt(), position.id(), limit);
+        return CursorPage.of(rows, size, position, User::getCreatedAt, User::getId).map(userMapper::toResult);
+    }
+
     // WebController 호환 메서드들 (기존 API 유지)
 
     /**
@@ -83,24 +116,34 @@ public class UserQueryService {
     /**
      * 사용자 단일 조회 (권한 체크 없는 버전)
      */
-    @Transactional(readOnly = true)
     public UserResult getUser(UUID id) {
-        return userRepository.findById(id)
-                             .map(userMapper::toResult)
-                             .orElseThrow(() -> new ResourceNotFoundException(MessageUtils.get("error.user.not-found.id", id)));
+        return userDetailCache.get(id, this::loadUser);
     }
 
-    // 대시보드용 메서드들
+    /**
+     * 활성 사용자 수 조회 (최근 7일 동안 로그인했거나 인증된 요청을 보낸 고유 사용자 수, 근사치)
+     * <p>
+     * 메모리 스케치에서 읽으므로 DB에 접근하지 않습니다.
+     *
+     * @return 주간 활성 사용자 수
+     */
+    public long getActiveUserCount() {
+        return userActivityRecorder.weeklyActiveUsers();
+    }
 
     /**
-     * 활성 사용자 수 조회 (간단한 구현: 전체 사용자 수)
-     * TODO: 실제로는 최근 로그인 기록 등을 기반으로 활성 사용자를 판단해야 함
+     * 오늘 활성 사용자 수 조회 (근사치)
      *
-     * @return 활성 사용자 수
+     * @return 일간 활성 사용자 수
      */
-    @Transactional(readOnly = true)
-    public Long getActiveUserCount() {
-        return userRepository.count();
+    public long getDailyActiveUserCount() {
+        return userActivityRecorder.dailyActiveUsers();
+    }
+
+    private UserResult loadUser(UUID id) {
+        return userRepository.findById(id)
+                             .map(userMapper::toResult)
+                             .orElseThrow(() -> new ResourceNotFoundException(MessageUtils.get("error.user.not-found.id", id)));
     }
 
 }
@@ -50,7 +50,7 @@ import dev.xiyo.bunnyholes.boardhole.user.domain.validation.required.ValidUserna
 @EntityListeners(ValidationListener.class)
 @DynamicUpdate
 @SoftDelete(columnName = "deleted")
-@Table(name = "users", indexes = {@Index(name = "idx_user_username", columnList = "username"), @Index(name = "idx_user_email", columnList = "email"), @Index(name = "idx_user_name", columnList = "name")})
+@Table(name = "users", indexes = {@Index(name = "idx_user_username", columnList = "username"), @Index(name = "idx_user_email", columnList = "email"), @Index(name = "idx_user_name", columnList = "name"), @Index(name = "idx_user_created_at_id", columnList = "created_at, id")})
 public class User extends BaseEntity implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
@@ -64,7 +64,7 @@ public class User extends BaseEntity implements Serializable {
     private String username;
 
     @ValidEncodedPassword
-    @Column(nullable = false, length = UserValidationConstants.PASSWORD_ENCODED_BCRYPT_LENGTH)
+    @Column(nullable = false, length = UserValidationConstants.PASSWORD_ENCODED_MAX_LENGTH)
     private String password;
 
     @ValidName
@@ -114,10 +114,6 @@ public class User extends BaseEntity implements Serializable {
         this.password = password;
     }
 
-    public void recordLastLogin() {
-        lastLogin = LocalDateTime.now();
-    }
-
     public void verifyEmail() {
         emailVerified = true;
         emailVerifiedAt = LocalDateTime.now();
@@ -15,15 +15,15 @@ import dev.xiyo.bunnyholes.boardhole.user.domain.validation.UserValidationConsta
 
 /**
  * 인코딩된 비밀번호 검증 애너테이션
- * BCrypt로 인코딩된 비밀번호 형식을 검증
+ * 인코딩된 비밀번호 형식을 검증
  * - 필수값 검증
- * - BCrypt 해시 패턴 검증 ($2a$, $2b$, $2y$로 시작하는 60자)
+ * - 접두사 없는 BCrypt 해시($2a$, $2b$, $2y$로 시작하는 60자) 또는 {@code {id}} 접두사가 붙은 위임 인코더 해시
  */
 @Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 @NotBlank(message = "{validation.user.password.required}")
-@Pattern(regexp = UserValidationConstants.ENCODED_PASSWORD_BCRYPT_PATTERN, message = "{validation.user.password.encoded}")
+@Pattern(regexp = UserValidationConstants.ENCODED_PASSWORD_PATTERN, message = "{validation.user.password.encoded}")
 @Constraint(validatedBy = {})
 public @interface ValidEncodedPassword {
     String message() default "{validation.user.password.invalid.encoded}";
@@ -0,0 +1,10 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 사용자별 마지막 로그인 시각 프로젝션
+ */
+public record UserLastLogin(UUID userId, LocalDateTime lastLogin) {
+}
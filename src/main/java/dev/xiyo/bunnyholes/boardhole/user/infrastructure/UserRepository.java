@@ -1,14 +1,17 @@
 package dev.xiyo.bunnyholes.boardhole.user.infrastructure;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
 
@@ -66,6 +69,59 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     Page<User> findByUsernameContainingIgnoreCaseOrNameContainingIgnoreCaseOrEmailContainingIgnoreCase(String username, String name, String email, Pageable pageable);
 
+    /**
+     * 사용자 목록 페이지 내용만 조회 (count 쿼리 없음)
+     * <p>
+     * 전체 건수는 {@link dev.xiyo.bunnyholes.boardhole.shared.pagination.ListingCounter}가 별도로 제공합니다.
+     *
+     * @param pageable 페이지네이션 정보
+     * @return 사용자 목록
+     */
+    @Query("SELECT u FROM User u")
+    List<User> findPageRows(Pageable pageable);
+
+    /**
+     * 키셋 페이지네이션 첫 페이지 조회 (최신 가입순, count 쿼리 없음)
+     * <p>
+     * roles 컬렉션을 fetch join 하면 LIMIT이 메모리에서 적용되므로 EntityGraph를 사용하지 않습니다.
+     *
+     * @param limit 조회 건수
+     * @return 사용자 목록 (created_at DESC, id DESC)
+     */
+    @Query("SELECT u FROM User u ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findLatest(Limit limit);
+
+    /**
+     * 키셋 페이지네이션 다음 페이지 조회 - 기준 행보다 먼저 가입한 사용자
+     *
+     * @param createdAt 기준 행 생성 시각
+     * @param id        기준 행 ID
+     * @param limit     조회 건수
+     * @return 사용자 목록 (created_at DESC, id DESC)
+     */
+    @Query("SELECT u FROM User u WHERE u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id) ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * 키셋 페이지네이션 이전 페이지 조회 - 기준 행보다 나중에 가입한 사용자
+     *
+     * @param createdAt 기준 행 생성 시각
+     * @param id        기준 행 ID
+     * @param limit     조회 건수
+     * @return 사용자 목록 (created_at ASC, id ASC - 호출 측에서 뒤집어 사용)
+     */
+    @Query("SELECT u FROM User u WHERE u.createdAt > :createdAt OR (u.createdAt = :createdAt AND u.id > :id) ORDER BY u.createdAt ASC, u.id ASC")
+    List<User> findNewerThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * 주어진 시각 이후 로그인한 사용자 조회 (활성 사용자 스케치 적재용)
+     *
+     * @param since 조회 시작 시각
+     * @return 사용자 ID와 마지막 로그인 시각
+     */
+    @Query("SELECT new dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserLastLogin(u.id, u.lastLogin) FROM User u WHERE u.lastLogin >= :since")
+    List<UserLastLogin> findLastLoginsSince(@Param("since") LocalDateTime since);
+
     /**
      * 삭제된 사용자 포함 전체 조회 (Native Query)
      *
@@ -0,0 +1,76 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure.activity;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jspecify.annotations.Nullable;
+
+import dev.xiyo.bunnyholes.boardhole.shared.util.HyperLogLog;
+
+/**
+ * 최근 {@value #DAYS}일 일별 활성 사용자 스케치
+ * <p>
+ * 날짜별 HyperLogLog를 날짜 순환 슬롯에 보관합니다. 새 날짜가 슬롯에 들어오면 {@value #DAYS}일 전 스케치를 교체하고,
+ * 기간 집계는 해당 날짜들의 스케치를 합친 추정치입니다(여러 날 활동한 사용자는 한 번만 셉니다).
+ */
+final class ActiveUserSketch {
+
+    static final int DAYS = 7;
+
+    private final int precision;
+    private final AtomicReferenceArray<Day> days = new AtomicReferenceArray<>(DAYS);
+
+    ActiveUserSketch(int precision) {
+        this.precision = precision;
+    }
+
+    /**
+     * 사용자 활동 기록 (보관 기간보다 오래된 날짜는 무시)
+     *
+     * @param userHash 사용자 ID 해시
+     * @param date     활동 날짜
+     */
+    void record(long userHash, LocalDate date) {
+        Day day = dayFor(date.toEpochDay());
+        if (day != null)
+            day.sketch.offer(userHash);
+    }
+
+    /**
+     * 기간 내 고유 활성 사용자 추정치
+     *
+     * @param today  기준일 (포함)
+     * @param window 기준일부터 거슬러 올라갈 일수 (1~{@value #DAYS})
+     */
+    long count(LocalDate today, int window) {
+        HyperLogLog union = new HyperLogLog(precision);
+        long end = today.toEpochDay();
+        for (long epochDay = end - Math.clamp(window, 1, DAYS) + 1; epochDay <= end; epochDay++) {
+            Day day = days.get(slot(epochDay));
+            if (day != null && day.epochDay == epochDay)
+                union.merge(day.sketch);
+        }
+        return union.estimate();
+    }
+
+    private @Nullable Day dayFor(long epochDay) {
+        int slot = slot(epochDay);
+        while (true) {
+            Day current = days.get(slot);
+            if (current != null && current.epochDay == epochDay)
+                return current;
+            if (current != null && current.epochDay > epochDay)
+                return null;
+            Day fresh = new Day(epochDay, new HyperLogLog(precision));
+            if (days.compareAndSet(slot, current, fresh))
+                return fresh;
+        }
+    }
+
+    private static int slot(long epochDay) {
+        return (int) Math.floorMod(epochDay, DAYS);
+    }
+
+    private record Day(long epochDay, HyperLogLog sketch) {
+    }
+}
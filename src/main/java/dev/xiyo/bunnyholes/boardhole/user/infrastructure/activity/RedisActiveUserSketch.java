@@ -0,0 +1,70 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure.activity;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Redis 공유 일별 활성 사용자 스케치
+ * <p>
+ * 날짜마다 Redis HyperLogLog 키 하나({@code PFADD})에 사용자 ID를 모으고, 기간 집계는 해당 날짜 키들의 {@code PFCOUNT}(합집합 추정치)입니다.
+ * 모든 노드가 같은 키에 기록하므로 어느 노드에서 조회해도 같은 값이 나옵니다.
+ * 키는 보관 기간보다 하루 더 유지한 뒤 만료되며, 여러 키를 한 번에 세므로 클러스터에서는 접두사의 해시 태그로 같은 슬롯에 둡니다.
+ */
+public class RedisActiveUserSketch {
+
+    private static final Duration RETENTION = Duration.ofDays(ActiveUserSketch.DAYS + 1L);
+    private static final int MAX_MEMBERS_PER_COMMAND = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+
+    public RedisActiveUserSketch(RedisConnectionFactory connectionFactory, String keyPrefix) {
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+        this.keyPrefix = keyPrefix;
+    }
+
+    /**
+     * 날짜별 활동 사용자 추가
+     *
+     * @param date    활동 날짜
+     * @param userIds 사용자 ID
+     */
+    public void add(LocalDate date, Collection<UUID> userIds) {
+        if (userIds.isEmpty())
+            return;
+        String key = key(date);
+        List<String> members = userIds.stream().map(UUID::toString).toList();
+        HyperLogLogOperations<String, String> operations = redisTemplate.opsForHyperLogLog();
+        for (int from = 0; from < members.size(); from += MAX_MEMBERS_PER_COMMAND) {
+            List<String> chunk = members.subList(from, Math.min(members.size(), from + MAX_MEMBERS_PER_COMMAND));
+            operations.add(key, chunk.toArray(String[]::new));
+        }
+        redisTemplate.expire(key, RETENTION);
+    }
+
+    /**
+     * 기간 내 고유 활성 사용자 추정치
+     *
+     * @param today  기준일 (포함)
+     * @param window 기준일부터 거슬러 올라갈 일수 (1~{@value ActiveUserSketch#DAYS})
+     */
+    public long count(LocalDate today, int window) {
+        int days = Math.clamp(window, 1, ActiveUserSketch.DAYS);
+        String[] keys = new String[days];
+        for (int i = 0; i < days; i++)
+            keys[i] = key(today.minusDays(i));
+        Long size = redisTemplate.opsForHyperLogLog().size(keys);
+        return size == null ? 0 : size;
+    }
+
+    private String key(LocalDate date) {
+        return keyPrefix + date;
+    }
+}
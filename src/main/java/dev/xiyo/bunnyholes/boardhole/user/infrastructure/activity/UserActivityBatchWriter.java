@@ -0,0 +1,46 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure.activity;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 모아 둔 마지막 로그인 시각을 JDBC 배치 UPDATE로 반영
+ * <p>
+ * 엔티티 로딩, 역할 컬렉션 조회, Bean Validation, 감사 필드 갱신 없이 컬럼 하나만 바꿉니다.
+ * 이미 더 최근 시각이 기록되어 있으면(다른 노드가 먼저 반영) 덮어쓰지 않으며,
+ * 여러 노드가 동시에 flush 하더라도 행 잠금 순서가 같도록 사용자 ID 순으로 정렬합니다.
+ */
+@RequiredArgsConstructor
+public class UserActivityBatchWriter {
+
+    static final String UPDATE_SQL = "UPDATE users SET last_login = ? WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    /**
+     * 마지막 로그인 시각 일괄 반영
+     *
+     * @param lastLogins 사용자 ID별 마지막 로그인 시각
+     */
+    @Transactional
+    public void write(Map<UUID, LocalDateTime> lastLogins) {
+        List<Map.Entry<UUID, LocalDateTime>> rows = new ArrayList<>(lastLogins.entrySet());
+        rows.sort(Map.Entry.comparingByKey());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, rows, batchSize, (ps, row) -> {
+            Timestamp lastLogin = Timestamp.valueOf(row.getValue());
+            ps.setTimestamp(1, lastLogin);
+            ps.setObject(2, row.getKey());
+            ps.setTimestamp(3, lastLogin);
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure.activity;
+
+import java.time.Clock;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 사용자 활동 기록 설정
+ * <p>
+ * 날짜는 마지막 로그인 컬럼과 같은 시스템 기본 시간대 기준으로 나누며, 활동 필터는 인증 상태를 알 수 있도록 보안 필터 체인 다음에 등록합니다.
+ * {@code boardhole.user-activity.redis.enabled=true}이고 Redis 연결이 구성되어 있으면 활성 사용자 스케치를 노드 간에 공유합니다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(UserActivityProperties.class)
+public class UserActivityConfiguration {
+
+    @Bean
+    public UserActivityBatchWriter userActivityBatchWriter(JdbcTemplate jdbcTemplate, UserActivityProperties properties) {
+        return new UserActivityBatchWriter(jdbcTemplate, properties.batchSize());
+    }
+
+    @Bean
+    public UserActivityRecorder userActivityRecorder(UserActivityBatchWriter writer, UserRepository userRepository,
+                                                     UserActivityProperties properties, MeterRegistry meterRegistry,
+                                                     ObjectProvider<RedisConnectionFactory> redisConnectionFactory) {
+        RedisConnectionFactory connectionFactory = properties.redis().enabled() ? redisConnectionFactory.getIfAvailable() : null;
+        RedisActiveUserSketch shared = connectionFactory == null ? null
+                : new RedisActiveUserSketch(connectionFactory, properties.redis().keyPrefix());
+        log.info("Active user sketch: {}", shared != null ? "local + redis" : "local only");
+        return new UserActivityRecorder(writer, userRepository, properties, shared, Clock.systemDefaultZone(), meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<UserActivityFilter> userActivityFilter(UserActivityRecorder recorder) {
+        FilterRegistrationBean<UserActivityFilter> registration = new FilterRegistrationBean<>(new UserActivityFilter(recorder));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
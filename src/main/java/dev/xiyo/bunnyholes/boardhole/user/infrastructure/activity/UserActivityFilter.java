@@ -0,0 +1,37 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure.activity;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import dev.xiyo.bunnyholes.boardhole.shared.security.AppUserPrincipal;
+
+/**
+ * 인증된 요청을 활성 사용자로 기록하는 필터
+ * <p>
+ * 보안 필터 체인 뒤에서 동작하며, 세션으로 로그인 상태가 유지되는 사용자도 활동한 날짜에 활성 사용자로 집계되도록 합니다.
+ * 같은 날 이미 기록한 사용자는 집합 조회 한 번으로 끝납니다.
+ */
+@RequiredArgsConstructor
+public class UserActivityFilter extends OncePerRequestFilter {
+
+    private final UserActivityRecorder recorder;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AppUserPrincipal principal)
+            recorder.seen(principal.id());
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,62 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure.activity;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 사용자 활동 기록 설정
+ */
+@ConfigurationProperties(prefix = "boardhole.user-activity")
+public record UserActivityProperties(
+        /**
+         * 마지막 로그인 시각 주기적 flush 간격
+         */
+        @DefaultValue("10s") Duration flushInterval,
+
+        /**
+         * 대기 중인 사용자 수가 이 값에 도달하면 주기와 상관없이 flush
+         */
+        @DefaultValue("1000") int maxPendingUsers,
+
+        /**
+         * JDBC 배치 크기
+         */
+        @DefaultValue("500") int batchSize,
+
+        /**
+         * 일별 활성 사용자 HyperLogLog 정밀도 (레지스터 2^p 바이트, 오차 약 1.04/sqrt(2^p))
+         */
+        @DefaultValue("12") int sketchPrecision,
+
+        /**
+         * 오늘 이미 집계한 사용자를 기억할 최대 수 (넘으면 요청마다 스케치에 기록)
+         */
+        @DefaultValue("100000") int maxSeenUsers,
+
+        /**
+         * 시작 시 DB의 최근 로그인 기록으로 활성 사용자 스케치를 채울지 여부
+         */
+        @DefaultValue("true") boolean seedOnStart,
+
+        /**
+         * Redis 공유 활성 사용자 스케치
+         */
+        @DefaultValue Redis redis
+) {
+
+    /**
+     * Redis 공유 활성 사용자 스케치 설정
+     * <p>
+     * Redis 연결이 없는 환경에서는 설정과 무관하게 노드 로컬 스케치만 사용합니다.
+     *
+     * @param enabled   여러 노드가 Redis HyperLogLog로 활성 사용자를 함께 집계할지 여부
+     * @param keyPrefix 날짜별 키 접두사 (여러 날짜 키를 한 번에 세므로 클러스터에서는 해시 태그 포함)
+     */
+    public record Redis(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("boardhole:{active-users}:") String keyPrefix
+    ) {
+    }
+}
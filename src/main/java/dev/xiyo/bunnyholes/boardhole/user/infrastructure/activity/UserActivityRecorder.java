@@ -0,0 +1,343 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure.activity;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+
+import dev.xiyo.bunnyholes.boardhole.shared.util.HyperLogLog;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserLastLogin;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 사용자 활동 write-behind 기록기
+ * <p>
+ * 로그인마다 사용자 엔티티를 저장하는 대신 사용자별 마지막 로그인 시각만 메모리에 모아(같은 사용자는 최신 값 하나로 합침)
+ * 주기적으로 또는 대기 사용자 수가 한도에 도달하면 한 번의 JDBC 배치 UPDATE로 반영합니다.
+ * flush는 보낸 값과 같은 항목만 맵에서 지우므로 그 사이 들어온 더 최근 로그인은 다음 flush로 넘어가고,
+ * 반영에 실패한 값은 되돌려 다음 flush에서 재시도합니다. 애플리케이션 종료 시 남은 값을 모두 반영합니다.
+ * <p>
+ * 로그인과 인증된 요청은 일별 활성 사용자 스케치({@link ActiveUserSketch})에도 기록됩니다. 같은 날 이미 기록한 사용자는
+ * 집합 조회 한 번으로 건너뜁니다. 스케치는 노드 메모리에만 있으므로 시작 시 DB의 최근 {@value ActiveUserSketch#DAYS}일
+ * 마지막 로그인 시각으로 채웁니다.
+ * <p>
+ * Redis 공유 스케치({@link RedisActiveUserSketch})가 있으면 날마다 처음 본 사용자를 flush 때 함께 기록하고, 활성 사용자 수는 모든 노드가
+ * 기록한 공유 스케치에서 읽습니다. 조회 결과는 flush 주기 동안 재사용하며, 아직 반영하지 않은 이 노드의 사용자 때문에 노드 로컬 추정치가
+ * 더 크면 그 값을 씁니다. Redis를 쓸 수 없으면 노드 로컬 스케치로 응답합니다(이 노드에서 활동한 사용자만 집계).
+ */
+@Slf4j
+public class UserActivityRecorder {
+
+    private final UserActivityBatchWriter writer;
+    private final UserRepository userRepository;
+    private final UserActivityProperties properties;
+    private final Clock clock;
+    private final ScheduledExecutorService flusher;
+    private final @Nullable RedisActiveUserSketch sharedSketch;
+
+    private final ConcurrentHashMap<UUID, LocalDateTime> pendingLogins = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ActiveUserSketch sketch;
+    private final Set<UUID> seenToday = ConcurrentHashMap.newKeySet();
+    private volatile long seenDay;
+    private final Set<ActiveDay> pendingActive = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, SharedCount> sharedCounts = new ConcurrentHashMap<>();
+
+    private final Counter flushedLogins;
+    private final Counter failedFlushes;
+    private final Timer flushTimer;
+    private final Counter sharedErrors;
+
+    /**
+     * @param sharedSketch 노드 간 공유 활성 사용자 스케치 (없으면 노드 로컬 스케치만 사용)
+     */
+    public UserActivityRecorder(UserActivityBatchWriter writer, UserRepository userRepository, UserActivityProperties properties,
+                                @Nullable RedisActiveUserSketch sharedSketch, Clock clock, MeterRegistry meterRegistry) {
+        this.writer = writer;
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.sharedSketch = sharedSketch;
+        this.clock = clock;
+        this.sketch = new ActiveUserSketch(properties.sketchPrecision());
+        this.seenDay = LocalDate.now(clock).toEpochDay();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-activity-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("user.activity.pending", pendingLogins, Map::size)
+             .description("Users whose last login time is not yet written")
+             .register(meterRegistry);
+        Gauge.builder("user.activity.active", this, UserActivityRecorder::dailyActiveUsers)
+             .tag("window", "daily")
+             .description("Approximate distinct users active today")
+             .register(meterRegistry);
+        Gauge.builder("user.activity.active", this, UserActivityRecorder::weeklyActiveUsers)
+             .tag("window", "weekly")
+             .description("Approximate distinct users active in the last 7 days")
+             .register(meterRegistry);
+        this.flushedLogins = Counter.builder("user.activity.flushed")
+                                    .description("Last login times written by batched updates")
+                                    .register(meterRegistry);
+        this.failedFlushes = Counter.builder("user.activity.flush.failures")
+                                    .description("Failed last login flushes (retried on next flush)")
+                                    .register(meterRegistry);
+        this.flushTimer = Timer.builder("user.activity.flush")
+                               .description("Duration of last login flushes")
+                               .register(meterRegistry);
+        this.sharedErrors = Counter.builder("user.activity.shared.errors")
+                                   .description("Failed shared active user sketch reads and writes (served from the local sketch)")
+                                   .register(meterRegistry);
+
+        if (properties.seedOnStart())
+            flusher.execute(this::seedQuietly);
+        long intervalMs = properties.flushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private static long hash(UUID userId) {
+        return HyperLogLog.mix(userId.getMostSignificantBits() ^ HyperLogLog.mix(userId.getLeastSignificantBits()));
+    }
+
+    /**
+     * 로그인 기록 (lock-free, DB 반영은 다음 flush)
+     *
+     * @param userId 로그인한 사용자 ID
+     */
+    public void loggedIn(UUID userId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        pendingLogins.merge(userId, now, (previous, current) -> current.isAfter(previous) ? current : previous);
+        seen(userId, now.toLocalDate());
+        if (pendingLogins.size() >= properties.maxPendingUsers())
+            requestFlush();
+    }
+
+    /**
+     * 인증된 요청 기록 (활성 사용자 집계에만 반영)
+     *
+     * @param userId 요청한 사용자 ID
+     */
+    public void seen(UUID userId) {
+        seen(userId, LocalDate.now(clock));
+    }
+
+    /**
+     * 오늘 활동한 고유 사용자 수 (근사치)
+     */
+    public long dailyActiveUsers() {
+        return activeUsers(1);
+    }
+
+    /**
+     * 최근 7일(오늘 포함) 활동한 고유 사용자 수 (근사치)
+     */
+    public long weeklyActiveUsers() {
+        return activeUsers(ActiveUserSketch.DAYS);
+    }
+
+    /**
+     * 반영 대기 중인 사용자 수
+     */
+    public int pendingUsers() {
+        return pendingLogins.size();
+    }
+
+    /**
+     * 모아 둔 마지막 로그인 시각을 DB에 반영
+     *
+     * @return 반영한 사용자 수
+     */
+    public synchronized int flush() {
+        flushRequested.set(false);
+
+        Map<UUID, LocalDateTime> batch = new HashMap<>();
+        pendingLogins.forEach((userId, lastLogin) -> {
+            if (pendingLogins.remove(userId, lastLogin))
+                batch.put(userId, lastLogin);
+        });
+        if (batch.isEmpty())
+            return 0;
+
+        try {
+            flushTimer.record(() -> writer.write(batch));
+            flushedLogins.increment(batch.size());
+            return batch.size();
+        } catch (RuntimeException e) {
+            failedFlushes.increment();
+            log.warn("Last login flush failed, {} users will be retried: {}", batch.size(), e.getMessage());
+            batch.forEach((userId, lastLogin) ->
+                    pendingLogins.merge(userId, lastLogin, (current, failed) -> current.isAfter(failed) ? current : failed));
+            return 0;
+        }
+    }
+
+    /**
+     * 이 노드에서 처음 본 활성 사용자를 공유 스케치에 기록
+     *
+     * @return 기록한 사용자 수 (공유 스케치가 없거나 실패하면 0)
+     */
+    public int publishActiveUsers() {
+        if (sharedSketch == null || pendingActive.isEmpty())
+            return 0;
+        Map<LocalDate, List<UUID>> byDate = new HashMap<>();
+        for (ActiveDay active : pendingActive)
+            if (pendingActive.remove(active))
+                byDate.computeIfAbsent(active.date(), ignored -> new ArrayList<>()).add(active.userId());
+        int published = 0;
+        try {
+            for (Map.Entry<LocalDate, List<UUID>> entry : byDate.entrySet()) {
+                sharedSketch.add(entry.getKey(), entry.getValue());
+                published += entry.getValue().size();
+            }
+            return published;
+        } catch (RuntimeException e) {
+            // 노드 로컬 스케치에는 남아 있으므로 재시도하지 않음 (Redis 장애 중 대기 집합이 계속 커지지 않도록)
+            sharedErrors.increment();
+            log.warn("Shared active user sketch update failed: {}", e.getMessage());
+            return published;
+        }
+    }
+
+    /**
+     * DB의 최근 로그인 기록으로 활성 사용자 스케치 채우기
+     * <p>
+     * 공유 스케치가 있으면 함께 기록해, 공유 스케치가 비어 있던 첫 배포나 Redis 데이터 유실 뒤에도 최근 사용자가 집계되게 합니다.
+     */
+    public void seed() {
+        LocalDateTime since = LocalDate.now(clock).minusDays(ActiveUserSketch.DAYS - 1L).atStartOfDay();
+        Map<LocalDate, List<UUID>> byDate = new HashMap<>();
+        int count = 0;
+        for (UserLastLogin row : userRepository.findLastLoginsSince(since)) {
+            LocalDate date = row.lastLogin().toLocalDate();
+            sketch.record(hash(row.userId()), date);
+            byDate.computeIfAbsent(date, ignored -> new ArrayList<>()).add(row.userId());
+            count++;
+        }
+        if (sharedSketch != null) {
+            try {
+                byDate.forEach(sharedSketch::add);
+            } catch (RuntimeException e) {
+                sharedErrors.increment();
+                log.warn("Shared active user sketch seeding failed: {}", e.getMessage());
+            }
+        }
+        log.debug("Active user sketch seeded from {} recent logins", count);
+    }
+
+    /**
+     * 종료 시 남은 로그인 시각 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(properties.flushInterval().toMillis(), TimeUnit.MILLISECONDS))
+                flusher.shutdownNow();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        publishActiveUsers();
+    }
+
+    private long activeUsers(int window) {
+        LocalDate today = LocalDate.now(clock);
+        long local = sketch.count(today, window);
+        if (sharedSketch == null)
+            return local;
+        long now = clock.instant().toEpochMilli();
+        SharedCount cached = sharedCounts.get(window);
+        if (cached == null || cached.epochDay() != today.toEpochDay() || now >= cached.expiresAt()) {
+            try {
+                long shared = sharedSketch.count(today, window);
+                cached = new SharedCount(today.toEpochDay(), shared, now + properties.flushInterval().toMillis());
+            } catch (RuntimeException e) {
+                sharedErrors.increment();
+                log.warn("Shared active user sketch unavailable, using local estimate: {}", e.getMessage());
+                return local;
+            }
+            sharedCounts.put(window, cached);
+        }
+        return Math.max(local, cached.value());
+    }
+
+    private void seen(UUID userId, LocalDate date) {
+        long epochDay = date.toEpochDay();
+        if (epochDay > seenDay) {
+            synchronized (seenToday) {
+                if (epochDay > seenDay) {
+                    seenToday.clear();
+                    seenDay = epochDay;
+                }
+            }
+        }
+        if (epochDay == seenDay) {
+            if (seenToday.contains(userId))
+                return;
+            if (seenToday.size() < properties.maxSeenUsers())
+                seenToday.add(userId);
+        }
+        sketch.record(hash(userId), date);
+        if (sharedSketch != null && pendingActive.add(new ActiveDay(date, userId)) && pendingActive.size() >= properties.maxPendingUsers())
+            requestFlush();
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true) && !flusher.isShutdown())
+            flusher.execute(this::flushQuietly);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+            publishActiveUsers();
+        } catch (RuntimeException e) {
+            log.warn("Unexpected error while flushing last login times", e);
+        }
+    }
+
+    private void seedQuietly() {
+        try {
+            seed();
+        } catch (RuntimeException e) {
+            log.warn("Active user sketch seeding failed, counting from new activity only: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 공유 스케치에 아직 기록하지 않은 활동
+     */
+    private record ActiveDay(LocalDate date, UUID userId) {
+    }
+
+    /**
+     * 공유 스케치 조회 결과
+     *
+     * @param epochDay  기준일
+     * @param value     활성 사용자 추정치
+     * @param expiresAt 재사용 만료 시각 (epoch ms)
+     */
+    private record SharedCount(long epochDay, long value, long expiresAt) {
+    }
+}
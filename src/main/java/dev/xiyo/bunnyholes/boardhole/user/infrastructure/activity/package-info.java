@@ -0,0 +1,8 @@
+/**
+ * User activity infrastructure package
+ * 사용자 로그인/활동 write-behind 기록 및 활성 사용자 집계 패키지
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure.activity;
+
+import org.jspecify.annotations.NullMarked;
@@ -27,6 +27,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import dev.xiyo.bunnyholes.boardhole.shared.constants.ApiPaths;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.CursorPage;
 import dev.xiyo.bunnyholes.boardhole.shared.security.AppUserPrincipal;
 import dev.xiyo.bunnyholes.boardhole.user.application.command.UserCommandService;
 import dev.xiyo.bunnyholes.boardhole.user.application.query.UserQueryService;
@@ -56,7 +57,7 @@ public class UserController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "사용자 목록 조회", description = "[ROLE:ADMIN] 관리자가 사용자 목록을 페이지네이션으로 조회합니다. 검색 기능을 제공합니다.", security = @SecurityRequirement(name = "admin-role"))
+    @Operation(summary = "사용자 목록 조회", description = "[ROLE:ADMIN] 관리자가 사용자 목록을 페이지네이션으로 조회합니다. 검색 기능을 제공합니다. 전체 건수가 추정값이면 totalApproximate가 true입니다.", security = @SecurityRequirement(name = "admin-role"))
     @ApiResponse(responseCode = "200", description = "사용자 목록 조회 성공", content = @Content(schema = @Schema(implementation = Page.class)))
     @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
     @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
@@ -68,6 +69,17 @@ public class UserController {
         return results.map(userWebMapper::toResponse);
     }
 
+    @GetMapping(ApiPaths.CURSOR)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "사용자 목록 커서 조회", description = "[ROLE:ADMIN] 관리자가 사용자 목록을 최신 가입순 커서(키셋) 페이지네이션으로 조회합니다. 전체 건수를 계산하지 않습니다.", security = @SecurityRequirement(name = "admin-role"))
+    @ApiResponse(responseCode = "200", description = "사용자 목록 조회 성공", content = @Content(schema = @Schema(implementation = CursorPage.class)))
+    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    @ApiResponse(responseCode = "422", description = "잘못된 커서")
+    public CursorPage<UserResponse> listByCursor(@Parameter(description = "이전 응답의 nextCursor 또는 prevCursor (첫 페이지는 생략)") @RequestParam(required = false) @Nullable String cursor, @Parameter(description = "페이지 크기 (최대 100)", example = "20") @RequestParam(defaultValue = "20") int size) {
+        return userQueryService.listWithCursor(cursor, size).map(userWebMapper::toResponse);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "사용자 상세 조회", description = "[AUTH] 특정 사용자의 상세 정보를 조회합니다. 관리자이거나 본인만 조회 가능합니다.")
@@ -123,7 +135,7 @@ public class UserController {
     @ApiResponse(responseCode = "200", description = "현재 사용자 정보 조회 성공", content = @Content(schema = @Schema(implementation = UserResponse.class)))
     @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
     public UserResponse me(@AuthenticationPrincipal AppUserPrincipal principal) {
-        UserResult result = userQueryService.get(principal.user().getId());
+        UserResult result = userQueryService.get(principal.id());
         return userWebMapper.toResponse(result);
     }
 }
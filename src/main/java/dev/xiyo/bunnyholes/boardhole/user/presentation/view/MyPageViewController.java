@@ -50,7 +50,7 @@ public class MyPageViewController {
         if (principal == null)
             model.addAttribute("user", new Object());
         else {
-            var user = userQueryService.getUser(principal.user().getId());
+            var user = userQueryService.getUser(principal.id());
             model.addAttribute("user", user != null ? user : new Object());
         }
         return "user/mypage";
@@ -82,7 +82,7 @@ public class MyPageViewController {
             return "redirect:/users/me";
         }
 
-        var command = new UpdateUserCommand(principal.user().getId(), request.name());
+        var command = new UpdateUserCommand(principal.id(), request.name());
         userCommandService.update(command);
 
         redirectAttributes.addFlashAttribute("success", "프로필이 성공적으로 수정되었습니다.");
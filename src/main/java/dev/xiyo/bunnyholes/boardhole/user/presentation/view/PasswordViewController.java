@@ -63,7 +63,7 @@ public class PasswordViewController {
         }
 
         var command = new UpdatePasswordCommand(
-                principal.user().getId(),
+                principal.id(),
                 request.currentPassword(),
                 request.newPassword(),
                 request.confirmPassword()
@@ -13,7 +13,9 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.CountedPage;
 import dev.xiyo.bunnyholes.boardhole.user.application.query.UserQueryService;
 
 /**
@@ -33,6 +35,7 @@ public class UserViewController {
      * 사용자 목록 페이지 (관리자 전용)
      * <p>
      * 관리자가 전체 사용자 목록을 페이지네이션으로 조회할 수 있습니다.
+     * 전체 건수가 추정값이면 "약 N명"으로 표시합니다.
      *
      * @param pageable 페이지네이션 설정 (기본 10개씩)
      * @param model    뷰에 전달할 데이터
@@ -46,6 +49,29 @@ public class UserViewController {
     ) {
         var users = userQueryService.getUsers(pageable);
         model.addAttribute("users", users != null ? users : Collections.emptyList());
+        model.addAttribute("approximateTotal", users != null && CountedPage.isApproximate(users));
+        return "user/list";
+    }
+
+    /**
+     * 사용자 목록 페이지 - 커서 페이지네이션 (관리자 전용)
+     * <p>
+     * cursor 파라미터가 있으면 최신 가입순 키셋 탐색으로 목록을 표시합니다.
+     *
+     * @param cursor 이전/다음 페이지 커서 (빈 값이면 첫 페이지)
+     * @param size   페이지 크기 (기본 10개씩)
+     * @param model  뷰에 전달할 데이터
+     * @return 사용자 목록 템플릿
+     */
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public String userListByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            Model model
+    ) {
+        model.addAttribute("users", userQueryService.listWithCursor(cursor, size));
+        model.addAttribute("cursorMode", true);
         return "user/list";
     }
 
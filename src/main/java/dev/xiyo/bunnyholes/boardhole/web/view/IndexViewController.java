@@ -2,11 +2,16 @@ package dev.xiyo.bunnyholes.boardhole.web.view;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import dev.xiyo.bunnyholes.boardhole.dashboard.application.DashboardQueryService;
+import dev.xiyo.bunnyholes.boardhole.shared.security.AppUserPrincipal;
+
 /**
  * 인덱스(홈) 페이지 뷰 컨트롤러
  * <p>
@@ -16,17 +21,21 @@ import org.springframework.web.bind.annotation.RequestParam;
 @RequiredArgsConstructor
 public class IndexViewController {
 
+    private final DashboardQueryService dashboardQueryService;
+
     /**
      * 홈페이지 표시
      * <p>
      * 애플리케이션의 메인 홈페이지를 표시합니다.
-     * 빌드 정보를 포함합니다.
+     * 게시판 통계는 메모리 통계에서 읽으므로 홈 요청마다 집계 쿼리가 실행되지 않습니다.
      *
-     * @param model 뷰에 전달할 데이터
+     * @param principal 로그인 사용자 (비로그인 시 null)
+     * @param model     뷰에 전달할 데이터
      * @return 인덱스 템플릿
      */
     @GetMapping("/")
-    public String index() {
+    public String index(@AuthenticationPrincipal @Nullable AppUserPrincipal principal, Model model) {
+        model.addAttribute("stats", dashboardQueryService.get(principal == null ? null : principal.id()));
         return "index";
     }
 
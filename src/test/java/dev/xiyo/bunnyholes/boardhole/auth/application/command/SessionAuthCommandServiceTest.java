@@ -1,5 +1,6 @@
 package dev.xiyo.bunnyholes.boardhole.auth.application.command;
 
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -37,6 +38,7 @@ import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
 import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
 import dev.xiyo.bunnyholes.boardhole.user.domain.validation.UserValidationConstants;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -58,6 +60,9 @@ class SessionAuthCommandServiceTest {
     @MockitoBean
     private AuthMapper authMapper;
 
+    @MockitoBean
+    private UserRepository userRepository;
+
     @Autowired
     private AuthCommandService service;
 
@@ -108,6 +113,7 @@ class SessionAuthCommandServiceTest {
 
             given(authenticationManager.authenticate(any(Authentication.class))).willReturn(authentication);
             given(authentication.getPrincipal()).willReturn(principal);
+            given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
             given(authMapper.toAuthResult(user)).willReturn(
                     authResult);
 
@@ -316,6 +322,7 @@ class SessionAuthCommandServiceTest {
 
             given(authenticationManager.authenticate(any(Authentication.class))).willReturn(authentication);
             given(authentication.getPrincipal()).willReturn(principal);
+            given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
             given(authMapper.toAuthResult(user)).willReturn(
                     authResult);
 
@@ -40,7 +40,6 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
-import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 
@@ -157,10 +156,8 @@ class AuthControllerTest {
                 mockedSecurityContextHolder.when(SecurityContextHolder::getContext)
                                            .thenReturn(securityContext);
                 given(securityContext.getAuthentication()).willReturn(authentication);
-                given(authentication.getPrincipal()).willReturn(testPrincipal);
                 willDoNothing().given(securityContextRepository).saveContext(securityContext,
                         request, response);
-                willDoNothing().given(userCommandService).updateLastLogin(testUser.getId());
 
                 // when
                 authController.login(loginRequest, request, response);
@@ -170,7 +167,8 @@ class AuthControllerTest {
                 then(authCommandService).should().login(loginCommand);
                 then(securityContextRepository).should().saveContext(securityContext,
                         request, response);
-                then(userCommandService).should().updateLastLogin(testUser.getId());
+                // 마지막 로그인 시각은 인증 성공 이벤트로 기록되므로 로그인 요청에서 사용자 갱신을 하지 않음
+                then(userCommandService).shouldHaveNoInteractions();
             }
         }
 
@@ -198,41 +196,6 @@ class AuthControllerTest {
                 then(authWebMapper).should().toLoginCommand(loginRequest);
                 then(authCommandService).should().login(loginCommand);
                 then(securityContextRepository).should(never()).saveContext(any(), any(), any());
-                then(userCommandService).should(never()).updateLastLogin(any(UUID.class));
-            }
-        }
-
-        @Test
-        @DisplayName("✅ updateLastLogin 예외 발생 시 로그인 성공 유지")
-        void shouldContinueLoginWhenUpdateLastLoginFails() {
-            // given
-            LoginRequest loginRequest = new LoginRequest("testuser", "Password123!");
-            LoginCommand loginCommand = new LoginCommand("testuser", "Password123!");
-
-            given(authWebMapper.toLoginCommand(loginRequest)).willReturn(loginCommand);
-            given(authCommandService.login(loginCommand)).willReturn(new dev.xiyo.bunnyholes.boardhole.auth.application.result.AuthResult(
-                    UUID.randomUUID(), "testuser", "test@example.com", "Test User", "USER", true
-            ));
-
-            try (MockedStatic<SecurityContextHolder> mockedSecurityContextHolder = mockStatic(SecurityContextHolder.class)) {
-                mockedSecurityContextHolder.when(SecurityContextHolder::getContext)
-                                           .thenReturn(securityContext);
-                given(securityContext.getAuthentication()).willReturn(authentication);
-                given(authentication.getPrincipal()).willReturn(testPrincipal);
-                willDoNothing().given(securityContextRepository).saveContext(securityContext,
-                        request, response);
-                willThrow(new UnsupportedOperationException("Test exception"))
-                        .given(userCommandService).updateLastLogin(testUser.getId());
-
-                // when
-                authController.login(loginRequest, request, response);
-
-                // then
-                then(authWebMapper).should().toLoginCommand(loginRequest);
-                then(authCommandService).should().login(loginCommand);
-                then(securityContextRepository).should().saveContext(securityContext,
-                        request, response);
-                then(userCommandService).should().updateLastLogin(testUser.getId());
             }
         }
     }
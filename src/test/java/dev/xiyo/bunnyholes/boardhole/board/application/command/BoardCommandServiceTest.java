@@ -25,6 +25,7 @@ import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
 import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
 import dev.xiyo.bunnyholes.boardhole.board.domain.validation.BoardValidationConstants;
 import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.LoadedBoardHandoff;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
 import dev.xiyo.bunnyholes.boardhole.shared.test.ValidationEnabledTestConfig;
 import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
@@ -56,6 +57,9 @@ class BoardCommandServiceTest {
     @MockitoBean
     private BoardMapper boardMapper;
 
+    @MockitoBean
+    private LoadedBoardHandoff loadedBoardHandoff;
+
     @Autowired
     private BoardCommandService boardCommandService;
 
@@ -104,7 +108,8 @@ class BoardCommandServiceTest {
                     "testuser",
                     0,
                     mockBoard.getCreatedAt(),
-                    mockBoard.getUpdatedAt()
+                    mockBoard.getUpdatedAt(),
+                    null
             );
 
             when(userRepository.findById(mockUser.getId())).thenReturn(Optional.of(
@@ -268,7 +273,8 @@ class BoardCommandServiceTest {
                     "testuser",
                     0,
                     mockBoard.getCreatedAt(),
-                    mockBoard.getUpdatedAt()
+                    mockBoard.getUpdatedAt(),
+                    null
             );
 
             when(boardRepository.findById(mockBoard.getId())).thenReturn(Optional.of(
@@ -326,7 +332,8 @@ class BoardCommandServiceTest {
                     "testuser",
                     0,
                     mockBoard.getCreatedAt(),
-                    mockBoard.getUpdatedAt()
+                    mockBoard.getUpdatedAt(),
+                    null
             );
 
             when(boardRepository.findById(mockBoard.getId())).thenReturn(Optional.of(
@@ -366,6 +373,21 @@ class BoardCommandServiceTest {
             verify(boardRepository).delete(mockBoard);
         }
 
+        @Test
+        @DisplayName("✅ 권한 확인에서 적재한 게시글을 재사용해 다시 조회하지 않는다")
+        void delete_AuthorizedBoardHandedOff_SkipsReload() {
+            // Given
+            UUID boardId = mockBoard.getId();
+            when(loadedBoardHandoff.take(boardId)).thenReturn(Optional.of(mockBoard));
+
+            // When
+            boardCommandService.delete(boardId);
+
+            // Then
+            verify(boardRepository, never()).findById(any());
+            verify(boardRepository).delete(mockBoard);
+        }
+
         @Test
         @DisplayName("❌ 게시글 미존재 → ResourceNotFoundException with 국제화 메시지")
         void delete_BoardNotFound_ThrowsResourceNotFoundException() {
@@ -387,21 +409,18 @@ class BoardCommandServiceTest {
     class IncrementViewCount {
 
         @Test
-        @DisplayName("✅ 조회수 증가 - save 사용 (saveAndFlush 아님)")
+        @DisplayName("✅ 조회수 증가 - 엔티티 로딩 없이 원자적 UPDATE")
         void incrementViewCount_ExistingBoard_IncrementsSuccessfully() {
             // Given
             IncrementViewCountCommand cmd = new IncrementViewCountCommand(mockBoard.getId());
-            when(boardRepository.findById(mockBoard.getId())).thenReturn(Optional.of(
-                    mockBoard));
-            when(boardRepository.save(mockBoard)).thenReturn(
-                    mockBoard);
+            when(boardRepository.incrementViewCount(mockBoard.getId())).thenReturn(1);
 
             // When
             boardCommandService.incrementViewCount(cmd);
 
             // Then
-            verify(boardRepository).findById(mockBoard.getId());
-            verify(boardRepository).save(mockBoard);
+            verify(boardRepository).incrementViewCount(mockBoard.getId());
+            verifyNoMoreInteractions(boardRepository);
         }
 
         @Test
@@ -409,13 +428,13 @@ class BoardCommandServiceTest {
         void incrementViewCount_BoardNotFound_ThrowsResourceNotFoundException() {
             // Given
             IncrementViewCountCommand cmd = new IncrementViewCountCommand(UUID.randomUUID());
-            when(boardRepository.findById(cmd.boardId())).thenReturn(Optional.empty());
+            when(boardRepository.incrementViewCount(cmd.boardId())).thenReturn(0);
 
             // When & Then
             assertThatThrownBy(() -> boardCommandService.incrementViewCount(cmd))
                     .isInstanceOf(ResourceNotFoundException.class);
 
-            verify(boardRepository).findById(cmd.boardId());
+            verify(boardRepository).incrementViewCount(cmd.boardId());
             verifyNoMoreInteractions(boardRepository);
         }
     }
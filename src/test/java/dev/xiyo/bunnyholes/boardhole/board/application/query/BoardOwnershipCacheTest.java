@@ -0,0 +1,86 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.query;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.LoadedBoardHandoff;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.CacheProperties;
+import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
+import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Tag("unit")
+@DisplayName("BoardOwnershipCache 작성자 캐시 테스트")
+class BoardOwnershipCacheTest {
+
+    private BoardRepository boardRepository;
+    private LoadedBoardHandoff handoff;
+    private BoardOwnershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        boardRepository = Mockito.mock(BoardRepository.class);
+        handoff = Mockito.mock(LoadedBoardHandoff.class);
+        var local = new CacheProperties.Local(true, DataSize.ofMegabytes(1), Duration.ofHours(1));
+        var properties = new CacheProperties(local, local, local, new CacheProperties.Redis(false, Duration.ofMinutes(5), "test:", "test"));
+        cache = new BoardOwnershipCache(properties, boardRepository, handoff, new SimpleMeterRegistry());
+    }
+
+    private static Board board(UUID authorId) {
+        User author = User.builder().username("author").password("password").name("Author").email("author@example.com").roles(Set.of(Role.USER)).build();
+        ReflectionTestUtils.setField(author, "id", authorId);
+        Board board = Board.builder().title("title").content("content").author(author).build();
+        ReflectionTestUtils.setField(board, "id", UUID.randomUUID());
+        return board;
+    }
+
+    @Test
+    @DisplayName("✅ 캐시에 없으면 게시글을 한 번 적재해 요청에 넘기고 이후에는 DB를 거치지 않는다")
+    void authorOf_LoadsOnceAndHandsOffBoard() {
+        UUID authorId = UUID.randomUUID();
+        Board board = board(authorId);
+        given(boardRepository.findById(board.getId())).willReturn(Optional.of(board));
+
+        assertThat(cache.authorOf(board.getId())).contains(authorId);
+        assertThat(cache.authorOf(board.getId())).contains(authorId);
+
+        verify(boardRepository, times(1)).findById(board.getId());
+        verify(handoff, times(1)).offer(board);
+    }
+
+    @Test
+    @DisplayName("✅ 생성 시 저장한 작성자는 조회 없이 사용하고 삭제 시 무효화된다")
+    void rememberAndEvict() {
+        UUID boardId = UUID.randomUUID();
+        UUID authorId = UUID.randomUUID();
+
+        cache.remember(boardId, authorId);
+        assertThat(cache.authorOf(boardId)).contains(authorId);
+        verify(boardRepository, never()).findById(any());
+
+        cache.evict(boardId);
+        given(boardRepository.findById(boardId)).willReturn(Optional.empty());
+        assertThat(cache.authorOf(boardId)).isEmpty();
+        assertThat(cache.authorOf(boardId)).isEmpty();
+        verify(boardRepository, times(2)).findById(boardId);
+    }
+}
@@ -1,5 +1,7 @@
 package dev.xiyo.bunnyholes.boardhole.board.application.query;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Locale;
@@ -15,37 +17,56 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.xiyo.bunnyholes.boardhole.board.application.event.ViewedEvent;
 import dev.xiyo.bunnyholes.boardhole.board.application.mapper.BoardMapper;
 import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
 import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
 import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardSummary;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.search.BoardSearchEngine;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.viewcount.BoardViewerTracker;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.ReadModelCaches;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
+import dev.xiyo.bunnyholes.boardhole.shared.exception.ValidationException;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.Cursor;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.CursorPage;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.ListingCountProperties;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.ListingCounter;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.CacheProperties;
 import dev.xiyo.bunnyholes.boardhole.shared.test.FixedKoreanLocaleExtension;
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @Tag("unit")
 @org.junit.jupiter.api.extension.ExtendWith(FixedKoreanLocaleExtension.class)
 class BoardQueryServiceTest {
 
+    private static final String VIEWER = "u:viewer";
+
     @Mock
     private BoardRepository boardRepository;
 
@@ -55,11 +76,32 @@ class BoardQueryServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private BoardSearchEngine boardSearchEngine;
+
+    @Mock
+    private BoardViewerTracker boardViewerTracker;
+
+    @Spy
+    private BoardDetailCache boardDetailCache = new BoardDetailCache(localCacheProperties(),
+            new ReadModelCaches(new SimpleMeterRegistry(), new ObjectMapper(), null, Duration.ofMinutes(5)));
+
+    @Spy
+    private ListingCounter listingCounter = new ListingCounter(
+            new ListingCountProperties(ListingCountProperties.Mode.EXACT, Duration.ofSeconds(30), Duration.ofMinutes(10)), null, Clock.systemUTC());
+
     @InjectMocks
     private BoardQueryService service;
 
     private Board board;
     private BoardResult boardResult;
+    private BoardSummary summary;
+    private BoardSummaryResult summaryResult;
+
+    private static CacheProperties localCacheProperties() {
+        var local = new CacheProperties.Local(true, DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+        return new CacheProperties(local, local, local, new CacheProperties.Redis(false, Duration.ofMinutes(5), "test:", "test"));
+    }
 
     @BeforeEach
     void setUp() {
@@ -97,6 +139,10 @@ class BoardQueryServiceTest {
         ReflectionTestUtils.setField(board, "createdAt", LocalDateTime.now());
 
         boardResult = new BoardResult(boardId, "Test Board", "Test Content", UUID.randomUUID(), "testuser", 0, LocalDateTime.now(),
+                LocalDateTime.now(), null);
+
+        summary = new BoardSummary(boardId, "Test Board", "Test Content", author.getId(), "testuser", 0, board.getCreatedAt(), LocalDateTime.now());
+        summaryResult = new BoardSummaryResult(boardId, "Test Board", "Test Content", author.getId(), "testuser", 0, board.getCreatedAt(),
                 LocalDateTime.now());
     }
 
@@ -109,7 +155,7 @@ class BoardQueryServiceTest {
         void handle_ExistingBoard_ReturnsResultAndPublishesEvent() {
             // Given
             UUID boardId = UUID.randomUUID();
-            GetBoardQuery query = new GetBoardQuery(boardId);
+            GetBoardQuery query = new GetBoardQuery(boardId, VIEWER);
             ViewedEvent viewedEvent = new ViewedEvent(boardId);
 
             // Set the board ID to match
@@ -117,12 +163,15 @@ class BoardQueryServiceTest {
 
             // Create boardResult with matching boardId
             BoardResult localBoardResult = new BoardResult(boardId, "Test Board", "Test Content", UUID.randomUUID(), "testuser", 0,
-                    LocalDateTime.now(), LocalDateTime.now());
+                    LocalDateTime.now(), LocalDateTime.now(), null);
 
             given(boardRepository.findById(boardId)).willReturn(Optional.of(board));
             given(boardMapper.toResult(board)).willReturn(
                     localBoardResult);
+            given(boardMapper.withUniqueViewers(localBoardResult, 1L)).willReturn(localBoardResult);
             given(boardMapper.toViewedEvent(boardId)).willReturn(viewedEvent);
+            given(boardViewerTracker.recordView(boardId, VIEWER)).willReturn(true);
+            given(boardViewerTracker.uniqueViewers(boardId)).willReturn(1L);
 
             // When
             BoardResult result = service.handle(query);
@@ -140,12 +189,75 @@ class BoardQueryServiceTest {
             verify(eventPublisher).publishEvent(viewedEvent);
         }
 
+        @Test
+        @DisplayName("같은 조회자의 재조회는 조회 이벤트를 발행하지 않는다")
+        void handle_RepeatView_DoesNotPublishEvent() {
+            // Given
+            UUID boardId = UUID.randomUUID();
+            ReflectionTestUtils.setField(board, "id", boardId);
+            given(boardRepository.findById(boardId)).willReturn(Optional.of(board));
+            given(boardMapper.toResult(board)).willReturn(boardResult);
+            given(boardMapper.withUniqueViewers(boardResult, 1L)).willReturn(boardResult);
+            given(boardViewerTracker.recordView(boardId, VIEWER)).willReturn(false);
+            given(boardViewerTracker.uniqueViewers(boardId)).willReturn(1L);
+
+            // When
+            BoardResult result = service.handle(new GetBoardQuery(boardId, VIEWER));
+
+            // Then
+            assertThat(result).isNotNull();
+            verify(boardMapper, never()).toViewedEvent(any());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("캐시 적중 시 DB를 다시 조회하지 않고 조회 이벤트는 발행한다")
+        void handle_CacheHit_SkipsRepositoryAndPublishesEvent() {
+            // Given
+            UUID boardId = UUID.randomUUID();
+            ViewedEvent viewedEvent = new ViewedEvent(boardId);
+            ReflectionTestUtils.setField(board, "id", boardId);
+            given(boardRepository.findById(boardId)).willReturn(Optional.of(board));
+            given(boardMapper.toResult(board)).willReturn(boardResult);
+            given(boardMapper.withUniqueViewers(any(), any())).willReturn(boardResult);
+            given(boardMapper.toViewedEvent(boardId)).willReturn(viewedEvent);
+            given(boardViewerTracker.recordView(boardId, VIEWER)).willReturn(true);
+
+            // When
+            service.handle(new GetBoardQuery(boardId, VIEWER));
+            BoardResult cached = service.handle(new GetBoardQuery(boardId, VIEWER));
+
+            // Then
+            assertThat(cached).isEqualTo(boardResult);
+            verify(boardRepository, times(1)).findById(boardId);
+            verify(eventPublisher, times(2)).publishEvent(viewedEvent);
+        }
+
+        @Test
+        @DisplayName("무효화 후에는 DB에서 다시 적재한다")
+        void handle_AfterEvict_ReloadsFromRepository() {
+            // Given
+            UUID boardId = UUID.randomUUID();
+            ReflectionTestUtils.setField(board, "id", boardId);
+            given(boardRepository.findById(boardId)).willReturn(Optional.of(board));
+            given(boardMapper.toResult(board)).willReturn(boardResult);
+            given(boardMapper.withUniqueViewers(any(), any())).willReturn(boardResult);
+
+            // When
+            service.handle(new GetBoardQuery(boardId, VIEWER));
+            boardDetailCache.evict(boardId);
+            service.handle(new GetBoardQuery(boardId, VIEWER));
+
+            // Then
+            verify(boardRepository, times(2)).findById(boardId);
+        }
+
         @Test
         @DisplayName("❌ 존재하지 않는 게시글 조회 → ResourceNotFoundException with 국제화 메시지")
         void handle_NonExistingBoard_ThrowsResourceNotFoundException() {
             // Given
             UUID boardId = UUID.randomUUID();
-            GetBoardQuery query = new GetBoardQuery(boardId);
+            GetBoardQuery query = new GetBoardQuery(boardId, VIEWER);
 
             given(boardRepository.findById(boardId)).willReturn(Optional.empty());
 
@@ -177,14 +289,13 @@ class BoardQueryServiceTest {
         void listWithPaging_ReturnsPagedResults() {
             // Given
             Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
-            List<Board> boards = List.of(board);
-            Page<Board> boardPage = new PageImpl<>(boards, pageable, 1);
+            Page<BoardSummary> summaryPage = new PageImpl<>(List.of(summary), pageable, 1);
 
-            given(boardRepository.findAll(pageable)).willReturn(boardPage);
-            given(boardMapper.toResult(any(Board.class))).willReturn(boardResult);
+            given(boardRepository.findSummaries(pageable)).willReturn(summaryPage);
+            given(boardMapper.toSummaryResult(any(BoardSummary.class))).willReturn(summaryResult);
 
             // When
-            Page<BoardResult> result = service.listWithPaging(pageable);
+            Page<BoardSummaryResult> result = service.listWithPaging(pageable);
 
             // Then
             assertThat(result).isNotNull();
@@ -193,11 +304,11 @@ class BoardQueryServiceTest {
             assertThat(result.getNumber()).isEqualTo(0);
             assertThat(result.getSize()).isEqualTo(10);
 
-            BoardResult firstResult = result.getContent().getFirst();
+            BoardSummaryResult firstResult = result.getContent().getFirst();
             assertThat(firstResult.title()).isEqualTo("Test Board");
 
-            verify(boardRepository).findAll(pageable);
-            verify(boardMapper).toResult(board);
+            verify(boardRepository).findSummaries(pageable);
+            verify(boardMapper).toSummaryResult(summary);
         }
 
         @Test
@@ -205,20 +316,20 @@ class BoardQueryServiceTest {
         void listWithPaging_EmptyList_ReturnsEmptyPage() {
             // Given
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Board> emptyPage = Page.empty(pageable);
+            Page<BoardSummary> emptyPage = Page.empty(pageable);
 
-            given(boardRepository.findAll(pageable)).willReturn(emptyPage);
+            given(boardRepository.findSummaries(pageable)).willReturn(emptyPage);
 
             // When
-            Page<BoardResult> result = service.listWithPaging(pageable);
+            Page<BoardSummaryResult> result = service.listWithPaging(pageable);
 
             // Then
             assertThat(result).isNotNull();
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getTotalElements()).isEqualTo(0);
 
-            verify(boardRepository).findAll(pageable);
-            verify(boardMapper, never()).toResult(any());
+            verify(boardRepository).findSummaries(pageable);
+            verify(boardMapper, never()).toSummaryResult(any());
         }
     }
 
@@ -232,22 +343,22 @@ class BoardQueryServiceTest {
             // Given
             final String searchKeyword = "Test";
             Pageable pageable = PageRequest.of(0, 10);
-            List<Board> boards = List.of(board);
-            Page<Board> boardPage = new PageImpl<>(boards, pageable, 1);
+            Page<BoardSummary> summaryPage = new PageImpl<>(List.of(summary), pageable, 1);
 
-            given(boardRepository.searchByKeyword(searchKeyword, pageable)).willReturn(boardPage);
-            given(boardMapper.toResult(any(Board.class))).willReturn(boardResult);
+            given(boardSearchEngine.search(searchKeyword, pageable)).willReturn(summaryPage);
+            given(boardMapper.toSummaryResult(any(BoardSummary.class))).willReturn(summaryResult);
 
             // When
-            Page<BoardResult> result = service.listWithPaging(pageable, searchKeyword);
+            Page<BoardSummaryResult> result = service.listWithPaging(pageable, searchKeyword);
 
             // Then
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().getFirst().title()).contains("Test");
 
-            verify(boardRepository).searchByKeyword(searchKeyword, pageable);
-            verify(boardMapper).toResult(board);
+            verify(boardSearchEngine).search(searchKeyword, pageable);
+            verify(boardRepository, never()).searchByKeyword(any(), any());
+            verify(boardMapper).toSummaryResult(summary);
         }
 
         @Test
@@ -256,20 +367,20 @@ class BoardQueryServiceTest {
             // Given
             final String searchKeyword = "NonExistent";
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Board> emptyPage = Page.empty(pageable);
+            Page<BoardSummary> emptyPage = Page.empty(pageable);
 
-            given(boardRepository.searchByKeyword(searchKeyword, pageable)).willReturn(emptyPage);
+            given(boardSearchEngine.search(searchKeyword, pageable)).willReturn(emptyPage);
 
             // When
-            Page<BoardResult> result = service.listWithPaging(pageable, searchKeyword);
+            Page<BoardSummaryResult> result = service.listWithPaging(pageable, searchKeyword);
 
             // Then
             assertThat(result).isNotNull();
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getTotalElements()).isEqualTo(0);
 
-            verify(boardRepository).searchByKeyword(searchKeyword, pageable);
-            verify(boardMapper, never()).toResult(any());
+            verify(boardSearchEngine).search(searchKeyword, pageable);
+            verify(boardMapper, never()).toSummaryResult(any());
         }
 
         @Test
@@ -278,21 +389,20 @@ class BoardQueryServiceTest {
             // Given
             final String searchKeyword = "";
             Pageable pageable = PageRequest.of(0, 10);
-            List<Board> boards = List.of(board);
-            Page<Board> boardPage = new PageImpl<>(boards, pageable, 1);
+            Page<BoardSummary> summaryPage = new PageImpl<>(List.of(summary), pageable, 1);
 
-            given(boardRepository.searchByKeyword(searchKeyword, pageable)).willReturn(boardPage);
-            given(boardMapper.toResult(any(Board.class))).willReturn(boardResult);
+            given(boardSearchEngine.search(searchKeyword, pageable)).willReturn(summaryPage);
+            given(boardMapper.toSummaryResult(any(BoardSummary.class))).willReturn(summaryResult);
 
             // When
-            Page<BoardResult> result = service.listWithPaging(pageable, searchKeyword);
+            Page<BoardSummaryResult> result = service.listWithPaging(pageable, searchKeyword);
 
             // Then
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
 
-            verify(boardRepository).searchByKeyword(searchKeyword, pageable);
-            verify(boardMapper).toResult(board);
+            verify(boardSearchEngine).search(searchKeyword, pageable);
+            verify(boardMapper).toSummaryResult(summary);
         }
     }
 
@@ -305,13 +415,13 @@ class BoardQueryServiceTest {
         void listWithPaging_DifferentSortOptions_AppliesCorrectSort() {
             // Given - 조회수 내림차순 정렬
             Pageable pageableByViewCount = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "viewCount"));
-            Page<Board> boardPage = new PageImpl<>(List.of(board), pageableByViewCount, 1);
+            Page<BoardSummary> summaryPage = new PageImpl<>(List.of(summary), pageableByViewCount, 1);
 
-            given(boardRepository.findAll(pageableByViewCount)).willReturn(boardPage);
-            given(boardMapper.toResult(any(Board.class))).willReturn(boardResult);
+            given(boardRepository.findSummaries(pageableByViewCount)).willReturn(summaryPage);
+            given(boardMapper.toSummaryResult(any(BoardSummary.class))).willReturn(summaryResult);
 
             // When
-            Page<BoardResult> result = service.listWithPaging(pageableByViewCount);
+            Page<BoardSummaryResult> result = service.listWithPaging(pageableByViewCount);
 
             // Then
             assertThat(result.getSort().getOrderFor("viewCount")).isNotNull();
@@ -319,7 +429,7 @@ class BoardQueryServiceTest {
             assertThat(order).isNotNull();
             assertThat(order.getDirection()).isEqualTo(Sort.Direction.DESC);
 
-            verify(boardRepository).findAll(pageableByViewCount);
+            verify(boardRepository).findSummaries(pageableByViewCount);
         }
 
         @Test
@@ -327,12 +437,12 @@ class BoardQueryServiceTest {
         void listWithPaging_DifferentPageSizes_HandlesCorrectly() {
             // Given - 페이지 크기 20, 두 번째 페이지
             Pageable pageable = PageRequest.of(1, 20);
-            Page<Board> boardPage = new PageImpl<>(List.of(), pageable, 50);
+            Page<BoardSummary> summaryPage = new PageImpl<>(List.of(), pageable, 50);
 
-            given(boardRepository.findAll(pageable)).willReturn(boardPage);
+            given(boardRepository.findSummaries(pageable)).willReturn(summaryPage);
 
             // When
-            Page<BoardResult> result = service.listWithPaging(pageable);
+            Page<BoardSummaryResult> result = service.listWithPaging(pageable);
 
             // Then
             assertThat(result.getNumber()).isEqualTo(1);
@@ -340,7 +450,96 @@ class BoardQueryServiceTest {
             assertThat(result.getTotalElements()).isEqualTo(50);
             assertThat(result.getTotalPages()).isEqualTo(3); // 50/20 = 2.5 -> 3 pages
 
-            verify(boardRepository).findAll(pageable);
+            verify(boardRepository).findSummaries(pageable);
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 커서 페이지네이션 조회")
+    class CursorListTest {
+
+        @Test
+        @DisplayName("✅ 첫 페이지 조회 - size + 1건 조회로 다음 커서 생성, count 쿼리 없음")
+        void listWithCursor_FirstPage_ReturnsNextCursor() {
+            // Given
+            BoardSummary second = new BoardSummary(UUID.randomUUID(), "Second", "Content", summary.authorId(), "testuser", 0,
+                    LocalDateTime.now().minusMinutes(1), LocalDateTime.now());
+
+            given(boardRepository.findLatestSummaries(Limit.of(2))).willReturn(List.of(summary, second));
+            given(boardMapper.toSummaryResult(any(BoardSummary.class))).willReturn(summaryResult);
+
+            // When
+            CursorPage<BoardSummaryResult> result = service.listWithCursor(null, 1, null);
+
+            // Then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.hasPrevious()).isFalse();
+
+            Cursor next = Cursor.decode(result.nextCursor());
+            assertThat(next).isNotNull();
+            assertThat(next.id()).isEqualTo(board.getId());
+            assertThat(next.isNext()).isTrue();
+
+            verify(boardRepository, never()).count();
+            verify(boardRepository, never()).findSummaries(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("✅ 다음 커서로 조회 시 기준 행 이후를 탐색")
+        void listWithCursor_NextCursor_SeeksOlderRows() {
+            // Given
+            Cursor cursor = Cursor.next(board.getCreatedAt(), board.getId());
+            given(boardRepository.findSummariesOlderThan(board.getCreatedAt(), board.getId(), Limit.of(11))).willReturn(List.of(summary));
+            given(boardMapper.toSummaryResult(any(BoardSummary.class))).willReturn(summaryResult);
+
+            // When
+            CursorPage<BoardSummaryResult> result = service.listWithCursor(cursor.encode(), 10, null);
+
+            // Then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.hasPrevious()).isTrue();
+            verify(boardRepository).findSummariesOlderThan(board.getCreatedAt(), board.getId(), Limit.of(11));
+        }
+
+        @Test
+        @DisplayName("✅ 검색어가 있으면 검색용 키셋 쿼리 사용")
+        void listWithCursor_WithSearch_UsesSearchQuery() {
+            // Given
+            given(boardRepository.searchLatest("Test", Limit.of(11))).willReturn(List.of(summary));
+            given(boardMapper.toSummaryResult(any(BoardSummary.class))).willReturn(summaryResult);
+
+            // When
+            CursorPage<BoardSummaryResult> result = service.listWithCursor(null, 10, "  Test ");
+
+            // Then
+            assertThat(result.content()).containsExactly(summaryResult);
+            verify(boardRepository).searchLatest("Test", Limit.of(11));
+        }
+
+        @Test
+        @DisplayName("✅ 검색 엔진이 search-after로 처리하면 관련도 순 페이지를 그대로 사용")
+        void listWithCursor_SearchAfterAvailable_UsesRankedPage() {
+            // Given
+            given(boardSearchEngine.searchAfter("Test", null, 10)).willReturn(Optional.of(new CursorPage<>(List.of(summary), "token", null, 10)));
+            given(boardMapper.toSummaryResult(any(BoardSummary.class))).willReturn(summaryResult);
+
+            // When
+            CursorPage<BoardSummaryResult> result = service.listWithCursor(null, 10, "Test");
+
+            // Then
+            assertThat(result.content()).containsExactly(summaryResult);
+            assertThat(result.nextCursor()).isEqualTo("token");
+            verify(boardRepository, never()).searchLatest(any(), any());
+        }
+
+        @Test
+        @DisplayName("❌ 잘못된 커서 → ValidationException")
+        void listWithCursor_InvalidCursor_ThrowsValidationException() {
+            assertThatThrownBy(() -> service.listWithCursor("not-a-cursor", 10, null))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage(MessageUtils.get("error.invalid-cursor"));
         }
     }
 }
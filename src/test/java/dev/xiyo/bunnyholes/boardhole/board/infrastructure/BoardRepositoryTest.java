@@ -1,5 +1,6 @@
 package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +21,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.Cursor;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.CursorPage;
 import dev.xiyo.bunnyholes.boardhole.testsupport.jpa.EntityTestBase;
 import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
@@ -135,17 +139,6 @@ class BoardRepositoryTest extends EntityTestBase {
             assertThat(boards).hasSize(2);
         }
 
-        @Test
-        @DisplayName("작성자 ID 조회")
-        void findAuthorIdById_ExistingBoard_ReturnsAuthorId() {
-            // When
-            Optional<UUID> authorId = boardRepository.findAuthorIdById(testBoard.getId());
-
-            // Then
-            assertThat(authorId).isPresent();
-            assertThat(authorId.get()).isEqualTo(author.getId());
-        }
-
         @Test
         @DisplayName("작성자 정보와 함께 조회")
         void findById_WithAuthor_LoadsAuthorData() {
@@ -328,6 +321,28 @@ class BoardRepositoryTest extends EntityTestBase {
             assertThat(boards).hasSize(6);
             assertThat(boards.get(0).getTitle()).isEqualTo("Board 1");
         }
+
+        @Test
+        @DisplayName("이전 방향 결과가 비어 있을 때 받은 다음 커서로 기준 행부터 다시 조회")
+        void cursor_EmptyBackward_ResumesFromAnchor() {
+            // Given - 기준 행이 가장 최신이 되어(그 사이 최신 행 삭제) 이전 방향 결과가 비는 상황
+            entityManager.flush();
+            entityManager.clear();
+            BoardSummary anchor = boardRepository.findLatestSummaries(Limit.of(1)).getFirst();
+            Cursor prev = Cursor.prev(anchor.createdAt(), anchor.id());
+            List<BoardSummary> newer = boardRepository.findSummariesNewerThan(prev.createdAt(), prev.id(), CursorPage.fetchLimit(3));
+            CursorPage<BoardSummary> empty = CursorPage.of(newer, 3, prev, BoardSummary::createdAt, BoardSummary::id);
+
+            // When
+            Cursor next = Cursor.decode(empty.nextCursor());
+            assertThat(next).isNotNull();
+            List<BoardSummary> resumed = boardRepository.findSummariesOlderThan(next.createdAt(), next.id(), CursorPage.fetchLimit(3));
+
+            // Then
+            assertThat(empty.content()).isEmpty();
+            assertThat(resumed).hasSize(4);
+            assertThat(resumed.getFirst().id()).isEqualTo(anchor.id());
+        }
     }
 
     // =====================================
@@ -353,11 +368,11 @@ class BoardRepositoryTest extends EntityTestBase {
             Pageable pageable = PageRequest.of(0, 10);
 
             // When
-            Page<Board> result = boardRepository.searchByKeyword("Spring", pageable);
+            Page<BoardSummary> result = boardRepository.searchByKeyword("Spring", pageable);
 
             // Then
             assertThat(result.getContent()).hasSize(1);
-            assertThat(result.getContent().get(0).getTitle()).contains("Spring");
+            assertThat(result.getContent().get(0).title()).contains("Spring");
         }
 
         @Test
@@ -367,11 +382,11 @@ class BoardRepositoryTest extends EntityTestBase {
             Pageable pageable = PageRequest.of(0, 10);
 
             // When
-            Page<Board> result = boardRepository.searchByKeyword("basics", pageable);
+            Page<BoardSummary> result = boardRepository.searchByKeyword("basics", pageable);
 
             // Then
             assertThat(result.getContent()).hasSize(1);
-            assertThat(result.getContent().get(0).getContent()).contains("basics");
+            assertThat(result.getContent().get(0).excerpt()).contains("basics");
         }
 
         @Test
@@ -381,11 +396,11 @@ class BoardRepositoryTest extends EntityTestBase {
             Pageable pageable = PageRequest.of(0, 10);
 
             // When
-            Page<Board> result = boardRepository.searchByKeyword("JAVA", pageable);
+            Page<BoardSummary> result = boardRepository.searchByKeyword("JAVA", pageable);
 
             // Then
             assertThat(result.getContent()).hasSize(1);
-            assertThat(result.getContent().get(0).getTitle()).containsIgnoringCase("java");
+            assertThat(result.getContent().get(0).title()).containsIgnoringCase("java");
         }
 
         @Test
@@ -395,7 +410,7 @@ class BoardRepositoryTest extends EntityTestBase {
             Pageable pageable = PageRequest.of(0, 10);
 
             // When
-            Page<Board> result = boardRepository.searchByKeyword("nonexistent", pageable);
+            Page<BoardSummary> result = boardRepository.searchByKeyword("nonexistent", pageable);
 
             // Then
             assertThat(result.getContent()).isEmpty();
@@ -0,0 +1,79 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.search;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.unit.DataSize;
+
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@Tag("unit")
+@DisplayName("BoardSearchConfiguration 검색 엔진 선택 테스트")
+class BoardSearchConfigurationTest {
+
+    private final BoardSearchConfiguration configuration = new BoardSearchConfiguration();
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+
+    private static BoardSearchProperties properties(BoardSearchProperties.Mode mode) {
+        return new BoardSearchProperties(mode, true, new BoardSearchProperties.Memory(100, 1000, DataSize.ofMegabytes(1), 10));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<BoardSearchIndex> emptyIndex() {
+        return mock(ObjectProvider.class);
+    }
+
+    private static ObjectProvider<BoardSearchIndex> indexOf(BoardSearchIndex index) {
+        ObjectProvider<BoardSearchIndex> provider = emptyIndex();
+        given(provider.getIfAvailable()).willReturn(index);
+        return provider;
+    }
+
+    private static DataSource dataSourceOf(String productName) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.getMetaData()).willReturn(metaData);
+        given(metaData.getDatabaseProductName()).willReturn(productName);
+        return dataSource;
+    }
+
+    @Test
+    @DisplayName("✅ AUTO 모드에서 PostgreSQL이 아니면 LIKE 검색으로 폴백")
+    void auto_NonPostgres_FallsBackToLike() throws SQLException {
+        var engine = configuration.boardSearchEngine(properties(BoardSearchProperties.Mode.AUTO), boardRepository,
+                dataSourceOf("H2"), emptyIndex());
+
+        assertThat(engine).isInstanceOf(LikeBoardSearchEngine.class);
+    }
+
+    @Test
+    @DisplayName("✅ LIKE 모드는 DB 확인 없이 LIKE 검색 사용")
+    void like_AlwaysUsesLike() {
+        var engine = configuration.boardSearchEngine(properties(BoardSearchProperties.Mode.LIKE), boardRepository,
+                mock(DataSource.class), emptyIndex());
+
+        assertThat(engine.mode()).isEqualTo(BoardSearchProperties.Mode.LIKE);
+    }
+
+    @Test
+    @DisplayName("✅ MEMORY 모드는 DB 검색 엔진을 폴백으로 감싼 내장 색인 엔진 사용")
+    void memory_WrapsDatabaseEngine() throws SQLException {
+        var engine = configuration.boardSearchEngine(properties(BoardSearchProperties.Mode.MEMORY), boardRepository,
+                dataSourceOf("H2"), indexOf(new BoardSearchIndex(100, 1000, 1 << 20)));
+
+        assertThat(engine).isInstanceOf(MemoryBoardSearchEngine.class);
+    }
+}
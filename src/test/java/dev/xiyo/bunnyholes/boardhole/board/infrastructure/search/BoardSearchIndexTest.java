@@ -0,0 +1,184 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("BoardSearchIndex JVM 내장 색인 테스트")
+class BoardSearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private BoardSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BoardSearchIndex(100, 10_000, 1 << 20);
+        index.markReady();
+    }
+
+    @Test
+    @DisplayName("✅ 한국어 부분 문자열을 bigram으로 찾는다")
+    void search_KoreanSubstring_Matches() {
+        UUID id = UUID.randomUUID();
+        index.upsert(id, "스프링 부트 공지사항", "게시판 이용 안내", NOW);
+
+        assertThat(index.search("공지", 0, 10).ids()).containsExactly(id);
+        assertThat(index.search("이용안내", 0, 10).ids()).isEmpty();
+        assertThat(index.search("게시판 안내", 0, 10).ids()).containsExactly(id);
+    }
+
+    @Test
+    @DisplayName("✅ 제목 일치가 내용 일치보다 먼저, 동점이면 최신순으로 정렬된다")
+    void search_RanksTitleMatchesFirst() {
+        UUID contentOnly = UUID.randomUUID();
+        UUID titleOld = UUID.randomUUID();
+        UUID titleNew = UUID.randomUUID();
+        index.upsert(contentOnly, "일반 글", "spring 이야기", NOW.plusDays(2));
+        index.upsert(titleOld, "Spring 입문", "본문", NOW);
+        index.upsert(titleNew, "spring 심화", "본문", NOW.plusDays(1));
+
+        BoardSearchIndex.Hits hits = index.search("Spring", 0, 10);
+
+        assertThat(hits.ids()).containsExactly(titleNew, titleOld, contentOnly);
+        assertThat(hits.total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("✅ 수정/삭제가 색인에 반영된다")
+    void upsertAndRemove_UpdatePostings() {
+        UUID id = UUID.randomUUID();
+        index.upsert(id, "처음 제목", "내용", NOW);
+        index.upsert(id, "바뀐 제목", "내용", NOW);
+
+        assertThat(index.search("처음", 0, 10).ids()).isEmpty();
+        assertThat(index.search("바뀐", 0, 10).ids()).containsExactly(id);
+
+        index.remove(id);
+
+        assertThat(index.search("바뀐", 0, 10).ids()).isEmpty();
+        assertThat(index.stats().documents()).isZero();
+        assertThat(index.stats().postings()).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ search-after 토큰으로 다음 페이지를 이어서 조회한다")
+    void searchAfter_ContinuesFromToken() {
+        for (int i = 0; i < 5; i++)
+            index.upsert(UUID.randomUUID(), "게시글 " + i, "검색 대상", NOW.plusMinutes(i));
+
+        List<BoardSearchIndex.Hit> first = index.searchAfter("검색", null, 2);
+        List<BoardSearchIndex.Hit> second = index.searchAfter("검색", first.getLast().encode(), 2);
+        List<BoardSearchIndex.Hit> all = index.searchAfter("검색", null, 10);
+
+        assertThat(first).containsExactlyElementsOf(all.subList(0, 2));
+        assertThat(second).containsExactlyElementsOf(all.subList(2, 4));
+    }
+
+    @Test
+    @DisplayName("✅ 삭제 항목은 tombstone으로 남았다가 절반을 넘으면 압축된다")
+    void remove_CompactsTombstones() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            index.upsert(id, "공지 " + i, "본문", NOW.plusMinutes(i));
+        }
+
+        index.remove(ids.get(0));
+        assertThat(index.stats().tombstones()).isPositive();
+        assertThat(index.search("공지", 0, 10).ids()).hasSize(7).doesNotContain(ids.get(0));
+
+        ids.subList(1, 4).forEach(index::remove);
+        assertThat(index.stats().tombstones()).isZero();
+        assertThat(index.search("공지", 0, 10).ids()).containsExactlyElementsOf(ids.subList(4, 8).reversed());
+    }
+
+    @Nested
+    @DisplayName("처리 가능 여부")
+    class CanAnswer {
+
+        @Test
+        @DisplayName("❌ 1글자 토큰이 포함된 검색어는 색인으로 처리하지 않는다")
+        void canAnswer_SingleCharToken_False() {
+            assertThat(index.canAnswer("a")).isFalse();
+            assertThat(index.canAnswer("자바 a")).isFalse();
+            assertThat(index.canAnswer("자바")).isTrue();
+        }
+
+        @Test
+        @DisplayName("❌ 초기 색인 전이거나 문서 수 한도를 넘으면 처리하지 않는다")
+        void canAnswer_NotReadyOrTruncated_False() {
+            BoardSearchIndex bounded = new BoardSearchIndex(1, 100, 1 << 20);
+            bounded.addIfAbsent(UUID.randomUUID(), "첫 글", "내용", NOW);
+            assertThat(bounded.canAnswer("첫글")).isFalse();
+
+            bounded.markReady();
+            assertThat(bounded.canAnswer("첫글")).isTrue();
+
+            bounded.upsert(UUID.randomUUID(), "두번째 글", "내용", NOW);
+            assertThat(bounded.stats().truncated()).isTrue();
+            assertThat(bounded.canAnswer("첫글")).isFalse();
+        }
+
+        @Test
+        @DisplayName("❌ 추정 메모리 한도를 넘는 게시글은 색인하지 않고 불완전 상태로 표시한다")
+        void upsert_OverByteBudget_Truncated() {
+            BoardSearchIndex small = new BoardSearchIndex(100, 1000, 1_000);
+            small.markReady();
+            small.upsert(UUID.randomUUID(), "짧은 글", "내용", NOW);
+            small.upsert(UUID.randomUUID(), "아주 긴 제목의 게시글", "한도를 넘기기에 충분히 긴 본문 내용입니다", NOW);
+
+            BoardSearchIndex.Stats stats = small.stats();
+            assertThat(stats.documents()).isEqualTo(1);
+            assertThat(stats.truncated()).isTrue();
+            assertThat(stats.estimatedBytes()).isLessThanOrEqualTo(stats.maxBytes());
+        }
+
+        @Test
+        @DisplayName("✅ 한도에 걸린 뒤 삭제로 여유가 생기면 재구축이 필요하고, 재구축 시 불완전 상태가 해제된다")
+        void reset_AfterTruncation_Recovers() {
+            BoardSearchIndex bounded = new BoardSearchIndex(10, 100, 1 << 20);
+            bounded.markReady();
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 11; i++) {
+                UUID id = UUID.randomUUID();
+                ids.add(id);
+                bounded.upsert(id, "게시글 " + i, "내용", NOW);
+            }
+            assertThat(bounded.stats().truncated()).isTrue();
+            assertThat(bounded.needsRebuild()).isFalse();
+
+            ids.subList(0, 2).forEach(bounded::remove);
+            assertThat(bounded.needsRebuild()).isTrue();
+
+            bounded.reset();
+            bounded.addIfAbsent(ids.get(10), "게시글 10", "내용", NOW);
+            bounded.markReady();
+            assertThat(bounded.stats().truncated()).isFalse();
+            assertThat(bounded.canAnswer("게시글")).isTrue();
+            assertThat(bounded.search("게시글", 0, 10).ids()).containsExactly(ids.get(10));
+        }
+
+        @Test
+        @DisplayName("✅ 초기 색인 중 삭제된 게시글은 로더가 다시 추가하지 않는다")
+        void addIfAbsent_RemovedDuringBuild_Skipped() {
+            BoardSearchIndex building = new BoardSearchIndex(10, 100, 1 << 20);
+            UUID id = UUID.randomUUID();
+            building.remove(id);
+            building.addIfAbsent(id, "삭제된 글", "내용", NOW);
+
+            assertThat(building.stats().documents()).isZero();
+        }
+    }
+}
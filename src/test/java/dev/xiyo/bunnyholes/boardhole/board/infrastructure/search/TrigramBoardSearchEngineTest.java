@@ -0,0 +1,78 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardSummary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrigramBoardSearchEngine 테스트")
+class TrigramBoardSearchEngineTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @InjectMocks
+    private TrigramBoardSearchEngine engine;
+
+    private static BoardSummary summary(UUID id) {
+        return new BoardSummary(id, "title", "content", UUID.randomUUID(), "author", 0, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("✅ LIKE 특수문자는 이스케이프된다")
+    void toContainsPattern_EscapesWildcards() {
+        assertThat(TrigramBoardSearchEngine.toContainsPattern("공지")).isEqualTo("%공지%");
+        assertThat(TrigramBoardSearchEngine.toContainsPattern("100%_\\")).isEqualTo("%100\\%\\_\\\\%");
+    }
+
+    @Test
+    @DisplayName("✅ 관련도 순 ID 순서대로 게시글을 반환하고 요청 정렬은 무시한다")
+    void search_KeepsRankOrder() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+        given(boardRepository.searchIdsByTrigram("게시", "%게시%", PageRequest.of(0, 10)))
+                .willReturn(new PageImpl<>(List.of(first, second), PageRequest.of(0, 10), 2));
+        given(boardRepository.findSummariesByIdIn(List.of(first, second))).willReturn(List.of(summary(second), summary(first)));
+
+        Page<BoardSummary> result = engine.search("게시", pageable);
+
+        assertThat(result.getContent()).extracting(BoardSummary::id).containsExactly(first, second);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("✅ 검색 결과가 없으면 게시글 로딩 쿼리를 실행하지 않는다")
+    void search_NoMatches_SkipsEntityLoad() {
+        Pageable pageable = PageRequest.of(0, 10);
+        given(boardRepository.searchIdsByTrigram("없음", "%없음%", pageable)).willReturn(Page.empty(pageable));
+
+        Page<BoardSummary> result = engine.search("없음", pageable);
+
+        assertThat(result).isEmpty();
+        then(boardRepository).should(never()).findSummariesByIdIn(any());
+    }
+}
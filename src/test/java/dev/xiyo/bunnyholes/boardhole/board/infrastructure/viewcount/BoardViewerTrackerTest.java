@@ -0,0 +1,120 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.viewcount;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+
+@Tag("unit")
+@DisplayName("BoardViewerTracker 중복 조회 제거 테스트")
+class BoardViewerTrackerTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(30);
+
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private BoardViewerTracker tracker;
+
+    private static ViewCountProperties.Dedup dedup(boolean enabled, int maxTrackedBoards) {
+        return new ViewCountProperties.Dedup(enabled, WINDOW, 100_000, 0.01, 12, maxTrackedBoards);
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = Mockito.mock(Clock.class);
+        given(clock.millis()).willReturn(0L);
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new BoardViewerTracker(dedup(true, 100), clock, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("✅ 같은 조회자의 재조회는 기간 내에 한 번만 집계된다")
+    void recordView_RepeatWithinWindow_Dropped() {
+        UUID boardId = UUID.randomUUID();
+
+        assertThat(tracker.recordView(boardId, "a:127.0.0.1|curl")).isTrue();
+        assertThat(tracker.recordView(boardId, "a:127.0.0.1|curl")).isFalse();
+        assertThat(tracker.recordView(boardId, "u:other")).isTrue();
+        assertThat(tracker.recordView(UUID.randomUUID(), "a:127.0.0.1|curl")).isTrue();
+
+        assertThat(meterRegistry.get("board.view.dedup").tag("result", "duplicate").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.view.dedup").tag("result", "accepted").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("✅ 기간이 지나면 다시 집계된다")
+    void recordView_AfterWindow_CountedAgain() {
+        UUID boardId = UUID.randomUUID();
+        assertThat(tracker.recordView(boardId, "u:reader")).isTrue();
+
+        given(clock.millis()).willReturn(WINDOW.toMillis() / 2);
+        assertThat(tracker.recordView(boardId, "u:other")).isTrue();
+        given(clock.millis()).willReturn(WINDOW.toMillis());
+        assertThat(tracker.recordView(boardId, "u:another")).isTrue();
+
+        assertThat(tracker.recordView(boardId, "u:reader")).isTrue();
+    }
+
+    @Test
+    @DisplayName("✅ 조회자 키가 없거나 비활성화되면 항상 집계한다")
+    void recordView_NoKeyOrDisabled_AlwaysCounted() {
+        UUID boardId = UUID.randomUUID();
+        assertThat(tracker.recordView(boardId, null)).isTrue();
+        assertThat(tracker.recordView(boardId, null)).isTrue();
+
+        BoardViewerTracker disabled = new BoardViewerTracker(dedup(false, 100), clock, new SimpleMeterRegistry());
+        assertThat(disabled.recordView(boardId, "u:reader")).isTrue();
+        assertThat(disabled.recordView(boardId, "u:reader")).isTrue();
+        assertThat(disabled.uniqueViewers(boardId)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("✅ 고유 조회자 수를 근사한다")
+    void uniqueViewers_ApproximatesDistinctViewers() {
+        UUID boardId = UUID.randomUUID();
+        for (int round = 0; round < 3; round++)
+            for (int i = 0; i < 5_000; i++)
+                tracker.recordView(boardId, "a:10.0." + (i / 256) + '.' + (i % 256) + "|browser");
+
+        Long estimate = tracker.uniqueViewers(boardId);
+
+        assertThat(estimate).isNotNull();
+        assertThat(estimate.doubleValue()).isCloseTo(5_000, within(5_000 * 0.05));
+    }
+
+    @Test
+    @DisplayName("✅ 추적 게시글 수 상한에 도달하면 가장 오래 조회되지 않은 게시글을 제거하고 새 게시글을 추적한다")
+    void uniqueViewers_BeyondMaxTrackedBoards_EvictsLeastRecentlyViewed() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BoardViewerTracker limited = new BoardViewerTracker(dedup(true, 2), clock, registry);
+        UUID first = UUID.randomUUID();
+        UUID idle = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        limited.recordView(first, "u:reader");
+        given(clock.millis()).willReturn(1L);
+        limited.recordView(idle, "u:reader");
+        given(clock.millis()).willReturn(2L);
+        limited.recordView(first, "u:other");
+        given(clock.millis()).willReturn(3L);
+        limited.recordView(fresh, "u:reader");
+
+        assertThat(limited.uniqueViewers(first)).isEqualTo(2L);
+        assertThat(limited.uniqueViewers(idle)).isNull();
+        assertThat(limited.uniqueViewers(fresh)).isEqualTo(1L);
+        assertThat(registry.get("board.view.viewers.evicted").counter().count()).isEqualTo(1);
+
+        limited.forget(first);
+        assertThat(limited.uniqueViewers(first)).isNull();
+    }
+}
@@ -0,0 +1,166 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.viewcount;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@Tag("unit")
+@DisplayName("ViewCountAccumulator write-behind 집계 테스트")
+class ViewCountAccumulatorTest {
+
+    private ViewCountBatchWriter writer;
+    private SimpleMeterRegistry meterRegistry;
+    private ViewCountAccumulator accumulator;
+
+    @BeforeEach
+    void setUp() {
+        writer = Mockito.mock(ViewCountBatchWriter.class);
+        meterRegistry = new SimpleMeterRegistry();
+        accumulator = new ViewCountAccumulator(writer, new ViewCountProperties(true, Duration.ofHours(1), 3, 500,
+                new ViewCountProperties.Dedup(true, Duration.ofMinutes(30), 1_000, 0.01, 10, 100)), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accumulator.shutdown();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<Map<UUID, Long>> deltasCaptor() {
+        return ArgumentCaptor.forClass(Map.class);
+    }
+
+    @Test
+    @DisplayName("✅ 게시글별 증분을 합산해 한 번의 배치로 반영한다")
+    void flush_AggregatesPerBoard() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        accumulator.increment(a);
+        accumulator.increment(a);
+        accumulator.increment(b);
+
+        assertThat(accumulator.flush()).isEqualTo(3);
+
+        ArgumentCaptor<Map<UUID, Long>> captor = deltasCaptor();
+        verify(writer).write(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrderEntriesOf(Map.of(a, 2L, b, 1L));
+        assertThat(accumulator.pendingViews()).isZero();
+        assertThat(meterRegistry.get("board.view.count.flushed").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("board.view.count.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ 반영할 증분이 없으면 DB를 호출하지 않는다")
+    void flush_Empty_SkipsWrite() {
+        assertThat(accumulator.flush()).isZero();
+
+        verify(writer, never()).write(anyMap());
+    }
+
+    @Test
+    @DisplayName("✅ 반영 실패 시 증분을 보존해 다음 flush에서 재시도한다")
+    void flush_Failure_RetriesNextTime() {
+        UUID id = UUID.randomUUID();
+        accumulator.increment(id);
+        accumulator.increment(id);
+        willThrow(new IllegalStateException("db down")).given(writer).write(anyMap());
+
+        assertThat(accumulator.flush()).isZero();
+        assertThat(accumulator.pendingViews()).isEqualTo(2);
+
+        Mockito.reset(writer);
+        accumulator.increment(id);
+        assertThat(accumulator.flush()).isEqualTo(3);
+
+        ArgumentCaptor<Map<UUID, Long>> captor = deltasCaptor();
+        verify(writer).write(captor.capture());
+        assertThat(captor.getValue()).containsEntry(id, 3L);
+        assertThat(meterRegistry.get("board.view.count.flush.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("✅ 대기 게시글 수가 한도에 도달하면 주기와 무관하게 flush 한다")
+    void increment_ReachingMaxPendingBoards_TriggersFlush() {
+        accumulator.increment(UUID.randomUUID());
+        accumulator.increment(UUID.randomUUID());
+        verify(writer, never()).write(anyMap());
+
+        accumulator.increment(UUID.randomUUID());
+
+        await().atMost(Duration.ofSeconds(3)).until(() -> accumulator.pendingViews() == 0);
+        verify(writer, atLeastOnce()).write(anyMap());
+    }
+
+    @Test
+    @DisplayName("✅ 동시 조회 중 flush 해도 증분이 유실되지 않는다")
+    void concurrentIncrements_NoLostUpdates() throws Exception {
+        UUID id = UUID.randomUUID();
+        List<Long> written = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            Map<UUID, Long> deltas = invocation.getArgument(0);
+            synchronized (written) {
+                written.add(deltas.getOrDefault(id, 0L));
+            }
+            return null;
+        }).when(writer).write(anyMap());
+
+        int threads = 8;
+        int perThread = 5_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++)
+            pool.execute(() -> {
+                for (int i = 0; i < perThread; i++)
+                    accumulator.increment(id);
+            });
+        for (int i = 0; i < 20; i++) {
+            accumulator.flush();
+            Thread.sleep(5);
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        accumulator.flush();
+        accumulator.flush();
+
+        long total;
+        synchronized (written) {
+            total = written.stream().mapToLong(Long::longValue).sum();
+        }
+        assertThat(total).isEqualTo((long) threads * perThread);
+    }
+
+    @Test
+    @DisplayName("✅ 종료 시 남은 증분을 반영한다")
+    void shutdown_FlushesRemaining() {
+        UUID id = UUID.randomUUID();
+        accumulator.increment(id);
+
+        accumulator.shutdown();
+
+        ArgumentCaptor<Map<UUID, Long>> captor = deltasCaptor();
+        verify(writer).write(captor.capture());
+        assertThat(captor.getValue()).containsEntry(id, 1L);
+    }
+}
@@ -2,6 +2,8 @@ package dev.xiyo.bunnyholes.boardhole.board.presentation;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -19,6 +21,11 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import dev.xiyo.bunnyholes.boardhole.board.application.command.BoardCommandService;
 import dev.xiyo.bunnyholes.boardhole.board.application.command.CreateBoardCommand;
@@ -26,11 +33,16 @@ import dev.xiyo.bunnyholes.boardhole.board.application.command.UpdateBoardComman
 import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardQueryService;
 import dev.xiyo.bunnyholes.boardhole.board.application.query.GetBoardQuery;
 import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRevision;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardCreateRequest;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardResponse;
+import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardSummaryResponse;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardUpdateRequest;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.mapper.BoardWebMapper;
 import dev.xiyo.bunnyholes.boardhole.shared.security.AppUserPrincipal;
+import dev.xiyo.bunnyholes.boardhole.shared.web.EntityTags;
+import dev.xiyo.bunnyholes.boardhole.shared.web.ViewerKeys;
 import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
 
@@ -38,6 +50,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("BoardController 단위 테스트")
@@ -61,6 +74,8 @@ class BoardControllerTest {
     private AppUserPrincipal testPrincipal;
     private BoardResult testBoardResult;
     private BoardResponse testBoardResponse;
+    private BoardSummaryResult testSummaryResult;
+    private BoardSummaryResponse testSummaryResponse;
     private Pageable pageable;
 
     @BeforeEach
@@ -76,14 +91,20 @@ class BoardControllerTest {
 
         testBoardResult = new BoardResult(
                 UUID.randomUUID(), "Test Title", "Test Content", UUID.randomUUID(),
-                "testuser", 0, LocalDateTime.now(), null
+                "testuser", 0, LocalDateTime.now(), null, null
         );
 
         testBoardResponse = new BoardResponse(
                 UUID.randomUUID(), "Test Title", "Test Content", UUID.randomUUID(),
-                "testuser", 0, LocalDateTime.now(), null
+                "testuser", 0, LocalDateTime.now(), null, null
         );
 
+        testSummaryResult = new BoardSummaryResult(testBoardResult.id(), "Test Title", "Test Content", testBoardResult.authorId(), "testuser", 0,
+                testBoardResult.createdAt(), testBoardResult.createdAt());
+
+        testSummaryResponse = new BoardSummaryResponse(testBoardResult.id(), "Test Title", "Test Content", testBoardResult.authorId(), "testuser",
+                0, testBoardResult.createdAt(), null);
+
         pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
     }
 
@@ -122,22 +143,23 @@ class BoardControllerTest {
         @DisplayName("✅ 검색어 없이 전체 게시글 목록 조회")
         void shouldListAllBoards() {
             // given
-            Page<BoardResult> resultPage = new PageImpl<>(Collections.singletonList(testBoardResult),
+            Page<BoardSummaryResult> resultPage = new PageImpl<>(Collections.singletonList(testSummaryResult),
                     pageable, 1);
-            Page<BoardResponse> responsePage = new PageImpl<>(Collections.singletonList(testBoardResponse),
+            Page<BoardSummaryResponse> responsePage = new PageImpl<>(Collections.singletonList(testSummaryResponse),
                     pageable, 1);
 
             given(boardQueryService.listWithPaging(pageable)).willReturn(resultPage);
-            given(boardWebMapper.toResponse(testBoardResult)).willReturn(
-                    testBoardResponse);
+            given(boardWebMapper.toSummaryResponse(testSummaryResult)).willReturn(testSummaryResponse);
 
             // when
-            Page<BoardResponse> result = boardController.list(pageable, null);
+            ResponseEntity<Page<BoardSummaryResponse>> result = boardController.list(pageable, null, webRequest());
 
             // then
-            assertThat(result).isEqualTo(responsePage);
+            assertThat(result).isNotNull();
+            assertThat(result.getBody()).isEqualTo(responsePage);
+            assertThat(result.getHeaders().getETag()).isNotNull();
             then(boardQueryService).should().listWithPaging(pageable);
-            then(boardWebMapper).should().toResponse(testBoardResult);
+            then(boardWebMapper).should().toSummaryResponse(testSummaryResult);
         }
 
         @Test
@@ -145,22 +167,22 @@ class BoardControllerTest {
         void shouldSearchBoards() {
             // given
             final String searchTerm = "test";
-            Page<BoardResult> resultPage = new PageImpl<>(Collections.singletonList(testBoardResult),
+            Page<BoardSummaryResult> resultPage = new PageImpl<>(Collections.singletonList(testSummaryResult),
                     pageable, 1);
-            Page<BoardResponse> responsePage = new PageImpl<>(Collections.singletonList(testBoardResponse),
+            Page<BoardSummaryResponse> responsePage = new PageImpl<>(Collections.singletonList(testSummaryResponse),
                     pageable, 1);
 
             given(boardQueryService.listWithPaging(pageable, searchTerm)).willReturn(resultPage);
-            given(boardWebMapper.toResponse(testBoardResult)).willReturn(
-                    testBoardResponse);
+            given(boardWebMapper.toSummaryResponse(testSummaryResult)).willReturn(testSummaryResponse);
 
             // when
-            Page<BoardResponse> result = boardController.list(pageable, searchTerm);
+            ResponseEntity<Page<BoardSummaryResponse>> result = boardController.list(pageable, searchTerm, webRequest());
 
             // then
-            assertThat(result).isEqualTo(responsePage);
+            assertThat(result).isNotNull();
+            assertThat(result.getBody()).isEqualTo(responsePage);
             then(boardQueryService).should().listWithPaging(pageable, searchTerm);
-            then(boardWebMapper).should().toResponse(testBoardResult);
+            then(boardWebMapper).should().toSummaryResponse(testSummaryResult);
         }
     }
 
@@ -173,24 +195,110 @@ class BoardControllerTest {
         void shouldGetBoardById() {
             // given
             UUID boardId = UUID.randomUUID();
-            GetBoardQuery query = new GetBoardQuery(boardId);
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            String viewerKey = ViewerKeys.resolve(request);
+            GetBoardQuery query = new GetBoardQuery(boardId, viewerKey);
 
-            given(boardWebMapper.toGetBoardQuery(boardId)).willReturn(query);
+            given(boardWebMapper.toGetBoardQuery(boardId, viewerKey)).willReturn(query);
             given(boardQueryService.handle(query)).willReturn(testBoardResult);
             given(boardWebMapper.toResponse(testBoardResult)).willReturn(
                     testBoardResponse);
 
             // when
-            BoardResponse result = boardController.get(boardId);
+            ResponseEntity<BoardResponse> result = boardController.get(boardId, request, new ServletWebRequest(request, new MockHttpServletResponse()));
 
             // then
-            assertThat(result).isEqualTo(testBoardResponse);
-            then(boardWebMapper).should().toGetBoardQuery(boardId);
+            assertThat(result).isNotNull();
+            assertThat(result.getBody()).isEqualTo(testBoardResponse);
+            then(boardWebMapper).should().toGetBoardQuery(boardId, viewerKey);
             then(boardQueryService).should().handle(query);
             then(boardWebMapper).should().toResponse(testBoardResult);
         }
     }
 
+    @Nested
+    @DisplayName("조건부 요청 (ETag / 304)")
+    class ConditionalGet {
+
+        @Test
+        @DisplayName("✅ If-None-Match가 현재 수정 시각과 같으면 게시글을 적재하지 않고 304로 응답하며 조회는 집계한다")
+        void get_MatchingETag_ReturnsNotModifiedWithoutLoading() {
+            // given
+            UUID boardId = UUID.randomUUID();
+            LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000);
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards/" + boardId);
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, EntityTags.ofRevision(updatedAt));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            String viewerKey = ViewerKeys.resolve(request);
+            GetBoardQuery query = new GetBoardQuery(boardId, viewerKey);
+
+            given(boardWebMapper.toGetBoardQuery(boardId, viewerKey)).willReturn(query);
+            given(boardQueryService.getRevision(boardId)).willReturn(Optional.of(updatedAt));
+
+            // when
+            ResponseEntity<BoardResponse> result = boardController.get(boardId, request, new ServletWebRequest(request, response));
+
+            // then
+            assertThat(result).isNull();
+            assertThat(response.getStatus()).isEqualTo(304);
+            then(boardQueryService).should().recordView(query);
+            then(boardQueryService).should(never()).handle(query);
+        }
+
+        @Test
+        @DisplayName("✅ 내용이 바뀌었으면 새 ETag와 본문으로 응답한다")
+        void get_StaleETag_ReturnsBodyWithNewETag() {
+            // given
+            UUID boardId = UUID.randomUUID();
+            LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+            BoardResult current = new BoardResult(boardId, "Test Title", "Test Content", UUID.randomUUID(), "testuser", 3,
+                    updatedAt.minusDays(1), updatedAt, null);
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards/" + boardId);
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, EntityTags.ofRevision(updatedAt.minusMinutes(5)));
+            String viewerKey = ViewerKeys.resolve(request);
+            GetBoardQuery query = new GetBoardQuery(boardId, viewerKey);
+
+            given(boardWebMapper.toGetBoardQuery(boardId, viewerKey)).willReturn(query);
+            given(boardQueryService.getRevision(boardId)).willReturn(Optional.of(updatedAt));
+            given(boardQueryService.handle(query)).willReturn(current);
+            given(boardWebMapper.toResponse(current)).willReturn(testBoardResponse);
+
+            // when
+            ResponseEntity<BoardResponse> result = boardController.get(boardId, request,
+                    new ServletWebRequest(request, new MockHttpServletResponse()));
+
+            // then
+            assertThat(result).isNotNull();
+            assertThat(result.getBody()).isEqualTo(testBoardResponse);
+            assertThat(result.getHeaders().getETag()).isEqualTo(EntityTags.ofRevision(updatedAt));
+        }
+
+        @Test
+        @DisplayName("✅ 목록 지문이 같으면 목록 본문을 조회하지 않고 304로 응답한다")
+        void list_MatchingFingerprint_ReturnsNotModifiedWithoutLoading() {
+            // given
+            Page<BoardRevision> revisions = new PageImpl<>(
+                    List.of(new BoardRevision(UUID.randomUUID(), LocalDateTime.of(2025, 1, 1, 12, 0))), pageable, 1);
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards");
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, EntityTags.ofPage(revisions, BoardRevision::id, BoardRevision::updatedAt));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            given(boardQueryService.listRevisions(pageable)).willReturn(revisions);
+
+            // when
+            ResponseEntity<Page<BoardSummaryResponse>> result = boardController.list(pageable, null, new ServletWebRequest(request, response));
+
+            // then
+            assertThat(result).isNull();
+            assertThat(response.getStatus()).isEqualTo(304);
+            then(boardQueryService).should(never()).listWithPaging(pageable);
+        }
+    }
+
+    private static ServletWebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
+
     @Nested
     @DisplayName("PUT /api/boards/{id} - 게시글 수정")
     class UpdateBoard {
@@ -204,11 +312,11 @@ class BoardControllerTest {
             UpdateBoardCommand command = new UpdateBoardCommand(boardId, "Updated Title", "Updated Content");
             BoardResult updatedResult = new BoardResult(
                     boardId, "Updated Title", "Updated Content", UUID.randomUUID(),
-                    "testuser", 0, LocalDateTime.now(), LocalDateTime.now()
+                    "testuser", 0, LocalDateTime.now(), LocalDateTime.now(), null
             );
             BoardResponse updatedResponse = new BoardResponse(
                     boardId, "Updated Title", "Updated Content", UUID.randomUUID(),
-                    "testuser", 0, LocalDateTime.now(), LocalDateTime.now()
+                    "testuser", 0, LocalDateTime.now(), LocalDateTime.now(), null
             );
 
             given(boardWebMapper.toUpdateCommand(boardId, request)).willReturn(command);
@@ -29,6 +29,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardQueryService;
 import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
 import dev.xiyo.bunnyholes.boardhole.shared.config.log.RequestLoggingFilter;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.GlobalExceptionHandler;
 
@@ -96,8 +97,8 @@ class BoardViewControllerTest {
     @DisplayName("비인증 사용자는 글쓰기 버튼을 볼 수 없다")
     @WithAnonymousUser
     void list_Anonymous_ShouldHideWriteButton() throws Exception {
-        Page<BoardResult> boardPage = new PageImpl<>(
-                List.of(createBoardResult(
+        Page<BoardSummaryResult> boardPage = new PageImpl<>(
+                List.of(createSummaryResult(
                         UUID.randomUUID(),
                         "게스트용 글",
                         "내용",
@@ -123,7 +124,7 @@ class BoardViewControllerTest {
     @WithMockUser
     void list_ShouldRenderBoardListPage() throws Exception {
         // given
-        var board1 = createBoardResult(
+        var board1 = createSummaryResult(
                 UUID.randomUUID(),
                 "테스트 게시글 1",
                 "테스트 내용 1",
@@ -133,7 +134,7 @@ class BoardViewControllerTest {
                 LocalDateTime.now(),
                 LocalDateTime.now()
         );
-        var board2 = createBoardResult(
+        var board2 = createSummaryResult(
                 UUID.randomUUID(),
                 "테스트 게시글 2",
                 "테스트 내용 2",
@@ -144,7 +145,7 @@ class BoardViewControllerTest {
                 LocalDateTime.now().minusDays(1)
         );
 
-        Page<BoardResult> boardPage = new PageImpl<>(
+        Page<BoardSummaryResult> boardPage = new PageImpl<>(
                 List.of(board1, board2),
                 PageRequest.of(0, 10),
                 2
@@ -183,7 +184,7 @@ class BoardViewControllerTest {
                 LocalDateTime.of(2024, 9, 20, 15, 0)
         );
 
-        when(boardQueryService.getBoard(boardId)).thenReturn(boardDetail);
+        when(boardQueryService.getBoard(eq(boardId), any())).thenReturn(boardDetail);
 
         // when & then
         mockMvc.perform(get("/boards/{id}", boardId))
@@ -221,7 +222,7 @@ class BoardViewControllerTest {
                 LocalDateTime.now()
         );
 
-        when(boardQueryService.getBoard(boardId)).thenReturn(boardDetail);
+        when(boardQueryService.getBoard(eq(boardId), any())).thenReturn(boardDetail);
         when(permissionEvaluator.hasPermission(any(Authentication.class), eq(boardId), eq("BOARD"), eq("WRITE")))
                 .thenAnswer(invocation -> OWNER_ID_STRING.equals(((Authentication) invocation.getArgument(0)).getName()));
 
@@ -250,7 +251,7 @@ class BoardViewControllerTest {
                 LocalDateTime.now()
         );
 
-        when(boardQueryService.getBoard(boardId)).thenReturn(boardDetail);
+        when(boardQueryService.getBoard(eq(boardId), any())).thenReturn(boardDetail);
 
         mockMvc.perform(get("/boards/{id}", boardId))
                .andExpect(status().isOk())
@@ -264,7 +265,7 @@ class BoardViewControllerTest {
     void list_WithSearchQuery_ShouldFilterResults() throws Exception {
         // given
         final var searchQuery = "Spring";
-        var filteredBoard = createBoardResult(
+        var filteredBoard = createSummaryResult(
                 UUID.randomUUID(),
                 "Spring Boot 튜토리얼",
                 "Spring Boot 관련 내용",
@@ -275,7 +276,7 @@ class BoardViewControllerTest {
                 LocalDateTime.now()
         );
 
-        Page<BoardResult> searchResults = new PageImpl<>(
+        Page<BoardSummaryResult> searchResults = new PageImpl<>(
                 List.of(filteredBoard),
                 PageRequest.of(0, 10),
                 1
@@ -298,11 +299,11 @@ class BoardViewControllerTest {
     void list_WithPagination_ShouldRenderPageLinks() throws Exception {
         // given
         var boards = List.of(
-                createBoardResult(UUID.randomUUID(), "게시글1", "내용1", UUID.randomUUID(), "작성자1", 1, LocalDateTime.now(), LocalDateTime.now()),
-                createBoardResult(UUID.randomUUID(), "게시글2", "내용2", UUID.randomUUID(), "작성자2", 2, LocalDateTime.now(), LocalDateTime.now())
+                createSummaryResult(UUID.randomUUID(), "게시글1", "내용1", UUID.randomUUID(), "작성자1", 1, LocalDateTime.now(), LocalDateTime.now()),
+                createSummaryResult(UUID.randomUUID(), "게시글2", "내용2", UUID.randomUUID(), "작성자2", 2, LocalDateTime.now(), LocalDateTime.now())
         );
 
-        Page<BoardResult> pagedResults = new PageImpl<>(
+        Page<BoardSummaryResult> pagedResults = new PageImpl<>(
                 boards,
                 PageRequest.of(1, 10), // 2페이지
                 25 // 전체 25개 (3페이지)
@@ -324,6 +325,12 @@ class BoardViewControllerTest {
                                                  String authorName, Integer viewCount,
                                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
         return new BoardResult(id, title, content, authorId, authorName,
-                viewCount, createdAt, updatedAt);
+                viewCount, createdAt, updatedAt, null);
+    }
+
+    private static BoardSummaryResult createSummaryResult(UUID id, String title, String excerpt, UUID authorId,
+                                                          String authorName, Integer viewCount,
+                                                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return new BoardSummaryResult(id, title, excerpt, authorId, authorName, viewCount, createdAt, updatedAt);
     }
 }
@@ -0,0 +1,137 @@
+package dev.xiyo.bunnyholes.boardhole.board.presentation.view.pagecache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.servlet.FilterChain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.unit.DataSize;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardDeletedEvent;
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardQueryService;
+import dev.xiyo.bunnyholes.boardhole.board.application.query.GetBoardQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@Tag("unit")
+@DisplayName("AnonymousPageCacheFilter 비로그인 페이지 캐시 테스트")
+class AnonymousPageCacheFilterTest {
+
+    private AnonymousPageCache cache;
+    private BoardQueryService boardQueryService;
+    private AnonymousPageCacheFilter filter;
+    private AtomicInteger renders;
+    private String renderedBody;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AnonymousPageCache(new AnonymousPageCacheProperties(true, DataSize.ofMegabytes(1), DataSize.ofKilobytes(64),
+                Duration.ofMinutes(1)), new SimpleMeterRegistry());
+        boardQueryService = Mockito.mock(BoardQueryService.class);
+        filter = new AnonymousPageCacheFilter(cache, boardQueryService);
+        renders = new AtomicInteger();
+        renderedBody = "<html><body>게시판</body></html>";
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private FilterChain renderer() {
+        return (request, response) -> {
+            renders.incrementAndGet();
+            response.setContentType("text/html;charset=UTF-8");
+            response.getWriter().write(renderedBody);
+        };
+    }
+
+    private MockHttpServletResponse get(String path, String query) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (!query.isEmpty())
+            for (String pair : query.split("&")) {
+                String[] parts = pair.split("=", 2);
+                request.addParameter(parts[0], parts[1]);
+            }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, renderer());
+        return response;
+    }
+
+    @Test
+    @DisplayName("✅ 같은 목록 요청은 두 번째부터 렌더링 없이 저장된 HTML로 응답한다")
+    void list_SecondRequest_ServedFromCache() throws Exception {
+        MockHttpServletResponse first = get("/boards", "page=1&sort=id,desc");
+        MockHttpServletResponse second = get("/boards", "sort=id,desc&page=1");
+        get("/boards", "page=2");
+
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo(renderedBody);
+        assertThat(second.getContentType()).startsWith("text/html");
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("✅ 캐시된 상세 페이지도 조회는 집계한다")
+    void detail_CacheHit_RecordsView() throws Exception {
+        UUID boardId = UUID.randomUUID();
+
+        get("/boards/" + boardId, "");
+        get("/boards/" + boardId, "");
+
+        assertThat(renders).hasValue(1);
+        verify(boardQueryService).recordView(any(GetBoardQuery.class));
+    }
+
+    @Test
+    @DisplayName("✅ 로그인 사용자 요청은 캐시를 거치지 않는다")
+    void authenticated_BypassesCache() throws Exception {
+        get("/boards", "");
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("user", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+
+        get("/boards", "");
+
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("✅ CSRF 토큰이 포함된 페이지와 알 수 없는 파라미터는 저장하지 않는다")
+    void csrfOrUnknownParameter_NotStored() throws Exception {
+        renderedBody = "<form method=\"post\"><input type=\"hidden\" name=\"_csrf\" value=\"token\"/></form>";
+        get("/boards", "");
+        get("/boards", "");
+        renderedBody = "<html></html>";
+        get("/boards", "lang=en");
+        get("/boards", "lang=en");
+
+        assertThat(renders).hasValue(4);
+        verify(boardQueryService, never()).recordView(any());
+    }
+
+    @Test
+    @DisplayName("✅ 게시글 변경 이벤트는 저장된 페이지를 모두 비운다")
+    void boardChange_InvalidatesAll() throws Exception {
+        get("/boards", "");
+        cache.onDeleted(new BoardDeletedEvent(UUID.randomUUID(), UUID.randomUUID(), LocalDateTime.now()));
+        get("/boards", "");
+
+        assertThat(renders).hasValue(2);
+    }
+}
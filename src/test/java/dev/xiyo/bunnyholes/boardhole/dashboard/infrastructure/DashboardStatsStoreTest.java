@@ -0,0 +1,115 @@
+package dev.xiyo.bunnyholes.boardhole.dashboard.infrastructure;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Tag("unit")
+@DisplayName("DashboardStatsStore 메모리 통계 테스트")
+class DashboardStatsStoreTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-10T03:00:00Z"), ZONE);
+    private static final LocalDate TODAY = LocalDate.now(CLOCK);
+    private static final UUID AUTHOR = UUID.randomUUID();
+
+    private DashboardStatsLoader loader;
+    private DashboardStatsStore store;
+
+    @BeforeEach
+    void setUp() {
+        loader = Mockito.mock(DashboardStatsLoader.class);
+        given(loader.load(any())).willReturn(new DashboardStatsLoader.Aggregates(10, Map.of(TODAY, 2L, TODAY.minusDays(1), 3L),
+                Map.of(AUTHOR, 4L)));
+        store = new DashboardStatsStore(loader, new DashboardStatsProperties(Duration.ofMinutes(10), 7), CLOCK);
+    }
+
+    @Test
+    @DisplayName("✅ 첫 조회에서 DB 집계로 적재하고 이후 조회는 메모리에서 응답한다")
+    void snapshot_LoadsOnceThenServesFromMemory() {
+        DashboardStatsStore.Snapshot first = store.snapshot(AUTHOR);
+        DashboardStatsStore.Snapshot second = store.snapshot(null);
+
+        assertThat(first.totalBoards()).isEqualTo(10);
+        assertThat(first.todayBoards()).isEqualTo(2);
+        assertThat(first.authorBoards()).isEqualTo(4);
+        assertThat(first.recentDays()).hasSize(7);
+        assertThat(first.recentDays().getLast()).isEqualTo(new DashboardStatsStore.DailyCount(TODAY, 2));
+        assertThat(first.recentDays().get(5).count()).isEqualTo(3);
+        assertThat(second.authorBoards()).isNull();
+        verify(loader, times(1)).load(TODAY.minusDays(6));
+    }
+
+    @Test
+    @DisplayName("✅ 생성/삭제 이벤트로 전체, 작성일별, 작성자별 게시글 수가 증감한다")
+    void events_AdjustCounters() {
+        store.snapshot(null);
+        UUID newAuthor = UUID.randomUUID();
+
+        store.boardCreated(newAuthor, TODAY.atTime(9, 0));
+        store.boardCreated(AUTHOR, TODAY.atTime(10, 0));
+        store.boardDeleted(AUTHOR, TODAY.minusDays(1).atTime(8, 0));
+
+        DashboardStatsStore.Snapshot snapshot = store.snapshot(AUTHOR);
+        assertThat(snapshot.totalBoards()).isEqualTo(11);
+        assertThat(snapshot.todayBoards()).isEqualTo(4);
+        assertThat(snapshot.recentDays().get(5).count()).isEqualTo(2);
+        assertThat(snapshot.authorBoards()).isEqualTo(4);
+        assertThat(store.snapshot(newAuthor).authorBoards()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("✅ 보정은 누적 오차를 DB 집계값으로 교체한다")
+    void repair_ReplacesDriftedCounters() {
+        store.snapshot(null);
+        store.boardCreated(AUTHOR, TODAY.atTime(9, 0));
+
+        store.repair();
+
+        DashboardStatsStore.Snapshot snapshot = store.snapshot(AUTHOR);
+        assertThat(snapshot.totalBoards()).isEqualTo(10);
+        assertThat(snapshot.authorBoards()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("✅ 적재 전 이벤트는 무시되고 적재 시 DB 집계에 포함된다")
+    void events_BeforeLoad_Ignored() {
+        store.boardCreated(AUTHOR, TODAY.atTime(9, 0));
+
+        assertThat(store.snapshot(null).totalBoards()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("✅ 생성 시에는 DB에 접근하지 않고 시작 시 보정 스레드가 적재하며 중지하면 보정을 멈춘다")
+    void lifecycle_LoadsOnStartOnly() {
+        verify(loader, never()).load(any());
+        assertThat(store.isRunning()).isFalse();
+
+        store.start();
+
+        assertThat(store.isRunning()).isTrue();
+        verify(loader, timeout(1_000)).load(TODAY.minusDays(6));
+
+        store.stop();
+
+        assertThat(store.isRunning()).isFalse();
+    }
+}
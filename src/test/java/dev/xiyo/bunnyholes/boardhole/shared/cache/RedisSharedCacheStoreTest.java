@@ -0,0 +1,126 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.CacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Redis 컨테이너를 두 노드가 공유하는 상황을 재현해 공유 캐시와 무효화 전파를 검증합니다.
+ */
+@Tag("integration")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Redis 공유 캐시 통합 테스트")
+class RedisSharedCacheStoreTest {
+
+    private static final CacheProperties.Local LOCAL = new CacheProperties.Local(true, DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+
+    private final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisSharedCacheStore nodeA;
+    private RedisSharedCacheStore nodeB;
+
+    record Item(UUID id, String name) {
+    }
+
+    @BeforeAll
+    void startRedis() {
+        redis.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        nodeA = new RedisSharedCacheStore(connectionFactory, "test:", "test:invalidation");
+        nodeB = new RedisSharedCacheStore(connectionFactory, "test:", "test:invalidation");
+    }
+
+    @AfterAll
+    void stopRedis() throws Exception {
+        nodeA.destroy();
+        nodeB.destroy();
+        connectionFactory.destroy();
+        redis.stop();
+    }
+
+    private TwoLevelCache<Item> cacheOn(RedisSharedCacheStore store) {
+        return new ReadModelCaches(new SimpleMeterRegistry(), objectMapper, store, Duration.ofMinutes(5))
+                .create("item", LOCAL, Item.class, item -> 64);
+    }
+
+    @Test
+    @DisplayName("한 노드가 적재한 값은 다른 노드에서 공유 캐시로 조회된다")
+    void sharedHitAcrossNodes() {
+        TwoLevelCache<Item> cacheA = cacheOn(nodeA);
+        TwoLevelCache<Item> cacheB = cacheOn(nodeB);
+        UUID id = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        cacheA.get(id, key -> new Item(key, "loaded-" + loads.incrementAndGet()));
+        Item fromB = cacheB.get(id, key -> new Item(key, "loaded-" + loads.incrementAndGet()));
+
+        assertThat(fromB.name()).isEqualTo("loaded-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("무효화는 pub/sub으로 다른 노드의 로컬 캐시까지 전파된다")
+    void invalidationPropagatesToOtherNodes() {
+        TwoLevelCache<Item> cacheA = cacheOn(nodeA);
+        TwoLevelCache<Item> cacheB = cacheOn(nodeB);
+        UUID id = UUID.randomUUID();
+        cacheA.get(id, key -> new Item(key, "v1"));
+        assertThat(cacheB.get(id, key -> new Item(key, "unused")).name()).isEqualTo("v1");
+
+        cacheA.invalidate(id);
+
+        await().atMost(Duration.ofSeconds(5))
+               .untilAsserted(() -> assertThat(cacheB.get(id, key -> new Item(key, "v2")).name()).isEqualTo("v2"));
+    }
+
+    @Test
+    @DisplayName("적재 중에 무효화되면 적재한 오래된 값은 공유 캐시에 쓰지 않는다")
+    void staleLoadNotWrittenAfterInvalidation() {
+        TwoLevelCache<Item> cacheA = cacheOn(nodeA);
+        TwoLevelCache<Item> cacheB = cacheOn(nodeB);
+        UUID id = UUID.randomUUID();
+
+        cacheA.get(id, key -> {
+            cacheB.invalidate(key);
+            return new Item(key, "stale");
+        });
+
+        assertThat(cacheB.get(id, key -> new Item(key, "fresh")).name()).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("자신이 보낸 무효화 메시지는 무시한다")
+    void ignoresOwnMessages() throws InterruptedException {
+        AtomicInteger received = new AtomicInteger();
+        nodeA.subscribe((cacheName, id) -> received.incrementAndGet());
+
+        nodeA.publishInvalidation("item", UUID.randomUUID());
+        Thread.sleep(200);
+
+        assertThat(received).hasValue(0);
+    }
+}
@@ -0,0 +1,110 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@Tag("unit")
+@DisplayName("WeightedLruCache 가중치 LRU 캐시 테스트")
+class WeightedLruCacheTest {
+
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+
+    private WeightedLruCache<Integer, String> cache(long maxWeight) {
+        return new WeightedLruCache<>("test", maxWeight, Duration.ofMinutes(1), String::length, clock, meterRegistry);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "test").tag("result", result).counter().count();
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = Mockito.mock(Clock.class);
+        given(clock.millis()).willReturn(0L);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("✅ 적재 결과를 캐시하고 적중/실패를 집계한다")
+    void get_CachesLoadedValue() {
+        WeightedLruCache<Integer, String> cache = cache(16 * 100);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1, key -> "v" + loads.incrementAndGet());
+        String second = cache.get(1, key -> "v" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("v1");
+        assertThat(loads).hasValue(1);
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("✅ 가중치 예산을 넘으면 가장 오래 사용하지 않은 항목부터 제거한다")
+    void put_OverWeight_EvictsLeastRecentlyUsed() {
+        // 세그먼트 예산 10, 같은 세그먼트에 들어가도록 16의 배수 키 사용
+        WeightedLruCache<Integer, String> cache = cache(16 * 10);
+        cache.put(0, "aaaa");
+        cache.put(16, "bbbb");
+        cache.getIfPresent(0);
+
+        cache.put(32, "cccc");
+
+        assertThat(cache.getIfPresent(16)).isNull();
+        assertThat(cache.getIfPresent(0)).isEqualTo("aaaa");
+        assertThat(cache.getIfPresent(32)).isEqualTo("cccc");
+        assertThat(cache.weight()).isEqualTo(8);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "test").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("✅ 예산보다 무거운 항목과 최대 가중치 0은 저장하지 않는다")
+    void put_TooHeavyOrDisabled_NotStored() {
+        WeightedLruCache<Integer, String> cache = cache(16 * 3);
+        cache.put(1, "heavy");
+        assertThat(cache.getIfPresent(1)).isNull();
+
+        WeightedLruCache<Integer, String> disabled = new WeightedLruCache<>("off", 0, Duration.ofMinutes(1), String::length, clock,
+                meterRegistry);
+        assertThat(disabled.get(1, key -> "x")).isEqualTo("x");
+        assertThat(disabled.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ 저장 후 만료 시간이 지나면 다시 적재한다")
+    void get_Expired_Reloads() {
+        WeightedLruCache<Integer, String> cache = cache(16 * 100);
+        cache.put(1, "old");
+
+        given(clock.millis()).willReturn(Duration.ofMinutes(1).toMillis());
+
+        assertThat(cache.get(1, key -> "new")).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("✅ 적재 중 무효화되면 적재 결과를 저장하지 않는다")
+    void get_InvalidatedDuringLoad_NotStored() {
+        WeightedLruCache<Integer, String> cache = cache(16 * 100);
+
+        String loaded = cache.get(1, key -> {
+            cache.invalidate(key);
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.getIfPresent(1)).isNull();
+    }
+}
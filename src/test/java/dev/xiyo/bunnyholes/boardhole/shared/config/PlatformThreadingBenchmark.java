@@ -0,0 +1,19 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("플랫폼 스레드 모드 목록 조회 벤치마크")
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=false",
+        "server.tomcat.threads.max=16",
+        "spring.datasource.hikari.maximum-pool-size=32",
+        "boardhole.listing-count.mode=exact"
+})
+class PlatformThreadingBenchmark extends ThreadingBenchmark {
+
+    @Override
+    String mode() {
+        return "platform";
+    }
+}
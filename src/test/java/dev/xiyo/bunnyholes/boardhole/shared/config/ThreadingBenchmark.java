@@ -0,0 +1,148 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.xiyo.bunnyholes.boardhole.testsupport.e2e.AuthSteps;
+import dev.xiyo.bunnyholes.boardhole.testsupport.e2e.BoardSteps;
+import dev.xiyo.bunnyholes.boardhole.testsupport.e2e.E2ETestBase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드/가상 스레드 실행 모드 비교 벤치마크
+ * <p>
+ * Tomcat 워커 수보다 많은 동시 클라이언트로 DB 조회가 있는 목록 API(count 포함)를 호출해 지연 분포와 처리량을 측정하고
+ * {@code build/reports/benchmarks/threading-<mode>.json}에 기록합니다. 두 모드의 비교는 {@code ./gradlew threadingBenchmark}가 출력합니다.
+ */
+@Tag("benchmark")
+abstract class ThreadingBenchmark extends E2ETestBase {
+
+    private static final int SEED_BOARDS = 200;
+    private static final int CLIENTS = 128;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int MEASURED_REQUESTS = 5_000;
+    private static final Path REPORT_DIR = Path.of("build", "reports", "benchmarks");
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String session;
+
+    /**
+     * 보고서 파일 이름에 쓰일 실행 모드
+     */
+    abstract String mode();
+
+    @BeforeAll
+    void seed() {
+        session = AuthSteps.loginAdmin();
+        for (int i = 0; i < SEED_BOARDS; i++)
+            BoardSteps.create(session, "Benchmark " + i, "Threading benchmark content " + i);
+    }
+
+    @Test
+    void listBoardsUnderConcurrentLoad() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                                      .executor(Executors.newVirtualThreadPerTaskExecutor())
+                                      .connectTimeout(Duration.ofSeconds(5))
+                                      .build();
+        run(client, WARMUP_REQUESTS);
+        double pinnedBefore = pinnedCount();
+
+        long started = System.nanoTime();
+        Result result = run(client, MEASURED_REQUESTS);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        assertThat(result.failures()).as("failed requests").isZero();
+        writeReport(result, elapsedSeconds, pinnedCount() - pinnedBefore);
+    }
+
+    private Result run(HttpClient client, int requests) throws Exception {
+        int pages = SEED_BOARDS / 10;
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> running = new ArrayList<>(CLIENTS);
+            for (int c = 0; c < CLIENTS; c++) {
+                running.add(clients.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/boards?page=" + i % pages))
+                                                         .header("Cookie", "JSESSIONID=" + session)
+                                                         .timeout(Duration.ofSeconds(30))
+                                                         .GET()
+                                                         .build();
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[i] = System.nanoTime() - start;
+                        if (response.statusCode() != 200)
+                            failures.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : running)
+                future.get();
+        }
+        Arrays.sort(latencies);
+        return new Result(latencies, failures.get());
+    }
+
+    private double pinnedCount() {
+        Timer pinned = meterRegistry.find("jvm.threads.virtual.pinned").timer();
+        return pinned == null ? 0 : pinned.count();
+    }
+
+    private void writeReport(Result result, double elapsedSeconds, double pinned) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("mode", mode());
+        report.put("endpoint", "GET /api/boards");
+        report.put("clients", CLIENTS);
+        report.put("requests", MEASURED_REQUESTS);
+        report.put("throughputPerSecond", MEASURED_REQUESTS / elapsedSeconds);
+        report.put("p50Ms", result.percentileMillis(0.50));
+        report.put("p95Ms", result.percentileMillis(0.95));
+        report.put("p99Ms", result.percentileMillis(0.99));
+        report.put("maxMs", result.percentileMillis(1.0));
+        report.put("pinnedEvents", (long) pinned);
+
+        Files.createDirectories(REPORT_DIR);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT_DIR.resolve("threading-" + mode() + ".json").toFile(), report);
+    }
+
+    private record Result(long[] sortedLatencies, int failures) {
+
+        double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.clamp(index, 0, sortedLatencies.length - 1)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config.log;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("AccessLog 비동기 접근 로그 테스트")
+class AccessLogTest {
+
+    private ListAppender<ILoggingEvent> appender;
+    private MeterRegistry meterRegistry;
+
+    private static AccessLogEvent event(String path) {
+        return new AccessLogEvent(1_700_000_000_000L, "trace", "GET", path, 200, 12, "127.0.0.1", "junit", "http-nio-exec-1",
+                Map.of(LogConstants.TRACE_ID_KEY, "trace", "userId", "reader"));
+    }
+
+    private AccessLog accessLog(AccessLogProperties.Overflow overflow) {
+        AccessLogProperties properties = new AccessLogProperties(true, null, 2, overflow, 256, DataSize.ofMegabytes(1), 1);
+        return new AccessLog(properties, appender, meterRegistry, false);
+    }
+
+    private double events(String outcome) {
+        return meterRegistry.get("access.log.events").tag("outcome", outcome).counter().count();
+    }
+
+    @BeforeEach
+    void setUp() {
+        appender = new ListAppender<>();
+        appender.start();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("✅ 버퍼의 이벤트는 요청 시작 시각, 필드, 요청 스레드 이름과 MDC를 담아 기록된다")
+    void drain_WritesBufferedEvents() {
+        AccessLog accessLog = accessLog(AccessLogProperties.Overflow.DROP_NEWEST);
+
+        accessLog.record(event("/boards"));
+
+        assertThat(accessLog.drain()).isEqualTo(1);
+        assertThat(appender.list).singleElement().satisfies(written -> {
+            assertThat(written.getTimeStamp()).isEqualTo(1_700_000_000_000L);
+            assertThat(written.getMarkerList()).isNotEmpty();
+            assertThat(written.getThreadName()).isEqualTo("http-nio-exec-1");
+            assertThat(written.getMDCPropertyMap()).containsEntry("userId", "reader").containsEntry(LogConstants.TRACE_ID_KEY, "trace");
+        });
+        assertThat(events("written")).isEqualTo(1);
+        assertThat(meterRegistry.get("access.log.queue").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ DROP_NEWEST는 버퍼가 가득 차면 새 이벤트를 버리고 센다")
+    void record_DropNewest_DiscardsIncoming() {
+        AccessLog accessLog = accessLog(AccessLogProperties.Overflow.DROP_NEWEST);
+
+        accessLog.record(event("/1"));
+        accessLog.record(event("/2"));
+        boolean accepted = accessLog.record(event("/3"));
+        accessLog.drain();
+
+        assertThat(accepted).isFalse();
+        assertThat(events("dropped")).isEqualTo(1);
+        assertThat(appender.list).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("✅ DROP_OLDEST는 가장 오래된 이벤트를 버리고 새 이벤트를 넣는다")
+    void record_DropOldest_DiscardsHead() {
+        AccessLog accessLog = accessLog(AccessLogProperties.Overflow.DROP_OLDEST);
+
+        accessLog.record(event("/1"));
+        accessLog.record(event("/2"));
+        boolean accepted = accessLog.record(event("/3"));
+        accessLog.drain();
+
+        assertThat(accepted).isTrue();
+        assertThat(events("dropped")).isEqualTo(1);
+        assertThat(appender.list).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("✅ User-Agent는 최대 길이로 잘린다")
+    void truncateUserAgent_LimitsLength() {
+        assertThat(AccessLog.truncateUserAgent("a".repeat(1000))).hasSize(256);
+        assertThat(AccessLog.truncateUserAgent(null)).isNull();
+    }
+}
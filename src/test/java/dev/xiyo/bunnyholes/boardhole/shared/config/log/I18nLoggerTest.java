@@ -0,0 +1,69 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config.log;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+@Tag("unit")
+@DisplayName("I18nLogger 지연 평가 다국어 로거 테스트")
+class I18nLoggerTest {
+
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+    private I18nLogger i18n;
+
+    @BeforeEach
+    void setUp() {
+        MessageUtils.setMessageSource(null);
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        logger = (Logger) LoggerFactory.getLogger(I18nLoggerTest.class);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        i18n = I18nLogger.of(logger);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    @DisplayName("✅ 켜진 레벨은 현재 로케일의 메시지로 기록한다")
+    void enabledLevel_LogsLocalizedMessage() {
+        logger.setLevel(Level.INFO);
+
+        i18n.info("log.user.admin.exists", "admin");
+
+        assertThat(appender.list).singleElement()
+                                 .extracting(ILoggingEvent::getFormattedMessage)
+                                 .isEqualTo(MessageUtils.get("log.user.admin.exists", "admin"));
+    }
+
+    @Test
+    @DisplayName("✅ 꺼진 레벨은 메시지 키를 해석하지 않는다")
+    void disabledLevel_SkipsLookup() {
+        logger.setLevel(Level.INFO);
+
+        // 없는 키라도 레벨이 꺼져 있으면 조회하지 않으므로 예외가 나지 않음
+        assertThatCode(() -> i18n.debug("log.no.such.key", "value")).doesNotThrowAnyException();
+        assertThat(appender.list).isEmpty();
+    }
+}
@@ -0,0 +1,92 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config.log;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("LogFormatter 인자 포매팅 테스트")
+class LogFormatterTest {
+
+    @BeforeEach
+    void setUp() {
+        ResourceBundleMessageSource ms = new ResourceBundleMessageSource();
+        ms.setBasename("messages");
+        ms.setDefaultEncoding("UTF-8");
+        ms.setUseCodeAsDefaultMessage(true);
+        MessageUtils.setMessageSource(ms);
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+    }
+
+    @Test
+    @DisplayName("✅ 레코드는 컴포넌트 순서대로 출력하고 비 JDK 값은 타입 이름만 출력한다")
+    void sanitizeObject_Record() {
+        UUID id = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+
+        String formatted = LogFormatter.sanitizeObject(new SampleCommand(id, "title", new Nested(), null));
+
+        assertThat(formatted).isEqualTo("SampleCommand{id=" + id + ",title=title,nested=Nested,note=null}");
+    }
+
+    @Test
+    @DisplayName("✅ 민감 필드는 접미사까지 마스킹하고 값을 출력하지 않는다")
+    void sanitizeObject_MasksSensitiveSuffixes() {
+        String formatted = LogFormatter.sanitizeObject(new PasswordChange("old-secret-value", "new-secret-value", "api-key-value"));
+
+        assertThat(formatted).doesNotContain("old-secret-value", "new-secret-value", "api-key-value")
+                             .contains("currentPassword=" + MessageUtils.get("mask.password"))
+                             .contains("newPassword=" + MessageUtils.get("mask.password"))
+                             .contains("apiKey=" + MessageUtils.get("mask.key"));
+    }
+
+    @Test
+    @DisplayName("✅ 일반 클래스는 static 필드를 제외하고 긴 값은 100자로 자른다")
+    void sanitizeObject_ClassFields() {
+        String formatted = LogFormatter.sanitizeObject(new Holder("x".repeat(150)));
+
+        assertThat(formatted).isEqualTo("Holder{value=" + "x".repeat(97) + "...}");
+    }
+
+    @Test
+    @DisplayName("✅ 같은 클래스의 포매터는 한 번만 컴파일된다")
+    void forClass_IsCached() {
+        assertThat(CompiledObjectFormatter.forClass(SampleCommand.class)).isSameAs(CompiledObjectFormatter.forClass(SampleCommand.class));
+    }
+
+    @Test
+    @DisplayName("✅ 인자 목록은 쉼표로 이어 붙이고 null과 JDK 타입을 그대로 출력한다")
+    void formatArguments_JoinsArguments() {
+        String formatted = LogFormatter.formatArguments(new Object[]{List.of(1, 2), null, new Holder("v")});
+
+        assertThat(formatted).isEqualTo("[1, 2], null, Holder{value=v}");
+    }
+
+    record SampleCommand(UUID id, String title, Nested nested, String note) {
+    }
+
+    record PasswordChange(String currentPassword, String newPassword, String apiKey) {
+    }
+
+    static final class Nested {
+    }
+
+    static final class Holder {
+        private static final String CONSTANT = "ignored";
+        private final String value;
+
+        Holder(String value) {
+            this.value = value;
+        }
+    }
+}
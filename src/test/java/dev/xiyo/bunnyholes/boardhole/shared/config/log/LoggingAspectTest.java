@@ -1,23 +1,53 @@
 package dev.xiyo.bunnyholes.boardhole.shared.config.log;
 
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.event.Level;
 import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
+import dev.xiyo.bunnyholes.boardhole.board.application.command.BoardCommandService;
+import dev.xiyo.bunnyholes.boardhole.board.application.command.CreateBoardCommand;
+import dev.xiyo.bunnyholes.boardhole.board.application.mapper.BoardMapper;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.LoadedBoardHandoff;
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
+import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
+import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 
 @Tag("unit")
+@DisplayName("LoggingAspect @Loggable 로깅 테스트")
 class LoggingAspectTest {
 
     private LoggingAspect loggingAspect;
+    private MeterRegistry meterRegistry;
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
 
     @BeforeEach
     void setUp() {
@@ -26,33 +56,150 @@ class LoggingAspectTest {
         ms.setDefaultEncoding("UTF-8");
         ms.setUseCodeAsDefaultMessage(true);
         MessageUtils.setMessageSource(ms);
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
 
         LoggingProperties properties = new LoggingProperties();
         LogFormatter formatter = new LogFormatter(properties);
-        loggingAspect = new LoggingAspect(formatter);
+        meterRegistry = new SimpleMeterRegistry();
+        loggingAspect = new LoggingAspect(formatter, meterRegistry);
+
+        logger = (Logger) org.slf4j.LoggerFactory.getLogger(LoggingAspect.class);
+        logger.setLevel(ch.qos.logback.classic.Level.DEBUG);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
     }
 
-    @Test
-    void methodEndDoesNotLogReturnValue() throws InterruptedException {
-        DummyService target = new DummyService();
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    private <T> T proxy(T target) {
         AspectJProxyFactory factory = new AspectJProxyFactory(target);
         factory.addAspect(loggingAspect);
-        DummyService proxy = factory.getProxy(); // Use the proxy instance
+        return factory.getProxy();
+    }
 
-        Logger logger = (Logger) org.slf4j.LoggerFactory.getLogger(LoggingAspect.class);
-        logger.setLevel(Level.DEBUG);
-        ListAppender<ILoggingEvent> appender = new ListAppender<>();
-        appender.start();
-        logger.addAppender(appender);
+    private boolean logged(String text) {
+        return appender.list.stream().anyMatch(e -> e.getFormattedMessage().contains(text));
+    }
 
-        DummyService.doWork(); // Call through proxy to trigger AOP
+    @Test
+    @DisplayName("✅ @Loggable이 없는 메서드는 로깅하지 않는다")
+    void unannotatedMethod_NotIntercepted() {
+        proxy(new PlainService()).work("sensitive");
 
-        assertThat(appender.list.stream().anyMatch(e -> e.getFormattedMessage().contains("sensitive"))).isFalse();
+        assertThat(appender.list).isEmpty();
     }
 
-    static class DummyService {
-        static void doWork() throws InterruptedException {
-            Thread.sleep(20); // ensure tookMs > 10 for logging
+    @Test
+    @DisplayName("✅ @Loggable 메서드는 시작/완료를 지정 레벨로 남기고 반환값은 남기지 않는다")
+    void annotatedMethod_LogsStartAndEnd() {
+        proxy(new AnnotatedService()).work("argument");
+
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel).contains(ch.qos.logback.classic.Level.DEBUG);
+        assertThat(logged("AnnotatedService.work(..)")).isTrue();
+        assertThat(logged("argument")).isTrue();
+        assertThat(logged("result-value")).isFalse();
+    }
+
+    @Test
+    @DisplayName("✅ 레벨이 꺼져 있으면 시작/완료 로그와 인자 포매팅을 생략한다")
+    void disabledLevel_SkipsLogging() {
+        proxy(new AnnotatedService()).traced("argument");
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ 메서드 임계값을 넘으면 성능 경고를 남긴다")
+    void slowMethod_WarnsWithMethodThreshold() throws InterruptedException {
+        proxy(new AnnotatedService()).slow();
+
+        assertThat(appender.list).anyMatch(e -> e.getLevel() == ch.qos.logback.classic.Level.WARN
+                && e.getFormattedMessage().contains("AnnotatedService.slow()"));
+    }
+
+    @Test
+    @DisplayName("✅ 업무 이벤트는 성공 시 INFO로 남기고 게시글 내용은 남기지 않는다")
+    void boardCreate_LogsEvent() {
+        BoardRepository boardRepository = Mockito.mock(BoardRepository.class);
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        BoardMapper boardMapper = Mockito.mock(BoardMapper.class);
+        BoardCommandService service = proxy(new BoardCommandService(boardRepository, userRepository, boardMapper,
+                Mockito.mock(ApplicationEventPublisher.class), Mockito.mock(LoadedBoardHandoff.class)));
+
+        User author = User.builder().username("writer").password("pw").name("Writer").email("writer@example.com").roles(Set.of(Role.USER)).build();
+        UUID authorId = UUID.randomUUID();
+        ReflectionTestUtils.setField(author, "id", authorId);
+        given(userRepository.findById(authorId)).willReturn(Optional.of(author));
+        Board board = Board.builder().title("title").content("secret content").author(author).build();
+        UUID boardId = UUID.randomUUID();
+        ReflectionTestUtils.setField(board, "id", boardId);
+        given(boardRepository.save(any(Board.class))).willReturn(board);
+        // Suppress null warning: test record with null timestamps for logging test purposes
+        @SuppressWarnings("DataFlowIssue") BoardResult boardResult = new BoardResult(boardId, "title", "secret content", authorId, "writer", 0,
+                null, null, null);
+        given(boardMapper.toResult(board)).willReturn(boardResult);
+
+        service.create(new CreateBoardCommand(authorId, "title", "secret content"));
+
+        String expected = MessageUtils.get("log.board.created", boardId, "title", "writer");
+        assertThat(appender.list).anyMatch(e -> e.getLevel() == ch.qos.logback.classic.Level.INFO && e.getFormattedMessage().contains(expected));
+    }
+
+    @Test
+    @DisplayName("✅ 실패는 ERROR로 남기고 예외를 그대로 던진다")
+    void failure_LogsErrorAndRethrows() {
+        AnnotatedService service = proxy(new AnnotatedService());
+
+        assertThrows(IllegalStateException.class, service::fail);
+        assertThat(appender.list).anyMatch(e -> e.getLevel() == ch.qos.logback.classic.Level.ERROR
+                && e.getFormattedMessage().contains("Method failed"));
+    }
+
+    @Test
+    @DisplayName("✅ 실행 시간은 로그 레벨과 관계없이 계층/클래스/메서드/결과별 타이머로 기록된다")
+    void execution_RecordedAsTimer() {
+        AnnotatedService service = proxy(new AnnotatedService());
+
+        service.traced("argument");
+        service.traced("argument");
+        assertThrows(IllegalStateException.class, service::fail);
+
+        assertThat(meterRegistry.get(LoggingAspect.METHOD_TIMER).tags("layer", "service", "class", "AnnotatedService", "method", "traced",
+                "outcome", "success").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(LoggingAspect.METHOD_TIMER).tags("method", "fail", "outcome", "error", "exception", "IllegalStateException")
+                                .timer().count()).isEqualTo(1);
+    }
+
+    static class PlainService {
+        public String work(String input) {
+            return "result-value";
+        }
+    }
+
+    static class AnnotatedService {
+
+        @Loggable
+        public String work(String input) {
+            return "result-value";
+        }
+
+        @Loggable(level = Level.TRACE)
+        public String traced(String input) {
+            return "result-value";
+        }
+
+        @Loggable(slowThresholdMs = 5)
+        public void slow() throws InterruptedException {
+            Thread.sleep(20);
+        }
+
+        @Loggable
+        public void fail() {
+            throw new IllegalStateException("boom");
         }
     }
 }
@@ -0,0 +1,106 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config.session;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import dev.xiyo.bunnyholes.boardhole.shared.security.AppUserPrincipal;
+import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("CompactSessionSerializer 세션 직렬화 테스트")
+class CompactSessionSerializerTest {
+
+    private final CompactSessionSerializer serializer = new CompactSessionSerializer(getClass().getClassLoader(), 1024);
+    private final JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer();
+
+    private static SecurityContext securityContext() {
+        AppUserPrincipal principal = new AppUserPrincipal(UUID.randomUUID(), "tester", 1 << Role.ADMIN.ordinal() | 1 << Role.USER.ordinal(),
+                true, 1_700_000_000_000L);
+        UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(principal, null,
+                principal.getAuthorities());
+        authentication.setDetails(new WebAuthenticationDetails("10.0.0.1", null));
+        return new SecurityContextImpl(authentication);
+    }
+
+    @Test
+    @DisplayName("✅ 사용자 스냅샷이 담긴 SecurityContext를 JDK 직렬화보다 작게 저장하고 그대로 복원한다")
+    void serialize_SecurityContext_CompactRoundTrip() {
+        SecurityContext context = securityContext();
+
+        byte[] bytes = serializer.serialize(context);
+
+        assertThat(bytes.length).isLessThan(jdk.serialize(context).length / 5);
+        SecurityContext restored = (SecurityContext) serializer.deserialize(bytes);
+        assertThat(restored).isNotNull();
+        Authentication authentication = restored.getAuthentication();
+        AppUserPrincipal expected = (AppUserPrincipal) context.getAuthentication().getPrincipal();
+        AppUserPrincipal actual = (AppUserPrincipal) authentication.getPrincipal();
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat(actual.id()).isEqualTo(expected.id());
+        assertThat(actual.username()).isEqualTo("tester");
+        assertThat(actual.roles()).containsExactlyInAnyOrder(Role.ADMIN, Role.USER);
+        assertThat(actual.emailVerified()).isTrue();
+        assertThat(actual.issuedAt()).isEqualTo(expected.issuedAt());
+        assertThat(authentication.getAuthorities()).isEqualTo(expected.getAuthorities());
+        assertThat(authentication.getDetails()).isEqualTo(context.getAuthentication().getDetails());
+    }
+
+    @Test
+    @DisplayName("✅ 세션 메타데이터 값과 큰 JDK 직렬화 값을 복원한다")
+    void serialize_MetadataAndLargeValues_RoundTrip() {
+        assertThat(serializer.deserialize(serializer.serialize(1_700_000_000_000L))).isEqualTo(1_700_000_000_000L);
+        assertThat(serializer.deserialize(serializer.serialize(1800))).isEqualTo(1800);
+        assertThat(serializer.deserialize(serializer.serialize("안녕"))).isEqualTo("안녕");
+        assertThat(serializer.serialize(1_700_000_000_000L)).hasSize(9);
+
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 500; i++)
+            large.append("redirect-").append(i % 10);
+        StringBuilder[] value = {large};
+        byte[] bytes = serializer.serialize(value);
+        assertThat(bytes.length).isLessThan(jdk.serialize(value).length);
+        assertThat(((StringBuilder[]) serializer.deserialize(bytes))[0].toString()).isEqualTo(large.toString());
+
+        assertThat(serializer.serialize(null)).isEmpty();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    @DisplayName("✅ 이전 JDK 직렬화 형식으로 저장된 값도 읽는다")
+    void deserialize_LegacyJdkValue_Readable() {
+        SecurityContext context = securityContext();
+
+        Object restored = serializer.deserialize(jdk.serialize(context));
+
+        assertThat(restored).isEqualTo(context);
+        assertThat(serializer.deserialize(jdk.serialize(42L))).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("✅ 이전 사용자 주체가 담긴 배포 전 세션 값은 읽지 못하면 없는 값으로 돌려준다")
+    void deserialize_PreChangePrincipal_TreatedAsAbsent() throws IOException {
+        // 배포 전 버전(엔티티를 감싸던 AppUserPrincipal record, serialVersionUID 1)이 JDK 직렬화로 저장한 SecurityContext
+        byte[] legacy;
+        try (InputStream in = getClass().getResourceAsStream("/session/legacy-security-context.b64")) {
+            assertThat(in).isNotNull();
+            legacy = Base64.getMimeDecoder().decode(in.readAllBytes());
+        }
+
+        assertThat(legacy[0]).isEqualTo((byte) 0xAC);
+        assertThat(serializer.deserialize(legacy)).isNull();
+    }
+}
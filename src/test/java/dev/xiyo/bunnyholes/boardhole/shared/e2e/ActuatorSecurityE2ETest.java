@@ -0,0 +1,65 @@
+package dev.xiyo.bunnyholes.boardhole.shared.e2e;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import dev.xiyo.bunnyholes.boardhole.testsupport.container.ContainersConfig;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * actuator 보안 필터 체인 통합 테스트
+ * <p>
+ * Prometheus 수집기가 폼 로그인 없이 HTTP Basic으로 지표를 가져갈 수 있는지 검증합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "boardhole.actuator.scrape-password=scrape-secret")
+@ActiveProfiles("test")
+@Import(ContainersConfig.class)
+@AutoConfigureObservability
+@DisplayName("actuator 보안 통합 테스트")
+@Tag("e2e")
+class ActuatorSecurityE2ETest {
+
+    @Autowired
+    private WebApplicationContext context;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    @DisplayName("✅ health는 인증 없이 조회된다")
+    void health_Anonymous_Ok() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("✅ 수집기 계정으로 HTTP Basic 인증하면 prometheus 지표를 가져온다")
+    void prometheus_ScrapeCredentials_Ok() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "scrape-secret")))
+               .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("❌ 인증 없거나 비밀번호가 틀리면 로그인 페이지로 보내지 않고 401")
+    void prometheus_MissingOrWrongCredentials_Unauthorized() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "wrong")))
+               .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,128 @@
+package dev.xiyo.bunnyholes.boardhole.shared.e2e;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.xiyo.bunnyholes.boardhole.testsupport.container.RedisContainersConfig;
+import dev.xiyo.bunnyholes.boardhole.testsupport.e2e.AuthSteps;
+import dev.xiyo.bunnyholes.boardhole.testsupport.e2e.BoardSteps;
+import dev.xiyo.bunnyholes.boardhole.testsupport.e2e.E2ETestBase;
+import dev.xiyo.bunnyholes.boardhole.testsupport.load.LoadBaseline;
+import dev.xiyo.bunnyholes.boardhole.testsupport.load.LoadHarness;
+import dev.xiyo.bunnyholes.boardhole.testsupport.load.LoadHarness.Step;
+import dev.xiyo.bunnyholes.boardhole.testsupport.load.LoadReport;
+import io.restassured.response.Response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HTTP 부하 테스트
+ * <p>
+ * PostgreSQL과 Redis(세션, 공유 캐시) 컨테이너 위에서 비로그인 목록/상세/검색과 로그인 사용자의 작성/수정/삭제, 로그인을
+ * 섞어 실행하고, 엔드포인트별 p50/p95/p99와 처리량을 {@code build/reports/load/load-report.json}에 기록한 뒤
+ * 커밋된 기준선({@code src/test/resources/load/baseline.json})과 비교합니다. {@code ./gradlew loadTest}로 실행합니다.
+ * <p>
+ * 시스템 속성: {@code load.users}, {@code load.warmupSeconds}, {@code load.durationSeconds},
+ * {@code load.baseline}(기준선 파일), {@code load.updateBaseline=true}(측정값으로 기준선 갱신)
+ */
+@DisplayName("HTTP 부하 테스트 — 엔드포인트별 지연/처리량 기준선 비교")
+@Tag("load")
+@Import(RedisContainersConfig.class)
+@TestPropertySource(properties = {
+        // test 프로필의 Redis/Session 자동 설정 제외를 해제해 운영과 같은 세션/캐시 구성으로 실행
+        "spring.autoconfigure.exclude=",
+        "server.servlet.session.cookie.name=JSESSIONID",
+        "boardhole.listing-count.mode=cached"
+})
+class ApplicationLoadTest extends E2ETestBase {
+
+    private static final int SEED_BOARDS = 300;
+    private static final String SEARCH_KEYWORD = "부하";
+    private static final String PASSWORD = "LoadUser123!";
+    private static final Path REPORT = Path.of("build", "reports", "load", "load-report.json");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<UUID> seededBoards = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        String admin = AuthSteps.loginAdmin();
+        for (int i = 0; i < SEED_BOARDS; i++) {
+            String keyword = i % 10 == 0 ? SEARCH_KEYWORD + " " : "";
+            Response created = BoardSteps.create(admin, keyword + "Load board " + i, "Load test content " + i);
+            seededBoards.add(UUID.fromString(created.then().statusCode(201).extract().path("id")));
+        }
+    }
+
+    @Test
+    @DisplayName("✅ 기준선 대비 지연/처리량 회귀와 오류가 없다")
+    void mixedWorkload_StaysWithinBaseline() throws Exception {
+        int users = Integer.getInteger("load.users", 32);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmupSeconds", 10));
+        Duration measured = Duration.ofSeconds(Integer.getInteger("load.durationSeconds", 30));
+
+        LoadReport report = new LoadHarness<>(scenario()).run(users, this::virtualUser, warmup, measured, 42);
+
+        Files.createDirectories(REPORT.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), report);
+
+        Path baselineFile = Path.of(System.getProperty("load.baseline", "src/test/resources/load/baseline.json"));
+        LoadBaseline baseline = objectMapper.readValue(baselineFile.toFile(), LoadBaseline.class);
+        if (Boolean.getBoolean("load.updateBaseline")) {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(baselineFile.toFile(), LoadBaseline.from(report, baseline.tolerance()));
+            return;
+        }
+        assertThat(baseline.regressions(report)).as("load regressions against %s", baselineFile).isEmpty();
+    }
+
+    private VirtualUser virtualUser(int index) {
+        String username = "loaduser" + index;
+        AuthSteps.register(username, PASSWORD, "Load User " + index, username + "@example.com");
+        return new VirtualUser(username, AuthSteps.loginAs(username, PASSWORD), new ArrayDeque<>());
+    }
+
+    private UUID anySeededBoard(Random random) {
+        return seededBoards.get(random.nextInt(seededBoards.size()));
+    }
+
+    private List<Step<VirtualUser>> scenario() {
+        return List.of(
+                new Step<>("GET /api/boards", 30, 200, (user, random) -> BoardSteps.listAnonymously(random.nextInt(SEED_BOARDS / 10))),
+                new Step<>("GET /api/boards/{id}", 25, 200, (user, random) -> BoardSteps.getAnonymously(anySeededBoard(random))),
+                new Step<>("GET /api/boards?search", 10, 200, (user, random) -> BoardSteps.searchAnonymously(SEARCH_KEYWORD)),
+                new Step<>("POST /api/boards", 10, 201, (user, random) -> {
+                    Response response = BoardSteps.create(user.session(), "Load write " + random.nextInt(), "Written under load");
+                    if (response.statusCode() == 201)
+                        user.boards().push(UUID.fromString(response.path("id")));
+                    return response;
+                }),
+                new Step<>("PUT /api/boards/{id}", 10, 200, (user, random) -> user.boards().isEmpty() ? null
+                        : BoardSteps.update(user.session(), user.boards().peek(), "Load edit " + random.nextInt(), "Edited under load")),
+                new Step<>("DELETE /api/boards/{id}", 5, 204, (user, random) -> user.boards().isEmpty() ? null
+                        : BoardSteps.delete(user.session(), user.boards().pop())),
+                new Step<>("POST /api/auth/login", 10, 204, (user, random) -> AuthSteps.login(user.username(), PASSWORD))
+        );
+    }
+
+    /**
+     * 가상 사용자 상태 (자신의 스레드에서만 사용)
+     */
+    private record VirtualUser(String username, String session, Deque<UUID> boards) {
+    }
+}
@@ -0,0 +1,126 @@
+package dev.xiyo.bunnyholes.boardhole.shared.e2e;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import dev.xiyo.bunnyholes.boardhole.testsupport.container.ContainersConfig;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 로그인 시도 제한 통합 테스트
+ * <p>
+ * 시도 제한을 켠 상태로 필터, 인증 이벤트 연동, 거절 응답(API 429 / 폼 리다이렉트)을 검증합니다.
+ * 모든 요청이 같은 주소에서 오므로 IP 키는 넉넉하게 두고 사용자명 키의 실패 차단만 확인합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "boardhole.login-throttle.enabled=true",
+        "boardhole.login-throttle.ip-capacity=1000",
+        "boardhole.login-throttle.username-capacity=100",
+        "boardhole.login-throttle.backoff.free-failures=2",
+        "boardhole.login-throttle.backoff.ip-free-failures=1000",
+        "boardhole.login-throttle.backoff.initial=1m"
+})
+@ActiveProfiles("test")
+@Import(ContainersConfig.class)
+@AutoConfigureMockMvc
+@DisplayName("로그인 시도 제한 통합 테스트")
+@Tag("e2e")
+class LoginThrottleE2ETest {
+
+    private static final String PASSWORD = "Password123!";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String signup() throws Exception {
+        String username = "throttle_" + UUID.randomUUID().toString().substring(0, 8);
+        mockMvc.perform(post("/api/auth/signup")
+                       .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                       .param("username", username)
+                       .param("password", PASSWORD)
+                       .param("confirmPassword", PASSWORD)
+                       .param("name", "Throttle User")
+                       .param("email", username + "@example.com"))
+               .andExpect(status().isNoContent());
+        return username;
+    }
+
+    private ResultActions apiLogin(String username, String password) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .param("username", username)
+                .param("password", password));
+    }
+
+    private ResultActions formLogin(String username, String password) throws Exception {
+        return mockMvc.perform(post("/auth/login")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .param("username", username)
+                .param("password", password));
+    }
+
+    @Test
+    @DisplayName("❌ API 로그인 연속 실패가 허용 횟수를 넘으면 올바른 비밀번호도 429와 Retry-After로 거절한다")
+    void apiLogin_RepeatedFailures_TooManyRequests() throws Exception {
+        String username = signup();
+
+        for (int i = 0; i < 3; i++)
+            apiLogin(username, "Wrong123!").andExpect(status().isUnauthorized());
+
+        apiLogin(username, PASSWORD)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.code").value("TOO_MANY_REQUESTS"));
+    }
+
+    @Test
+    @DisplayName("✅ 로그인에 성공하면 사용자명 키의 연속 실패 기록이 초기화된다")
+    void apiLogin_Success_ResetsFailures() throws Exception {
+        String username = signup();
+
+        apiLogin(username, "Wrong123!").andExpect(status().isUnauthorized());
+        apiLogin(username, "Wrong123!").andExpect(status().isUnauthorized());
+        apiLogin(username, PASSWORD).andExpect(status().isNoContent());
+
+        // 초기화되지 않았다면 아래 두 번째 실패에서 허용 횟수를 넘어 차단됨
+        apiLogin(username, "Wrong123!").andExpect(status().isUnauthorized());
+        apiLogin(username, "Wrong123!").andExpect(status().isUnauthorized());
+        apiLogin(username, PASSWORD).andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("❌ 폼 로그인 연속 실패가 허용 횟수를 넘으면 throttled 로그인 페이지로 보낸다")
+    void formLogin_RepeatedFailures_RedirectsThrottled() throws Exception {
+        String username = signup();
+
+        for (int i = 0; i < 3; i++)
+            formLogin(username, "Wrong123!").andExpect(redirectedUrl("/auth/login?error"));
+
+        formLogin(username, PASSWORD)
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/auth/login?throttled"))
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+}
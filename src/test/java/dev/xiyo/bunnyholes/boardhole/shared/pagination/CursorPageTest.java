@@ -0,0 +1,100 @@
+package dev.xiyo.bunnyholes.boardhole.shared.pagination;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("CursorPage 키셋 페이지 구성 테스트")
+class CursorPageTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private static Row row(int minutesAgo) {
+        return new Row(BASE.minusMinutes(minutesAgo), UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("✅ 커서 인코딩/디코딩 왕복 시 동일한 위치를 반환한다")
+    void cursor_EncodeDecode_RoundTrip() {
+        Cursor cursor = Cursor.prev(BASE.withNano(123_456_000), UUID.randomUUID());
+
+        assertThat(Cursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(Cursor.decode(null)).isNull();
+        assertThat(Cursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("✅ 마지막 페이지는 다음 커서가 없다")
+    void of_LastPage_HasNoNextCursor() {
+        List<Row> rows = List.of(row(0), row(1));
+
+        CursorPage<Row> page = CursorPage.of(rows, 5, Cursor.next(BASE.plusMinutes(1), UUID.randomUUID()), Row::createdAt, Row::id);
+
+        assertThat(page.content()).containsExactlyElementsOf(rows);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.hasPrevious()).isTrue();
+    }
+
+    @Test
+    @DisplayName("✅ 이전 방향 조회 결과는 최신순으로 뒤집히고 초과분이 있으면 이전 커서를 만든다")
+    void of_Backward_ReversesAndDetectsPrevious() {
+        Row oldest = row(3);
+        Row middle = row(2);
+        Row newest = row(1);
+        // 이전 방향 쿼리는 오름차순으로 size + 1건 반환
+        List<Row> ascending = List.of(oldest, middle, newest);
+
+        CursorPage<Row> page = CursorPage.of(ascending, 2, Cursor.prev(BASE.minusMinutes(4), UUID.randomUUID()), Row::createdAt, Row::id);
+
+        assertThat(page.content()).containsExactly(middle, oldest);
+        assertThat(page.hasPrevious()).isTrue();
+        assertThat(page.hasNext()).isTrue();
+        Cursor next = Cursor.decode(page.nextCursor());
+        assertThat(next).isNotNull();
+        assertThat(next.id()).isEqualTo(oldest.id());
+    }
+
+    @Test
+    @DisplayName("✅ 이전 방향 결과가 비어 있으면 기준 행부터 다시 시작하는 다음 커서를 돌려준다")
+    void of_EmptyBackward_NextIncludesAnchor() {
+        Cursor anchor = Cursor.prev(BASE, UUID.randomUUID());
+
+        CursorPage<Row> page = CursorPage.of(List.of(), 5, anchor, Row::createdAt, Row::id);
+
+        assertThat(page.content()).isEmpty();
+        assertThat(page.hasPrevious()).isFalse();
+        Cursor next = Cursor.decode(page.nextCursor());
+        assertThat(next).isNotNull();
+        assertThat(next.isNext()).isTrue();
+        assertThat(next.createdAt()).isAfter(anchor.createdAt()).isEqualTo(BASE.plusNanos(1_000));
+    }
+
+    @Test
+    @DisplayName("✅ 첫 페이지나 다음 방향 결과가 비어 있으면 커서가 없다")
+    void of_EmptyForward_HasNoCursors() {
+        CursorPage<Row> first = CursorPage.of(List.of(), 5, null, Row::createdAt, Row::id);
+        CursorPage<Row> forward = CursorPage.of(List.of(), 5, Cursor.next(BASE, UUID.randomUUID()), Row::createdAt, Row::id);
+
+        assertThat(first.hasNext()).isFalse();
+        assertThat(first.hasPrevious()).isFalse();
+        assertThat(forward.hasNext()).isFalse();
+        assertThat(forward.hasPrevious()).isFalse();
+    }
+
+    @Test
+    @DisplayName("✅ 페이지 크기는 최대값으로 제한된다")
+    void normalizeSize_ClampsToRange() {
+        assertThat(CursorPage.normalizeSize(0)).isEqualTo(1);
+        assertThat(CursorPage.normalizeSize(10_000)).isEqualTo(CursorPage.MAX_SIZE);
+    }
+
+    private record Row(LocalDateTime createdAt, UUID id) {
+    }
+}
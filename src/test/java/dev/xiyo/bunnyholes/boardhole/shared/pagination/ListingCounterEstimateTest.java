@@ -0,0 +1,54 @@
+package dev.xiyo.bunnyholes.boardhole.shared.pagination;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.xiyo.bunnyholes.boardhole.testsupport.jpa.EntityTestBase;
+import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 PostgreSQL 통계로 ESTIMATED 모드 건수가 소프트 삭제된 행을 제외하는지 검증합니다.
+ */
+@Tag("unit")
+@Tag("repository")
+@DisplayName("ListingCounter PostgreSQL 추정 건수 테스트")
+class ListingCounterEstimateTest extends EntityTestBase {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("✅ 플래너 추정 건수에서 소프트 삭제된 행을 뺀다")
+    void total_Estimated_ExcludesSoftDeletedRows() {
+        for (int i = 0; i < 6; i++)
+            createAndPersistUser();
+        User deleted = createAndPersistUser();
+        userRepository.delete(deleted);
+        entityManager.flush();
+        // 작은 테이블은 ANALYZE가 모든 행을 읽으므로 추정치가 실제 건수와 같음 (같은 트랜잭션에서 추가한 행 포함)
+        jdbcTemplate.execute("ANALYZE users");
+        Long visible = jdbcTemplate.queryForObject("SELECT count(*) FROM users WHERE NOT deleted", Long.class);
+        Long all = jdbcTemplate.queryForObject("SELECT count(*) FROM users", Long.class);
+        ListingCounter counter = new ListingCounter(
+                new ListingCountProperties(ListingCountProperties.Mode.ESTIMATED, Duration.ofSeconds(30), Duration.ofMinutes(10)),
+                jdbcTemplate, Clock.systemUTC());
+
+        ListingCounter.Total total = counter.total("users", () -> -1);
+
+        assertThat(all).isGreaterThan(visible);
+        assertThat(total.approximate()).isTrue();
+        assertThat(total.value()).isEqualTo(visible);
+    }
+}
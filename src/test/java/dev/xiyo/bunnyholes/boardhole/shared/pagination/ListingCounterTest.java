@@ -0,0 +1,159 @@
+package dev.xiyo.bunnyholes.boardhole.shared.pagination;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@Tag("unit")
+@DisplayName("ListingCounter 목록 전체 건수 테스트")
+class ListingCounterTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+    private static final String LISTING = "boards";
+
+    private Clock clock;
+    private AtomicLong rowCount;
+    private AtomicLong countQueries;
+
+    private static ListingCounter counter(ListingCountProperties.Mode mode, Clock clock) {
+        return new ListingCounter(new ListingCountProperties(mode, Duration.ofSeconds(30), Duration.ofMinutes(10)), null, clock);
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = Mockito.mock(Clock.class);
+        given(clock.instant()).willReturn(START);
+        rowCount = new AtomicLong(100);
+        countQueries = new AtomicLong();
+    }
+
+    private long count() {
+        countQueries.incrementAndGet();
+        return rowCount.get();
+    }
+
+    private static List<String> rows(int size) {
+        return IntStream.range(0, size).mapToObj(String::valueOf).toList();
+    }
+
+    @Test
+    @DisplayName("✅ EXACT 모드는 count 쿼리를 포함한 페이지 조회를 그대로 사용한다")
+    void page_Exact_UsesCountingQuery() {
+        ListingCounter counter = counter(ListingCountProperties.Mode.EXACT, clock);
+        Pageable pageable = PageRequest.of(0, 10);
+
+        CountedPage<String> page = counter.page(LISTING, pageable, p -> new PageImpl<>(rows(10), p, 42), p -> {
+            throw new AssertionError("rows query must not run");
+        }, this::count);
+
+        assertThat(page.getTotalElements()).isEqualTo(42);
+        assertThat(page.isTotalApproximate()).isFalse();
+        assertThat(countQueries).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("✅ CACHED 모드는 TTL 동안 count 결과를 재사용한다")
+    void page_Cached_ReusesCountWithinTtl() {
+        ListingCounter counter = counter(ListingCountProperties.Mode.CACHED, clock);
+        Pageable pageable = PageRequest.of(0, 10);
+
+        counter.page(LISTING, pageable, ListingCounterTest::unexpected, p -> rows(10), this::count);
+        rowCount.set(150);
+        CountedPage<String> cached = counter.page(LISTING, pageable, ListingCounterTest::unexpected, p -> rows(10), this::count);
+
+        assertThat(cached.getTotalElements()).isEqualTo(100);
+        assertThat(countQueries).hasValue(1);
+
+        given(clock.instant()).willReturn(START.plusSeconds(31));
+        CountedPage<String> refreshed = counter.page(LISTING, pageable, ListingCounterTest::unexpected, p -> rows(10), this::count);
+
+        assertThat(refreshed.getTotalElements()).isEqualTo(150);
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("✅ INCREMENTAL 모드는 이벤트로 증감하고 재동기화 주기에 오차를 보정한다")
+    void total_Incremental_AdjustsAndResyncs() {
+        ListingCounter counter = counter(ListingCountProperties.Mode.INCREMENTAL, clock);
+
+        // 아직 세지 않은 목록의 증감은 무시
+        counter.adjust(LISTING, 5);
+        assertThat(counter.total(LISTING, this::count).value()).isEqualTo(100);
+
+        counter.adjust(LISTING, 2);
+        counter.adjust(LISTING, -1);
+        assertThat(counter.total(LISTING, this::count).value()).isEqualTo(101);
+        assertThat(countQueries).hasValue(1);
+
+        rowCount.set(120);
+        given(clock.instant()).willReturn(START.plus(Duration.ofMinutes(11)));
+        assertThat(counter.total(LISTING, this::count).value()).isEqualTo(120);
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("✅ 마지막 페이지는 조회 결과로 전체 건수를 확정하고 count 쿼리를 생략한다")
+    void page_ShortPage_UsesExactTotalWithoutCount() {
+        ListingCounter counter = counter(ListingCountProperties.Mode.CACHED, clock);
+
+        CountedPage<String> page = counter.page(LISTING, PageRequest.of(2, 10), ListingCounterTest::unexpected, p -> rows(3), this::count);
+
+        assertThat(page.getTotalElements()).isEqualTo(23);
+        assertThat(page.isLast()).isTrue();
+        assertThat(countQueries).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("✅ 건수가 실제보다 작아도 가득 찬 페이지는 다음 페이지로 이동할 수 있다")
+    void page_UnderestimatedTotal_KeepsNextPage() {
+        ListingCounter counter = counter(ListingCountProperties.Mode.CACHED, clock);
+        rowCount.set(5);
+
+        CountedPage<String> page = counter.page(LISTING, PageRequest.of(1, 10), ListingCounterTest::unexpected, p -> rows(10), this::count);
+
+        assertThat(page.getTotalElements()).isEqualTo(21);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("✅ ESTIMATED 모드는 PostgreSQL이 아니면 정확한 캐시 건수로 동작한다")
+    void total_EstimatedWithoutPostgres_FallsBackToCached() {
+        ListingCounter counter = counter(ListingCountProperties.Mode.ESTIMATED, clock);
+
+        ListingCounter.Total total = counter.total(LISTING, this::count);
+
+        assertThat(total.value()).isEqualTo(100);
+        assertThat(total.approximate()).isFalse();
+    }
+
+    @Test
+    @DisplayName("✅ 근사 여부는 항목 변환 후에도 유지된다")
+    void countedPage_Map_KeepsApproximateFlag() {
+        CountedPage<String> page = new CountedPage<>(rows(2), PageRequest.of(0, 2), 1000, true);
+
+        Page<Integer> mapped = page.map(String::length);
+
+        assertThat(CountedPage.isApproximate(mapped)).isTrue();
+        assertThat(CountedPage.isApproximate(new PageImpl<>(List.of(1)))).isFalse();
+    }
+
+    private static Page<String> unexpected(Pageable pageable) {
+        throw new AssertionError("counting query must not run");
+    }
+}
@@ -0,0 +1,112 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@Tag("unit")
+@DisplayName("BoundedPasswordEncoder 해싱 풀 테스트")
+class BoundedPasswordEncoderTest {
+
+    private MeterRegistry meterRegistry;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        ResourceBundleMessageSource ms = new ResourceBundleMessageSource();
+        ms.setBasename("messages");
+        ms.setDefaultEncoding("UTF-8");
+        ms.setUseCodeAsDefaultMessage(true);
+        MessageUtils.setMessageSource(ms);
+        meterRegistry = new SimpleMeterRegistry();
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("✅ 해싱과 검증을 위임 인코더로 수행한다")
+    void encodeAndMatches_Delegate() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        String encoded = encoder.encode("Password1!");
+
+        assertThat(encoder.matches("Password1!", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.get("password.hashing").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("✅ 풀과 대기열이 가득 차면 기다리지 않고 거절한다")
+    void saturated_RejectsImmediately() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "encoded";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+        };
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        // 하나는 실행 중, 하나는 대기열
+        callers.submit(() -> encoder.encode("a"));
+        callers.submit(() -> encoder.encode("b"));
+        await().atMost(Duration.ofSeconds(2))
+               .until(() -> meterRegistry.get("password.hashing.queue").gauge().value() == 1);
+
+        assertThatThrownBy(() -> encoder.encode("c")).isInstanceOf(PasswordHashingUnavailableException.class);
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("✅ 접두사 없는 기존 해시를 검증하고 재해싱 대상으로 판단한다")
+    void legacyHash_MatchesAndNeedsUpgrade() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegating, 1, 4, Duration.ofSeconds(5), meterRegistry);
+        String legacy = bcrypt.encode("Password1!");
+
+        assertThat(encoder.matches("Password1!", legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+
+        String upgraded = encoder.encode("Password1!");
+        assertThat(upgraded).startsWith("{bcrypt}");
+        assertThat(encoder.upgradeEncoding(upgraded)).isFalse();
+    }
+}
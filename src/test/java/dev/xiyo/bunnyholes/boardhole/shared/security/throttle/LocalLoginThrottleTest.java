@@ -0,0 +1,117 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security.throttle;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@Tag("unit")
+@DisplayName("LocalLoginThrottle 로그인 시도 제한 테스트")
+class LocalLoginThrottleTest {
+
+    private static final String IP = LoginThrottle.ipKey("10.0.0.1");
+    private static final String USER = LoginThrottle.usernameKey("victim");
+
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+
+    private static LoginThrottleProperties properties(int maxKeys) {
+        LoginThrottleProperties.Backoff backoff = new LoginThrottleProperties.Backoff(2, 6, Duration.ofSeconds(1), Duration.ofSeconds(8),
+                Duration.ofMinutes(15));
+        return new LoginThrottleProperties(true, 5, Duration.ofSeconds(5), 3, Duration.ofSeconds(30), backoff, maxKeys,
+                new LoginThrottleProperties.Redis(false, "test:"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = Mockito.mock(Clock.class);
+        given(clock.millis()).willReturn(0L);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("✅ 버킷 용량만큼 허용하고 이후에는 보충될 때까지 거절한다")
+    void tryAcquire_BucketEmpty_RejectedUntilRefill() {
+        LocalLoginThrottle throttle = new LocalLoginThrottle(properties(100), clock, meterRegistry);
+
+        for (int i = 0; i < 3; i++)
+            assertThat(throttle.tryAcquire(USER).allowed()).isTrue();
+        LoginThrottle.Decision rejected = throttle.tryAcquire(USER);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfter()).isEqualTo(Duration.ofSeconds(10));
+
+        // IP 버킷은 별도 설정(5회)을 사용
+        for (int i = 0; i < 5; i++)
+            assertThat(throttle.tryAcquire(IP).allowed()).isTrue();
+        assertThat(throttle.tryAcquire(IP).allowed()).isFalse();
+
+        given(clock.millis()).willReturn(10_000L);
+        assertThat(throttle.tryAcquire(USER).allowed()).isTrue();
+        assertThat(throttle.tryAcquire(USER).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("✅ 허용 횟수를 넘는 연속 실패는 차단 시간이 두 배씩 늘고 성공하면 해제된다")
+    void failed_ConsecutiveFailures_ProgressiveBackoff() {
+        LocalLoginThrottle throttle = new LocalLoginThrottle(properties(100), clock, meterRegistry);
+
+        throttle.failed(USER);
+        throttle.failed(USER);
+        assertThat(throttle.tryAcquire(USER).allowed()).isTrue();
+
+        throttle.failed(USER);
+        assertThat(throttle.tryAcquire(USER).retryAfter()).isEqualTo(Duration.ofSeconds(1));
+        throttle.failed(USER);
+        assertThat(throttle.tryAcquire(USER).retryAfter()).isEqualTo(Duration.ofSeconds(2));
+        throttle.failed(USER);
+        throttle.failed(USER);
+        throttle.failed(USER);
+        assertThat(throttle.tryAcquire(USER).retryAfter()).isEqualTo(Duration.ofSeconds(8));
+
+        throttle.succeeded(USER);
+        assertThat(throttle.tryAcquire(USER).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("✅ IP 키는 사용자명 키보다 많은 연속 실패를 허용한 뒤 차단한다")
+    void failed_IpKey_HigherFailureAllowance() {
+        LocalLoginThrottle throttle = new LocalLoginThrottle(properties(100), clock, meterRegistry);
+
+        for (int i = 0; i < 6; i++)
+            throttle.failed(IP);
+        assertThat(throttle.tryAcquire(IP).allowed()).isTrue();
+
+        throttle.failed(IP);
+        assertThat(throttle.tryAcquire(IP).retryAfter()).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("✅ 키 수가 상한을 넘으면 쉬고 있는 키부터 제거한다")
+    void tryAcquire_TooManyKeys_EvictsIdleFirst() {
+        LocalLoginThrottle throttle = new LocalLoginThrottle(properties(10), clock, meterRegistry);
+        for (int i = 0; i < 3; i++)
+            throttle.tryAcquire(USER);
+
+        for (int i = 0; i < 9; i++)
+            throttle.tryAcquire(LoginThrottle.ipKey("10.1.0." + i));
+
+        // IP 버킷은 1초 만에 가득 차 새 키와 같아지고, 사용자명 버킷은 아직 보충 중
+        given(clock.millis()).willReturn(5_000L);
+        for (int i = 0; i < 5; i++)
+            throttle.tryAcquire(LoginThrottle.ipKey("10.2.0." + i));
+
+        assertThat(throttle.size()).isLessThanOrEqualTo(10);
+        assertThat(throttle.tryAcquire(USER).allowed()).isFalse();
+        assertThat(meterRegistry.get("login.throttle.evictions").tag("reason", "idle").counter().count()).isPositive();
+        assertThat(meterRegistry.get("login.throttle.evictions").tag("reason", "pressure").counter().count()).isZero();
+    }
+}
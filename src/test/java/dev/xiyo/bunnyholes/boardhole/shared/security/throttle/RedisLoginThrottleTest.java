@@ -0,0 +1,111 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security.throttle;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 컨테이너에서 로그인 시도 제한 Lua 스크립트의 토큰 소비, 실패 차단, 초기화, 키 만료를 검증합니다.
+ */
+@Tag("integration")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Redis 로그인 시도 제한 통합 테스트")
+class RedisLoginThrottleTest {
+
+    private static final String PREFIX = "test:login-throttle:";
+
+    private final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private RedisLoginThrottle throttle;
+
+    @BeforeAll
+    void startRedis() {
+        redis.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        // 테스트 동안 토큰이 보충되지 않도록 보충 주기를 길게 둠
+        LoginThrottleProperties.Backoff backoff = new LoginThrottleProperties.Backoff(1, 3, Duration.ofSeconds(10), Duration.ofSeconds(60),
+                Duration.ofMinutes(15));
+        LoginThrottleProperties properties = new LoginThrottleProperties(true, 5, Duration.ofHours(1), 3, Duration.ofHours(1), backoff,
+                100, new LoginThrottleProperties.Redis(true, PREFIX));
+        meterRegistry = new SimpleMeterRegistry();
+        throttle = new RedisLoginThrottle(connectionFactory, properties, meterRegistry);
+    }
+
+    @AfterAll
+    void stopRedis() {
+        connectionFactory.destroy();
+        redis.stop();
+    }
+
+    private static String username() {
+        return LoginThrottle.usernameKey("user-" + UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("✅ 버킷 용량만큼 허용하고 이후에는 보충 시간을 알려 거절한다")
+    void tryAcquire_BucketEmpty_Rejected() {
+        String key = username();
+
+        for (int i = 0; i < 3; i++)
+            assertThat(throttle.tryAcquire(key).allowed()).isTrue();
+        LoginThrottle.Decision rejected = throttle.tryAcquire(key);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfter()).isGreaterThan(Duration.ofMinutes(19)).isLessThanOrEqualTo(Duration.ofMinutes(20));
+        assertThat(redisTemplate.getExpire(PREFIX + key)).isPositive();
+    }
+
+    @Test
+    @DisplayName("✅ 허용 횟수를 넘는 실패는 차단하고 성공 기록은 차단과 실패 횟수를 초기화한다")
+    void failed_BeyondFreeFailures_BlocksUntilReset() {
+        String key = username();
+
+        throttle.failed(key);
+        assertThat(throttle.tryAcquire(key).allowed()).isTrue();
+
+        throttle.failed(key);
+        LoginThrottle.Decision blocked = throttle.tryAcquire(key);
+        assertThat(blocked.allowed()).isFalse();
+        assertThat(blocked.retryAfter()).isGreaterThan(Duration.ofSeconds(9)).isLessThanOrEqualTo(Duration.ofSeconds(10));
+        assertThat(redisTemplate.getExpire(PREFIX + key)).isGreaterThanOrEqualTo(Duration.ofMinutes(14).toSeconds());
+
+        throttle.succeeded(key);
+        assertThat(throttle.tryAcquire(key).allowed()).isTrue();
+        assertThat(redisTemplate.<String, String>opsForHash().get(PREFIX + key, "failures")).isEqualTo("0");
+        assertThat(meterRegistry.counter("login.throttle.errors").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ IP 키는 더 많은 연속 실패를 허용한다")
+    void failed_IpKey_HigherAllowance() {
+        String key = LoginThrottle.ipKey(UUID.randomUUID().toString());
+
+        for (int i = 0; i < 3; i++)
+            throttle.failed(key);
+        assertThat(throttle.tryAcquire(key).allowed()).isTrue();
+
+        throttle.failed(key);
+        assertThat(throttle.tryAcquire(key).allowed()).isFalse();
+    }
+}
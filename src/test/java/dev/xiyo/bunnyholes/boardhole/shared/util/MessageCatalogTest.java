@@ -0,0 +1,68 @@
+package dev.xiyo.bunnyholes.boardhole.shared.util;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+@DisplayName("MessageCatalog 컴파일된 메시지 카탈로그 테스트")
+class MessageCatalogTest {
+
+    private static final MessageCatalog CATALOG = MessageCatalog.load("messages");
+
+    private static ResourceBundleMessageSource messageSource() {
+        ResourceBundleMessageSource source = new ResourceBundleMessageSource();
+        source.setBasenames("messages");
+        source.setDefaultEncoding("UTF-8");
+        source.setFallbackToSystemLocale(true);
+        return source;
+    }
+
+    @Test
+    @DisplayName("✅ 번들의 메시지를 MessageSource와 같은 결과로 포매팅한다")
+    void get_MatchesResourceBundleMessageSource() {
+        ResourceBundleMessageSource source = messageSource();
+        Object[] args = {"BoardCommandService.create(..)", 1234567L, "it's", -42};
+
+        for (Locale locale : new Locale[]{Locale.KOREAN, Locale.ENGLISH, Locale.KOREA, Locale.US})
+            for (String key : new String[]{"log.method.start", "log.method.end", "log.request.end", "log.security.auth.failure",
+                    "error.user.not-found.id", "mask.password", "log.user.init.start"}) {
+                assertThat(CATALOG.get(key, args, locale)).as("%s %s", locale, key).isEqualTo(source.getMessage(key, args, locale));
+                assertThat(CATALOG.get(key, null, locale)).as("%s %s", locale, key).isEqualTo(source.getMessage(key, null, locale));
+            }
+    }
+
+    @Test
+    @DisplayName("✅ 언어 번들은 기본 번들 위에 덮어쓰고, 없는 키는 기본 번들에서 찾는다")
+    void get_FallsBackToBaseBundle() {
+        MessageCatalog catalog = MessageCatalog.of(Map.of(
+                "", Map.of("greeting", "안녕 {0}", "only.base", "기본"),
+                "en", Map.of("greeting", "Hello {0}")));
+
+        assertThat(catalog.get("greeting", new Object[]{"bunny"}, Locale.US)).isEqualTo("Hello bunny");
+        assertThat(catalog.get("only.base", null, Locale.ENGLISH)).isEqualTo("기본");
+        assertThat(catalog.contains("missing", Locale.ENGLISH)).isFalse();
+        assertThatThrownBy(() -> catalog.get("missing", null, Locale.ENGLISH)).isInstanceOf(NoSuchMessageException.class);
+    }
+
+    @Test
+    @DisplayName("✅ 따옴표 이스케이프와 형식 지정 인자는 MessageFormat 규칙을 따른다")
+    void get_AppliesMessageFormatRules() {
+        MessageCatalog catalog = MessageCatalog.of(Map.of("", Map.of(
+                "quoted", "'{0}' is literal, ''{0}'' is {0}",
+                "formatted", "{0,number,#.#} / {1}")));
+
+        assertThat(catalog.get("quoted", new Object[]{"x"}, Locale.ENGLISH)).isEqualTo("{0} is literal, 'x' is x");
+        assertThat(catalog.get("quoted", null, Locale.ENGLISH)).isEqualTo("'{0}' is literal, ''{0}'' is {0}");
+        assertThat(catalog.get("formatted", new Object[]{1.25, new Date(0)}, Locale.ENGLISH)).startsWith("1.2 / ");
+    }
+}
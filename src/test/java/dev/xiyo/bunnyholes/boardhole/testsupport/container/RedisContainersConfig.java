@@ -0,0 +1,22 @@
+package dev.xiyo.bunnyholes.boardhole.testsupport.container;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Redis 컨테이너 - 세션 저장소와 공유(L2) 캐시까지 운영과 같은 구성으로 띄울 때 사용
+ * <p>
+ * test 프로필은 Redis/Session 자동 설정을 제외하므로, 사용하는 테스트에서 {@code spring.autoconfigure.exclude}를 비워야 합니다.
+ */
+@TestConfiguration
+public class RedisContainersConfig {
+
+    @Bean
+    @ServiceConnection(name = "redis")
+    public GenericContainer<?> redis() {
+        return new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+    }
+}
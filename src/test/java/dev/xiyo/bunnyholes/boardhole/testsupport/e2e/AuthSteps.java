@@ -3,6 +3,7 @@ package dev.xiyo.bunnyholes.boardhole.testsupport.e2e;
 import java.util.Map;
 
 import io.restassured.http.ContentType;
+import io.restassured.response.Response;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.anyOf;
@@ -32,13 +33,15 @@ public final class AuthSteps {
     }
 
     public static String loginAs(String username, String password) {
-        var res = given()
+        return login(username, password).then().statusCode(204).extract().cookie("JSESSIONID");
+    }
+
+    public static Response login(String username, String password) {
+        return given()
                 .contentType(ContentType.URLENC)
                 .formParams(Map.of("username", username, "password", password))
                 .when().post("/api/auth/login")
-                .then().statusCode(204)
-                .extract().response();
-        return res.getCookie("JSESSIONID");
+                .then().extract().response();
     }
 
     // Semantic helpers
@@ -33,6 +33,20 @@ public final class BoardSteps {
                       .when().get("/api/boards").then().extract().response();
     }
 
+    public static Response listAnonymously(int page) {
+        return given().queryParam("page", page)
+                      .when().get("/api/boards").then().extract().response();
+    }
+
+    public static Response getAnonymously(UUID id) {
+        return given().when().get("/api/boards/" + id).then().extract().response();
+    }
+
+    public static Response searchAnonymously(String keyword) {
+        return given().queryParam("search", keyword)
+                      .when().get("/api/boards").then().extract().response();
+    }
+
     public static Response update(String jsessionId, long id, String title, String content) {
         return given().cookie("JSESSIONID", jsessionId)
                       .contentType(ContentType.URLENC)
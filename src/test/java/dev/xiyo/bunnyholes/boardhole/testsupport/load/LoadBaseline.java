@@ -0,0 +1,74 @@
+package dev.xiyo.bunnyholes.boardhole.testsupport.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 엔드포인트별 지연/처리량 기준선
+ * <p>
+ * 측정값이 기준선보다 허용 비율 이상 나빠지면 회귀로 봅니다. 지연은 p95/p99가 {@code 1 + latency}배를 넘을 때,
+ * 처리량은 {@code 1 - throughput}배 아래로 떨어질 때이며, 오류가 하나라도 있으면 회귀입니다.
+ *
+ * @param tolerance 허용 비율
+ * @param endpoints 엔드포인트별 기준값
+ */
+public record LoadBaseline(Tolerance tolerance, Map<String, Endpoint> endpoints) {
+
+    /**
+     * 측정 결과로 기준선 생성 (허용 비율은 유지)
+     */
+    public static LoadBaseline from(LoadReport report, Tolerance tolerance) {
+        Map<String, Endpoint> endpoints = new TreeMap<>();
+        report.endpoints().forEach(stats -> endpoints.put(stats.endpoint(),
+                new Endpoint(stats.p95Ms(), stats.p99Ms(), stats.throughputPerSecond())));
+        return new LoadBaseline(tolerance, endpoints);
+    }
+
+    /**
+     * 기준선 대비 회귀 목록
+     *
+     * @param report 측정 결과
+     * @return 회귀 설명 (없으면 빈 목록)
+     */
+    public List<String> regressions(LoadReport report) {
+        List<String> regressions = new ArrayList<>();
+        for (LoadReport.EndpointStats stats : report.endpoints()) {
+            if (stats.errors() > 0)
+                regressions.add("%s: %d of %d requests failed".formatted(stats.endpoint(), stats.errors(), stats.requests()));
+            Endpoint baseline = endpoints.get(stats.endpoint());
+            if (baseline == null)
+                continue;
+            double latencyLimit = 1 + tolerance.latency();
+            if (stats.p95Ms() > baseline.p95Ms() * latencyLimit)
+                regressions.add("%s: p95 %.2f ms exceeds baseline %.2f ms (+%.0f%%)".formatted(stats.endpoint(), stats.p95Ms(),
+                        baseline.p95Ms(), tolerance.latency() * 100));
+            if (stats.p99Ms() > baseline.p99Ms() * latencyLimit)
+                regressions.add("%s: p99 %.2f ms exceeds baseline %.2f ms (+%.0f%%)".formatted(stats.endpoint(), stats.p99Ms(),
+                        baseline.p99Ms(), tolerance.latency() * 100));
+            if (stats.throughputPerSecond() < baseline.throughputPerSecond() * (1 - tolerance.throughput()))
+                regressions.add("%s: throughput %.1f/s below baseline %.1f/s (-%.0f%%)".formatted(stats.endpoint(),
+                        stats.throughputPerSecond(), baseline.throughputPerSecond(), tolerance.throughput() * 100));
+        }
+        endpoints.keySet().stream()
+                 .filter(endpoint -> report.endpoints().stream().noneMatch(stats -> stats.endpoint().equals(endpoint)))
+                 .forEach(endpoint -> regressions.add(endpoint + ": no requests measured"));
+        return regressions;
+    }
+
+    /**
+     * 허용 비율
+     *
+     * @param latency    p95/p99 지연 증가 허용 비율 (0.25 = 25%)
+     * @param throughput 처리량 감소 허용 비율
+     */
+    public record Tolerance(double latency, double throughput) {
+    }
+
+    /**
+     * 엔드포인트 기준값
+     */
+    public record Endpoint(double p95Ms, double p99Ms, double throughputPerSecond) {
+    }
+}
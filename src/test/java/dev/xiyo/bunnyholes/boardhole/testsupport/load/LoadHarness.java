@@ -0,0 +1,161 @@
+package dev.xiyo.bunnyholes.boardhole.testsupport.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import org.jspecify.annotations.Nullable;
+
+import io.restassured.response.Response;
+
+/**
+ * 가중치 시나리오 부하 실행기
+ * <p>
+ * 모든 가상 사용자 상태를 먼저 준비한 뒤 시계를 시작하며, 가상 사용자마다 가상 스레드 하나가 가중치에 따라 단계를 골라
+ * 쉬지 않고 반복합니다. 워밍업 구간이 지난 뒤 시작한 요청만 엔드포인트별로 기록하며, 기대 상태 코드가 아니거나 예외가 나면
+ * 오류로 셉니다.
+ *
+ * @param <U> 가상 사용자 상태 (세션, 작성한 게시글 등)
+ */
+public final class LoadHarness<U> {
+
+    private final List<Step<U>> steps;
+    private final int totalWeight;
+
+    public LoadHarness(List<Step<U>> steps) {
+        this.steps = List.copyOf(steps);
+        this.totalWeight = steps.stream().mapToInt(Step::weight).sum();
+        if (totalWeight <= 0)
+            throw new IllegalArgumentException("At least one step needs a positive weight");
+    }
+
+    /**
+     * 부하 실행
+     *
+     * @param users    가상 사용자 수
+     * @param user     인덱스로 가상 사용자 상태 생성
+     * @param warmup   기록하지 않는 워밍업 시간
+     * @param measured 기록하는 측정 시간
+     * @param seed     단계 선택 난수 시드 (사용자 인덱스를 더해 사용)
+     * @return 엔드포인트별 집계
+     */
+    public LoadReport run(int users, IntFunction<U> user, Duration warmup, Duration measured, long seed) throws Exception {
+        // 가입/로그인 같은 준비 시간이 워밍업과 측정 구간을 잡아먹지 않도록 모든 사용자를 준비한 뒤 시계를 시작
+        List<U> states = new ArrayList<>(users);
+        for (int i = 0; i < users; i++)
+            states.add(user.apply(i));
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long deadline = measureFrom + measured.toNanos();
+        List<Future<Map<String, Samples>>> workers = new ArrayList<>(users);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                U state = states.get(i);
+                Random random = new Random(seed + i);
+                workers.add(executor.submit(() -> drive(state, random, measureFrom, deadline)));
+            }
+            Map<String, Samples> merged = new HashMap<>();
+            for (Future<Map<String, Samples>> worker : workers)
+                worker.get().forEach((endpoint, samples) -> merged.computeIfAbsent(endpoint, ignored -> new Samples()).addAll(samples));
+            return LoadReport.of(merged, measured);
+        }
+    }
+
+    private Map<String, Samples> drive(U user, Random random, long measureFrom, long deadline) {
+        Map<String, Samples> recorded = new HashMap<>();
+        while (System.nanoTime() < deadline) {
+            Step<U> step = pick(random);
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                Response response = step.action().perform(user, random);
+                if (response == null)
+                    continue;
+                ok = response.statusCode() == step.expectedStatus();
+            } catch (Exception | AssertionError e) {
+                ok = false;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (start >= measureFrom)
+                recorded.computeIfAbsent(step.endpoint(), ignored -> new Samples()).add(elapsed, ok);
+        }
+        return recorded;
+    }
+
+    private Step<U> pick(Random random) {
+        int roll = random.nextInt(totalWeight);
+        for (Step<U> step : steps) {
+            roll -= step.weight();
+            if (roll < 0)
+                return step;
+        }
+        return steps.getLast();
+    }
+
+    /**
+     * 시나리오 단계
+     *
+     * @param endpoint       집계 키 (예: {@code GET /api/boards/{id}})
+     * @param weight         선택 가중치
+     * @param expectedStatus 성공으로 볼 상태 코드
+     * @param action         요청 실행
+     * @param <U>            가상 사용자 상태
+     */
+    public record Step<U>(String endpoint, int weight, int expectedStatus, Action<U> action) {
+    }
+
+    /**
+     * 단계 요청 실행
+     *
+     * @param <U> 가상 사용자 상태
+     */
+    @FunctionalInterface
+    public interface Action<U> {
+
+        /**
+         * @return 응답 (지금 실행할 수 없는 단계면 null, 예: 삭제할 게시글이 없음)
+         */
+        @Nullable Response perform(U user, Random random);
+    }
+
+    /**
+     * 한 엔드포인트의 지연 시간 표본
+     */
+    static final class Samples {
+
+        private long[] latencies = new long[256];
+        private int size;
+        private long errors;
+
+        void add(long latencyNanos, boolean ok) {
+            if (size == latencies.length)
+                latencies = Arrays.copyOf(latencies, size * 2);
+            latencies[size++] = latencyNanos;
+            if (!ok)
+                errors++;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++)
+                add(other.latencies[i], true);
+            errors += other.errors;
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(latencies, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        long errors() {
+            return errors;
+        }
+    }
+}
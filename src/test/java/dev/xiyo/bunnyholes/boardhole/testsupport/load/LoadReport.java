@@ -0,0 +1,56 @@
+package dev.xiyo.bunnyholes.boardhole.testsupport.load;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 실행 결과
+ *
+ * @param measuredSeconds     측정 구간 길이
+ * @param throughputPerSecond 전체 초당 요청 수
+ * @param endpoints           엔드포인트별 집계 (이름순)
+ */
+public record LoadReport(double measuredSeconds, double throughputPerSecond, List<EndpointStats> endpoints) {
+
+    static LoadReport of(Map<String, LoadHarness.Samples> samples, Duration measured) {
+        double seconds = measured.toNanos() / 1e9;
+        List<EndpointStats> endpoints = samples.entrySet().stream()
+                                               .map(entry -> EndpointStats.of(entry.getKey(), entry.getValue(), seconds))
+                                               .sorted(Comparator.comparing(EndpointStats::endpoint))
+                                               .toList();
+        long requests = endpoints.stream().mapToLong(EndpointStats::requests).sum();
+        return new LoadReport(seconds, requests / seconds, endpoints);
+    }
+
+    /**
+     * 엔드포인트별 집계
+     *
+     * @param endpoint            엔드포인트 이름
+     * @param requests            측정 구간 요청 수
+     * @param errors              기대 상태 코드가 아니었거나 실패한 요청 수
+     * @param throughputPerSecond 초당 요청 수
+     * @param p50Ms               지연 시간 중앙값
+     * @param p95Ms               95 백분위 지연 시간
+     * @param p99Ms               99 백분위 지연 시간
+     * @param maxMs               최대 지연 시간
+     */
+    public record EndpointStats(String endpoint, long requests, long errors, double throughputPerSecond, double p50Ms, double p95Ms,
+                                double p99Ms, double maxMs) {
+
+        static EndpointStats of(String endpoint, LoadHarness.Samples samples, double seconds) {
+            long[] sorted = samples.sorted();
+            return new EndpointStats(endpoint, sorted.length, samples.errors(), sorted.length / seconds, percentile(sorted, 0.50),
+                    percentile(sorted, 0.95), percentile(sorted, 0.99), percentile(sorted, 1.0));
+        }
+
+        // nearest-rank 백분위
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0)
+                return 0;
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.clamp(index, 0, sorted.length - 1)] / 1e6;
+        }
+    }
+}
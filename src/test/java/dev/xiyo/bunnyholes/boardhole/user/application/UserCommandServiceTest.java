@@ -214,44 +214,6 @@ class UserCommandServiceTest {
         }
     }
 
-    @Nested
-    @DisplayName("마지막 로그인 업데이트")
-    @Tag("login")
-    class UpdateLastLogin {
-
-        @Test
-        @DisplayName("✅ 마지막 로그인 시간 갱신 성공")
-        void shouldUpdateLastLogin() {
-            // given
-            User existing = UserCommandServiceTest.user();
-            ReflectionTestUtils.setField(existing, "id", UserCommandServiceTest.USER_ID);
-
-            given(userRepository.findById(UserCommandServiceTest.USER_ID)).willReturn(Optional.of(existing));
-            given(userRepository.save(existing)).willReturn(existing);
-
-            // when
-            userCommandService.updateLastLogin(UserCommandServiceTest.USER_ID);
-
-            // then
-            then(userRepository).should().findById(UserCommandServiceTest.USER_ID);
-            then(userRepository).should().save(existing);
-        }
-
-        @Test
-        @DisplayName("❌ 사용자 미존재 → ResourceNotFoundException with 국제화 메시지")
-        void shouldThrowWhenUpdatingLastLoginMissingUser() {
-            // given
-            given(userRepository.findById(UserCommandServiceTest.USER_ID)).willReturn(Optional.empty());
-
-            // when & then
-            assertThatThrownBy(() -> userCommandService.updateLastLogin(UserCommandServiceTest.USER_ID))
-                    .isInstanceOf(ResourceNotFoundException.class);
-
-            then(userRepository).should().findById(UserCommandServiceTest.USER_ID);
-            then(userRepository).should(never()).save(any());
-        }
-    }
-
     @Nested
     @DisplayName("비밀번호 변경")
     @Tag("password")
@@ -1,5 +1,7 @@
 package dev.xiyo.bunnyholes.boardhole.user.application;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
@@ -24,16 +26,26 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.xiyo.bunnyholes.boardhole.shared.cache.ReadModelCaches;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.ListingCountProperties;
+import dev.xiyo.bunnyholes.boardhole.shared.pagination.ListingCounter;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.CacheProperties;
 import dev.xiyo.bunnyholes.boardhole.shared.test.FixedKoreanLocaleExtension;
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
 import dev.xiyo.bunnyholes.boardhole.user.application.mapper.UserMapper;
+import dev.xiyo.bunnyholes.boardhole.user.application.query.UserDetailCache;
 import dev.xiyo.bunnyholes.boardhole.user.application.query.UserQueryService;
 import dev.xiyo.bunnyholes.boardhole.user.application.result.UserResult;
 import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
 import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.activity.UserActivityRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -58,6 +70,8 @@ class UserQueryServiceTest {
     private UserRepository userRepository;
     @Mock
     private UserMapper userMapper;
+    @Mock
+    private UserActivityRecorder userActivityRecorder;
     private UserQueryService userQueryService;
 
     private static User user() {
@@ -93,7 +107,13 @@ class UserQueryServiceTest {
         ms.setUseCodeAsDefaultMessage(true);
         MessageUtils.setMessageSource(ms);
 
-        userQueryService = new UserQueryService(userRepository, userMapper);
+        var local = new CacheProperties.Local(true, DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+        var cacheProperties = new CacheProperties(local, local, local, new CacheProperties.Redis(false, Duration.ofMinutes(5), "test:", "test"));
+        var caches = new ReadModelCaches(new SimpleMeterRegistry(), new ObjectMapper(), null, Duration.ofMinutes(5));
+        var listingCounter = new ListingCounter(
+                new ListingCountProperties(ListingCountProperties.Mode.EXACT, Duration.ofSeconds(30), Duration.ofMinutes(10)), null, Clock.systemUTC());
+        userQueryService = new UserQueryService(userRepository, userMapper, new UserDetailCache(cacheProperties, caches), listingCounter,
+                userActivityRecorder);
     }
 
     @Nested
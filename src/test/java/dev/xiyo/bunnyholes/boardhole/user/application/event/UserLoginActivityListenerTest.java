@@ -0,0 +1,56 @@
+package dev.xiyo.bunnyholes.boardhole.user.application.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import dev.xiyo.bunnyholes.boardhole.shared.security.AppUserPrincipal;
+import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.activity.UserActivityRecorder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@Tag("unit")
+@DisplayName("UserLoginActivityListener 로그인 기록 테스트")
+class UserLoginActivityListenerTest {
+
+    private UserActivityRecorder recorder;
+    private UserLoginActivityListener listener;
+
+    @BeforeEach
+    void setUp() {
+        recorder = Mockito.mock(UserActivityRecorder.class);
+        listener = new UserLoginActivityListener(recorder);
+    }
+
+    @Test
+    @DisplayName("✅ 로그인 성공 이벤트의 사용자를 활동 기록기에 전달한다")
+    void onAuthenticationSuccess_AppUser_RecordsLogin() {
+        UUID userId = UUID.randomUUID();
+        AppUserPrincipal principal = new AppUserPrincipal(userId, "reader", AppUserPrincipal.roleMask(Set.of(Role.USER)), true, 0L);
+
+        listener.onAuthenticationSuccess(new AuthenticationSuccessEvent(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities())));
+
+        verify(recorder).loggedIn(userId);
+    }
+
+    @Test
+    @DisplayName("✅ 애플리케이션 사용자가 아닌 인증은 기록하지 않는다")
+    void onAuthenticationSuccess_OtherPrincipal_Ignored() {
+        listener.onAuthenticationSuccess(new AuthenticationSuccessEvent(
+                UsernamePasswordAuthenticationToken.authenticated("system", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"))));
+
+        verify(recorder, never()).loggedIn(any());
+    }
+}
@@ -0,0 +1,69 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure.activity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 노드가 같은 Redis에 활성 사용자를 기록하는 상황을 재현해 공유 집계를 검증합니다.
+ */
+@Tag("integration")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Redis 공유 활성 사용자 스케치 통합 테스트")
+class RedisActiveUserSketchTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 9);
+
+    private final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+
+    @BeforeAll
+    void startRedis() {
+        redis.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    void stopRedis() {
+        connectionFactory.destroy();
+        redis.stop();
+    }
+
+    @Test
+    @DisplayName("✅ 여러 노드가 기록한 사용자를 기간별 합집합으로 센다")
+    void count_UnionAcrossNodesAndDays() {
+        String prefix = "test:{active-users}:" + UUID.randomUUID() + ":";
+        RedisActiveUserSketch nodeA = new RedisActiveUserSketch(connectionFactory, prefix);
+        RedisActiveUserSketch nodeB = new RedisActiveUserSketch(connectionFactory, prefix);
+        UUID both = UUID.randomUUID();
+        List<UUID> onlyA = IntStream.range(0, 1500).mapToObj(i -> UUID.randomUUID()).toList();
+
+        nodeA.add(TODAY, onlyA);
+        nodeA.add(TODAY, List.of(both));
+        nodeB.add(TODAY, List.of(both, UUID.randomUUID()));
+        nodeB.add(TODAY.minusDays(3), List.of(both, UUID.randomUUID()));
+        nodeB.add(TODAY.minusDays(7), List.of(UUID.randomUUID()));
+
+        assertThat(nodeB.count(TODAY, 1)).isBetween(1_440L, 1_560L);
+        assertThat(nodeA.count(TODAY, 7)).isBetween(1_440L, 1_565L);
+        assertThat(nodeA.count(TODAY.minusDays(3), 1)).isEqualTo(2);
+        assertThat(nodeA.count(TODAY.plusDays(30), 7)).isZero();
+    }
+}
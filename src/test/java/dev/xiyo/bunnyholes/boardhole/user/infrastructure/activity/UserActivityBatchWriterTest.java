@@ -0,0 +1,80 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure.activity;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.xiyo.bunnyholes.boardhole.testsupport.jpa.EntityTestBase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 PostgreSQL에서 마지막 로그인 배치 UPDATE의 UUID 바인딩과 최신 시각 보호 조건을 검증합니다.
+ */
+@Tag("unit")
+@Tag("repository")
+@DisplayName("마지막 로그인 배치 반영 테스트")
+class UserActivityBatchWriterTest extends EntityTestBase {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 9, 9, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UserActivityBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        // 배치 크기보다 많은 행을 반영해 여러 배치로 나뉘는 경우도 함께 확인
+        writer = new UserActivityBatchWriter(jdbcTemplate, 2);
+    }
+
+    private @Nullable LocalDateTime lastLogin(UUID userId) {
+        return jdbcTemplate.queryForObject("SELECT last_login FROM users WHERE id = ?", LocalDateTime.class, userId);
+    }
+
+    @Test
+    @DisplayName("✅ 기록이 없거나 더 오래된 마지막 로그인 시각을 갱신한다")
+    void write_NullOrOlder_Updated() {
+        UUID never = createAndPersistUser().getId();
+        UUID older = createAndPersistUser().getId();
+        UUID another = createAndPersistUser().getId();
+        writer.write(Map.of(older, BASE));
+
+        writer.write(Map.of(never, BASE, older, BASE.plusHours(1), another, BASE.plusMinutes(30)));
+
+        assertThat(lastLogin(never)).isEqualTo(BASE);
+        assertThat(lastLogin(older)).isEqualTo(BASE.plusHours(1));
+        assertThat(lastLogin(another)).isEqualTo(BASE.plusMinutes(30));
+    }
+
+    @Test
+    @DisplayName("✅ 이미 더 최근 시각이 기록되어 있으면 덮어쓰지 않는다")
+    void write_NewerAlreadyRecorded_Kept() {
+        UUID userId = createAndPersistUser().getId();
+        writer.write(Map.of(userId, BASE.plusHours(1)));
+
+        writer.write(Map.of(userId, BASE));
+        writer.write(Map.of(userId, BASE.plusHours(1)));
+
+        assertThat(lastLogin(userId)).isEqualTo(BASE.plusHours(1));
+    }
+
+    @Test
+    @DisplayName("✅ 없는 사용자 ID는 다른 행에 영향 없이 건너뛴다")
+    void write_UnknownUser_Ignored() {
+        UUID userId = createAndPersistUser().getId();
+
+        writer.write(Map.of(UUID.randomUUID(), BASE, userId, BASE));
+
+        assertThat(lastLogin(userId)).isEqualTo(BASE);
+    }
+}
@@ -0,0 +1,78 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure.activity;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import dev.xiyo.bunnyholes.boardhole.shared.security.AppUserPrincipal;
+import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@Tag("unit")
+@DisplayName("UserActivityFilter 활성 사용자 기록 필터 테스트")
+class UserActivityFilterTest {
+
+    private UserActivityRecorder recorder;
+    private UserActivityFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        recorder = Mockito.mock(UserActivityRecorder.class);
+        filter = new UserActivityFilter(recorder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockFilterChain doFilter() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/boards"), new MockHttpServletResponse(), chain);
+        return chain;
+    }
+
+    @Test
+    @DisplayName("✅ 인증된 사용자의 요청은 활성 사용자로 기록하고 다음 필터로 넘긴다")
+    void authenticated_RecordedAsSeen() throws Exception {
+        UUID userId = UUID.randomUUID();
+        AppUserPrincipal principal = new AppUserPrincipal(userId, "reader", AppUserPrincipal.roleMask(Set.of(Role.USER)), true, 0L);
+        SecurityContextHolder.getContext()
+                             .setAuthentication(UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+
+        MockFilterChain chain = doFilter();
+
+        verify(recorder).seen(userId);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("✅ 비로그인 요청은 기록하지 않고 다음 필터로 넘긴다")
+    void anonymous_NotRecorded() throws Exception {
+        SecurityContextHolder.getContext()
+                             .setAuthentication(new AnonymousAuthenticationToken("key", "anonymousUser",
+                                     AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        MockFilterChain chain = doFilter();
+
+        verify(recorder, never()).seen(any());
+        assertThat(chain.getRequest()).isNotNull();
+    }
+}
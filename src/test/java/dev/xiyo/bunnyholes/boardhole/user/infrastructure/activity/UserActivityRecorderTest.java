@@ -0,0 +1,195 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure.activity;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserLastLogin;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Tag("unit")
+@DisplayName("UserActivityRecorder 사용자 활동 기록 테스트")
+class UserActivityRecorderTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    private UserActivityBatchWriter writer;
+    private UserRepository userRepository;
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private UserActivityRecorder recorder;
+
+    private static UserActivityProperties properties() {
+        return new UserActivityProperties(Duration.ofHours(1), 100, 500, 12, 1_000, false,
+                new UserActivityProperties.Redis(false, "test:"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        writer = Mockito.mock(UserActivityBatchWriter.class);
+        userRepository = Mockito.mock(UserRepository.class);
+        clock = Mockito.mock(Clock.class);
+        given(clock.getZone()).willReturn(ZoneOffset.UTC);
+        at(START);
+        meterRegistry = new SimpleMeterRegistry();
+        recorder = new UserActivityRecorder(writer, userRepository, properties(), null, clock, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        recorder.shutdown();
+    }
+
+    private void at(LocalDateTime time) {
+        given(clock.instant()).willReturn(time.toInstant(ZoneOffset.UTC));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<Map<UUID, LocalDateTime>> batchCaptor() {
+        return ArgumentCaptor.forClass(Map.class);
+    }
+
+    @Test
+    @DisplayName("✅ 같은 사용자의 로그인은 최신 시각 하나로 합쳐 한 번의 배치로 반영한다")
+    void flush_CoalescesLoginsPerUser() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        recorder.loggedIn(a);
+        recorder.loggedIn(b);
+        at(START.plusMinutes(5));
+        recorder.loggedIn(a);
+
+        assertThat(recorder.flush()).isEqualTo(2);
+
+        ArgumentCaptor<Map<UUID, LocalDateTime>> captor = batchCaptor();
+        verify(writer).write(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrderEntriesOf(Map.of(a, START.plusMinutes(5), b, START));
+        assertThat(recorder.pendingUsers()).isZero();
+        assertThat(recorder.flush()).isZero();
+        assertThat(meterRegistry.get("user.activity.flushed").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("✅ 반영에 실패한 로그인 시각은 다음 flush에서 다시 시도한다")
+    void flush_WriteFails_RetriedOnNextFlush() {
+        UUID a = UUID.randomUUID();
+        recorder.loggedIn(a);
+        willThrow(new IllegalStateException("db down")).given(writer).write(anyMap());
+
+        assertThat(recorder.flush()).isZero();
+        assertThat(recorder.pendingUsers()).isEqualTo(1);
+        assertThat(meterRegistry.get("user.activity.flush.failures").counter().count()).isEqualTo(1);
+
+        Mockito.reset(writer);
+        assertThat(recorder.flush()).isEqualTo(1);
+
+        ArgumentCaptor<Map<UUID, LocalDateTime>> captor = batchCaptor();
+        verify(writer, times(1)).write(captor.capture());
+        assertThat(captor.getValue()).containsExactlyEntriesOf(Map.of(a, START));
+    }
+
+    @Test
+    @DisplayName("✅ 일간/주간 활성 사용자는 고유 사용자 수를 세고 7일이 지난 활동은 제외한다")
+    void activeUsers_DistinctUsersWithinWindow() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        recorder.loggedIn(a);
+        recorder.seen(a);
+        recorder.seen(b);
+
+        at(START.plusDays(1));
+        recorder.seen(a);
+        recorder.seen(c);
+
+        assertThat(recorder.dailyActiveUsers()).isEqualTo(2);
+        assertThat(recorder.weeklyActiveUsers()).isEqualTo(3);
+
+        at(START.plusDays(7));
+        assertThat(recorder.dailyActiveUsers()).isZero();
+        assertThat(recorder.weeklyActiveUsers()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("✅ 시작 시 DB의 최근 로그인 기록으로 활성 사용자 스케치를 채운다")
+    void seed_RecentLogins_CountedAsActive() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        given(userRepository.findLastLoginsSince(any(LocalDateTime.class))).willReturn(List.of(
+                new UserLastLogin(a, START.minusHours(2)),
+                new UserLastLogin(b, START.minusDays(3))));
+
+        recorder.seed();
+        recorder.seen(a);
+
+        verify(userRepository).findLastLoginsSince(START.toLocalDate().minusDays(6).atStartOfDay());
+        assertThat(recorder.dailyActiveUsers()).isEqualTo(1);
+        assertThat(recorder.weeklyActiveUsers()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("✅ 공유 스케치가 있으면 처음 본 사용자를 날짜별로 기록하고 활성 사용자 수를 공유 스케치에서 읽는다")
+    void sharedSketch_PublishesAndCountsAcrossNodes() {
+        RedisActiveUserSketch shared = Mockito.mock(RedisActiveUserSketch.class);
+        UserActivityRecorder sharedRecorder = new UserActivityRecorder(writer, userRepository, properties(), shared, clock, meterRegistry);
+        try {
+            UUID a = UUID.randomUUID();
+            UUID b = UUID.randomUUID();
+            sharedRecorder.seen(a);
+            sharedRecorder.seen(a);
+            sharedRecorder.seen(b);
+
+            assertThat(sharedRecorder.publishActiveUsers()).isEqualTo(2);
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Collection<UUID>> captor = ArgumentCaptor.forClass(Collection.class);
+            verify(shared).add(eq(START.toLocalDate()), captor.capture());
+            assertThat(captor.getValue()).containsExactlyInAnyOrder(a, b);
+            assertThat(sharedRecorder.publishActiveUsers()).isZero();
+
+            // 다른 노드에서만 활동한 사용자까지 포함된 공유 추정치
+            given(shared.count(START.toLocalDate(), 7)).willReturn(40L);
+            assertThat(sharedRecorder.weeklyActiveUsers()).isEqualTo(40);
+        } finally {
+            sharedRecorder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("✅ 공유 스케치를 읽을 수 없으면 노드 로컬 추정치로 응답한다")
+    void sharedSketch_Unavailable_FallsBackToLocal() {
+        RedisActiveUserSketch shared = Mockito.mock(RedisActiveUserSketch.class);
+        given(shared.count(any(), eq(1))).willThrow(new IllegalStateException("redis down"));
+        UserActivityRecorder sharedRecorder = new UserActivityRecorder(writer, userRepository, properties(), shared, clock, meterRegistry);
+        try {
+            sharedRecorder.seen(UUID.randomUUID());
+
+            assertThat(sharedRecorder.dailyActiveUsers()).isEqualTo(1);
+            assertThat(meterRegistry.get("user.activity.shared.errors").counter().count()).isEqualTo(1);
+        } finally {
+            sharedRecorder.shutdown();
+        }
+    }
+}